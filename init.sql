@@ -8,6 +8,22 @@ CREATE SCHEMA IF NOT EXISTS product_service;
 -- 스키마 설정
 SET search_path TO product_service;
 
+-- -----------------------------------------------------------------------------
+-- ProductContent 테이블 (상세 콘텐츠, 상품에서 지연 로딩)
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_product_content (
+    id                      BIGSERIAL       PRIMARY KEY,
+
+    -- 상세 콘텐츠
+    description             VARCHAR(5000),
+    detail_image_urls       JSON,
+    notice                  VARCHAR(2000),
+
+    -- Time 필드 (AbstractTimeEntity)
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP
+    );
+
 -- -----------------------------------------------------------------------------
 -- Product 테이블
 -- -----------------------------------------------------------------------------
@@ -37,23 +53,16 @@ CREATE TABLE IF NOT EXISTS p_product (
     arthall_name           VARCHAR(255)    NOT NULL,
     arthall_address        VARCHAR(500)    NOT NULL,
 
-    -- SeatSummary (좌석 현황)
-    total_seats             INTEGER         DEFAULT 0,
-    available_seats         INTEGER         DEFAULT 0,
-    seat_updated_at         TIMESTAMP,
-
-    -- ProductStats (통계)
-    view_count              BIGINT          DEFAULT 0,
-    reservation_count       INTEGER         DEFAULT 0,
-
-    -- ProductContent (콘텐츠)
-    description             VARCHAR(5000),
+    -- ProductContent (콘텐츠 중 목록/검색 노출 항목, 상세 항목은 p_product_content)
     poster_image_url        VARCHAR(500),
-    detail_image_urls       JSON,
     cast_info               VARCHAR(1000),
-    notice                  VARCHAR(2000),
     organizer               VARCHAR(100),
     agency                  VARCHAR(100),
+    content_id              BIGINT          NOT NULL,
+
+    -- 가격 범위 (좌석 등급 최저/최고 가격 비정규화, 등급이 없으면 NULL)
+    min_price               BIGINT,
+    max_price               BIGINT,
 
     -- AgeRestriction (관람 제한)
     age_rating              VARCHAR(20)     DEFAULT 'ALL',
@@ -87,6 +96,8 @@ CREATE TABLE IF NOT EXISTS p_product (
     deleted_by              VARCHAR(100),
 
     -- 제약 조건
+    CONSTRAINT fk_product_content FOREIGN KEY (content_id) REFERENCES p_product_content(id),
+    CONSTRAINT uk_product_content UNIQUE (content_id),
     CONSTRAINT chk_product_type CHECK (product_type IN ('CONCERT', 'MUSICAL', 'PLAY', 'SPORTS')),
     CONSTRAINT chk_product_status CHECK (product_status IN ('DRAFT', 'PENDING', 'APPROVED', 'REJECTED', 'SCHEDULED', 'ON_SALE', 'CLOSED', 'COMPLETED', 'CANCELLED')),
     CONSTRAINT chk_age_rating CHECK (age_rating IN ('ALL', 'TWELVE', 'FIFTEEN', 'NINETEEN')),
@@ -102,6 +113,111 @@ CREATE INDEX IF NOT EXISTS idx_product_product_type ON p_product(product_type);
 CREATE INDEX IF NOT EXISTS idx_product_deleted_at ON p_product(deleted_at);
 CREATE INDEX IF NOT EXISTS idx_product_start_at ON p_product(start_at);
 CREATE INDEX IF NOT EXISTS idx_product_sale_start_at ON p_product(sale_start_at);
+CREATE INDEX IF NOT EXISTS idx_product_updated_at ON p_product(updated_at);
+CREATE INDEX IF NOT EXISTS idx_product_status_start_at ON p_product(product_status, start_at);
+CREATE INDEX IF NOT EXISTS idx_product_stage_start_at ON p_product(stage_id, start_at);
+CREATE INDEX IF NOT EXISTS idx_product_arthall_start_at ON p_product(arthall_id, start_at);
+
+-- -----------------------------------------------------------------------------
+-- 마이그레이션: 상세 콘텐츠 분리
+-- 기존 p_product의 description, detail_image_urls, notice를 p_product_content로 옮긴다.
+-- 이관 행은 상품 ID를 그대로 콘텐츠 ID로 사용하며, 이미 분리된 스키마에서는 아무 것도 하지 않는다.
+-- -----------------------------------------------------------------------------
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_schema = 'product_service'
+                 AND table_name = 'p_product'
+                 AND column_name = 'description') THEN
+        ALTER TABLE p_product ADD COLUMN IF NOT EXISTS content_id BIGINT;
+
+        INSERT INTO p_product_content (id, description, detail_image_urls, notice, created_at, updated_at)
+        SELECT id, description, detail_image_urls, notice, created_at, COALESCE(updated_at, created_at)
+        FROM p_product
+        WHERE content_id IS NULL;
+
+        UPDATE p_product SET content_id = id WHERE content_id IS NULL;
+
+        PERFORM setval(pg_get_serial_sequence('p_product_content', 'id'),
+                       (SELECT COALESCE(MAX(id), 0) + 1 FROM p_product_content), false);
+
+        ALTER TABLE p_product ALTER COLUMN content_id SET NOT NULL;
+        ALTER TABLE p_product ADD CONSTRAINT fk_product_content FOREIGN KEY (content_id) REFERENCES p_product_content(id);
+        ALTER TABLE p_product ADD CONSTRAINT uk_product_content UNIQUE (content_id);
+        ALTER TABLE p_product DROP COLUMN description, DROP COLUMN detail_image_urls, DROP COLUMN notice;
+    END IF;
+END $$;
+
+-- -----------------------------------------------------------------------------
+-- ProductCounters 테이블 (좌석 현황, 통계)
+-- 자주 갱신되는 카운터만 모아 두어 좌석 차감/조회수 갱신이 p_product 행을 수정하거나 잠그지 않는다.
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_product_counters (
+    product_id              BIGINT          PRIMARY KEY,
+
+    -- SeatSummary (좌석 현황)
+    total_seats             INTEGER         DEFAULT 0,
+    available_seats         INTEGER         DEFAULT 0,
+    seat_updated_at         TIMESTAMP,
+    sold_rate               DOUBLE PRECISION NOT NULL DEFAULT 0,
+
+    -- ProductStats (통계)
+    view_count              BIGINT          DEFAULT 0,
+    reservation_count       INTEGER         DEFAULT 0,
+
+    -- Time 필드 (AbstractTimeEntity)
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP,
+
+    -- 제약 조건
+    CONSTRAINT fk_product_counters_product FOREIGN KEY (product_id) REFERENCES p_product(id) ON DELETE CASCADE
+    ) WITH (fillfactor = 80);
+
+-- -----------------------------------------------------------------------------
+-- 마이그레이션: 카운터 분리
+-- 기존 p_product의 좌석 현황/통계 컬럼을 p_product_counters로 옮긴다.
+-- 이미 분리된 스키마에서는 아무 것도 하지 않는다.
+-- -----------------------------------------------------------------------------
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_schema = 'product_service'
+                 AND table_name = 'p_product'
+                 AND column_name = 'view_count') THEN
+        INSERT INTO p_product_counters (product_id, total_seats, available_seats, seat_updated_at,
+                                        view_count, reservation_count, created_at, updated_at)
+        SELECT id, total_seats, available_seats, seat_updated_at,
+               view_count, reservation_count, created_at, COALESCE(updated_at, created_at)
+        FROM p_product
+        ON CONFLICT (product_id) DO NOTHING;
+
+        ALTER TABLE p_product DROP COLUMN total_seats, DROP COLUMN available_seats, DROP COLUMN seat_updated_at,
+                              DROP COLUMN view_count, DROP COLUMN reservation_count;
+    END IF;
+END $$;
+
+-- 마이그레이션: 판매율 컬럼 추가 (정렬 인덱스용). 기존 행은 좌석 현황으로 채운다.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = 'product_service'
+                     AND table_name = 'p_product_counters'
+                     AND column_name = 'sold_rate') THEN
+        ALTER TABLE p_product_counters ADD COLUMN sold_rate DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+        UPDATE p_product_counters
+        SET sold_rate = (total_seats - available_seats) * 100.0 / total_seats
+        WHERE total_seats > 0;
+    END IF;
+END $$;
+
+-- ProductCounters 인덱스 (인기/잔여석 정렬 키)
+CREATE INDEX IF NOT EXISTS idx_counters_reservation_count ON p_product_counters(reservation_count DESC);
+CREATE INDEX IF NOT EXISTS idx_counters_sold_rate ON p_product_counters(sold_rate DESC);
+CREATE INDEX IF NOT EXISTS idx_counters_available_seats ON p_product_counters(available_seats);
 
 -- -----------------------------------------------------------------------------
 -- SeatGrade 테이블 (좌석 등급)
@@ -134,6 +250,141 @@ CREATE TABLE IF NOT EXISTS p_product_seat_grade (
 CREATE INDEX IF NOT EXISTS idx_seat_grade_product_id ON p_product_seat_grade(product_id);
 CREATE INDEX IF NOT EXISTS idx_seat_grade_grade_name ON p_product_seat_grade(grade_name);
 
+-- -----------------------------------------------------------------------------
+-- 마이그레이션: 상품 가격 범위 비정규화
+-- 기존 스키마에 min_price, max_price를 추가하고 좌석 등급 가격으로 채운다. 이미 컬럼이 있으면 아무 것도 하지 않는다.
+-- -----------------------------------------------------------------------------
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1
+                   FROM information_schema.columns
+                   WHERE table_schema = 'product_service'
+                     AND table_name = 'p_product'
+                     AND column_name = 'min_price') THEN
+        ALTER TABLE p_product ADD COLUMN min_price BIGINT, ADD COLUMN max_price BIGINT;
+
+        UPDATE p_product p
+        SET min_price = g.min_price,
+            max_price = g.max_price
+        FROM (SELECT product_id, MIN(price) AS min_price, MAX(price) AS max_price
+              FROM p_product_seat_grade
+              GROUP BY product_id) g
+        WHERE g.product_id = p.id;
+    END IF;
+END $$;
+
+-- 가격 필터는 최저가(시작 가격) 기준 범위 조건이므로 min_price 단일 인덱스로 처리한다.
+CREATE INDEX IF NOT EXISTS idx_product_min_price ON p_product(min_price);
+CREATE INDEX IF NOT EXISTS idx_product_max_price ON p_product(max_price);
+
+-- -----------------------------------------------------------------------------
+-- ProductCatalogView 테이블 (목록/검색용 조회 모델)
+-- 상품 변경 이벤트로 비동기 갱신되며, 목록 조회는 쓰기 테이블 대신 이 테이블만 읽는다.
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_product_catalog_view (
+    product_id              BIGINT          PRIMARY KEY,
+    seller_id               VARCHAR(50)     NOT NULL,
+    name                    VARCHAR(50)     NOT NULL,
+    product_type            VARCHAR(20)     NOT NULL,
+    product_status          VARCHAR(20)     NOT NULL,
+
+    -- Schedule / SaleSchedule
+    start_at                TIMESTAMP       NOT NULL,
+    end_at                  TIMESTAMP       NOT NULL,
+    sale_start_at           TIMESTAMP       NOT NULL,
+    sale_end_at             TIMESTAMP       NOT NULL,
+
+    -- Venue
+    stage_id                BIGINT          NOT NULL,
+    stage_name              VARCHAR(255)    NOT NULL,
+    arthall_id              BIGINT          NOT NULL,
+    arthall_name            VARCHAR(255)    NOT NULL,
+    arthall_address         VARCHAR(500)    NOT NULL,
+
+    -- 목록 노출 항목
+    poster_image_url        VARCHAR(500),
+    age_rating              VARCHAR(20),
+
+    -- 좌석 등급 가격 범위
+    min_price               BIGINT,
+    max_price               BIGINT,
+
+    -- SeatSummary / ProductStats
+    total_seats             INTEGER         DEFAULT 0,
+    available_seats         INTEGER         DEFAULT 0,
+    seat_updated_at         TIMESTAMP,
+    sold_rate               DOUBLE PRECISION NOT NULL DEFAULT 0,
+    view_count              BIGINT          DEFAULT 0,
+    reservation_count       INTEGER         DEFAULT 0,
+
+    -- 상품 감사 정보 (정렬용)
+    product_created_at      TIMESTAMP,
+    product_updated_at      TIMESTAMP,
+
+    -- Time 필드 (AbstractTimeEntity, 조회 모델 갱신 시각)
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP
+    );
+
+-- ProductCatalogView 인덱스 (검색 조건 및 정렬 키)
+CREATE INDEX IF NOT EXISTS idx_catalog_status_created_at ON p_product_catalog_view(product_status, product_created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_created_at ON p_product_catalog_view(product_created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_updated_at ON p_product_catalog_view(product_updated_at);
+CREATE INDEX IF NOT EXISTS idx_catalog_name ON p_product_catalog_view(name);
+CREATE INDEX IF NOT EXISTS idx_catalog_product_type ON p_product_catalog_view(product_type, product_created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_view_count ON p_product_catalog_view(view_count DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_stage_id ON p_product_catalog_view(stage_id);
+CREATE INDEX IF NOT EXISTS idx_catalog_stage_start_at ON p_product_catalog_view(stage_id, start_at);
+CREATE INDEX IF NOT EXISTS idx_catalog_seller_id ON p_product_catalog_view(seller_id);
+CREATE INDEX IF NOT EXISTS idx_catalog_min_price ON p_product_catalog_view(min_price);
+CREATE INDEX IF NOT EXISTS idx_catalog_max_price ON p_product_catalog_view(max_price);
+-- 상태 + 정렬 키 복합 인덱스 (판매 많은 순, 매진 임박순, 잔여석 순, 공연 임박순)
+CREATE INDEX IF NOT EXISTS idx_catalog_status_reservation_count ON p_product_catalog_view(product_status, reservation_count DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_status_sold_rate ON p_product_catalog_view(product_status, sold_rate DESC);
+CREATE INDEX IF NOT EXISTS idx_catalog_status_available_seats ON p_product_catalog_view(product_status, available_seats);
+CREATE INDEX IF NOT EXISTS idx_catalog_status_start_at ON p_product_catalog_view(product_status, start_at);
+
+-- -----------------------------------------------------------------------------
+-- SchedulerLease 테이블 (스케줄러 파티션 임대)
+-- 인스턴스마다 맡은 파티션의 상품만 자동 상태 전이한다. 파티션 임대 행과 인스턴스(구성원) 행을 함께 보관한다.
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_scheduler_lease (
+    lease_name              VARCHAR(200)    PRIMARY KEY,
+    owner_id                VARCHAR(200),
+    expires_at              TIMESTAMP
+    );
+
+-- -----------------------------------------------------------------------------
+-- StageScheduleLock 테이블 (스테이지 일정 잠금)
+-- 상품 등록/일정 변경 시 일정 겹침 검사 전에 SELECT ... FOR UPDATE로 잠근다. 스테이지마다 한 행을 두며 삭제하지 않는다.
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_stage_schedule_lock (
+    stage_id                BIGINT          PRIMARY KEY
+    );
+
+-- -----------------------------------------------------------------------------
+-- 상품 아웃박스
+-- 상품 변경과 같은 트랜잭션에서 적재하고, 릴레이가 브로커 확인 후 삭제한다.
+-- 최대 시도 횟수를 넘긴 메시지는 삭제하지 않고 dead_lettered_at을 기록해 격리한다.
+-- -----------------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS p_product_outbox (
+    id                      BIGSERIAL       PRIMARY KEY,
+    aggregate_id            BIGINT,
+    exchange                VARCHAR(100)    NOT NULL,
+    routing_key             VARCHAR(100)    NOT NULL,
+    payload_type            VARCHAR(200)    NOT NULL,
+    payload                 TEXT            NOT NULL,
+    attempts                INT             NOT NULL DEFAULT 0,
+    created_at              TIMESTAMP       NOT NULL,
+    dead_lettered_at        TIMESTAMP
+    );
+
+-- 격리 컬럼 추가 이전에 만든 테이블 보정
+ALTER TABLE p_product_outbox ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+
+-- 릴레이는 격리되지 않은 메시지만 ID 순으로 읽으므로 부분 인덱스로 격리된 행을 건너뛴다.
+CREATE INDEX IF NOT EXISTS idx_product_outbox_pending ON p_product_outbox(id) WHERE dead_lettered_at IS NULL;
+
 -- -----------------------------------------------------------------------------
 -- 코멘트
 -- -----------------------------------------------------------------------------
@@ -151,6 +402,34 @@ COMMENT ON COLUMN p_product.end_at IS '행사 종료 일시';
 COMMENT ON COLUMN p_product.sale_start_at IS '예매 시작 일시';
 COMMENT ON COLUMN p_product.sale_end_at IS '예매 종료 일시';
 COMMENT ON COLUMN p_product.admission_minutes_before IS '입장 시작 시간 (공연 n분 전)';
+COMMENT ON COLUMN p_product.content_id IS '상세 콘텐츠 ID (FK)';
+COMMENT ON COLUMN p_product.min_price IS '좌석 등급 최저 가격 (가격 필터/정렬용 비정규화)';
+COMMENT ON COLUMN p_product.max_price IS '좌석 등급 최고 가격 (가격 정렬용 비정규화)';
+
+-- ProductContent
+COMMENT ON TABLE p_product_content IS '상품 상세 콘텐츠 테이블';
+COMMENT ON COLUMN p_product_content.description IS '상세 설명';
+COMMENT ON COLUMN p_product_content.detail_image_urls IS '상세 이미지 URL 배열 (JSON)';
+COMMENT ON COLUMN p_product_content.notice IS '유의사항';
+
+-- ProductCounters
+COMMENT ON TABLE p_product_counters IS '상품 카운터 테이블 (좌석 현황, 통계)';
+COMMENT ON COLUMN p_product_counters.product_id IS '상품 ID (PK, FK)';
+COMMENT ON COLUMN p_product_counters.total_seats IS '총 좌석수';
+COMMENT ON COLUMN p_product_counters.available_seats IS '잔여 좌석수';
+COMMENT ON COLUMN p_product_counters.seat_updated_at IS '좌석 현황 갱신 일시';
+COMMENT ON COLUMN p_product_counters.sold_rate IS '판매율 (%, 좌석 현황에서 계산하여 정렬용으로 유지)';
+COMMENT ON COLUMN p_product_counters.view_count IS '조회수';
+COMMENT ON COLUMN p_product_counters.reservation_count IS '예매 수';
+
+-- ProductCatalogView
+COMMENT ON TABLE p_product_catalog_view IS '상품 카탈로그 조회 모델 테이블 (목록/검색용, 비동기 갱신)';
+COMMENT ON COLUMN p_product_catalog_view.product_id IS '상품 ID';
+COMMENT ON COLUMN p_product_catalog_view.min_price IS '좌석 등급 최저 가격';
+COMMENT ON COLUMN p_product_catalog_view.max_price IS '좌석 등급 최고 가격';
+COMMENT ON COLUMN p_product_catalog_view.sold_rate IS '판매율 (%)';
+COMMENT ON COLUMN p_product_catalog_view.start_at IS '행사 시작 일시 (다음 공연 일시)';
+COMMENT ON COLUMN p_product_catalog_view.updated_at IS '조회 모델 갱신 일시';
 
 -- SeatGrade
 COMMENT ON TABLE p_product_seat_grade IS '좌석 등급 테이블';
@@ -160,4 +439,26 @@ COMMENT ON COLUMN p_product_seat_grade.grade_name IS '등급명 (VIP, R, S 등)'
 COMMENT ON COLUMN p_product_seat_grade.price IS '가격';
 COMMENT ON COLUMN p_product_seat_grade.total_seats IS '총 좌석수';
 COMMENT ON COLUMN p_product_seat_grade.available_seats IS '잔여 좌석수';
-COMMENT ON COLUMN p_product_seat_grade.display_order IS '표시 순서';
\ No newline at end of file
+COMMENT ON COLUMN p_product_seat_grade.display_order IS '표시 순서';
+
+-- SchedulerLease
+COMMENT ON TABLE p_scheduler_lease IS '스케줄러 파티션 임대 테이블';
+COMMENT ON COLUMN p_scheduler_lease.lease_name IS '임대 이름 (<이름>-partition-<번호> 또는 <이름>-member-<소유자>)';
+COMMENT ON COLUMN p_scheduler_lease.owner_id IS '소유 인스턴스 ID (비어 있으면 미소유)';
+COMMENT ON COLUMN p_scheduler_lease.expires_at IS '임대 만료 일시';
+
+-- StageScheduleLock
+COMMENT ON TABLE p_stage_schedule_lock IS '스테이지 일정 잠금 테이블 (일정 겹침 검사 직렬화)';
+COMMENT ON COLUMN p_stage_schedule_lock.stage_id IS '스테이지 ID';
+
+-- ProductOutbox
+COMMENT ON TABLE p_product_outbox IS '상품 아웃박스 테이블 (발행 대기 메시지)';
+COMMENT ON COLUMN p_product_outbox.id IS '메시지 ID (적재 순서)';
+COMMENT ON COLUMN p_product_outbox.aggregate_id IS '애그리거트 ID (상품 ID, 순서 보장 및 파티션 기준)';
+COMMENT ON COLUMN p_product_outbox.exchange IS '발행할 Exchange';
+COMMENT ON COLUMN p_product_outbox.routing_key IS '라우팅 키';
+COMMENT ON COLUMN p_product_outbox.payload_type IS '페이로드 타입 (__TypeId__ 헤더 값)';
+COMMENT ON COLUMN p_product_outbox.payload IS 'JSON 페이로드';
+COMMENT ON COLUMN p_product_outbox.attempts IS '발행 시도 횟수';
+COMMENT ON COLUMN p_product_outbox.created_at IS '적재 일시';
+COMMENT ON COLUMN p_product_outbox.dead_lettered_at IS '격리 일시 (최대 시도 횟수 초과, 비어 있으면 발행 대기)';
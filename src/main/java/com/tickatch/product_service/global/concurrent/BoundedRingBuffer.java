@@ -0,0 +1,140 @@
+package com.tickatch.product_service.global.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 락 없는 고정 크기 다중 생산자, 단일 소비자 링 버퍼.
+ *
+ * <p>칸마다 시퀀스 번호를 두어 생산자는 꼬리 위치를 CAS로 차지한 뒤 원소를 쓰고 시퀀스를 올려 소비자에게 넘긴다. 가득 차면 {@link #offer}는 기다리지 않고
+ * {@code false}를 반환하므로, 넘치는 원소의 처리는 호출 측이 정한다.
+ *
+ * <p>{@link #poll}과 {@link #drainTo}는 한 스레드에서만 호출해야 한다. 용량은 2의 거듭제곱으로 올림한다. 칸이 하나뿐이면 소비자에게 넘긴 시퀀스가
+ * 다음 생산자가 기다리는 시퀀스와 같아져 꺼내기 전에 덮어쓰므로, 최소 용량은 2이다.
+ *
+ * @param <E> 원소 타입
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class BoundedRingBuffer<E> {
+
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong head = new AtomicLong();
+
+  /**
+   * 링 버퍼를 생성한다.
+   *
+   * @param capacity 최소 용량 (2 미만이면 2)
+   */
+  public BoundedRingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("용량은 1 이상 2^30 이하여야 합니다. capacity: " + capacity);
+    }
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    this.mask = size - 1;
+  }
+
+  /**
+   * 원소를 넣는다.
+   *
+   * @param element 원소
+   * @return 넣었으면 true, 가득 찼으면 false
+   */
+  public boolean offer(E element) {
+    if (element == null) {
+      throw new NullPointerException("element");
+    }
+    long position = tail.get();
+    while (true) {
+      int index = (int) (position & mask);
+      long gap = sequences.get(index) - position;
+      if (gap == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.set(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (gap < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * 가장 먼저 넣은 원소를 꺼낸다.
+   *
+   * @return 원소 (비어 있으면 null)
+   */
+  public E poll() {
+    long position = head.get();
+    int index = (int) (position & mask);
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    E element = elements.getAndSet(index, null);
+    sequences.set(index, position + mask + 1);
+    head.set(position + 1);
+    return element;
+  }
+
+  /**
+   * 최대 개수만큼 원소를 넣은 순서대로 꺼내 담는다.
+   *
+   * @param sink 담을 컬렉션
+   * @param maxElements 최대 개수
+   * @return 꺼낸 원소 수
+   */
+  public int drainTo(Collection<? super E> sink, int maxElements) {
+    int drained = 0;
+    while (drained < maxElements) {
+      E element = poll();
+      if (element == null) {
+        break;
+      }
+      sink.add(element);
+      drained++;
+    }
+    return drained;
+  }
+
+  /**
+   * 들어 있는 원소 수를 반환한다. 동시에 넣고 꺼내는 중이면 근삿값이다.
+   *
+   * @return 원소 수
+   */
+  public int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  /**
+   * 비어 있는지 확인한다.
+   *
+   * @return 비어 있으면 true
+   */
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * 용량을 반환한다.
+   *
+   * @return 용량
+   */
+  public int capacity() {
+    return mask + 1;
+  }
+}
@@ -0,0 +1,112 @@
+package com.tickatch.product_service.global.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합치는 실행기.
+ *
+ * <p>키마다 진행 중인 조회를 하나만 둔다. 먼저 도착한 요청(리더)이 자기 스레드에서 조회하고, 그동안 같은 키로 들어온 요청(대기자)은 리더의 결과를 그대로 받는다.
+ * 리더가 예외로 끝나면 대기자도 같은 예외를 받는다. 조회가 끝나면 키를 비우므로 결과를 보관하지 않으며, 이후 요청은 새로 조회한다.
+ *
+ * <p>대기자는 최대 대기 시간이 지나면 {@link SingleFlightTimeoutException}으로 끝난다. 리더의 조회 시간은 제한하지 않는다.
+ *
+ * <p>호출 결과는 {@code singleflight.calls} 카운터({@code name}, {@code result}=leader/coalesced/timeout)로
+ * 노출한다.
+ *
+ * @param <K> 조회 키
+ * @param <V> 조회 결과
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+  private final String name;
+  private final Duration timeout;
+  private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter leaders;
+  private final Counter coalesced;
+  private final Counter timeouts;
+
+  public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+    this.name = name;
+    this.timeout = timeout;
+    this.leaders = counter(meterRegistry, name, "leader");
+    this.coalesced = counter(meterRegistry, name, "coalesced");
+    this.timeouts = counter(meterRegistry, name, "timeout");
+  }
+
+  /**
+   * 키의 조회를 실행하거나, 진행 중인 조회가 있으면 그 결과를 기다린다.
+   *
+   * @param key 조회 키
+   * @param loader 조회 함수 (리더일 때만 호출)
+   * @return 조회 결과
+   * @throws SingleFlightTimeoutException 대기 시간이 지났거나 대기 중 인터럽트된 경우
+   */
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      coalesced.increment();
+      return await(existing);
+    }
+
+    leaders.increment();
+    try {
+      V value = loader.get();
+      inFlight.remove(key, created);
+      created.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, created);
+      created.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  /**
+   * 진행 중인 조회 수를 반환한다.
+   *
+   * @return 진행 중인 키 수
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      timeouts.increment();
+      throw new SingleFlightTimeoutException(name, timeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SingleFlightTimeoutException(name, timeout);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+    return Counter.builder("singleflight.calls")
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,23 @@
+package com.tickatch.product_service.global.concurrent;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * {@link SingleFlight} 대기자가 진행 중인 조회를 기다리다 시간이 지났을 때 발생하는 예외.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+public class SingleFlightTimeoutException extends RuntimeException {
+
+  private final String name;
+  private final Duration timeout;
+
+  public SingleFlightTimeoutException(String name, Duration timeout) {
+    super("Single-flight wait timed out. name: " + name + ", timeout: " + timeout);
+    this.name = name;
+    this.timeout = timeout;
+  }
+}
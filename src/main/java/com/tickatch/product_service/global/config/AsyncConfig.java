@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -61,6 +62,50 @@ public class AsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  /**
+   * 카탈로그 조회 모델 갱신 전용 스레드 풀. 갱신할 상품은 {@code ProductCatalogProjector}의 대기 집합에 모이고, 이 실행기에는 대기 집합을 비우는
+   * 작업 하나만 올라가므로 큐가 넘치지 않는다. 종료 중이라 거부되면 예외를 던져 호출자가 다음 이벤트에서 다시 예약하게 한다.
+   */
+  @Bean(name = "catalogExecutor")
+  public Executor catalogExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.setThreadNamePrefix("product-catalog-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 메모리 인덱스 변경 방송 전용 스레드 풀. 한 인스턴스에서 커밋된 변경이 발행 순서대로 나가도록 단일 스레드로 처리한다. 대기 큐가 가득 차면 방송을 버리고, 다른
+   * 인스턴스는 주기적 재적재로 복구한다.
+   */
+  @Bean(name = "indexBroadcastExecutor")
+  public Executor indexBroadcastExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(10000);
+    executor.setThreadNamePrefix("product-index-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(10);
+    executor.setRejectedExecutionHandler(
+        (r, e) -> log.warn("Index broadcast rejected, queue is full"));
+    executor.initialize();
+    return executor;
+  }
+
+  /** 잔여 좌석 SSE 전송 전용 실행기. 구독자별 전송을 가상 스레드에서 처리하여 느린 연결이 블로킹되어도 플랫폼 스레드를 점유하지 않는다. */
+  @Bean(name = "streamExecutor")
+  public Executor streamExecutor() {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("product-stream-");
+    executor.setVirtualThreads(true);
+    return executor;
+  }
+
   @Override
   public Executor getAsyncExecutor() {
     return taskExecutor();
@@ -0,0 +1,24 @@
+package com.tickatch.product_service.global.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정.
+ *
+ * <p>{@code @JsonFilter}가 지정된 응답 DTO를 필터 없이 직렬화하면 전체 필드를 쓰도록 기본 필터 제공자를 등록한다. 필드 제한이 필요한 응답만 {@link
+ * org.springframework.http.converter.json.MappingJacksonValue}로 필터를 지정한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+public class JacksonConfig {
+
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer jsonFilterCustomizer() {
+    return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+  }
+}
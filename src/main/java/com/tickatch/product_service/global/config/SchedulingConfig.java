@@ -0,0 +1,37 @@
+package com.tickatch.product_service.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 정기 작업 스케줄러 설정.
+ *
+ * <p>{@code @Scheduled} 작업은 기본적으로 스레드 하나를 함께 쓰므로, 아웃박스 릴레이나 스풀 재전송, 인덱스 재적재처럼 오래 걸리는 작업이 상태 전이
+ * 타이머(200ms)나 임대 갱신 같은 짧은 주기 작업을 밀어낸다. 작업들이 서로를 기다리지 않도록 스레드 풀({@code
+ * product.scheduling.pool-size})에서 실행한다.
+ *
+ * <p>같은 작업은 풀 크기와 관계없이 이전 실행이 끝난 뒤에만 다시 실행된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+public class SchedulingConfig {
+
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${product.scheduling.pool-size:8}") int poolSize) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("product-scheduler-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(30);
+    scheduler.setErrorHandler(e -> log.error("정기 작업 예외 발생. error: {}", e.getMessage(), e));
+    scheduler.initialize();
+    return scheduler;
+  }
+}
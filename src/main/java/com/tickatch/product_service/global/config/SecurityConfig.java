@@ -35,9 +35,15 @@ public class SecurityConfig extends BaseSecurityConfig {
             // 기본 허용 경로 (Swagger, Actuator)
             .requestMatchers(defaultPermitAllPaths())
             .permitAll()
+            // 내부 API(내보내기, 사전 준비 상태, 카탈로그 재구축)는 아래 조회 API 허용과 관계없이 인증 필요
+            .requestMatchers("/api/v1/internal/**")
+            .authenticated()
             // 상품 조회 API는 인증 없이 허용
             .requestMatchers(HttpMethod.GET, "/api/v1/products/**")
             .permitAll()
+            // 상품 다건 조회(POST 본문)도 조회 API이므로 허용
+            .requestMatchers(HttpMethod.POST, "/api/v1/products/batch")
+            .permitAll()
             // 나머지는 인증 필요
             .anyRequest()
             .authenticated();
@@ -0,0 +1,92 @@
+package com.tickatch.product_service.global.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 쓰기 후 읽기(read-your-writes) 토큰 처리기.
+ *
+ * <p>쓰기 트랜잭션이 커밋되면 그 시점의 위치(커밋 시각 또는 WAL 위치)를 응답 헤더로 내려준다. 클라이언트가 다음 요청에 같은 헤더를 실어 보내면 해당 위치까지 반영한
+ * 복제본만 조회에 사용하고, 그런 복제본이 없으면 주 DB에서 읽는다.
+ *
+ * <p>토큰은 요청 속성에도 보관하므로 같은 요청 안에서 쓰기 이후에 실행되는 조회도 같은 기준을 따른다. HTTP 요청 밖(스케줄러, 메시지 리스너)에서는 아무 것도 하지
+ * 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesTokens {
+
+  private static final String ATTRIBUTE = ReadYourWritesTokens.class.getName() + ".position";
+
+  private final String headerName;
+
+  /**
+   * 현재 요청이 요구하는 최소 위치를 반환한다.
+   *
+   * @return 최소 위치 (요청 밖이거나 헤더가 없거나 형식이 잘못되었으면 빈 값)
+   */
+  public OptionalLong required() {
+    HttpServletRequest request = currentRequest();
+    if (request == null) {
+      return OptionalLong.empty();
+    }
+    if (request.getAttribute(ATTRIBUTE) instanceof Long position) {
+      return OptionalLong.of(position);
+    }
+    String header = request.getHeader(headerName);
+    if (header == null || header.isBlank()) {
+      return OptionalLong.empty();
+    }
+    try {
+      long position = Long.parseLong(header.strip());
+      request.setAttribute(ATTRIBUTE, position);
+      return OptionalLong.of(position);
+    } catch (NumberFormatException e) {
+      return OptionalLong.empty();
+    }
+  }
+
+  /**
+   * 현재 요청이 HTTP 요청인지 확인한다.
+   *
+   * @return 토큰을 발급할 수 있으면 true
+   */
+  public boolean canIssue() {
+    return currentRequest() != null;
+  }
+
+  /**
+   * 쓰기 커밋 위치를 현재 요청과 응답에 기록한다. 이미 더 뒤의 위치가 기록되어 있으면 유지한다.
+   *
+   * @param position 커밋 위치
+   */
+  public void issue(long position) {
+    ServletRequestAttributes attributes = currentAttributes();
+    if (attributes == null) {
+      return;
+    }
+    long merged = Math.max(position, required().orElse(Long.MIN_VALUE));
+    attributes.getRequest().setAttribute(ATTRIBUTE, merged);
+    HttpServletResponse response = attributes.getResponse();
+    if (response != null && !response.isCommitted()) {
+      response.setHeader(headerName, Long.toString(merged));
+    }
+  }
+
+  private static HttpServletRequest currentRequest() {
+    ServletRequestAttributes attributes = currentAttributes();
+    return attributes == null ? null : attributes.getRequest();
+  }
+
+  private static ServletRequestAttributes currentAttributes() {
+    return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes a
+        ? a
+        : null;
+  }
+}
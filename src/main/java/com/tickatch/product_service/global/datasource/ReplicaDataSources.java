@@ -0,0 +1,57 @@
+package com.tickatch.product_service.global.datasource;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 커넥션 풀 묶음.
+ *
+ * <p>복제본마다 독립된 풀을 두어 조회 트래픽이 주 DB 커넥션 풀을 점유하지 않도록 한다. 애플리케이션 종료 시 모든 풀을 닫는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaDataSources implements AutoCloseable {
+
+  private final Map<String, DataSource> dataSources;
+
+  /**
+   * 복제본 묶음을 생성한다.
+   *
+   * @param dataSources 이름별 복제본 (등록 순서 유지)
+   */
+  public ReplicaDataSources(Map<String, ? extends DataSource> dataSources) {
+    this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+  }
+
+  /**
+   * 이름별 복제본을 반환한다.
+   *
+   * @return 읽기 전용 맵
+   */
+  public Map<String, DataSource> asMap() {
+    return dataSources;
+  }
+
+  public boolean isEmpty() {
+    return dataSources.isEmpty();
+  }
+
+  @Override
+  public void close() {
+    dataSources.forEach(
+        (name, dataSource) -> {
+          if (dataSource instanceof AutoCloseable closeable) {
+            try {
+              closeable.close();
+            } catch (Exception e) {
+              log.warn("복제본 커넥션 풀 종료 실패. replica: {}", name, e);
+            }
+          }
+        });
+  }
+}
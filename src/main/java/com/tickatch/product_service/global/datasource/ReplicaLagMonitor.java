@@ -0,0 +1,140 @@
+package com.tickatch.product_service.global.datasource;
+
+import com.tickatch.product_service.global.datasource.ReplicaRoutingProperties.ConsistencyMode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본 지연 감시기.
+ *
+ * <p>주기적으로 각 복제본의 복제 지연과 반영 위치를 조회하여 라우팅 가능 여부를 판단한다. 조회에 실패했거나 지연이 허용치를 넘은 복제본은 다음 확인 때까지 라우팅 대상에서
+ * 제외된다. 기동 직후 첫 확인 전에는 모든 복제본이 제외되므로 조회도 주 DB에서 처리된다.
+ *
+ * <p>반영 위치는 일관성 기준에 따라 다르게 계산한다.
+ *
+ * <ul>
+ *   <li>{@link ConsistencyMode#TIMESTAMP}: 확인 시작 시각 - 지연(ms)
+ *   <li>{@link ConsistencyMode#LSN}: 복제본이 재생한 WAL 위치
+ * </ul>
+ *
+ * <p>복제본별 지연(ms)과 상태는 {@code db.replica.lag}, {@code db.replica.healthy} 게이지로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final DataSource primary;
+  private final ReplicaDataSources replicas;
+  private final ReplicaRoutingProperties properties;
+  private final Map<String, ReplicaState> states = new ConcurrentHashMap<>();
+
+  public ReplicaLagMonitor(
+      DataSource primary,
+      ReplicaDataSources replicas,
+      ReplicaRoutingProperties properties,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.replicas = replicas;
+    this.properties = properties;
+    for (String name : replicas.asMap().keySet()) {
+      states.put(name, ReplicaState.UNKNOWN);
+      Gauge.builder("db.replica.lag", states, s -> s.get(name).lagMillis())
+          .tag("replica", name)
+          .baseUnit("milliseconds")
+          .register(meterRegistry);
+      Gauge.builder("db.replica.healthy", states, s -> s.get(name).healthy() ? 1 : 0)
+          .tag("replica", name)
+          .register(meterRegistry);
+    }
+  }
+
+  /** 모든 복제본의 지연과 반영 위치를 확인한다. */
+  @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1000}")
+  public void check() {
+    replicas.asMap().forEach((name, dataSource) -> states.put(name, probe(name, dataSource)));
+  }
+
+  /**
+   * 라우팅 가능한 복제본 이름을 반환한다.
+   *
+   * @param required 요청이 요구하는 최소 반영 위치 (없으면 지연 조건만 확인)
+   * @return 등록 순서대로 정렬된 복제본 이름 (없으면 빈 목록)
+   */
+  public List<String> eligibleReplicas(OptionalLong required) {
+    List<String> eligible = new ArrayList<>(states.size());
+    for (String name : replicas.asMap().keySet()) {
+      ReplicaState state = states.get(name);
+      if (state.healthy() && (required.isEmpty() || state.position() >= required.getAsLong())) {
+        eligible.add(name);
+      }
+    }
+    return eligible;
+  }
+
+  /**
+   * 쓰기 후 읽기 토큰으로 내려줄 주 DB의 현재 위치를 반환한다.
+   *
+   * @return 현재 위치 (주 DB 조회에 실패하면 빈 값)
+   */
+  public OptionalLong currentPrimaryPosition() {
+    if (properties.getConsistency() == ConsistencyMode.TIMESTAMP) {
+      return OptionalLong.of(System.currentTimeMillis());
+    }
+    try {
+      return OptionalLong.of(queryLong(primary, properties.getPrimaryPositionQuery()));
+    } catch (SQLException e) {
+      log.warn("주 DB WAL 위치 조회 실패. 쓰기 후 읽기 토큰을 발급하지 않음", e);
+      return OptionalLong.empty();
+    }
+  }
+
+  // ========== 내부 구현 ==========
+
+  private ReplicaState probe(String name, DataSource dataSource) {
+    long startedAt = System.currentTimeMillis();
+    try {
+      long lagMillis = Math.max(0L, queryLong(dataSource, properties.getLagQuery()));
+      long position =
+          properties.getConsistency() == ConsistencyMode.LSN
+              ? queryLong(dataSource, properties.getReplicaPositionQuery())
+              : startedAt - lagMillis;
+      boolean healthy = lagMillis <= properties.getMaxLag().toMillis();
+      if (!healthy) {
+        log.warn("복제 지연 허용치 초과. replica: {}, lag: {}ms", name, lagMillis);
+      }
+      return new ReplicaState(healthy, lagMillis, position);
+    } catch (SQLException e) {
+      log.warn("복제본 상태 확인 실패. replica: {}", name, e);
+      return ReplicaState.UNKNOWN;
+    }
+  }
+
+  private static long queryLong(DataSource dataSource, String sql) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(sql)) {
+      if (!rs.next()) {
+        throw new SQLException("No rows returned: " + sql);
+      }
+      return rs.getLong(1);
+    }
+  }
+
+  private record ReplicaState(boolean healthy, long lagMillis, long position) {
+    private static final ReplicaState UNKNOWN = new ReplicaState(false, -1L, Long.MIN_VALUE);
+  }
+}
@@ -0,0 +1,114 @@
+package com.tickatch.product_service.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정.
+ *
+ * <p>{@code datasource.routing.enabled=true}일 때만 활성화되며, 비활성화 시에는 스프링 부트 기본 DataSource를 그대로 사용한다.
+ *
+ * <p>구성:
+ *
+ * <ul>
+ *   <li>주 DB 풀: {@code spring.datasource.*} (쓰기, 복제본이 없을 때의 조회)
+ *   <li>복제본 풀: {@code datasource.routing.replicas[*]} (읽기 전용 트랜잭션)
+ *   <li>애플리케이션 DataSource: 라우팅 DataSource를 {@link LazyConnectionDataSourceProxy}로 감싼 것
+ * </ul>
+ *
+ * <p>로컬 확인 예시 (H2 두 개):
+ *
+ * <pre>
+ * datasource.routing.enabled=true
+ * datasource.routing.lag-query=SELECT 0
+ * datasource.routing.replicas[0].name=replica-1
+ * datasource.routing.replicas[0].url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1
+ * </pre>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+  /** 주 DB 커넥션 풀. 라우팅 DataSource를 통해서만 사용한다. */
+  @Bean(autowireCandidate = false)
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource =
+        dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReplicaDataSources replicaDataSources(
+      DataSourceProperties dataSourceProperties, ReplicaRoutingProperties properties) {
+    Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    for (ReplicaRoutingProperties.Replica replica : properties.getReplicas()) {
+      HikariDataSource pool = new HikariDataSource();
+      pool.setPoolName(replica.getName());
+      pool.setJdbcUrl(replica.getUrl());
+      pool.setUsername(
+          replica.getUsername() != null
+              ? replica.getUsername()
+              : dataSourceProperties.determineUsername());
+      pool.setPassword(
+          replica.getPassword() != null
+              ? replica.getPassword()
+              : dataSourceProperties.determinePassword());
+      pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+      pool.setReadOnly(true);
+      pools.put(replica.getName(), pool);
+    }
+    log.info("읽기 전용 복제본 라우팅 활성화. replicas: {}", pools.keySet());
+    return new ReplicaDataSources(pools);
+  }
+
+  @Bean
+  public ReadYourWritesTokens readYourWritesTokens(ReplicaRoutingProperties properties) {
+    return new ReadYourWritesTokens(properties.getHeaderName());
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      DataSourceProperties dataSourceProperties,
+      ReplicaDataSources replicaDataSources,
+      ReplicaRoutingProperties properties,
+      MeterRegistry meterRegistry) {
+    return new ReplicaLagMonitor(
+        primaryDataSource(dataSourceProperties), replicaDataSources, properties, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      DataSourceProperties dataSourceProperties,
+      ReplicaDataSources replicaDataSources,
+      ReplicaLagMonitor replicaLagMonitor,
+      ReadYourWritesTokens readYourWritesTokens) {
+    ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(
+            primaryDataSource(dataSourceProperties),
+            replicaDataSources,
+            replicaLagMonitor,
+            readYourWritesTokens);
+    routing.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+}
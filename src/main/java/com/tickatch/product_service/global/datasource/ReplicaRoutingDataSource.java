@@ -0,0 +1,95 @@
+package com.tickatch.product_service.global.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 주 DB와 복제본을 선택하는 라우팅 DataSource.
+ *
+ * <p>라우팅 규칙은 다음과 같다.
+ *
+ * <ul>
+ *   <li>읽기 전용 트랜잭션: 지연이 허용치 이내이고 쓰기 후 읽기 토큰을 만족하는 복제본 중 하나(라운드 로빈). 없으면 주 DB
+ *   <li>쓰기 트랜잭션, 트랜잭션 밖: 주 DB
+ * </ul>
+ *
+ * <p>트랜잭션 속성은 커넥션을 실제로 얻는 시점에 확인하므로 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용해야 한다. 그렇지 않으면 트랜잭션 시작
+ * 시점에 읽기 전용 여부가 아직 설정되지 않아 모든 조회가 주 DB로 간다.
+ *
+ * <p>쓰기 트랜잭션에는 커밋 후 동기화를 등록하여 쓰기 후 읽기 토큰을 발급한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ReplicaLagMonitor
+ * @see ReadYourWritesTokens
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  /** 주 DB 라우팅 키 */
+  static final String PRIMARY = "primary";
+
+  /** 트랜잭션당 토큰 발급 동기화를 한 번만 등록하기 위한 리소스 키 */
+  private final Object issuerKey = new Object();
+
+  private final ReplicaLagMonitor monitor;
+  private final ReadYourWritesTokens tokens;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      ReplicaDataSources replicas,
+      ReplicaLagMonitor monitor,
+      ReadYourWritesTokens tokens) {
+    this.monitor = monitor;
+    this.tokens = tokens;
+    Map<Object, Object> targets = new HashMap<>(replicas.asMap());
+    targets.put(PRIMARY, primary);
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      return PRIMARY;
+    }
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      registerTokenIssuer();
+      return PRIMARY;
+    }
+    List<String> eligible = monitor.eligibleReplicas(tokens.required());
+    if (eligible.isEmpty()) {
+      return PRIMARY;
+    }
+    return eligible.get(Math.floorMod(cursor.getAndIncrement(), eligible.size()));
+  }
+
+  private void registerTokenIssuer() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(issuerKey)
+        || !tokens.canIssue()) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(issuerKey, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            monitor.currentPrimaryPosition().ifPresent(tokens::issue);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(issuerKey);
+          }
+        });
+  }
+}
@@ -0,0 +1,75 @@
+package com.tickatch.product_service.global.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정.
+ *
+ * <p>기본 조회 쿼리는 PostgreSQL 스트리밍 복제 기준이다. 로컬에서 H2 두 개로 확인할 때는 쿼리를 {@code SELECT 0}과 같이 교체하면 된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+
+  /** 라우팅 사용 여부 */
+  private boolean enabled;
+
+  /** 쓰기 후 읽기 일관성 기준 */
+  private ConsistencyMode consistency = ConsistencyMode.TIMESTAMP;
+
+  /** 라우팅 대상으로 허용하는 최대 복제 지연 */
+  private Duration maxLag = Duration.ofSeconds(1);
+
+  /** 쓰기 후 읽기 토큰을 주고받는 헤더 */
+  private String headerName = "X-Read-After";
+
+  /** 복제본의 지연(ms)을 조회하는 쿼리 */
+  private String lagQuery =
+      "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)"
+          + " END";
+
+  /** 복제본이 반영한 WAL 위치를 조회하는 쿼리 ({@link ConsistencyMode#LSN}) */
+  private String replicaPositionQuery = "SELECT pg_last_wal_replay_lsn() - '0/0'::pg_lsn";
+
+  /** 주 DB의 현재 WAL 위치를 조회하는 쿼리 ({@link ConsistencyMode#LSN}) */
+  private String primaryPositionQuery = "SELECT pg_current_wal_lsn() - '0/0'::pg_lsn";
+
+  /** 복제본 목록 */
+  private List<Replica> replicas = new ArrayList<>();
+
+  /** 복제본 접속 정보. 계정을 비워 두면 주 DB 계정을 사용한다. */
+  @Getter
+  @Setter
+  public static class Replica {
+
+    /** 복제본 이름 (라우팅 키, 메트릭 태그) */
+    private String name;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** 커넥션 풀 최대 크기 */
+    private int maximumPoolSize = 10;
+  }
+
+  /** 쓰기 후 읽기 토큰의 기준. */
+  public enum ConsistencyMode {
+    /** 커밋 시각(epoch ms). 복제본의 반영 시각은 확인 시각에서 지연을 빼서 추정한다. */
+    TIMESTAMP,
+    /** 커밋 직후 주 DB의 WAL 위치. 복제본의 재생 위치와 직접 비교한다. */
+    LSN
+  }
+}
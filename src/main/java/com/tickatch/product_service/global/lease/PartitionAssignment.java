@@ -0,0 +1,82 @@
+package com.tickatch.product_service.global.lease;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 인스턴스가 맡은 파티션.
+ *
+ * <p>작업 대상(상품 등)을 ID를 파티션 수로 나눈 나머지로 나누고, 그중 이 인스턴스가 임대를 가진 파티션만 처리한다.
+ *
+ * @param partitionCount 전체 파티션 수
+ * @param partitions 맡은 파티션 번호 (0 이상 {@code partitionCount} 미만)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record PartitionAssignment(int partitionCount, Set<Integer> partitions) {
+
+  public PartitionAssignment {
+    partitions = Set.copyOf(partitions);
+  }
+
+  /**
+   * 모든 파티션을 맡은 할당을 반환한다.
+   *
+   * @param partitionCount 전체 파티션 수
+   * @return 전체 할당
+   */
+  public static PartitionAssignment all(int partitionCount) {
+    return new PartitionAssignment(
+        partitionCount,
+        IntStream.range(0, partitionCount).boxed().collect(Collectors.toUnmodifiableSet()));
+  }
+
+  /**
+   * 아무 파티션도 맡지 않은 할당을 반환한다.
+   *
+   * @param partitionCount 전체 파티션 수
+   * @return 빈 할당
+   */
+  public static PartitionAssignment none(int partitionCount) {
+    return new PartitionAssignment(partitionCount, Set.of());
+  }
+
+  /**
+   * 맡은 파티션이 없는지 확인한다.
+   *
+   * @return 없으면 true
+   */
+  public boolean isEmpty() {
+    return partitions.isEmpty();
+  }
+
+  /**
+   * 모든 파티션을 맡았는지 확인한다.
+   *
+   * @return 모두 맡았으면 true
+   */
+  public boolean isAll() {
+    return partitions.size() >= partitionCount;
+  }
+
+  /**
+   * ID가 맡은 파티션에 속하는지 확인한다.
+   *
+   * @param id 대상 ID
+   * @return 속하면 true
+   */
+  public boolean contains(long id) {
+    return partitions.contains(partitionOf(id));
+  }
+
+  /**
+   * ID가 속한 파티션 번호를 반환한다.
+   *
+   * @param id 대상 ID
+   * @return 파티션 번호
+   */
+  public int partitionOf(long id) {
+    return Math.floorMod(id, partitionCount);
+  }
+}
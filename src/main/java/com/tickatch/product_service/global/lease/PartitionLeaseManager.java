@@ -0,0 +1,234 @@
+package com.tickatch.product_service.global.lease;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 파티션 임대 관리자.
+ *
+ * <p>작업 대상을 {@code product.scheduler.partitions}개의 파티션으로 나누고, 파티션마다 {@link SchedulerLease} 한 행을 둔다.
+ * 각 인스턴스는 주기({@code product.scheduler.lease.heartbeat-ms})마다 다음을 수행한다.
+ *
+ * <ol>
+ *   <li>자신의 구성원 행과 소유한 파티션 임대의 만료 일시를 연장한다.
+ *   <li>만료되지 않은 구성원 수로 공정 몫(전체 파티션 수 / 구성원 수, 올림)을 계산한다.
+ *   <li>몫보다 많이 가졌으면 초과분을 반납하고, 적게 가졌으면 소유자가 없거나 만료된 임대를 획득한다.
+ * </ol>
+ *
+ * <p>인스턴스가 종료되면 임대를 반납하고, 비정상 종료되면 임대가 만료({@code product.scheduler.lease.ttl-ms})된 뒤 다른 인스턴스가 가져간다.
+ * DB에 접근하지 못해 임대를 연장하지 못하면, 마지막으로 연장한 만료 일시가 지난 뒤부터 아무 파티션도 맡지 않은 것으로 본다.
+ *
+ * <p>비활성화({@code product.scheduler.lease.enabled=false})하면 임대 없이 모든 파티션을 맡는다. 소유한 파티션 수는 {@code
+ * scheduler.lease.owned} 게이지로, 획득/상실/반납 횟수는 {@code scheduler.lease.handovers} 카운터의 {@code type} 태그로
+ * 구분하여 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PartitionLeaseManager {
+
+  private final SchedulerLeaseJpaRepository leaseRepository;
+  private final boolean enabled;
+  private final int partitionCount;
+  private final Duration ttl;
+  private final String ownerId;
+  private final String partitionPrefix;
+  private final String memberPrefix;
+  private final Counter acquired;
+  private final Counter lost;
+  private final Counter released;
+
+  private volatile PartitionAssignment assignment;
+  private volatile LocalDateTime validUntil = LocalDateTime.MIN;
+  private boolean partitionsCreated;
+
+  public PartitionLeaseManager(
+      SchedulerLeaseJpaRepository leaseRepository,
+      MeterRegistry meterRegistry,
+      @Value("${product.scheduler.lease.enabled:true}") boolean enabled,
+      @Value("${product.scheduler.lease.name:product-status}") String leaseName,
+      @Value("${product.scheduler.partitions:16}") int partitionCount,
+      @Value("${product.scheduler.lease.ttl-ms:30000}") long ttlMillis,
+      @Value("${eureka.instance.instance-id:${spring.application.name:product-service}}")
+          String instanceId) {
+    this.leaseRepository = leaseRepository;
+    this.enabled = enabled;
+    this.partitionCount = partitionCount;
+    this.ttl = Duration.ofMillis(ttlMillis);
+    this.ownerId = instanceId + ":" + UUID.randomUUID().toString().substring(0, 8);
+    this.partitionPrefix = leaseName + "-partition-";
+    this.memberPrefix = leaseName + "-member-";
+    this.assignment =
+        enabled ? PartitionAssignment.none(partitionCount) : PartitionAssignment.all(1);
+
+    Gauge.builder("scheduler.lease.owned", this, m -> m.current().partitions().size())
+        .tag("lease", leaseName)
+        .register(meterRegistry);
+    this.acquired = handovers(meterRegistry, leaseName, "acquired");
+    this.lost = handovers(meterRegistry, leaseName, "lost");
+    this.released = handovers(meterRegistry, leaseName, "released");
+  }
+
+  /**
+   * 현재 맡은 파티션을 반환한다.
+   *
+   * @return 파티션 할당 (임대가 만료되었으면 빈 할당)
+   */
+  public PartitionAssignment current() {
+    if (enabled && LocalDateTime.now().isAfter(validUntil)) {
+      return PartitionAssignment.none(partitionCount);
+    }
+    return assignment;
+  }
+
+  /**
+   * 임대를 연장하고 공정 몫에 맞게 파티션을 획득하거나 반납한다.
+   *
+   * <p>DB 오류는 기록만 하고 다음 주기에 다시 시도한다.
+   */
+  @Scheduled(fixedDelayString = "${product.scheduler.lease.heartbeat-ms:10000}")
+  public void heartbeat() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      rebalance();
+    } catch (RuntimeException e) {
+      log.warn("스케줄러 임대 갱신 실패. ownerId: {}, error: {}", ownerId, e.getMessage());
+    }
+  }
+
+  /** 종료 시 소유한 임대를 반납하고 구성원 행을 삭제하여 다른 인스턴스가 바로 가져가도록 한다. */
+  @PreDestroy
+  public void shutdown() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      List<String> names = leaseRepository.findOwnedNames(partitionPrefix, ownerId);
+      int count = names.isEmpty() ? 0 : leaseRepository.release(names, ownerId);
+      leaseRepository.deleteById(memberPrefix + ownerId);
+      assignment = PartitionAssignment.none(partitionCount);
+      released.increment(count);
+      log.info("스케줄러 임대 반납. ownerId: {}, partitions: {}", ownerId, count);
+    } catch (RuntimeException e) {
+      log.warn("스케줄러 임대 반납 실패. ownerId: {}, error: {}", ownerId, e.getMessage());
+    }
+  }
+
+  private void rebalance() {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime expiresAt = now.plus(ttl);
+    createPartitionsIfAbsent();
+
+    String memberName = memberPrefix + ownerId;
+    if (leaseRepository.renew(memberName, ownerId, expiresAt) == 0) {
+      leaseRepository.save(SchedulerLease.held(memberName, ownerId, expiresAt));
+    }
+    leaseRepository.deleteExpired(memberPrefix, now.minus(ttl));
+
+    leaseRepository.renew(partitionPrefix, ownerId, expiresAt);
+    Set<Integer> owned = toPartitions(leaseRepository.findOwnedNames(partitionPrefix, ownerId));
+    int lostCount = (int) assignment.partitions().stream().filter(p -> !owned.contains(p)).count();
+    if (lostCount > 0) {
+      lost.increment(lostCount);
+      log.warn("스케줄러 임대 상실. ownerId: {}, partitions: {}", ownerId, lostCount);
+    }
+
+    long members = Math.max(1, leaseRepository.countActive(memberPrefix, now));
+    int fairShare = (int) Math.ceil((double) partitionCount / members);
+
+    if (owned.size() > fairShare) {
+      List<String> extra =
+          owned.stream()
+              .sorted(Comparator.reverseOrder())
+              .limit(owned.size() - fairShare)
+              .map(this::nameOf)
+              .toList();
+      int count = leaseRepository.release(extra, ownerId);
+      owned.removeAll(toPartitions(extra));
+      released.increment(count);
+    } else if (owned.size() < fairShare) {
+      for (String name : leaseRepository.findAvailableNames(partitionPrefix, now)) {
+        if (owned.size() >= fairShare) {
+          break;
+        }
+        if (leaseRepository.acquire(name, ownerId, now, expiresAt) == 1) {
+          owned.add(partitionOf(name));
+          acquired.increment();
+        }
+      }
+    }
+
+    if (!owned.equals(assignment.partitions())) {
+      log.info(
+          "스케줄러 파티션 할당 변경. ownerId: {}, members: {}, partitions: {}",
+          ownerId,
+          members,
+          new TreeSet<>(owned));
+    }
+    assignment = new PartitionAssignment(partitionCount, owned);
+    validUntil = expiresAt;
+  }
+
+  private void createPartitionsIfAbsent() {
+    if (partitionsCreated) {
+      return;
+    }
+    Set<String> existing = new HashSet<>(leaseRepository.findNamesByPrefix(partitionPrefix));
+    List<SchedulerLease> missing = new ArrayList<>();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      if (!existing.contains(nameOf(partition))) {
+        missing.add(SchedulerLease.vacant(nameOf(partition)));
+      }
+    }
+    try {
+      leaseRepository.saveAll(missing);
+    } catch (DataIntegrityViolationException e) {
+      log.debug("다른 인스턴스가 파티션 임대를 먼저 생성함. error: {}", e.getMessage());
+      return;
+    }
+    partitionsCreated = true;
+  }
+
+  private String nameOf(int partition) {
+    return partitionPrefix + partition;
+  }
+
+  private int partitionOf(String name) {
+    return Integer.parseInt(name.substring(partitionPrefix.length()));
+  }
+
+  private Set<Integer> toPartitions(List<String> names) {
+    return names.stream()
+        .map(this::partitionOf)
+        .filter(partition -> partition < partitionCount)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private static Counter handovers(MeterRegistry meterRegistry, String leaseName, String type) {
+    return Counter.builder("scheduler.lease.handovers")
+        .tag("lease", leaseName)
+        .tag("type", type)
+        .register(meterRegistry);
+  }
+}
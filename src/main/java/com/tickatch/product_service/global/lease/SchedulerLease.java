@@ -0,0 +1,68 @@
+package com.tickatch.product_service.global.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 임대(lease).
+ *
+ * <p>여러 인스턴스가 나눠 맡는 작업 단위(파티션)마다 한 행을 두고, 현재 소유 인스턴스와 만료 시각을 기록한다. 소유자는 만료 전에 임대를 갱신해야 하며, 만료된 임대는
+ * 다른 인스턴스가 가져갈 수 있다. 살아 있는 인스턴스를 세기 위한 구성원 행도 같은 테이블에 둔다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see PartitionLeaseManager
+ */
+@Entity
+@Table(name = "p_scheduler_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+  /** 임대 이름 */
+  @Id
+  @Column(name = "lease_name", length = 200)
+  private String leaseName;
+
+  /** 소유 인스턴스 ID (없으면 null) */
+  @Column(name = "owner_id", length = 200)
+  private String ownerId;
+
+  /** 만료 일시 (소유자가 없으면 null) */
+  @Column(name = "expires_at")
+  private LocalDateTime expiresAt;
+
+  private SchedulerLease(String leaseName, String ownerId, LocalDateTime expiresAt) {
+    this.leaseName = leaseName;
+    this.ownerId = ownerId;
+    this.expiresAt = expiresAt;
+  }
+
+  /**
+   * 소유자가 없는 임대를 생성한다.
+   *
+   * @param leaseName 임대 이름
+   * @return 임대
+   */
+  public static SchedulerLease vacant(String leaseName) {
+    return new SchedulerLease(leaseName, null, null);
+  }
+
+  /**
+   * 소유자가 있는 임대를 생성한다.
+   *
+   * @param leaseName 임대 이름
+   * @param ownerId 소유 인스턴스 ID
+   * @param expiresAt 만료 일시
+   * @return 임대
+   */
+  public static SchedulerLease held(String leaseName, String ownerId, LocalDateTime expiresAt) {
+    return new SchedulerLease(leaseName, ownerId, expiresAt);
+  }
+}
@@ -0,0 +1,137 @@
+package com.tickatch.product_service.global.lease;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 스케줄러 임대 JPA 리포지토리.
+ *
+ * <p>임대의 획득, 갱신, 반납은 현재 소유자와 만료 시각을 조건으로 건 단일 UPDATE로 처리하므로, 여러 인스턴스가 동시에 시도해도 한 인스턴스만 성공한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see PartitionLeaseManager
+ */
+public interface SchedulerLeaseJpaRepository extends JpaRepository<SchedulerLease, String> {
+
+  /**
+   * 이름이 접두사로 시작하는 임대 이름을 조회한다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @return 임대 이름 목록
+   */
+  @Query("select l.leaseName from SchedulerLease l where l.leaseName like concat(:prefix, '%')")
+  List<String> findNamesByPrefix(@Param("prefix") String prefix);
+
+  /**
+   * 인스턴스가 소유한 임대 이름을 조회한다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @param ownerId 소유 인스턴스 ID
+   * @return 임대 이름 목록
+   */
+  @Query(
+      "select l.leaseName from SchedulerLease l"
+          + " where l.leaseName like concat(:prefix, '%') and l.ownerId = :ownerId")
+  List<String> findOwnedNames(@Param("prefix") String prefix, @Param("ownerId") String ownerId);
+
+  /**
+   * 소유자가 없거나 만료된 임대 이름을 이름 순으로 조회한다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @param now 기준 시각
+   * @return 임대 이름 목록
+   */
+  @Query(
+      "select l.leaseName from SchedulerLease l"
+          + " where l.leaseName like concat(:prefix, '%')"
+          + " and (l.ownerId is null or l.expiresAt < :now)"
+          + " order by l.leaseName")
+  List<String> findAvailableNames(@Param("prefix") String prefix, @Param("now") LocalDateTime now);
+
+  /**
+   * 만료되지 않은 임대 수를 센다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @param now 기준 시각
+   * @return 임대 수
+   */
+  @Query(
+      "select count(l) from SchedulerLease l"
+          + " where l.leaseName like concat(:prefix, '%')"
+          + " and l.ownerId is not null and l.expiresAt >= :now")
+  long countActive(@Param("prefix") String prefix, @Param("now") LocalDateTime now);
+
+  /**
+   * 소유자가 없거나 만료된 임대를 획득한다.
+   *
+   * @param leaseName 임대 이름
+   * @param ownerId 소유할 인스턴스 ID
+   * @param now 기준 시각
+   * @param expiresAt 새 만료 일시
+   * @return 획득했으면 1, 다른 인스턴스가 소유 중이면 0
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "update SchedulerLease l set l.ownerId = :ownerId, l.expiresAt = :expiresAt"
+          + " where l.leaseName = :leaseName and (l.ownerId is null or l.expiresAt < :now)")
+  int acquire(
+      @Param("leaseName") String leaseName,
+      @Param("ownerId") String ownerId,
+      @Param("now") LocalDateTime now,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * 인스턴스가 소유한 임대의 만료 일시를 연장한다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @param ownerId 소유 인스턴스 ID
+   * @param expiresAt 새 만료 일시
+   * @return 연장한 임대 수
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "update SchedulerLease l set l.expiresAt = :expiresAt"
+          + " where l.leaseName like concat(:prefix, '%') and l.ownerId = :ownerId")
+  int renew(
+      @Param("prefix") String prefix,
+      @Param("ownerId") String ownerId,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  /**
+   * 인스턴스가 소유한 임대를 반납한다.
+   *
+   * @param leaseNames 반납할 임대 이름
+   * @param ownerId 소유 인스턴스 ID
+   * @return 반납한 임대 수
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "update SchedulerLease l set l.ownerId = null, l.expiresAt = null"
+          + " where l.leaseName in :leaseNames and l.ownerId = :ownerId")
+  int release(
+      @Param("leaseNames") Collection<String> leaseNames, @Param("ownerId") String ownerId);
+
+  /**
+   * 만료된 지 오래된 임대를 삭제한다. 종료된 인스턴스의 구성원 행을 정리하는 데 사용한다.
+   *
+   * @param prefix 임대 이름 접두사
+   * @param before 이 시각 이전에 만료된 임대를 삭제
+   * @return 삭제한 임대 수
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "delete from SchedulerLease l"
+          + " where l.leaseName like concat(:prefix, '%') and l.expiresAt < :before")
+  int deleteExpired(@Param("prefix") String prefix, @Param("before") LocalDateTime before);
+}
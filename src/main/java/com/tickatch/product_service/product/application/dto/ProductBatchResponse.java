@@ -0,0 +1,25 @@
+package com.tickatch.product_service.product.application.dto;
+
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 다건 조회 응답 DTO.
+ *
+ * <p>조회된 상품은 요청한 ID 순서대로 담고, 존재하지 않는 ID는 별도 목록으로 전달한다. 중복 요청된 ID는 한 번만 포함한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class ProductBatchResponse {
+
+  /** 조회된 상품 목록 (요청 순서) */
+  private final List<ProductResponse> products;
+
+  /** 존재하지 않는 상품 ID 목록 (요청 순서) */
+  private final List<Long> missingIds;
+}
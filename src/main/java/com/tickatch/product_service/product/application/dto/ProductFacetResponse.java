@@ -0,0 +1,35 @@
+package com.tickatch.product_service.product.application.dto;
+
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 패싯 건수 응답 DTO.
+ *
+ * <p>목록 필터 UI에 표시할 차원별 건수를 담는다. 각 차원의 건수는 해당 차원을 제외한 나머지 필터를 적용한 결과 기준이며, 건수가 0인 값은 포함하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class ProductFacetResponse {
+
+  /** 모든 필터를 적용한 전체 건수 */
+  private final long total;
+
+  /** 상품 타입별 건수 */
+  private final Map<ProductType, Long> productTypes;
+
+  /** 상품 상태별 건수 */
+  private final Map<ProductStatus, Long> statuses;
+
+  /** 스테이지 ID별 건수 */
+  private final Map<Long, Long> stages;
+
+  /** 판매자 ID별 건수 */
+  private final Map<String, Long> sellers;
+}
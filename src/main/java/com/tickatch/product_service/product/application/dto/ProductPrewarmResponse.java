@@ -0,0 +1,52 @@
+package com.tickatch.product_service.product.application.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 판매 오픈 사전 준비 상태 응답 DTO.
+ *
+ * <p>판매 시작 전 캐시와 조회 경로를 미리 채웠는지 상품별로 전달한다. 이 인스턴스 기준의 상태이므로 인스턴스마다 다를 수 있다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class ProductPrewarmResponse {
+
+  /** 상품 ID */
+  private final Long productId;
+
+  /** 준비 상태 */
+  private final Status status;
+
+  /** 준비 기준 판매 시작 일시 (대상이 아니면 null) */
+  private final LocalDateTime saleStartAt;
+
+  /** 준비 완료 일시 (완료 전이면 null) */
+  private final LocalDateTime warmedAt;
+
+  /** 사전 준비 상태 */
+  public enum Status {
+    /** 판매 시작이 준비 범위 밖이거나 판매 예정 상품이 아님 */
+    NONE,
+    /** 준비 대상이지만 아직 준비하지 않음 */
+    PENDING,
+    /** 준비 완료 */
+    WARMED,
+    /** 준비 실패 (다음 주기에 다시 시도) */
+    FAILED
+  }
+
+  /**
+   * 준비 대상이 아닌 상품의 응답을 생성한다.
+   *
+   * @param productId 상품 ID
+   * @return 준비 상태 응답
+   */
+  public static ProductPrewarmResponse none(Long productId) {
+    return ProductPrewarmResponse.builder().productId(productId).status(Status.NONE).build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.tickatch.product_service.product.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 자동완성 응답 DTO.
+ *
+ * <p>검색창 입력 중 노출할 제안 항목을 담는다. 상품명 또는 출연진 이름이 제안 문구가 되며, 선택 시 이동할 상품 ID를 함께 전달한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public class ProductSuggestResponse {
+
+  /** 제안 타입 */
+  private final SuggestType type;
+
+  /** 제안 문구 */
+  private final String text;
+
+  /** 상품 ID */
+  private final Long productId;
+
+  /** 자동완성 제안 타입. */
+  public enum SuggestType {
+    /** 상품명 */
+    PRODUCT,
+    /** 출연진 */
+    CAST
+  }
+}
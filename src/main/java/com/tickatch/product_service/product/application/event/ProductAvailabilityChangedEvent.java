@@ -0,0 +1,39 @@
+package com.tickatch.product_service.product.application.event;
+
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+
+/**
+ * 상품 잔여 좌석 변경 애플리케이션 이벤트.
+ *
+ * <p>좌석 차감/복구, 좌석 등급 변경, 상품 취소 시 서비스 내부로 발행된다. 잔여 좌석 캐시는 이 이벤트를 트랜잭션 커밋 이후에 수신하여 DB 재조회 없이 항목을
+ * 교체한다.
+ *
+ * @param availability 발행 시점의 잔여 좌석 스냅샷
+ * @param deleted 삭제(취소) 여부
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record ProductAvailabilityChangedEvent(
+    ProductAvailabilityResponse availability, boolean deleted) {
+
+  /**
+   * 상품 엔티티의 현재 좌석 현황으로 변경 이벤트를 생성한다.
+   *
+   * @param product 상품 엔티티
+   * @return 잔여 좌석 변경 이벤트
+   */
+  public static ProductAvailabilityChangedEvent from(Product product) {
+    return new ProductAvailabilityChangedEvent(
+        ProductAvailabilityResponse.from(product), product.getDeletedAt() != null);
+  }
+
+  /**
+   * 상품 ID를 반환한다.
+   *
+   * @return 상품 ID
+   */
+  public Long productId() {
+    return availability.getProductId();
+  }
+}
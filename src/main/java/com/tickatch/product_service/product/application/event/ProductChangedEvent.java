@@ -0,0 +1,120 @@
+package com.tickatch.product_service.product.application.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 애플리케이션 이벤트.
+ *
+ * <p>상품의 생성, 수정, 상태 전이, 취소 등 색인 대상 속성이 바뀔 때 서비스 내부로 발행된다. 메모리 인덱스 등 조회 전용 구성요소는 이 이벤트를 트랜잭션 커밋 이후에
+ * 수신하여 DB 재조회 없이 자신의 상태를 갱신한다. 좌석 변경은 {@link ProductAvailabilityChangedEvent}, 조회수/예매 수 변경은 {@link
+ * ProductStatsChangedEvent}로 따로 발행하므로, 이 이벤트로만 갱신하는 구성요소의 조회수와 예매 수는 다음 변경이나 재적재 때까지 이전 값으로 남는다.
+ *
+ * <p>엔티티를 그대로 전달하면 커밋 이후 지연 로딩이 불가능하므로, 발행 시점의 필드 값을 스냅샷으로 복사하여 전달한다. 같은 값을 JSON으로 다른 인스턴스에도 방송하여
+ * 인스턴스마다 따로 유지되는 메모리 인덱스를 갱신한다.
+ *
+ * @param productId 상품 ID
+ * @param name 상품명
+ * @param castInfo 출연진 정보
+ * @param productType 상품 타입
+ * @param status 상품 상태
+ * @param stageId 스테이지 ID
+ * @param artHallId 아트홀 ID
+ * @param sellerId 판매자 ID
+ * @param startAt 행사 시작 일시
+ * @param endAt 행사 종료 일시
+ * @param saleStartAt 예매 시작 일시
+ * @param saleEndAt 예매 종료 일시
+ * @param viewCount 조회수
+ * @param reservationCount 예매 수
+ * @param deleted 삭제(취소) 여부
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record ProductChangedEvent(
+    Long productId,
+    String name,
+    String castInfo,
+    ProductType productType,
+    ProductStatus status,
+    Long stageId,
+    Long artHallId,
+    String sellerId,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    LocalDateTime saleStartAt,
+    LocalDateTime saleEndAt,
+    long viewCount,
+    int reservationCount,
+    boolean deleted) {
+
+  /**
+   * 상품 엔티티의 현재 상태로 변경 이벤트를 생성한다.
+   *
+   * @param product 상품 엔티티
+   * @return 상품 변경 이벤트
+   */
+  public static ProductChangedEvent from(Product product) {
+    return new ProductChangedEvent(
+        product.getId(),
+        product.getName(),
+        product.getCastInfo(),
+        product.getProductType(),
+        product.getStatus(),
+        product.getStageId(),
+        product.getVenue().getArtHallId(),
+        product.getSellerId(),
+        product.getStartAt(),
+        product.getEndAt(),
+        product.getSaleStartAt(),
+        product.getSaleEndAt(),
+        product.getStats().getViewCount() != null ? product.getStats().getViewCount() : 0L,
+        product.getStats().getReservationCount() != null
+            ? product.getStats().getReservationCount()
+            : 0,
+        product.getDeletedAt() != null);
+  }
+
+  /**
+   * 메모리 인덱스 적재용 조회 결과로 변경 이벤트를 생성한다.
+   *
+   * <p>적재 대상은 삭제되지 않은 상품이므로 삭제 여부는 false이다.
+   *
+   * @param snapshot 색인용 조회 결과
+   * @return 상품 변경 이벤트
+   */
+  public static ProductChangedEvent from(ProductIndexSnapshot snapshot) {
+    return new ProductChangedEvent(
+        snapshot.getProductId(),
+        snapshot.getName(),
+        snapshot.getCastInfo(),
+        snapshot.getProductType(),
+        snapshot.getStatus(),
+        snapshot.getStageId(),
+        snapshot.getArtHallId(),
+        snapshot.getSellerId(),
+        snapshot.getStartAt(),
+        snapshot.getEndAt(),
+        snapshot.getSaleStartAt(),
+        snapshot.getSaleEndAt(),
+        snapshot.getViewCount(),
+        snapshot.getReservationCount(),
+        false);
+  }
+
+  /**
+   * 검색/추천 노출 대상인지 확인한다.
+   *
+   * <p>삭제되지 않았고 {@link ProductStatus#canBePurchased()}를 만족하는 상품만 노출한다.
+   *
+   * @return 노출 대상이면 true
+   */
+  @JsonIgnore
+  public boolean isBrowsable() {
+    return !deleted && status != null && status.canBePurchased();
+  }
+}
@@ -0,0 +1,13 @@
+package com.tickatch.product_service.product.application.event;
+
+/**
+ * 상품 통계 변경 애플리케이션 이벤트.
+ *
+ * <p>조회수 동기화, 예매 수 증감 시 서비스 내부로 발행된다. 통계는 메모리 인덱스의 필터 조건이 아니므로 {@link ProductChangedEvent}를 발행하지
+ * 않고, 통계를 보여 주는 카탈로그 조회 모델만 이 이벤트를 트랜잭션 커밋 이후에 수신하여 갱신한다.
+ *
+ * @param productId 상품 ID
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record ProductStatsChangedEvent(Long productId) {}
@@ -0,0 +1,40 @@
+package com.tickatch.product_service.product.application.messaging.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 상품 로그 요약 이벤트.
+ *
+ * <p>좌석 차감, 예매 수 증가처럼 자주 발생하는 로그를 상품과 액션 타입별로 일정 구간 동안 합친 이벤트이다. 개별 {@link ProductLogEvent} 대신 건수와
+ * 구간의 첫/마지막 이벤트 정보를 담아 로그 서비스로 전송한다. 합쳐지는 로그는 모두 시스템 이벤트이므로 액터 정보는 담지 않는다.
+ *
+ * <p>이벤트 정보:
+ *
+ * <ul>
+ *   <li>Exchange: tickatch.log
+ *   <li>Routing Key: product.log.summary
+ *   <li>대상 서비스: log-service
+ * </ul>
+ *
+ * @param eventId 요약 이벤트 고유 ID
+ * @param productId 대상 상품 ID
+ * @param actionType 액션 타입 ({@link ProductActionType} 참조)
+ * @param count 구간 동안 합친 로그 건수
+ * @param firstEventId 구간의 첫 로그 이벤트 ID
+ * @param lastEventId 구간의 마지막 로그 이벤트 ID
+ * @param firstOccurredAt 구간의 첫 로그 발생 시간
+ * @param lastOccurredAt 구간의 마지막 로그 발생 시간
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductLogEvent
+ */
+public record ProductLogSummaryEvent(
+    UUID eventId,
+    Long productId,
+    String actionType,
+    long count,
+    UUID firstEventId,
+    UUID lastEventId,
+    LocalDateTime firstOccurredAt,
+    LocalDateTime lastOccurredAt) {}
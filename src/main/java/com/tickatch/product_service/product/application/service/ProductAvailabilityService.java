@@ -0,0 +1,141 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityCache;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityStreamHub;
+import com.tickatch.product_service.product.infrastructure.search.schedule.StageScheduleIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 상품 잔여 좌석 조회 서비스.
+ *
+ * <p>잔여 좌석 폴링 요청을 {@link ProductAvailabilityCache}로 처리한다. 캐시가 유효하면 DB에 접근하지 않으므로 트랜잭션을 열지 않는다.
+ * 스테이지/아트홀 단위 조회는 {@link StageScheduleIndex}에서 대상 상품 ID를 구한다. 폴링 대신 {@link
+ * ProductAvailabilityStreamHub}로 변경을 구독할 수도 있다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductAvailabilityCache
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductAvailabilityService {
+
+  private final ProductAvailabilityCache productAvailabilityCache;
+  private final ProductAvailabilityStreamHub productAvailabilityStreamHub;
+  private final StageScheduleIndex stageScheduleIndex;
+  private final ProductRepository productRepository;
+
+  /** 다건 조회 시 한 번에 요청할 수 있는 최대 상품 수 */
+  @Value("${product.batch.max-size:100}")
+  private int batchMaxSize;
+
+  /** 캘린더를 한 번에 조회할 수 있는 최대 일수 */
+  @Value("${product.calendar.max-days:366}")
+  private int calendarMaxDays;
+
+  /**
+   * 상품 하나의 잔여 좌석을 조회한다.
+   *
+   * @param productId 상품 ID
+   * @return 잔여 좌석
+   * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
+   */
+  public ProductAvailabilityResponse getAvailability(Long productId) {
+    List<ProductAvailabilityResponse> found = productAvailabilityCache.getAll(List.of(productId));
+    if (found.isEmpty()) {
+      throw new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, productId);
+    }
+    return found.get(0);
+  }
+
+  /**
+   * 상품의 잔여 좌석 변경 스트림을 구독한다.
+   *
+   * <p>현재 잔여 좌석을 첫 이벤트로 보내고, 이후 변경은 상품별로 모아 일정 주기마다 전송한다.
+   *
+   * @param productId 상품 ID
+   * @return SSE 연결
+   * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
+   */
+  public SseEmitter subscribe(Long productId) {
+    return productAvailabilityStreamHub.subscribe(getAvailability(productId));
+  }
+
+  /**
+   * 여러 상품의 잔여 좌석을 조회한다.
+   *
+   * <p>결과는 요청 순서를 따르며, 중복 ID는 한 번만 포함한다. 삭제되었거나 존재하지 않는 상품은 결과에서 빠진다.
+   *
+   * @param productIds 상품 ID 목록
+   * @return 잔여 좌석 목록
+   * @throws ProductException 최대 조회 수를 넘는 경우 ({@link ProductErrorCode#BATCH_SIZE_EXCEEDED})
+   */
+  public List<ProductAvailabilityResponse> getAvailabilities(List<Long> productIds) {
+    List<Long> requested = productIds.stream().distinct().toList();
+    if (requested.size() > batchMaxSize) {
+      throw new ProductException(ProductErrorCode.BATCH_SIZE_EXCEEDED, batchMaxSize);
+    }
+    if (requested.isEmpty()) {
+      return List.of();
+    }
+    return productAvailabilityCache.getAll(requested);
+  }
+
+  /**
+   * 스테이지에서 기간과 행사 일정이 겹치는 상품의 잔여 좌석을 행사 시작 일시 순으로 조회한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 잔여 좌석 목록
+   * @throws ProductException 기간 시작이 끝보다 늦거나 같은 경우 ({@link ProductErrorCode#INVALID_DATE_RANGE})
+   * @throws ProductException 기간이 최대 일수를 넘는 경우 ({@link ProductErrorCode#CALENDAR_RANGE_TOO_LONG})
+   */
+  public List<ProductAvailabilityResponse> getStageAvailability(
+      Long stageId, LocalDateTime from, LocalDateTime to) {
+    validateRange(from, to);
+    List<Long> productIds =
+        stageScheduleIndex.isReady()
+            ? stageScheduleIndex.findOverlapping(stageId, from, to)
+            : productRepository.findIdsOverlappingOnStage(stageId, from, to);
+    return productIds.isEmpty() ? List.of() : productAvailabilityCache.getAll(productIds);
+  }
+
+  /**
+   * 아트홀에서 기간과 행사 일정이 겹치는 상품의 잔여 좌석을 행사 시작 일시 순으로 조회한다.
+   *
+   * @param artHallId 아트홀 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 잔여 좌석 목록
+   * @throws ProductException 기간 시작이 끝보다 늦거나 같은 경우 ({@link ProductErrorCode#INVALID_DATE_RANGE})
+   * @throws ProductException 기간이 최대 일수를 넘는 경우 ({@link ProductErrorCode#CALENDAR_RANGE_TOO_LONG})
+   */
+  public List<ProductAvailabilityResponse> getArtHallAvailability(
+      Long artHallId, LocalDateTime from, LocalDateTime to) {
+    validateRange(from, to);
+    List<Long> productIds =
+        stageScheduleIndex.isReady()
+            ? stageScheduleIndex.findOverlappingInArtHall(artHallId, from, to)
+            : productRepository.findIdsOverlappingInArtHall(artHallId, from, to);
+    return productIds.isEmpty() ? List.of() : productAvailabilityCache.getAll(productIds);
+  }
+
+  private void validateRange(LocalDateTime from, LocalDateTime to) {
+    if (!from.isBefore(to)) {
+      throw new ProductException(ProductErrorCode.INVALID_DATE_RANGE);
+    }
+    if (to.isAfter(from.plusDays(calendarMaxDays))) {
+      throw new ProductException(ProductErrorCode.CALENDAR_RANGE_TOO_LONG, calendarMaxDays);
+    }
+  }
+}
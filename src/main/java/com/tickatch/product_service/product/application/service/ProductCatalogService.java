@@ -0,0 +1,189 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.global.lease.SchedulerLease;
+import com.tickatch.product_service.global.lease.SchedulerLeaseJpaRepository;
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import com.tickatch.product_service.product.domain.ProductCatalogViewRepository;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 카탈로그 조회 모델 서비스.
+ *
+ * <p>쓰기 모델(상품, 좌석 등급)의 현재 상태를 {@link ProductCatalogView}에 반영한다. 변경 이벤트의 값 대신 DB에서 상품을 다시 읽어 복사하므로,
+ * 이벤트가 유실되거나 늦게 처리되어도 다음 갱신이나 재구축 시 최신 상태로 맞춰진다.
+ *
+ * <p>재구축은 조회 모델 전체를 지우고 다시 쓰므로, 여러 인스턴스나 요청이 동시에 실행하면 서로의 행을 지우게 된다. 그래서 {@link SchedulerLease} 한
+ * 행({@value #REBUILD_LEASE})을 획득한 경우에만 재구축한다. 임대는 재구축이 끝나면 반납하며, 비정상 종료되면 {@code
+ * product.catalog.rebuild-lease-ttl-ms}가 지난 뒤 만료된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductCatalogView
+ * @see com.tickatch.product_service.product.infrastructure.catalog.ProductCatalogProjector
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCatalogService {
+
+  /** 재구축을 한 곳에서만 하도록 거는 임대 이름 */
+  static final String REBUILD_LEASE = "product-catalog-rebuild";
+
+  private final ProductRepository productRepository;
+  private final ProductCatalogViewRepository productCatalogViewRepository;
+  private final SchedulerLeaseJpaRepository leaseRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  /** 재구축 시 한 번에 읽고 저장하는 상품 수 */
+  @Value("${product.catalog.rebuild-chunk-size:500}")
+  private int rebuildChunkSize;
+
+  /** 재구축 임대 만료 시간. 재구축에 걸리는 시간보다 길어야 한다. */
+  @Value("${product.catalog.rebuild-lease-ttl-ms:600000}")
+  private long rebuildLeaseTtlMillis;
+
+  @Value("${eureka.instance.instance-id:${spring.application.name:product-service}}")
+  private String instanceId;
+
+  /**
+   * 상품 하나의 조회 모델을 현재 상태로 갱신한다.
+   *
+   * <p>상품이 없거나 삭제(취소)되었으면 조회 모델 행을 삭제한다.
+   *
+   * @param productId 상품 ID
+   */
+  @Transactional
+  public void refresh(Long productId) {
+    Product product = productRepository.findById(productId).orElse(null);
+    if (product == null || product.getDeletedAt() != null) {
+      productCatalogViewRepository.deleteById(productId);
+      return;
+    }
+    productCatalogViewRepository
+        .findById(productId)
+        .ifPresentOrElse(
+            view -> view.refresh(product),
+            () -> productCatalogViewRepository.save(ProductCatalogView.of(product)));
+  }
+
+  /**
+   * 조회 모델 전체를 쓰기 모델로부터 다시 만든다.
+   *
+   * <p>재구축 임대를 획득한 뒤 기존 행을 DELETE 문 하나로 지우고, 삭제되지 않은 상품을 묶음 단위로 순회하며 저장한다. 삭제와 저장은 하나의 트랜잭션으로 실행하므로
+   * 재구축 중에도 다른 조회는 커밋 전까지 이전 행을 읽는다.
+   *
+   * @return 저장한 조회 모델 수
+   * @throws ProductException 다른 인스턴스나 요청이 재구축 중인 경우 ({@link
+   *     ProductErrorCode#CATALOG_REBUILD_IN_PROGRESS})
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public long rebuild() {
+    String ownerId = acquireRebuildLease();
+    if (ownerId == null) {
+      throw new ProductException(ProductErrorCode.CATALOG_REBUILD_IN_PROGRESS);
+    }
+    try {
+      return rebuildAll();
+    } finally {
+      leaseRepository.release(List.of(REBUILD_LEASE), ownerId);
+    }
+  }
+
+  /**
+   * 조회 모델이 비어 있으면 다시 만든다.
+   *
+   * <p>기동 시 사용한다. 재구축 임대를 획득하지 못하면 다른 인스턴스가 재구축 중인 것이므로 건너뛰고, 획득한 뒤에도 그 사이 다른 인스턴스가 채웠는지 다시 확인한다.
+   *
+   * @return 재구축했으면 true
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public boolean rebuildIfEmpty() {
+    if (productCatalogViewRepository.count() > 0) {
+      return false;
+    }
+    String ownerId = acquireRebuildLease();
+    if (ownerId == null) {
+      log.info("다른 인스턴스가 상품 카탈로그 조회 모델을 재구축 중이므로 건너뜀");
+      return false;
+    }
+    try {
+      if (productCatalogViewRepository.count() > 0) {
+        return false;
+      }
+      rebuildAll();
+      return true;
+    } finally {
+      leaseRepository.release(List.of(REBUILD_LEASE), ownerId);
+    }
+  }
+
+  /**
+   * 조회 모델이 비어 있는지 확인한다.
+   *
+   * @return 저장된 행이 없으면 true
+   */
+  @Transactional(readOnly = true)
+  public boolean isEmpty() {
+    return productCatalogViewRepository.count() == 0;
+  }
+
+  private long rebuildAll() {
+    Long count =
+        new TransactionTemplate(transactionManager)
+            .execute(
+                tx -> {
+                  productCatalogViewRepository.deleteAllInBulk();
+                  return productRepository.scrollForExport(
+                      null,
+                      null,
+                      rebuildChunkSize,
+                      chunk -> {
+                        productCatalogViewRepository.saveAll(
+                            chunk.stream().map(ProductCatalogView::of).toList());
+                        productCatalogViewRepository.flush();
+                      });
+                });
+    log.info("상품 카탈로그 조회 모델 재구축 완료. products: {}", count);
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * 재구축 임대를 획득한다.
+   *
+   * @return 획득했으면 소유자 ID, 다른 곳에서 소유 중이면 null
+   */
+  private String acquireRebuildLease() {
+    createLeaseIfAbsent();
+    String ownerId = instanceId + ":" + UUID.randomUUID().toString().substring(0, 8);
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime expiresAt = now.plus(Duration.ofMillis(rebuildLeaseTtlMillis));
+    return leaseRepository.acquire(REBUILD_LEASE, ownerId, now, expiresAt) == 1 ? ownerId : null;
+  }
+
+  private void createLeaseIfAbsent() {
+    if (leaseRepository.existsById(REBUILD_LEASE)) {
+      return;
+    }
+    try {
+      leaseRepository.save(SchedulerLease.vacant(REBUILD_LEASE));
+    } catch (DataIntegrityViolationException e) {
+      log.debug("다른 인스턴스가 재구축 임대를 먼저 생성함. error: {}", e.getMessage());
+    }
+  }
+}
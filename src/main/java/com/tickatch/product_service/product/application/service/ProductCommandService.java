@@ -5,6 +5,9 @@ import com.tickatch.product_service.product.application.dto.ProductCreateCommand
 import com.tickatch.product_service.product.application.dto.ProductCreateCommand.SeatGradeInfo;
 import com.tickatch.product_service.product.application.dto.ProductUpdateCommand;
 import com.tickatch.product_service.product.application.dto.SeatCreateRequest;
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductStatsChangedEvent;
 import com.tickatch.product_service.product.application.messaging.ProductEventPublisher;
 import com.tickatch.product_service.product.application.messaging.ProductLogEventPublisher;
 import com.tickatch.product_service.product.domain.Product;
@@ -25,6 +28,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,7 +39,10 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>상품의 생성, 수정, 삭제 등 상태 변경과 관련된 비즈니스 로직을 처리한다. 서비스는 "명세서 조립자" 역할을 수행하며, Command에서 받은 데이터를 VO로 조립하여
  * 도메인에 전달한다.
  *
- * <p>모든 주요 작업에 대해 성공/실패 로그를 로그 서비스로 발행한다.
+ * <p>모든 주요 작업에 대해 성공/실패 로그를 로그 서비스로 발행한다. 색인 대상 속성(상품명, 상태, 일정, 장소 등)이 바뀌면 {@link
+ * ProductChangedEvent}를 서비스 내부로 발행하여 메모리 인덱스 등 조회 전용 구성요소가 커밋 이후 갱신되도록 한다. 좌석이 바뀌면 {@link
+ * ProductAvailabilityChangedEvent}만, 조회수나 예매 수가 바뀌면 {@link ProductStatsChangedEvent}만 발행하여 예매 경로에서
+ * 인덱스를 다시 쓰지 않는다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -53,6 +60,7 @@ public class ProductCommandService {
   private final ProductEventPublisher eventPublisher;
   private final ProductLogEventPublisher logEventPublisher;
   private final ReservationSeatClient reservationSeatClient;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   // ========== 생성 ==========
 
@@ -68,6 +76,8 @@ public class ProductCommandService {
    * @return 생성된 상품 ID
    * @throws IllegalArgumentException Command 검증 실패 시
    * @throws ProductException 도메인 검증 실패 시
+   * @throws ProductException 같은 스테이지에 일정이 겹치는 상품이 있는 경우 ({@link
+   *     ProductErrorCode#STAGE_SCHEDULE_CONFLICT})
    */
   public Long createProduct(ProductCreateCommand command) {
     try {
@@ -110,8 +120,10 @@ public class ProductCommandService {
         product.addSeatGrade(info.gradeName(), info.price(), info.totalSeats(), i + 1);
       }
 
-      // 5. 저장
+      // 5. 스테이지 일정 충돌 검증 및 저장
+      validateStageAvailable(venue.getStageId(), schedule, null);
       Product saved = productRepository.save(product);
+      publishChanged(saved);
 
       // 6. ReservationSeat 서비스에 개별 좌석 생성 요청
       createReservationSeats(saved.getId(), command.getSeatCreateInfos());
@@ -148,6 +160,8 @@ public class ProductCommandService {
    * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
    * @throws ProductException 소유자가 아닌 경우 ({@link ProductErrorCode#PRODUCT_NOT_OWNED})
    * @throws ProductException 수정 불가능한 상태인 경우 ({@link ProductErrorCode#PRODUCT_NOT_EDITABLE})
+   * @throws ProductException 같은 스테이지에 일정이 겹치는 상품이 있는 경우 ({@link
+   *     ProductErrorCode#STAGE_SCHEDULE_CONFLICT})
    */
   public void updateProduct(ProductUpdateCommand command) {
     try {
@@ -183,6 +197,10 @@ public class ProductCommandService {
         Venue venue = assembleVenueFromUpdate(command);
         product.changeVenue(venue);
       }
+      if (command.hasSchedule() || command.hasVenue()) {
+        validateStageAvailable(
+            product.getVenue().getStageId(), product.getSchedule(), product.getId());
+      }
 
       // 6. 콘텐츠 수정
       if (command.hasContent()) {
@@ -219,6 +237,8 @@ public class ProductCommandService {
         updateSeatGrades(product, command);
       }
 
+      publishChanged(product);
+      publishAvailabilityChanged(product);
       log.info("상품 수정 완료. productId: {}", command.getProductId());
 
       // 12. 성공 로그 발행
@@ -309,6 +329,7 @@ public class ProductCommandService {
       validateOwnership(product, sellerId);
 
       product.changeStatus(ProductStatus.PENDING);
+      publishChanged(product);
       log.info("심사 요청 완료. productId: {}", productId);
 
       // 성공 로그 발행
@@ -341,6 +362,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.approve();
+      publishChanged(product);
       log.info("상품 승인 완료. productId: {}", productId);
 
       // 성공 로그 발행
@@ -370,6 +392,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.reject(reason);
+      publishChanged(product);
       log.info("상품 반려 완료. productId: {}, reason: {}", productId, reason);
 
       // 성공 로그 발행
@@ -401,6 +424,7 @@ public class ProductCommandService {
       validateOwnership(product, sellerId);
 
       product.resubmit();
+      publishChanged(product);
       log.info("상품 재제출 완료. productId: {}", productId);
 
       // 성공 로그 발행
@@ -435,6 +459,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.changeStatus(ProductStatus.SCHEDULED);
+      publishChanged(product);
       log.info("상품 판매 예정 상태 변경. productId: {}", productId);
 
       // 성공 로그 발행
@@ -462,6 +487,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.changeStatus(ProductStatus.ON_SALE);
+      publishChanged(product);
       log.info("상품 판매 시작. productId: {}", productId);
 
       // 성공 로그 발행
@@ -489,6 +515,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.changeStatus(ProductStatus.CLOSED);
+      publishChanged(product);
       log.info("상품 판매 종료. productId: {}", productId);
 
       // 성공 로그 발행
@@ -516,6 +543,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.changeStatus(ProductStatus.COMPLETED);
+      publishChanged(product);
       log.info("상품 완료 처리. productId: {}", productId);
 
       // 성공 로그 발행
@@ -545,6 +573,8 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.cancel(cancelledBy);
+      publishChanged(product);
+      publishAvailabilityChanged(product);
 
       eventPublisher.publishCancelled(product);
       log.info("상품 취소 완료. productId: {}, cancelledBy: {}", productId, cancelledBy);
@@ -582,6 +612,7 @@ public class ProductCommandService {
     try {
       Product product = findProductByIdForUpdate(productId);
       product.decreaseAvailableSeats(count);
+      publishAvailabilityChanged(product);
       log.debug("잔여 좌석 차감 (총합). productId: {}, count: {}", productId, count);
 
       // 성공 로그 발행
@@ -610,6 +641,7 @@ public class ProductCommandService {
     try {
       Product product = findProductByIdForUpdate(productId);
       product.increaseAvailableSeats(count);
+      publishAvailabilityChanged(product);
       log.debug("잔여 좌석 복구 (총합). productId: {}, count: {}", productId, count);
 
       // 성공 로그 발행
@@ -643,6 +675,7 @@ public class ProductCommandService {
     try {
       Product product = findProductByIdForUpdate(productId);
       product.decreaseSeatGradeAvailable(gradeName, count);
+      publishAvailabilityChanged(product);
       log.debug("등급별 좌석 차감. productId: {}, grade: {}, count: {}", productId, gradeName, count);
 
       // 성공 로그 발행
@@ -678,6 +711,7 @@ public class ProductCommandService {
     try {
       Product product = findProductByIdForUpdate(productId);
       product.increaseSeatGradeAvailable(gradeName, count);
+      publishAvailabilityChanged(product);
       log.debug("등급별 좌석 복구. productId: {}, grade: {}, count: {}", productId, gradeName, count);
 
       // 성공 로그 발행
@@ -725,6 +759,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.syncViewCount(viewCount);
+      publishStatsChanged(productId);
 
       // 성공 로그 발행
       logEventPublisher.publishViewCountSynced(productId);
@@ -753,6 +788,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.incrementReservationCount();
+      publishStatsChanged(productId);
 
       // 성공 로그 발행
       logEventPublisher.publishReservationCountIncreased(productId);
@@ -778,6 +814,7 @@ public class ProductCommandService {
     try {
       Product product = findProductById(productId);
       product.decrementReservationCount();
+      publishStatsChanged(productId);
 
       // 성공 로그 발행
       logEventPublisher.publishReservationCountDecreased(productId);
@@ -962,6 +999,58 @@ public class ProductCommandService {
         .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, productId));
   }
 
+  /**
+   * 상품 변경 이벤트를 서비스 내부로 발행한다.
+   *
+   * <p>수신자는 {@code @TransactionalEventListener}로 커밋 이후에 처리하므로, 롤백된 변경은 전달되지 않는다.
+   *
+   * @param product 변경된 상품
+   */
+  private void publishChanged(Product product) {
+    applicationEventPublisher.publishEvent(ProductChangedEvent.from(product));
+  }
+
+  /**
+   * 상품 통계 변경 이벤트를 서비스 내부로 발행한다.
+   *
+   * <p>조회수와 예매 수는 메모리 인덱스의 필터 조건이 아니므로 {@link ProductChangedEvent} 대신 발행하여, 잦은 통계 변경이 인덱스 쓰기 잠금을 잡지
+   * 않도록 한다.
+   *
+   * @param productId 상품 ID
+   */
+  private void publishStatsChanged(Long productId) {
+    applicationEventPublisher.publishEvent(new ProductStatsChangedEvent(productId));
+  }
+
+  /**
+   * 잔여 좌석 변경 이벤트를 서비스 내부로 발행한다.
+   *
+   * <p>좌석 차감/복구, 좌석 등급 변경, 취소 시 잔여 좌석 캐시가 커밋 이후 DB 재조회 없이 항목을 교체하도록 한다.
+   *
+   * @param product 변경된 상품
+   */
+  private void publishAvailabilityChanged(Product product) {
+    applicationEventPublisher.publishEvent(ProductAvailabilityChangedEvent.from(product));
+  }
+
+  /**
+   * 스테이지에 일정이 겹치는 다른 상품이 없는지 검증한다.
+   *
+   * <p>삭제되지 않은 상품은 상태와 관계없이 스테이지를 점유한 것으로 본다. 스테이지 일정 인덱스는 인스턴스마다 따로 갱신되어 다른 인스턴스의 변경이 늦게 보일 수 있으므로
+   * 사용하지 않고, 스테이지를 잠근 뒤 DB에서 확인한다. 잠금은 트랜잭션이 끝날 때까지 유지되므로 같은 스테이지에 동시에 등록되는 상품끼리도 충돌이 검사된다.
+   *
+   * @param stageId 스테이지 ID
+   * @param schedule 행사 일정
+   * @param excludeProductId 검사에서 제외할 상품 ID (신규 생성이면 null)
+   */
+  private void validateStageAvailable(Long stageId, Schedule schedule, Long excludeProductId) {
+    productRepository.lockStage(stageId);
+    if (productRepository.existsOverlappingOnStage(
+        stageId, schedule.getStartAt(), schedule.getEndAt(), excludeProductId)) {
+      throw new ProductException(ProductErrorCode.STAGE_SCHEDULE_CONFLICT, stageId);
+    }
+  }
+
   private void validateOwnership(Product product, String sellerId) {
     if (!product.isOwnedBy(sellerId)) {
       throw new ProductException(ProductErrorCode.PRODUCT_NOT_OWNED);
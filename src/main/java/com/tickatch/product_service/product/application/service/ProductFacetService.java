@@ -0,0 +1,39 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.product.application.dto.ProductFacetResponse;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 패싯 서비스.
+ *
+ * <p>필터 차원별 건수를 {@link ProductBitmapIndex}의 비트맵 교집합 원소 수로 계산한다. DB에 GROUP BY 쿼리를 실행하지 않으므로 트랜잭션을 열지
+ * 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductBitmapIndex
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductFacetService {
+
+  private final ProductBitmapIndex productBitmapIndex;
+
+  /**
+   * 필터 조건별 패싯 건수를 조회한다.
+   *
+   * @param productType 상품 타입 필터 (null이면 미적용)
+   * @param status 상품 상태 필터 (null이면 미적용)
+   * @param stageId 스테이지 ID 필터 (null이면 미적용)
+   * @param sellerId 판매자 ID 필터 (null이면 미적용)
+   * @return 차원별 건수
+   */
+  public ProductFacetResponse getFacets(
+      ProductType productType, ProductStatus status, Long stageId, String sellerId) {
+    return productBitmapIndex.facets(productType, status, stageId, sellerId);
+  }
+}
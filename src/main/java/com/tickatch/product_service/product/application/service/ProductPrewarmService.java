@@ -0,0 +1,32 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse;
+import com.tickatch.product_service.product.infrastructure.prewarm.ProductSaleOpenPrewarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 판매 오픈 사전 준비 조회 서비스.
+ *
+ * <p>{@link ProductSaleOpenPrewarmer}가 보관한 상품별 준비 상태를 조회한다. 메모리 상태만 읽으므로 트랜잭션을 열지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductSaleOpenPrewarmer
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductPrewarmService {
+
+  private final ProductSaleOpenPrewarmer productSaleOpenPrewarmer;
+
+  /**
+   * 상품의 판매 오픈 사전 준비 상태를 조회한다.
+   *
+   * @param productId 상품 ID
+   * @return 준비 상태 (준비 대상이 아니면 {@link ProductPrewarmResponse.Status#NONE})
+   */
+  public ProductPrewarmResponse getReadiness(Long productId) {
+    return productSaleOpenPrewarmer.readiness(productId);
+  }
+}
@@ -0,0 +1,111 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.global.concurrent.SingleFlight;
+import com.tickatch.product_service.global.concurrent.SingleFlightTimeoutException;
+import com.tickatch.product_service.global.datasource.ReadYourWritesTokens;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 상품 조회 요청 병합기.
+ *
+ * <p>판매 오픈 직후처럼 같은 상품 상세나 같은 목록 조건으로 요청이 몰릴 때, 동시에 들어온 같은 키의 요청을 {@link SingleFlight}로 하나의 {@link
+ * ProductQueryService} 호출로 합친다. 트랜잭션 밖에서 병합하므로 결과를 기다리는 요청은 DB 커넥션을 점유하지 않는다.
+ *
+ * <p>결과는 진행 중인 조회에만 공유하고 보관하지 않는다. 쓰기 후 읽기 토큰이 있는 요청은 자신의 쓰기 이전에 시작된 조회를 받지 않도록 병합하지 않는다. 대기 시간이
+ * 지나면 {@link ProductErrorCode#PRODUCT_READ_TIMEOUT}으로 실패한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductQueryService
+ */
+@Service
+public class ProductQueryCoalescer {
+
+  private final ProductQueryService productQueryService;
+  private final ObjectProvider<ReadYourWritesTokens> readYourWritesTokens;
+  private final boolean enabled;
+  private final SingleFlight<DetailKey, ProductResponse> details;
+  private final SingleFlight<ListKey, Page<ProductResponse>> lists;
+
+  public ProductQueryCoalescer(
+      ProductQueryService productQueryService,
+      ObjectProvider<ReadYourWritesTokens> readYourWritesTokens,
+      MeterRegistry meterRegistry,
+      @Value("${product.read.coalesce-enabled:true}") boolean enabled,
+      @Value("${product.read.coalesce-timeout-ms:3000}") long timeoutMillis) {
+    this.productQueryService = productQueryService;
+    this.readYourWritesTokens = readYourWritesTokens;
+    this.enabled = enabled;
+    Duration timeout = Duration.ofMillis(timeoutMillis);
+    this.details = new SingleFlight<>("product.detail", timeout, meterRegistry);
+    this.lists = new SingleFlight<>("product.list", timeout, meterRegistry);
+  }
+
+  /**
+   * 상품 단건을 요청한 필드만 채워 조회한다.
+   *
+   * @param productId 조회할 상품 ID
+   * @param fields 응답에 포함할 필드
+   * @return 상품 응답 DTO
+   * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
+   * @throws ProductException 병합된 조회를 기다리다 시간이 지난 경우 ({@link ProductErrorCode#PRODUCT_READ_TIMEOUT})
+   * @see ProductQueryService#getProduct(Long, ProductFields)
+   */
+  public ProductResponse getProduct(Long productId, ProductFields fields) {
+    return coalesce(
+        details,
+        new DetailKey(productId, fields),
+        () -> productQueryService.getProduct(productId, fields));
+  }
+
+  /**
+   * 검색 조건에 맞는 상품 목록을 요청한 필드만 채워 페이징하여 조회한다.
+   *
+   * @param condition 검색 조건
+   * @param pageable 페이징 정보
+   * @param fields 응답에 포함할 필드
+   * @return 페이징된 상품 응답 목록
+   * @throws ProductException 병합된 조회를 기다리다 시간이 지난 경우 ({@link ProductErrorCode#PRODUCT_READ_TIMEOUT})
+   * @see ProductQueryService#getProducts(ProductSearchCondition, Pageable, ProductFields)
+   */
+  public Page<ProductResponse> getProducts(
+      ProductSearchCondition condition, Pageable pageable, ProductFields fields) {
+    return coalesce(
+        lists,
+        new ListKey(condition, pageable, fields),
+        () -> productQueryService.getProducts(condition, pageable, fields));
+  }
+
+  private <K, V> V coalesce(SingleFlight<K, V> singleFlight, K key, Supplier<V> loader) {
+    if (!enabled || requiresOwnWrites()) {
+      return loader.get();
+    }
+    try {
+      return singleFlight.execute(key, loader);
+    } catch (SingleFlightTimeoutException e) {
+      throw new ProductException(ProductErrorCode.PRODUCT_READ_TIMEOUT, e.getTimeout().toMillis());
+    }
+  }
+
+  private boolean requiresOwnWrites() {
+    ReadYourWritesTokens tokens = readYourWritesTokens.getIfAvailable();
+    return tokens != null && tokens.required().isPresent();
+  }
+
+  private record DetailKey(Long productId, ProductFields fields) {}
+
+  private record ListKey(
+      ProductSearchCondition condition, Pageable pageable, ProductFields fields) {}
+}
@@ -1,16 +1,37 @@
 package com.tickatch.product_service.product.application.service;
 
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
 import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import com.tickatch.product_service.product.domain.ProductCatalogViewRepository;
 import com.tickatch.product_service.product.domain.ProductRepository;
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
 import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex.BitmapMatch;
+import com.tickatch.product_service.product.infrastructure.search.schedule.StageScheduleIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 상품 조회 서비스.
@@ -27,6 +48,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductQueryService {
 
   private final ProductRepository productRepository;
+  private final ProductCatalogViewRepository productCatalogViewRepository;
+  private final ProductBitmapIndex productBitmapIndex;
+  private final StageScheduleIndex stageScheduleIndex;
+  private final PlatformTransactionManager transactionManager;
+
+  /** 요청 필드를 카탈로그 조회 모델로 채울 수 있으면 목록을 조회 모델에서 읽는다. */
+  @Value("${product.catalog.read-enabled:true}")
+  private boolean catalogReadEnabled;
+
+  /** 비트맵 일치 건수가 이 값 이하이면 필터 대신 ID 목록으로 조회한다. */
+  @Value("${product.search.bitmap-id-threshold:1000}")
+  private int bitmapIdThreshold;
+
+  /** 스테이지 캘린더를 한 번에 조회할 수 있는 최대 일수 */
+  @Value("${product.calendar.max-days:366}")
+  private int calendarMaxDays;
+
+  /** 다건 조회 시 한 번에 요청할 수 있는 최대 상품 수 */
+  @Value("${product.batch.max-size:100}")
+  private int batchMaxSize;
+
+  /** 내보내기 시 한 번에 읽고 변환하는 상품 수 */
+  @Value("${product.export.chunk-size:500}")
+  private int exportChunkSize;
 
   /**
    * 상품 단건을 조회한다.
@@ -36,22 +81,231 @@ public class ProductQueryService {
    * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
    */
   public ProductResponse getProduct(Long productId) {
+    return getProduct(productId, ProductFields.ALL);
+  }
+
+  /**
+   * 상품 단건을 요청한 필드만 채워 조회한다.
+   *
+   * @param productId 조회할 상품 ID
+   * @param fields 응답에 포함할 필드
+   * @return 상품 응답 DTO
+   * @throws ProductException 상품을 찾을 수 없는 경우 ({@link ProductErrorCode#PRODUCT_NOT_FOUND})
+   */
+  public ProductResponse getProduct(Long productId, ProductFields fields) {
     Product product =
         productRepository
             .findById(productId)
             .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, productId));
-    return ProductResponse.from(product);
+    return ProductResponse.from(product, fields);
+  }
+
+  /**
+   * 여러 상품을 한 번에 조회한다.
+   *
+   * <p>상품 수와 관계없이 좌석 등급을 포함해 단일 쿼리로 조회한다. 응답은 요청 순서를 유지하며, 중복 ID는 처음 위치에 한 번만 포함한다. 존재하지 않는 ID는 예외
+   * 없이 {@link ProductBatchResponse#getMissingIds()}로 전달한다.
+   *
+   * @param productIds 조회할 상품 ID 목록
+   * @return 요청 순서대로 정렬된 상품 목록과 누락 ID 목록
+   * @throws ProductException 요청 수가 최대치를 넘는 경우 ({@link ProductErrorCode#BATCH_SIZE_EXCEEDED})
+   */
+  public ProductBatchResponse getProductsByIds(List<Long> productIds) {
+    return getProductsByIds(productIds, ProductFields.ALL);
+  }
+
+  /**
+   * 여러 상품을 요청한 필드만 채워 한 번에 조회한다.
+   *
+   * <p>응답 필드에 좌석 등급이 없으면 좌석 등급을 함께 조회하지 않는다. 그 외 동작은 {@link #getProductsByIds(List)}와 같다.
+   *
+   * @param productIds 조회할 상품 ID 목록
+   * @param fields 응답에 포함할 필드
+   * @return 요청 순서대로 정렬된 상품 목록과 누락 ID 목록
+   * @throws ProductException 요청 수가 최대치를 넘는 경우 ({@link ProductErrorCode#BATCH_SIZE_EXCEEDED})
+   */
+  public ProductBatchResponse getProductsByIds(List<Long> productIds, ProductFields fields) {
+    List<Long> requested = productIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (requested.size() > batchMaxSize) {
+      throw new ProductException(ProductErrorCode.BATCH_SIZE_EXCEEDED, batchMaxSize);
+    }
+    if (requested.isEmpty()) {
+      return ProductBatchResponse.builder().products(List.of()).missingIds(List.of()).build();
+    }
+
+    List<Product> loaded =
+        fields.includes(ProductFields.SEAT_GRADES)
+            ? productRepository.findAllByIdsWithSeatGrades(requested)
+            : productRepository.findAllByIds(requested);
+    Map<Long, Product> found =
+        loaded.stream().collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+
+    List<ProductResponse> products = new ArrayList<>(found.size());
+    List<Long> missingIds = new ArrayList<>();
+    for (Long id : requested) {
+      Product product = found.get(id);
+      if (product != null) {
+        products.add(ProductResponse.from(product, fields));
+      } else {
+        missingIds.add(id);
+      }
+    }
+    return ProductBatchResponse.builder().products(products).missingIds(missingIds).build();
   }
 
   /**
    * 검색 조건에 맞는 상품 목록을 페이징하여 조회한다.
    *
+   * <p>상품명 조건이 없으면 {@link ProductBitmapIndex}로 필터 교집합을 평가하여 전체 건수 쿼리를 생략한다. 일치 건수가 0이면 DB를 조회하지 않고,
+   * 임계값 이하이면 일치한 상품 ID로 후보를 한정하여 한 페이지만 조회한다. 인덱스가 준비되지 않았으면 기존 방식으로 조회한다.
+   *
    * @param condition 검색 조건 (상품명, 타입, 상태, 스테이지 ID)
    * @param pageable 페이징 정보
    * @return 페이징된 상품 응답 목록
    */
   public Page<ProductResponse> getProducts(ProductSearchCondition condition, Pageable pageable) {
+    return getProducts(condition, pageable, ProductFields.ALL);
+  }
+
+  /**
+   * 검색 조건에 맞는 상품 목록을 요청한 필드만 채워 페이징하여 조회한다.
+   *
+   * <p>요청 필드가 모두 {@link ProductCatalogView}에 있으면(예: 요약 뷰) 상품/좌석 등급 테이블 대신 카탈로그 조회 모델 테이블만 읽는다. 조회
+   * 모델은 비동기로 갱신되므로 직전 변경이 잠시 반영되지 않을 수 있다.
+   *
+   * <p>스테이지와 시작 일시 조건이 함께 있으면 {@link StageScheduleIndex}에서 후보 상품 ID를 구해 기본 키로만 조회한다. 후보가 없거나 임계값보다
+   * 많으면 일반 조회로 처리한다. 필터 조건만 있으면 {@link ProductBitmapIndex}의 일치 건수를 전체 건수로 쓰고 건수 쿼리를 생략한다. 두 인덱스는
+   * 인스턴스마다 따로 유지되며 다른 인스턴스의 변경은 방송({@code ProductIndexBroadcaster})으로 받는다. 방송은 커밋 이후 비동기로 도착하므로,
+   * 후보가 없다는 결과만으로 빈 페이지를 반환하지 않는다.
+   *
+   * @param condition 검색 조건 (상품명, 타입, 상태, 스테이지 ID)
+   * @param pageable 페이징 정보
+   * @param fields 응답에 포함할 필드
+   * @return 페이징된 상품 응답 목록
+   * @see #getProducts(ProductSearchCondition, Pageable)
+   */
+  public Page<ProductResponse> getProducts(
+      ProductSearchCondition condition, Pageable pageable, ProductFields fields) {
+    if (catalogReadEnabled && ProductResponse.isCatalogServable(fields)) {
+      return productCatalogViewRepository
+          .findAllByCondition(condition, pageable)
+          .map(ProductResponse::from);
+    }
+    if (condition.getStageId() != null
+        && condition.hasStartRange()
+        && stageScheduleIndex.isReady()) {
+      List<Long> candidateIds =
+          stageScheduleIndex.findStartingBetween(
+              condition.getStageId(), condition.getStartFrom(), condition.getStartTo());
+      if (!candidateIds.isEmpty() && candidateIds.size() <= bitmapIdThreshold) {
+        return productRepository
+            .findAllByCondition(condition, candidateIds, pageable)
+            .map(product -> ProductResponse.from(product, fields));
+      }
+    }
+    if (productBitmapIndex.supports(condition)) {
+      BitmapMatch match = productBitmapIndex.match(condition, bitmapIdThreshold);
+      if (match.total() > 0) {
+        List<Product> content =
+            productRepository.findContentByCondition(condition, match.productIds(), pageable);
+        return new PageImpl<>(content, pageable, match.total())
+            .map(product -> ProductResponse.from(product, fields));
+      }
+    }
     Page<Product> products = productRepository.findAllByCondition(condition, pageable);
-    return products.map(ProductResponse::from);
+    return products.map(product -> ProductResponse.from(product, fields));
+  }
+
+  /**
+   * 스테이지 캘린더를 조회한다.
+   *
+   * <p>기간과 행사 일정이 겹치는 삭제되지 않은 상품을 행사 시작 일시 순으로 반환한다. 대상 상품 ID는 {@link StageScheduleIndex}에서 구하므로
+   * 공연장 이력이 길어도 테이블 범위 스캔이 없다. 인덱스가 준비되지 않았거나 대상이 없으면 DB에서 조회한다. 인덱스는 다른 인스턴스의 변경을 방송으로 받으므로 방송이
+   * 도착하기 전에는 이전 값일 수 있어, 기본 키로 읽은 상품의 스테이지와 일정을 다시 확인한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @param fields 응답에 포함할 필드
+   * @return 행사 시작 일시 순 상품 목록
+   * @throws ProductException 기간 시작이 끝보다 늦거나 같은 경우 ({@link ProductErrorCode#INVALID_DATE_RANGE})
+   * @throws ProductException 기간이 최대 일수를 넘는 경우 ({@link ProductErrorCode#CALENDAR_RANGE_TOO_LONG})
+   */
+  public List<ProductResponse> getStageCalendar(
+      Long stageId, LocalDateTime from, LocalDateTime to, ProductFields fields) {
+    if (!from.isBefore(to)) {
+      throw new ProductException(ProductErrorCode.INVALID_DATE_RANGE);
+    }
+    if (to.isAfter(from.plusDays(calendarMaxDays))) {
+      throw new ProductException(ProductErrorCode.CALENDAR_RANGE_TOO_LONG, calendarMaxDays);
+    }
+    List<Long> productIds =
+        stageScheduleIndex.isReady()
+            ? stageScheduleIndex.findOverlapping(stageId, from, to)
+            : List.of();
+    if (productIds.isEmpty()) {
+      return productRepository.findAllOverlappingOnStage(stageId, from, to).stream()
+          .map(product -> ProductResponse.from(product, fields))
+          .toList();
+    }
+
+    List<Product> loaded =
+        fields.includes(ProductFields.SEAT_GRADES)
+            ? productRepository.findAllByIdsWithSeatGrades(productIds)
+            : productRepository.findAllByIds(productIds);
+    Map<Long, Product> found =
+        loaded.stream().collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+    return productIds.stream()
+        .map(found::get)
+        .filter(product -> isOnStageWithin(product, stageId, from, to))
+        .map(product -> ProductResponse.from(product, fields))
+        .toList();
+  }
+
+  /** 인덱스 후보가 DB 기준으로도 스테이지에 있고 기간과 일정이 겹치는지 확인한다. 다른 인스턴스의 변경이 방송되기 전의 후보를 걸러낸다. */
+  private static boolean isOnStageWithin(
+      Product product, Long stageId, LocalDateTime from, LocalDateTime to) {
+    return product != null
+        && product.getDeletedAt() == null
+        && stageId.equals(product.getStageId())
+        && product.getStartAt().isBefore(to)
+        && product.getEndAt().isAfter(from);
+  }
+
+  /**
+   * 조건에 맞는 상품 전체를 ID 오름차순으로 내보낸다.
+   *
+   * <p>묶음마다 짧은 읽기 전용 트랜잭션으로 기본 키 다음 범위를 읽어 변환하고, 트랜잭션을 끝낸 뒤 소비자에 전달한다. 느린 클라이언트에 응답을 쓰는 동안 트랜잭션을 열어
+   * 두지 않으므로 내보내기가 길어져도 DB 스냅샷을 붙잡지 않는다. 상품 수와 관계없이 메모리 사용량은 묶음 크기로 제한된다. 삭제된 상품은 포함하지 않는다.
+   *
+   * @param status 상품 상태 (null이면 전체)
+   * @param updatedSince 이 시각 이후 수정된 상품만 (null이면 전체)
+   * @param sink 변환된 상품을 받을 소비자 (트랜잭션 밖에서 호출됨)
+   * @return 내보낸 상품 수
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public long exportProducts(
+      ProductStatus status, LocalDateTime updatedSince, Consumer<ProductResponse> sink) {
+    TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+    chunkTransaction.setReadOnly(true);
+    long count = 0;
+    Long lastId = null;
+    while (true) {
+      Long afterId = lastId;
+      List<ProductResponse> chunk =
+          chunkTransaction.execute(
+              tx ->
+                  productRepository.findExportChunk(
+                      status, updatedSince, afterId, exportChunkSize));
+      if (chunk == null || chunk.isEmpty()) {
+        return count;
+      }
+      chunk.forEach(sink);
+      count += chunk.size();
+      if (chunk.size() < exportChunkSize) {
+        return count;
+      }
+      lastId = chunk.get(chunk.size() - 1).getId();
+    }
   }
 }
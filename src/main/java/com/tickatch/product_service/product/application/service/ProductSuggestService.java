@@ -0,0 +1,51 @@
+package com.tickatch.product_service.product.application.service;
+
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse;
+import com.tickatch.product_service.product.infrastructure.search.suggest.ProductSuggestIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 자동완성 서비스.
+ *
+ * <p>메모리 인덱스({@link ProductSuggestIndex})만 조회하므로 트랜잭션을 열지 않는다. 키 입력마다 호출되는 API가 DB 커넥션을 점유하지 않도록 하기
+ * 위함이다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductSuggestIndex
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSuggestService {
+
+  /** 최대 반환 개수 */
+  static final int MAX_SIZE = 10;
+
+  private final ProductSuggestIndex productSuggestIndex;
+
+  /**
+   * 입력어로 시작하는 상품명/출연진 제안을 조회한다.
+   *
+   * @param query 입력어 (자모 단위 부분 입력, 초성 입력 허용)
+   * @param size 최대 반환 개수 (1 ~ {@value #MAX_SIZE})
+   * @return 인기도 순으로 정렬된 제안 목록 (입력어가 비어 있으면 빈 목록)
+   */
+  public List<ProductSuggestResponse> suggest(String query, int size) {
+    if (!StringUtils.hasText(query)) {
+      return List.of();
+    }
+    int limit = Math.clamp(size, 1, MAX_SIZE);
+    return productSuggestIndex.search(query, limit).stream()
+        .map(
+            entry ->
+                ProductSuggestResponse.builder()
+                    .type(entry.type())
+                    .text(entry.text())
+                    .productId(entry.productId())
+                    .build())
+        .toList();
+  }
+}
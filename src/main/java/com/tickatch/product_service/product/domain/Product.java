@@ -21,10 +21,13 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -65,6 +68,8 @@ import lombok.NoArgsConstructor;
  * @see SeatSummary
  * @see ProductStats
  * @see ProductContent
+ * @see ProductDetail
+ * @see ProductCounters
  * @see AgeRestriction
  * @see BookingPolicy
  * @see AdmissionPolicy
@@ -114,16 +119,38 @@ public class Product extends AbstractAuditEntity {
   /** 장소 정보 */
   @Embedded private Venue venue;
 
-  /** 좌석 현황 (총합) */
-  @Embedded private SeatSummary seatSummary;
-
-  /** 통계 정보 */
-  @Embedded private ProductStats stats;
+  /** 좌석 현황과 통계. 자주 바뀌므로 별도 테이블에 저장한다. */
+  @Getter(AccessLevel.NONE)
+  @OneToOne(mappedBy = "product", cascade = CascadeType.ALL, optional = false)
+  private ProductCounters counters;
 
   // ========== 2차 확장: 콘텐츠/정책 ==========
 
-  /** 행사 상세 정보 */
-  @Embedded private ProductContent content;
+  /** 포스터 이미지 URL */
+  @Column(name = "poster_image_url", length = 500)
+  private String posterImageUrl;
+
+  /** 출연진/아티스트 정보 */
+  @Column(name = "cast_info", length = 1000)
+  private String castInfo;
+
+  /** 주최사 */
+  @Column(name = "organizer", length = 100)
+  private String organizer;
+
+  /** 주관사/기획사 */
+  @Column(name = "agency", length = 100)
+  private String agency;
+
+  /** 상세 콘텐츠 (상세 설명, 상세 이미지, 유의사항). 필요할 때만 로딩한다. */
+  @Getter(AccessLevel.NONE)
+  @OneToOne(
+      fetch = FetchType.LAZY,
+      cascade = CascadeType.ALL,
+      orphanRemoval = true,
+      optional = false)
+  @JoinColumn(name = "content_id", nullable = false, unique = true)
+  private ProductDetail detail;
 
   /** 관람 제한 */
   @Embedded private AgeRestriction ageRestriction;
@@ -141,6 +168,14 @@ public class Product extends AbstractAuditEntity {
   @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<SeatGrade> seatGrades = new ArrayList<>();
 
+  /** 좌석 등급 최저 가격. 가격 필터/정렬용으로 비정규화한다. (등급이 없으면 null) */
+  @Column(name = "min_price")
+  private Long minPrice;
+
+  /** 좌석 등급 최고 가격. 가격 정렬용으로 비정규화한다. (등급이 없으면 null) */
+  @Column(name = "max_price")
+  private Long maxPrice;
+
   /** 반려 사유 */
   @Column(name = "rejection_reason", length = REJECTION_REASON_MAX_LENGTH)
   private String rejectionReason;
@@ -170,14 +205,14 @@ public class Product extends AbstractAuditEntity {
     this.schedule = schedule;
     this.saleSchedule = saleSchedule;
     this.venue = venue;
-    this.content = content;
+    this.detail = ProductDetail.of(content);
+    applyContentSummary(content);
     this.ageRestriction = ageRestriction;
     this.bookingPolicy = bookingPolicy;
     this.admissionPolicy = admissionPolicy;
     this.refundPolicy = refundPolicy;
     // 도메인 내부 계산/초기화
-    this.seatSummary = SeatSummary.empty();
-    this.stats = ProductStats.empty();
+    this.counters = ProductCounters.create(this);
     this.status = ProductStatus.DRAFT;
   }
 
@@ -293,7 +328,9 @@ public class Product extends AbstractAuditEntity {
    */
   public void updateContent(ProductContent content) {
     validateEditable();
-    this.content = content != null ? content : ProductContent.empty();
+    ProductContent next = content != null ? content : ProductContent.empty();
+    this.detail.update(next);
+    applyContentSummary(next);
   }
 
   /**
@@ -427,7 +464,7 @@ public class Product extends AbstractAuditEntity {
    * @param totalSeats 총 좌석 수
    */
   public void initializeSeatSummary(int totalSeats) {
-    this.seatSummary = SeatSummary.initialize(totalSeats);
+    this.counters.updateSeatSummary(SeatSummary.initialize(totalSeats));
   }
 
   /**
@@ -438,7 +475,7 @@ public class Product extends AbstractAuditEntity {
    * @param count 차감할 좌석 수
    */
   public void decreaseAvailableSeats(int count) {
-    this.seatSummary = this.seatSummary.decreaseAvailable(count);
+    this.counters.updateSeatSummary(getSeatSummary().decreaseAvailable(count));
   }
 
   /**
@@ -449,7 +486,7 @@ public class Product extends AbstractAuditEntity {
    * @param count 복구할 좌석 수
    */
   public void increaseAvailableSeats(int count) {
-    this.seatSummary = this.seatSummary.increaseAvailable(count);
+    this.counters.updateSeatSummary(getSeatSummary().increaseAvailable(count));
   }
 
   // ========== SeatGrade 관련 메서드 ==========
@@ -472,6 +509,7 @@ public class Product extends AbstractAuditEntity {
     SeatGrade seatGrade = SeatGrade.create(this, gradeName, price, totalSeats, displayOrder);
     this.seatGrades.add(seatGrade);
     recalculateSeatSummary();
+    recalculatePriceRange();
     return seatGrade;
   }
 
@@ -489,6 +527,7 @@ public class Product extends AbstractAuditEntity {
     SeatGrade target = findSeatGradeById(seatGradeId);
     this.seatGrades.remove(target);
     recalculateSeatSummary();
+    recalculatePriceRange();
   }
 
   /**
@@ -503,7 +542,7 @@ public class Product extends AbstractAuditEntity {
   public void decreaseSeatGradeAvailable(String gradeName, int count) {
     SeatGrade seatGrade = findSeatGradeByName(gradeName);
     seatGrade.decreaseAvailableSeats(count);
-    this.seatSummary = this.seatSummary.decreaseAvailable(count);
+    this.counters.updateSeatSummary(getSeatSummary().decreaseAvailable(count));
   }
 
   /**
@@ -518,7 +557,7 @@ public class Product extends AbstractAuditEntity {
   public void increaseSeatGradeAvailable(String gradeName, int count) {
     SeatGrade seatGrade = findSeatGradeByName(gradeName);
     seatGrade.increaseAvailableSeats(count);
-    this.seatSummary = this.seatSummary.increaseAvailable(count);
+    this.counters.updateSeatSummary(getSeatSummary().increaseAvailable(count));
   }
 
   /**
@@ -534,7 +573,13 @@ public class Product extends AbstractAuditEntity {
   private void recalculateSeatSummary() {
     int totalSeats = seatGrades.stream().mapToInt(SeatGrade::getTotalSeats).sum();
     int availableSeats = seatGrades.stream().mapToInt(SeatGrade::getAvailableSeats).sum();
-    this.seatSummary = new SeatSummary(totalSeats, availableSeats);
+    this.counters.updateSeatSummary(new SeatSummary(totalSeats, availableSeats));
+  }
+
+  /** 최저/최고 가격을 SeatGrade 가격으로 재계산한다. */
+  private void recalculatePriceRange() {
+    this.minPrice = seatGrades.stream().map(SeatGrade::getPrice).min(Long::compare).orElse(null);
+    this.maxPrice = seatGrades.stream().map(SeatGrade::getPrice).max(Long::compare).orElse(null);
   }
 
   private SeatGrade findSeatGradeById(Long seatGradeId) {
@@ -556,7 +601,7 @@ public class Product extends AbstractAuditEntity {
 
   /** 조회수를 증가한다. */
   public void incrementViewCount() {
-    this.stats = this.stats.incrementViewCount();
+    this.counters.updateStats(getStats().incrementViewCount());
   }
 
   /**
@@ -567,12 +612,12 @@ public class Product extends AbstractAuditEntity {
    * @param viewCount 동기화할 조회수
    */
   public void syncViewCount(Long viewCount) {
-    this.stats = this.stats.syncViewCount(viewCount);
+    this.counters.updateStats(getStats().syncViewCount(viewCount));
   }
 
   /** 예매 수를 증가한다. */
   public void incrementReservationCount() {
-    this.stats = this.stats.incrementReservationCount();
+    this.counters.updateStats(getStats().incrementReservationCount());
   }
 
   /**
@@ -581,7 +626,7 @@ public class Product extends AbstractAuditEntity {
    * <p>예매 취소 시 호출된다.
    */
   public void decrementReservationCount() {
-    this.stats = this.stats.decrementReservationCount();
+    this.counters.updateStats(getStats().decrementReservationCount());
   }
 
   // ========== 상태 관련 메서드 ==========
@@ -642,7 +687,7 @@ public class Product extends AbstractAuditEntity {
   public boolean canPurchase() {
     return this.status.canBePurchased()
         && this.saleSchedule.isInSalePeriod()
-        && this.seatSummary.hasAvailableSeats();
+        && getSeatSummary().hasAvailableSeats();
   }
 
   /**
@@ -651,7 +696,7 @@ public class Product extends AbstractAuditEntity {
    * @return 매진이면 true
    */
   public boolean isSoldOut() {
-    return this.seatSummary.isSoldOut();
+    return getSeatSummary().isSoldOut();
   }
 
   /**
@@ -662,7 +707,44 @@ public class Product extends AbstractAuditEntity {
    * @return 심사 제출 가능하면 true
    */
   public boolean canSubmitForApproval() {
-    return this.status.isDraft() && this.content.hasRequiredFields();
+    return this.status.isDraft() && getContent().hasRequiredFields();
+  }
+
+  /**
+   * 상품 콘텐츠를 반환한다.
+   *
+   * <p>상세 항목(상세 설명, 상세 이미지, 유의사항)은 별도 테이블에 있으므로 처음 호출할 때 지연 로딩된다. 목록/검색 노출 항목만 필요하면 {@link
+   * #getPosterImageUrl()}, {@link #getCastInfo()} 등을 사용한다.
+   *
+   * @return 상품 콘텐츠
+   */
+  public ProductContent getContent() {
+    return new ProductContent(
+        detail.getDescription(),
+        posterImageUrl,
+        detail.getDetailImageUrls(),
+        castInfo,
+        detail.getNotice(),
+        organizer,
+        agency);
+  }
+
+  /**
+   * 좌석 현황(총합)을 반환한다.
+   *
+   * @return 좌석 현황
+   */
+  public SeatSummary getSeatSummary() {
+    return this.counters.getSeatSummary();
+  }
+
+  /**
+   * 통계 정보를 반환한다.
+   *
+   * @return 통계 정보
+   */
+  public ProductStats getStats() {
+    return this.counters.getStats();
   }
 
   /**
@@ -902,6 +984,13 @@ public class Product extends AbstractAuditEntity {
     }
   }
 
+  private void applyContentSummary(ProductContent content) {
+    this.posterImageUrl = content.getPosterImageUrl();
+    this.castInfo = content.getCastInfo();
+    this.organizer = content.getOrganizer();
+    this.agency = content.getAgency();
+  }
+
   private static void validateContent(ProductContent content) {
     if (Objects.isNull(content)) {
       throw new ProductException(ProductErrorCode.INVALID_PRODUCT_CONTENT);
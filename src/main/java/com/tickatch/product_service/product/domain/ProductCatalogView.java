@@ -0,0 +1,187 @@
+package com.tickatch.product_service.product.domain;
+
+import com.tickatch.product_service.global.domain.AbstractTimeEntity;
+import com.tickatch.product_service.product.domain.vo.AgeRating;
+import com.tickatch.product_service.product.domain.vo.ProductStats;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.domain.vo.SaleSchedule;
+import com.tickatch.product_service.product.domain.vo.Schedule;
+import com.tickatch.product_service.product.domain.vo.SeatSummary;
+import com.tickatch.product_service.product.domain.vo.Venue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 상품 카탈로그 조회 모델.
+ *
+ * <p>목록/검색 화면에 필요한 값만 상품별 한 행으로 비정규화하여 보관한다. 최저/최고 가격, 판매율처럼 쓰기 모델에서는 좌석 등급을 조인하거나 계산해야 하는 값을 미리
+ * 저장하므로, 목록 조회는 상품/좌석 등급 테이블에 접근하지 않고 이 테이블만 읽는다.
+ *
+ * <p>쓰기 모델이 바뀔 때마다 {@link #refresh(Product)}로 상품의 현재 상태를 다시 복사한다. 삭제(취소)된 상품은 행을 두지 않는다. 상품은 하나의 행사
+ * 일정만 가지므로 다음 공연 일시는 행사 시작 일시({@code start_at})로 대신한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see Product
+ */
+@Entity
+@Table(name = "p_product_catalog_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductCatalogView extends AbstractTimeEntity implements Persistable<Long> {
+
+  @Id
+  @Column(name = "product_id")
+  private Long productId;
+
+  /** 판매자 ID */
+  @Column(name = "seller_id", nullable = false, length = 50)
+  private String sellerId;
+
+  /** 상품명 */
+  @Column(name = "name", nullable = false, length = 50)
+  private String name;
+
+  /** 상품 타입 */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "product_type", nullable = false)
+  private ProductType productType;
+
+  /** 상품 상태 */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "product_status", nullable = false)
+  private ProductStatus status;
+
+  /** 행사 일정 */
+  @Embedded private Schedule schedule;
+
+  /** 예매 일정 */
+  @Embedded private SaleSchedule saleSchedule;
+
+  /** 장소 정보 */
+  @Embedded private Venue venue;
+
+  /** 포스터 이미지 URL */
+  @Column(name = "poster_image_url", length = 500)
+  private String posterImageUrl;
+
+  /** 관람 등급 */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "age_rating")
+  private AgeRating ageRating;
+
+  /** 좌석 등급 최저 가격 (등급이 없으면 null) */
+  @Column(name = "min_price")
+  private Long minPrice;
+
+  /** 좌석 등급 최고 가격 (등급이 없으면 null) */
+  @Column(name = "max_price")
+  private Long maxPrice;
+
+  /** 좌석 현황 (총합) */
+  @Embedded private SeatSummary seatSummary;
+
+  /** 판매율 (%) */
+  @Column(name = "sold_rate", nullable = false)
+  private double soldRate;
+
+  /** 통계 정보 */
+  @Embedded private ProductStats stats;
+
+  /** 상품 등록 일시 */
+  @Column(name = "product_created_at")
+  private LocalDateTime productCreatedAt;
+
+  /** 상품 수정 일시 */
+  @Column(name = "product_updated_at")
+  private LocalDateTime productUpdatedAt;
+
+  /** 아직 저장되지 않은 행인지 여부. ID를 직접 지정하므로 저장 시 병합 대신 삽입하도록 한다. */
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean newRow;
+
+  private ProductCatalogView(Product product) {
+    this.productId = product.getId();
+    this.newRow = true;
+    refresh(product);
+  }
+
+  /**
+   * 상품의 현재 상태로 조회 모델을 생성한다.
+   *
+   * @param product 상품 엔티티
+   * @return 카탈로그 조회 모델
+   */
+  public static ProductCatalogView of(Product product) {
+    return new ProductCatalogView(product);
+  }
+
+  /**
+   * 상품의 현재 상태를 다시 복사한다.
+   *
+   * @param product 상품 엔티티
+   */
+  public void refresh(Product product) {
+    this.sellerId = product.getSellerId();
+    this.name = product.getName();
+    this.productType = product.getProductType();
+    this.status = product.getStatus();
+    this.schedule = product.getSchedule();
+    this.saleSchedule = product.getSaleSchedule();
+    this.venue = product.getVenue();
+    this.posterImageUrl = product.getPosterImageUrl();
+    this.ageRating =
+        product.getAgeRestriction() != null ? product.getAgeRestriction().getAgeRating() : null;
+    this.minPrice = product.getMinPrice();
+    this.maxPrice = product.getMaxPrice();
+    this.seatSummary = product.getSeatSummary();
+    this.soldRate = product.getSeatSummary().getSoldRate();
+    this.stats = product.getStats();
+    this.productCreatedAt = product.getCreatedAt();
+    this.productUpdatedAt = product.getUpdatedAt();
+  }
+
+  /**
+   * 현재 구매 가능한지 확인한다.
+   *
+   * <p>{@link Product#canPurchase()}와 같은 규칙을 저장된 값으로 평가한다.
+   *
+   * @return 구매 가능하면 true
+   */
+  public boolean canPurchase() {
+    return status.canBePurchased()
+        && saleSchedule.isInSalePeriod()
+        && seatSummary.hasAvailableSeats();
+  }
+
+  @Override
+  public Long getId() {
+    return productId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newRow;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() {
+    this.newRow = false;
+  }
+}
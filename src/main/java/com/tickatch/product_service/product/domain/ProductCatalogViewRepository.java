@@ -0,0 +1,78 @@
+package com.tickatch.product_service.product.domain;
+
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 상품 카탈로그 조회 모델 리포지토리 인터페이스.
+ *
+ * <p>{@link ProductCatalogView}를 저장하고 목록 조회 조건으로 검색한다. 상품/좌석 등급 테이블에는 접근하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see com.tickatch.product_service.product.domain.repository.ProductCatalogViewRepositoryImpl
+ */
+public interface ProductCatalogViewRepository {
+
+  /**
+   * 조회 모델을 저장한다.
+   *
+   * @param view 저장할 조회 모델
+   * @return 저장된 조회 모델
+   */
+  ProductCatalogView save(ProductCatalogView view);
+
+  /**
+   * 조회 모델을 한 번에 저장한다.
+   *
+   * @param views 저장할 조회 모델 목록
+   */
+  void saveAll(Collection<ProductCatalogView> views);
+
+  /**
+   * 상품 ID로 조회 모델을 조회한다.
+   *
+   * @param productId 상품 ID
+   * @return 조회 모델 (없으면 empty)
+   */
+  Optional<ProductCatalogView> findById(Long productId);
+
+  /**
+   * 상품 ID로 조회 모델을 삭제한다. 없으면 아무 것도 하지 않는다.
+   *
+   * @param productId 상품 ID
+   */
+  void deleteById(Long productId);
+
+  /**
+   * 모든 조회 모델을 행을 읽지 않고 DELETE 문 하나로 삭제한다.
+   *
+   * @return 삭제한 행 수
+   */
+  long deleteAllInBulk();
+
+  /**
+   * 저장된 조회 모델 수를 반환한다.
+   *
+   * @return 조회 모델 수
+   */
+  long count();
+
+  /**
+   * 검색 조건에 맞는 조회 모델을 페이징하여 조회한다.
+   *
+   * <p>조건과 정렬 키는 {@link ProductRepository#findAllByCondition(ProductSearchCondition, Pageable)}와
+   * 같다.
+   *
+   * @param condition 검색 조건
+   * @param pageable 페이징 정보
+   * @return 페이징된 조회 모델 목록
+   */
+  Page<ProductCatalogView> findAllByCondition(ProductSearchCondition condition, Pageable pageable);
+
+  /** 변경 내용을 DB에 즉시 반영한다. */
+  void flush();
+}
@@ -0,0 +1,96 @@
+package com.tickatch.product_service.product.domain;
+
+import com.tickatch.product_service.global.domain.AbstractTimeEntity;
+import com.tickatch.product_service.product.domain.vo.ProductStats;
+import com.tickatch.product_service.product.domain.vo.SeatSummary;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+
+/**
+ * 상품 카운터 엔티티.
+ *
+ * <p>좌석 현황({@link SeatSummary})과 통계({@link ProductStats})처럼 자주 바뀌는 값을 상품 ID를 기본 키로 하는 좁은 테이블에 따로
+ * 저장한다. Product Aggregate에 종속되며, Product를 통해서만 변경한다.
+ *
+ * <p>판매율은 좌석 현황에서 계산되는 값이지만 정렬 인덱스를 걸 수 있도록 컬럼으로 유지한다.
+ *
+ * <p>좌석 차감/복구와 조회수·예매 수 갱신은 이 행만 수정하고 잠그므로, 상품 행의 수정 시각과 락은 상품 정보가 바뀔 때만 영향을 받는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see Product
+ */
+@Entity
+@Table(name = "p_product_counters")
+@BatchSize(size = 100)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductCounters extends AbstractTimeEntity {
+
+  @Id
+  @Column(name = "product_id")
+  private Long productId;
+
+  /** 소속 상품 */
+  @Getter(AccessLevel.NONE)
+  @MapsId
+  @OneToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "product_id")
+  private Product product;
+
+  /** 좌석 현황 (총합) */
+  @Embedded private SeatSummary seatSummary;
+
+  /** 판매율 (%). 좌석 현황이 바뀔 때마다 다시 계산한다. */
+  @Column(name = "sold_rate", nullable = false)
+  private double soldRate;
+
+  /** 통계 정보 */
+  @Embedded private ProductStats stats;
+
+  private ProductCounters(Product product) {
+    this.product = product;
+    updateSeatSummary(SeatSummary.empty());
+    this.stats = ProductStats.empty();
+  }
+
+  /**
+   * 좌석과 통계가 0인 카운터를 생성한다.
+   *
+   * @param product 소속 상품
+   * @return 카운터 엔티티
+   */
+  static ProductCounters create(Product product) {
+    return new ProductCounters(product);
+  }
+
+  /**
+   * 좌석 현황을 갱신하고 판매율을 다시 계산한다.
+   *
+   * @param seatSummary 새 좌석 현황
+   */
+  void updateSeatSummary(SeatSummary seatSummary) {
+    this.seatSummary = seatSummary;
+    this.soldRate = seatSummary.getSoldRate();
+  }
+
+  /**
+   * 통계 정보를 갱신한다.
+   *
+   * @param stats 새 통계 정보
+   */
+  void updateStats(ProductStats stats) {
+    this.stats = stats;
+  }
+}
@@ -0,0 +1,80 @@
+package com.tickatch.product_service.product.domain;
+
+import com.tickatch.product_service.global.domain.AbstractTimeEntity;
+import com.tickatch.product_service.product.domain.vo.ProductContent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 상품 상세 콘텐츠 엔티티.
+ *
+ * <p>{@link ProductContent} 중 길이가 큰 항목(상세 설명, 상세 이미지, 유의사항)을 상품 테이블과 분리하여 저장한다. Product Aggregate에
+ * 종속되며, Product를 통해서만 접근한다.
+ *
+ * <p>상품에서 지연 로딩하므로 좌석 수 갱신, 스케줄러 조회, 목록 조회처럼 상세 콘텐츠가 필요 없는 작업은 이 테이블을 읽지 않는다. 여러 상품의 상세 콘텐츠가 필요하면
+ * {@link BatchSize} 단위로 한 번에 로딩한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see Product
+ */
+@Entity
+@Table(name = "p_product_content")
+@BatchSize(size = 100)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductDetail extends AbstractTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  /** 상세 설명 */
+  @Column(name = "description", length = 5000)
+  private String description;
+
+  /** 상세 이미지 URL 배열 (JSON) */
+  @Column(name = "detail_image_urls", columnDefinition = "JSON")
+  @JdbcTypeCode(SqlTypes.JSON)
+  private String detailImageUrls;
+
+  /** 유의사항 */
+  @Column(name = "notice", length = 2000)
+  private String notice;
+
+  private ProductDetail(ProductContent content) {
+    update(content);
+  }
+
+  /**
+   * 상품 콘텐츠의 상세 항목으로 생성한다.
+   *
+   * @param content 상품 콘텐츠
+   * @return 상세 콘텐츠 엔티티
+   */
+  static ProductDetail of(ProductContent content) {
+    return new ProductDetail(content);
+  }
+
+  /**
+   * 상품 콘텐츠의 상세 항목으로 갱신한다.
+   *
+   * @param content 상품 콘텐츠
+   */
+  void update(ProductContent content) {
+    this.description = content.getDescription();
+    this.detailImageUrls = content.getDetailImageUrls();
+    this.notice = content.getNotice();
+  }
+}
@@ -1,10 +1,17 @@
 package com.tickatch.product_service.product.domain;
 
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -36,10 +43,10 @@ public interface ProductRepository {
   Optional<Product> findById(Long id);
 
   /**
-   * 비관적 쓰기 락을 걸고 상품을 조회한다.
+   * 상품 카운터 행에 비관적 쓰기 락을 걸고 상품을 조회한다.
    *
-   * <p>좌석 차감 등 동시성 제어가 필요한 작업에서 사용한다. 일반 조회(findById)와 달리 트랜잭션 종료 시까지 다른 트랜잭션의 쓰기 락 요청이 대기한다. 일반
-   * SELECT는 MVCC에 의해 스냅샷 읽기로 대기 없이 진행된다.
+   * <p>좌석 차감 등 동시성 제어가 필요한 작업에서 사용한다. 락은 좌석 현황과 통계가 있는 카운터 행({@code p_product_counters})에만 걸리므로 상품
+   * 정보 수정이나 조회는 대기하지 않는다. 일반 조회(findById)와 달리 트랜잭션 종료 시까지 다른 트랜잭션의 카운터 락 요청이 대기한다.
    *
    * @param id 상품 ID
    * @return 조회된 상품 (없으면 empty)
@@ -57,6 +64,183 @@ public interface ProductRepository {
    */
   Page<Product> findAllByCondition(ProductSearchCondition condition, Pageable pageable);
 
+  /**
+   * 후보 ID로 한정하여 검색 조건에 맞는 상품 목록을 페이징하여 조회한다.
+   *
+   * <p>메모리 인덱스가 후보를 이미 좁혔을 때 사용한다. 건수 쿼리와 목록 쿼리 모두 후보 ID의 기본 키 조회로 처리되어 테이블 범위 스캔이 없다. 삭제된 상품은 조회되지
+   * 않는다.
+   *
+   * @param condition 검색 조건
+   * @param candidateIds 후보 상품 ID 목록
+   * @param pageable 페이징 정보
+   * @return 페이징된 상품 목록
+   */
+  Page<Product> findAllByCondition(
+      ProductSearchCondition condition, Collection<Long> candidateIds, Pageable pageable);
+
+  /**
+   * 여러 상품을 좌석 등급과 함께 한 번의 쿼리로 조회한다.
+   *
+   * <p>단건 조회({@link #findById(Long)})와 같이 삭제 여부와 관계없이 조회한다. 반환 순서는 보장하지 않으며, 존재하지 않는 ID는 결과에서 빠진다.
+   *
+   * @param ids 조회할 상품 ID 목록
+   * @return 조회된 상품 목록
+   */
+  List<Product> findAllByIdsWithSeatGrades(Collection<Long> ids);
+
+  /**
+   * 여러 상품을 좌석 등급 없이 한 번의 쿼리로 조회한다.
+   *
+   * <p>응답에 좌석 등급이 필요 없을 때 사용한다. 삭제 여부, 반환 순서, 누락 ID 처리는 {@link
+   * #findAllByIdsWithSeatGrades(Collection)}와 같다.
+   *
+   * @param ids 조회할 상품 ID 목록
+   * @return 조회된 상품 목록
+   */
+  List<Product> findAllByIds(Collection<Long> ids);
+
+  /**
+   * 검색 조건에 맞는 상품 목록의 한 페이지만 조회한다. 전체 건수 쿼리는 실행하지 않는다.
+   *
+   * <p>전체 건수를 비트맵 인덱스로 이미 알고 있을 때 사용한다. 후보 ID 목록이 주어지면 조회 대상을 해당 ID로 한정한다.
+   *
+   * @param condition 검색 조건
+   * @param candidateIds 후보 상품 ID 목록 (null이면 한정하지 않음)
+   * @param pageable 페이징 정보
+   * @return 해당 페이지의 상품 목록
+   */
+  List<Product> findContentByCondition(
+      ProductSearchCondition condition, Collection<Long> candidateIds, Pageable pageable);
+
+  /**
+   * 주어진 상태 중 하나에 해당하는 삭제되지 않은 상품의 색인용 값을 ID 오름차순으로 순회하며 묶음 단위로 전달한다.
+   *
+   * <p>메모리 인덱스를 적재할 때 사용한다. 상품 엔티티를 읽지 않고 필요한 컬럼만 조회하며, 묶음마다 마지막 ID 다음부터 다시 조회하므로 트랜잭션이나 커넥션을 순회 내내
+   * 붙잡지 않는다.
+   *
+   * @param statuses 조회할 상품 상태 목록
+   * @param chunkSize 묶음 크기
+   * @param chunkConsumer 묶음 소비자
+   * @return 전달한 상품 수
+   */
+  long scrollIndexSnapshots(
+      Collection<ProductStatus> statuses,
+      int chunkSize,
+      Consumer<List<ProductIndexSnapshot>> chunkConsumer);
+
+  /**
+   * ID 목록에 해당하는 삭제되지 않은 상품의 색인용 값을 조회한다.
+   *
+   * <p>일괄 상태 전이 후 변경 이벤트를 만들 때 사용한다. 상품 엔티티를 읽지 않고 {@link #scrollIndexSnapshots}와 같은 컬럼만 조회한다.
+   *
+   * @param ids 상품 ID 목록
+   * @return 색인용 조회 결과 목록 (순서 보장 없음)
+   */
+  List<ProductIndexSnapshot> findIndexSnapshotsByIds(Collection<Long> ids);
+
+  /**
+   * 스테이지에서 주어진 기간과 행사 일정이 겹치는 삭제되지 않은 상품을 행사 시작 일시 순으로 조회한다.
+   *
+   * <p>스테이지 일정 인덱스가 준비되지 않았을 때 캘린더 조회에 사용한다. 기간은 끝을 포함하지 않는다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 일정이 겹치는 상품 목록
+   */
+  List<Product> findAllOverlappingOnStage(Long stageId, LocalDateTime from, LocalDateTime to);
+
+  /**
+   * 스테이지에서 주어진 기간과 행사 일정이 겹치는 삭제되지 않은 상품 ID를 행사 시작 일시 순으로 조회한다.
+   *
+   * <p>스테이지 일정 인덱스가 준비되지 않았을 때 잔여 좌석 캘린더 조회에 사용한다. 상품 엔티티를 읽지 않는다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 상품 ID 목록
+   */
+  List<Long> findIdsOverlappingOnStage(Long stageId, LocalDateTime from, LocalDateTime to);
+
+  /**
+   * 아트홀에서 주어진 기간과 행사 일정이 겹치는 삭제되지 않은 상품 ID를 행사 시작 일시 순으로 조회한다.
+   *
+   * <p>스테이지 일정 인덱스가 준비되지 않았을 때 잔여 좌석 캘린더 조회에 사용한다. 상품 엔티티를 읽지 않는다.
+   *
+   * @param artHallId 아트홀 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 상품 ID 목록
+   */
+  List<Long> findIdsOverlappingInArtHall(Long artHallId, LocalDateTime from, LocalDateTime to);
+
+  /**
+   * 여러 상품의 잔여 좌석을 조회한다.
+   *
+   * <p>상품 엔티티를 읽지 않고 카운터와 좌석 등급 테이블에서 필요한 컬럼만 조회한다. 삭제된 상품과 존재하지 않는 ID는 결과에서 빠지며, 반환 순서는 보장하지 않는다.
+   *
+   * @param productIds 조회할 상품 ID 목록
+   * @return 잔여 좌석 목록
+   */
+  List<ProductAvailabilityResponse> findAvailabilityByIds(Collection<Long> productIds);
+
+  /**
+   * 스테이지의 일정 잠금을 트랜잭션이 끝날 때까지 획득한다.
+   *
+   * <p>같은 스테이지에 대해 일정 겹침을 검사하고 저장하는 트랜잭션이 동시에 실행되지 않도록 겹침 검사 전에 호출한다. 다른 트랜잭션이 잠금을 가지고 있으면 그 트랜잭션이
+   * 끝날 때까지 대기한다. 트랜잭션 안에서 호출해야 한다.
+   *
+   * @param stageId 스테이지 ID
+   */
+  void lockStage(Long stageId);
+
+  /**
+   * 스테이지에서 주어진 구간과 행사 일정이 겹치는 삭제되지 않은 다른 상품이 있는지 확인한다.
+   *
+   * <p>상품 생성/수정 시 일정 겹침 검사에 사용한다. 동시에 등록되는 상품끼리의 충돌을 막으려면 {@link #lockStage(Long)}로 먼저 잠가야 한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param startAt 행사 시작 일시
+   * @param endAt 행사 종료 일시
+   * @param excludeProductId 검사에서 제외할 상품 ID (신규 생성이면 null)
+   * @return 겹치는 상품이 있으면 true
+   */
+  boolean existsOverlappingOnStage(
+      Long stageId, LocalDateTime startAt, LocalDateTime endAt, Long excludeProductId);
+
+  /**
+   * 조건에 맞는 삭제되지 않은 상품을 ID 오름차순으로 순회하며 묶음 단위로 전달한다.
+   *
+   * <p>전체 결과를 메모리에 올리지 않고 서버 측 커서로 읽는다. 각 묶음은 좌석 등급이 초기화된 상태로 전달되며, 소비자가 반환한 뒤에는 영속성 컨텍스트에서 분리되므로
+   * 묶음 밖에서 보관하면 안 된다. 트랜잭션 안에서 호출해야 한다.
+   *
+   * @param status 상품 상태 (null이면 전체)
+   * @param updatedSince 이 시각 이후 수정된 상품만 (null이면 전체)
+   * @param chunkSize 묶음 크기 (JDBC fetch size로도 사용)
+   * @param chunkConsumer 묶음 소비자
+   * @return 전달한 상품 수
+   */
+  long scrollForExport(
+      ProductStatus status,
+      LocalDateTime updatedSince,
+      int chunkSize,
+      Consumer<List<Product>> chunkConsumer);
+
+  /**
+   * 조건에 맞는 삭제되지 않은 상품 중 기준 ID 다음 묶음을 좌석 등급과 함께 ID 오름차순으로 조회한다.
+   *
+   * <p>내보내기처럼 묶음 사이에 오래 걸리는 작업이 있을 때 사용한다. 묶음마다 짧은 트랜잭션으로 호출할 수 있도록 조회 결과를 응답 DTO로 변환한 뒤 영속성 컨텍스트를
+   * 비운다. 마지막 상품의 ID를 다음 호출의 기준 ID로 넘기면 이어서 조회한다.
+   *
+   * @param status 상품 상태 (null이면 전체)
+   * @param updatedSince 이 시각 이후 수정된 상품만 (null이면 전체)
+   * @param afterId 이 ID보다 큰 상품만 (null이면 처음부터)
+   * @param limit 최대 조회 수
+   * @return ID 오름차순 상품 응답 목록
+   */
+  List<ProductResponse> findExportChunk(
+      ProductStatus status, LocalDateTime updatedSince, Long afterId, int limit);
+
   // ========== 스케줄러용 ==========
 
   /**
@@ -92,6 +276,74 @@ public interface ProductRepository {
    */
   List<Product> findByStatusAndEndAtBefore(ProductStatus status, LocalDateTime time);
 
+  /**
+   * 다음 자동 상태 전이 시각이 기준 시간 이전인 상품의 전이 일정을 조회한다.
+   *
+   * <p>SCHEDULED는 판매 시작, ON_SALE은 판매 종료, CLOSED는 행사 종료 시간을 기준으로 한다. 이미 지난 전이도 포함한다. 삭제된 상품은 제외한다.
+   *
+   * @param time 기준 시간 (이 시간 미만)
+   * @return 전이 일정 목록
+   */
+  List<ProductTransitionSchedule> findTransitionSchedulesBefore(LocalDateTime time);
+
+  /**
+   * 판매 시작 시간이 도래한 상품의 상태를 한 묶음 일괄 변경한다.
+   *
+   * <p>SCHEDULED → ON_SALE 상태 전이에 사용한다. 대상 행을 잠근 뒤 현재 상태를 조건으로 건 단일 UPDATE로 변경한다. 다른 트랜잭션이 잠근 행은
+   * 건너뛰므로 여러 인스턴스가 동시에 실행해도 같은 상품을 두 번 변경하지 않는다. 맡은 파티션에 속한 상품만 변경한다.
+   *
+   * @param from 현재 상태
+   * @param to 변경할 상태
+   * @param time 기준 시간 (이 시간 이하)
+   * @param partitions 대상 상품 ID 파티션
+   * @param limit 한 번에 변경할 최대 상품 수
+   * @return 상태를 변경한 상품 ID 목록
+   */
+  List<Long> changeStatusBySaleStartAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit);
+
+  /**
+   * 판매 종료 시간이 도래한 상품의 상태를 한 묶음 일괄 변경한다.
+   *
+   * <p>ON_SALE → CLOSED 상태 전이에 사용한다. 동작은 {@link #changeStatusBySaleStartAt}과 같다.
+   *
+   * @param from 현재 상태
+   * @param to 변경할 상태
+   * @param time 기준 시간 (이 시간 이하)
+   * @param partitions 대상 상품 ID 파티션
+   * @param limit 한 번에 변경할 최대 상품 수
+   * @return 상태를 변경한 상품 ID 목록
+   */
+  List<Long> changeStatusBySaleEndAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit);
+
+  /**
+   * 행사 종료 시간이 도래한 상품의 상태를 한 묶음 일괄 변경한다.
+   *
+   * <p>CLOSED → COMPLETED 상태 전이에 사용한다. 동작은 {@link #changeStatusBySaleStartAt}과 같다.
+   *
+   * @param from 현재 상태
+   * @param to 변경할 상태
+   * @param time 기준 시간 (이 시간 이하)
+   * @param partitions 대상 상품 ID 파티션
+   * @param limit 한 번에 변경할 최대 상품 수
+   * @return 상태를 변경한 상품 ID 목록
+   */
+  List<Long> changeStatusByEndAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit);
+
   /** 테스트용 */
   void flush();
 }
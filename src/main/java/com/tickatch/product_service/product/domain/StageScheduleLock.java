@@ -0,0 +1,33 @@
+package com.tickatch.product_service.product.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스테이지 일정 잠금.
+ *
+ * <p>스테이지마다 한 행을 두고, 상품을 등록하거나 일정/장소를 바꾸는 트랜잭션이 일정 겹침을 검사하기 전에 {@code SELECT ... FOR UPDATE}로 잠근다.
+ * 같은 스테이지에 대한 검사와 저장이 트랜잭션 단위로 순서대로 실행되므로, 여러 인스턴스에서 동시에 같은 시간대를 등록해도 하나만 성공한다.
+ *
+ * <p>행은 스테이지에 처음 상품을 등록할 때 {@code INSERT ... ON CONFLICT DO NOTHING}으로 만들어지며 삭제하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductRepository#lockStage(Long)
+ */
+@Entity
+@Table(name = "p_stage_schedule_lock")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageScheduleLock {
+
+  /** 스테이지 ID */
+  @Id
+  @Column(name = "stage_id")
+  private Long stageId;
+}
@@ -17,6 +17,12 @@ public enum ProductErrorCode implements ErrorCode {
 
   // 조회
   PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "PRODUCT_NOT_FOUND"),
+  BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST.value(), "BATCH_SIZE_EXCEEDED"),
+  INVALID_RESPONSE_FIELDS(HttpStatus.BAD_REQUEST.value(), "INVALID_RESPONSE_FIELDS"),
+  INVALID_PRICE_RANGE(HttpStatus.BAD_REQUEST.value(), "INVALID_PRICE_RANGE"),
+  INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST.value(), "INVALID_DATE_RANGE"),
+  CALENDAR_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST.value(), "CALENDAR_RANGE_TOO_LONG"),
+  PRODUCT_READ_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE.value(), "PRODUCT_READ_TIMEOUT"),
 
   // 검증 - 기본 정보
   INVALID_PRODUCT_NAME(HttpStatus.BAD_REQUEST.value(), "INVALID_PRODUCT_NAME"),
@@ -45,6 +51,7 @@ public enum ProductErrorCode implements ErrorCode {
   // 비즈니스 규칙
   STAGE_CHANGE_NOT_ALLOWED(HttpStatus.UNPROCESSABLE_ENTITY.value(), "STAGE_CHANGE_NOT_ALLOWED"),
   VENUE_CHANGE_NOT_ALLOWED(HttpStatus.UNPROCESSABLE_ENTITY.value(), "VENUE_CHANGE_NOT_ALLOWED"),
+  STAGE_SCHEDULE_CONFLICT(HttpStatus.UNPROCESSABLE_ENTITY.value(), "STAGE_SCHEDULE_CONFLICT"),
   PRODUCT_ALREADY_CANCELLED(HttpStatus.UNPROCESSABLE_ENTITY.value(), "PRODUCT_ALREADY_CANCELLED"),
   PRODUCT_STATUS_CHANGE_NOT_ALLOWED(
       HttpStatus.UNPROCESSABLE_ENTITY.value(), "PRODUCT_STATUS_CHANGE_NOT_ALLOWED"),
@@ -62,6 +69,9 @@ public enum ProductErrorCode implements ErrorCode {
   SALE_MUST_START_BEFORE_EVENT(HttpStatus.BAD_REQUEST.value(), "SALE_MUST_START_BEFORE_EVENT"),
   SALE_MUST_END_BEFORE_EVENT(HttpStatus.BAD_REQUEST.value(), "SALE_MUST_END_BEFORE_EVENT"),
 
+  // 카탈로그 조회 모델
+  CATALOG_REBUILD_IN_PROGRESS(HttpStatus.CONFLICT.value(), "CATALOG_REBUILD_IN_PROGRESS"),
+
   // 이벤트 발행
   EVENT_PUBLISH_FAILED(HttpStatus.SERVICE_UNAVAILABLE.value(), "EVENT_PUBLISH_FAILED");
 
@@ -0,0 +1,15 @@
+package com.tickatch.product_service.product.domain.repository;
+
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 상품 카탈로그 조회 모델 JPA 리포지토리.
+ *
+ * <p>Spring Data JPA 기본 CRUD 기능을 제공한다. {@link ProductCatalogViewRepositoryImpl}에서 내부적으로 사용된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductCatalogViewRepositoryImpl
+ */
+public interface ProductCatalogViewJpaRepository extends JpaRepository<ProductCatalogView, Long> {}
@@ -0,0 +1,211 @@
+package com.tickatch.product_service.product.domain.repository;
+
+import static com.tickatch.product_service.product.domain.QProductCatalogView.productCatalogView;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.OrderSpecifier.NullHandling;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import com.tickatch.product_service.product.domain.ProductCatalogViewRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 카탈로그 조회 모델 리포지토리 구현체.
+ *
+ * <p>QueryDSL로 {@link ProductCatalogView} 단일 테이블만 조회한다. 정렬 키마다 조회 모델 테이블에 인덱스가 있으므로 조인이나 행별 계산 없이
+ * 정렬한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductCatalogViewRepository
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCatalogViewRepositoryImpl implements ProductCatalogViewRepository {
+
+  private final ProductCatalogViewJpaRepository productCatalogViewJpaRepository;
+  private final JPAQueryFactory queryFactory;
+
+  /** {@inheritDoc} */
+  @Override
+  public ProductCatalogView save(ProductCatalogView view) {
+    return productCatalogViewJpaRepository.save(view);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void saveAll(Collection<ProductCatalogView> views) {
+    productCatalogViewJpaRepository.saveAll(views);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<ProductCatalogView> findById(Long productId) {
+    return productCatalogViewJpaRepository.findById(productId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void deleteById(Long productId) {
+    productCatalogViewJpaRepository.deleteById(productId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long deleteAllInBulk() {
+    return queryFactory.delete(productCatalogView).execute();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long count() {
+    return productCatalogViewJpaRepository.count();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Page<ProductCatalogView> findAllByCondition(
+      ProductSearchCondition condition, Pageable pageable) {
+    List<ProductCatalogView> content =
+        queryFactory
+            .selectFrom(productCatalogView)
+            .where(searchConditions(condition))
+            .orderBy(getOrderSpecifiers(pageable.getSort()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+    JPAQuery<Long> countQuery =
+        queryFactory
+            .select(productCatalogView.count())
+            .from(productCatalogView)
+            .where(searchConditions(condition));
+
+    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  }
+
+  @Override
+  public void flush() {
+    productCatalogViewJpaRepository.flush();
+  }
+
+  /**
+   * 검색 조건을 QueryDSL 조건 배열로 변환한다. 삭제된 상품은 조회 모델에 행이 없으므로 별도 조건이 없다.
+   *
+   * @param condition 검색 조건
+   * @return where 절 조건 배열 (null 원소는 QueryDSL이 무시)
+   */
+  private BooleanExpression[] searchConditions(ProductSearchCondition condition) {
+    return new BooleanExpression[] {
+      nameContains(condition.getName()),
+      productTypeEq(condition.getProductType()),
+      statusEq(condition.getStatus()),
+      stageIdEq(condition.getStageId()),
+      sellerIdEq(condition.getSellerId()),
+      minPriceGoe(condition.getMinPrice()),
+      minPriceLoe(condition.getMaxPrice()),
+      startAtGoe(condition.getStartFrom()),
+      startAtLoe(condition.getStartTo())
+    };
+  }
+
+  private BooleanExpression nameContains(String name) {
+    return StringUtils.hasText(name) ? productCatalogView.name.contains(name) : null;
+  }
+
+  private BooleanExpression productTypeEq(ProductType productType) {
+    return productType != null ? productCatalogView.productType.eq(productType) : null;
+  }
+
+  private BooleanExpression statusEq(ProductStatus status) {
+    return status != null ? productCatalogView.status.eq(status) : null;
+  }
+
+  private BooleanExpression stageIdEq(Long stageId) {
+    return stageId != null ? productCatalogView.venue.stageId.eq(stageId) : null;
+  }
+
+  private BooleanExpression sellerIdEq(String sellerId) {
+    return StringUtils.hasText(sellerId) ? productCatalogView.sellerId.eq(sellerId) : null;
+  }
+
+  private BooleanExpression minPriceGoe(Long minPrice) {
+    return minPrice != null ? productCatalogView.minPrice.goe(minPrice) : null;
+  }
+
+  private BooleanExpression minPriceLoe(Long maxPrice) {
+    return maxPrice != null ? productCatalogView.minPrice.loe(maxPrice) : null;
+  }
+
+  private BooleanExpression startAtGoe(LocalDateTime startFrom) {
+    return startFrom != null ? productCatalogView.schedule.startAt.goe(startFrom) : null;
+  }
+
+  private BooleanExpression startAtLoe(LocalDateTime startTo) {
+    return startTo != null ? productCatalogView.schedule.startAt.loe(startTo) : null;
+  }
+
+  /**
+   * 정렬 조건을 OrderSpecifier 배열로 변환한다. 알 수 없는 키는 상품 등록 일시로 정렬한다.
+   *
+   * @param sort Spring Data Sort 객체
+   * @return QueryDSL OrderSpecifier 배열
+   */
+  private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+    List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
+
+    sort.forEach(
+        order -> {
+          Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+          OrderSpecifier<?> orderSpecifier =
+              switch (order.getProperty()) {
+                case "name" -> new OrderSpecifier<>(direction, productCatalogView.name);
+                case "updatedAt" ->
+                    new OrderSpecifier<>(direction, productCatalogView.productUpdatedAt);
+                case "status" -> new OrderSpecifier<>(direction, productCatalogView.status);
+                case "productType" ->
+                    new OrderSpecifier<>(direction, productCatalogView.productType);
+                case "viewCount" ->
+                    new OrderSpecifier<>(direction, productCatalogView.stats.viewCount);
+                case "reservationCount" ->
+                    new OrderSpecifier<>(direction, productCatalogView.stats.reservationCount);
+                case "soldRate" -> new OrderSpecifier<>(direction, productCatalogView.soldRate);
+                case "availableSeats" ->
+                    new OrderSpecifier<>(direction, productCatalogView.seatSummary.availableSeats);
+                case "startAt" ->
+                    new OrderSpecifier<>(direction, productCatalogView.schedule.startAt);
+                case "minPrice" ->
+                    new OrderSpecifier<>(
+                        direction, productCatalogView.minPrice, NullHandling.NullsLast);
+                case "maxPrice" ->
+                    new OrderSpecifier<>(
+                        direction, productCatalogView.maxPrice, NullHandling.NullsLast);
+                default -> new OrderSpecifier<>(direction, productCatalogView.productCreatedAt);
+              };
+          orderSpecifiers.add(orderSpecifier);
+        });
+
+    if (orderSpecifiers.isEmpty()) {
+      orderSpecifiers.add(new OrderSpecifier<>(Order.DESC, productCatalogView.productCreatedAt));
+    }
+
+    return orderSpecifiers.toArray(new OrderSpecifier[0]);
+  }
+}
@@ -2,19 +2,16 @@ package com.tickatch.product_service.product.domain.repository;
 
 import com.tickatch.product_service.product.domain.Product;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
-import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 /**
  * 상품 JPA 리포지토리.
  *
- * <p>Spring Data JPA 기본 CRUD 기능을 제공한다. {@link ProductRepositoryImpl}에서 내부적으로 사용된다.
+ * <p>Spring Data JPA 기본 CRUD 기능을 제공한다. {@link ProductRepositoryImpl}에서 내부적으로 사용된다. 여러 상품을 조회하는 메서드는
+ * 카운터를 함께 조회하여 상품마다 카운터 조회 쿼리가 추가로 나가지 않도록 한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -22,18 +19,6 @@ import org.springframework.data.repository.query.Param;
  */
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
-  /**
-   * 비관적 쓰기 락을 걸고 상품을 조회한다.
-   *
-   * <p>좌석 차감 등 동시성 제어가 필요한 작업에서 사용한다. 트랜잭션 종료 시까지 다른 트랜잭션의 쓰기 락 요청이 대기한다.
-   *
-   * @param id 상품 ID
-   * @return 조회된 상품 (없으면 empty)
-   */
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
-  @Query("SELECT p FROM Product p WHERE p.id = :id")
-  Optional<Product> findByIdForUpdate(@Param("id") Long id);
-
   // ========== 스케줄러용 ==========
 
   /**
@@ -43,6 +28,7 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
    * @param time 기준 시간
    * @return 조건에 맞는 상품 목록
    */
+  @EntityGraph(attributePaths = "counters")
   List<Product> findByStatusAndSaleScheduleSaleStartAtBefore(
       ProductStatus status, LocalDateTime time);
 
@@ -53,6 +39,7 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
    * @param time 기준 시간
    * @return 조건에 맞는 상품 목록
    */
+  @EntityGraph(attributePaths = "counters")
   List<Product> findByStatusAndSaleScheduleSaleEndAtBefore(
       ProductStatus status, LocalDateTime time);
 
@@ -63,5 +50,6 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
    * @param time 기준 시간
    * @return 조건에 맞는 상품 목록
    */
+  @EntityGraph(attributePaths = "counters")
   List<Product> findByStatusAndScheduleEndAtBefore(ProductStatus status, LocalDateTime time);
 }
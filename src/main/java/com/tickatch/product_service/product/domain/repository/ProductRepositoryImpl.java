@@ -1,22 +1,46 @@
 package com.tickatch.product_service.product.domain.repository;
 
 import static com.tickatch.product_service.product.domain.QProduct.product;
+import static com.tickatch.product_service.product.domain.QProductCounters.productCounters;
+import static com.tickatch.product_service.product.domain.QSeatGrade.seatGrade;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.OrderSpecifier.NullHandling;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tickatch.product_service.global.lease.PartitionAssignment;
 import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCounters;
 import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.StageScheduleLock;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse.SeatGradeAvailability;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import com.tickatch.product_service.product.domain.vo.ProductType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.query.Query;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -39,6 +63,7 @@ public class ProductRepositoryImpl implements ProductRepository {
 
   private final ProductJpaRepository productJpaRepository;
   private final JPAQueryFactory queryFactory;
+  private final EntityManager entityManager;
 
   /** {@inheritDoc} */
   @Override
@@ -52,10 +77,45 @@ public class ProductRepositoryImpl implements ProductRepository {
     return productJpaRepository.findById(id);
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>카운터 행을 {@code SELECT ... FOR UPDATE}로 먼저 잠근 뒤 상품을 조회한다. 상품 행은 잠그지 않는다.
+   */
   @Override
   public Optional<Product> findByIdForUpdate(Long id) {
-    return productJpaRepository.findByIdForUpdate(id);
+    ProductCounters counters =
+        entityManager.find(ProductCounters.class, id, LockModeType.PESSIMISTIC_WRITE);
+    return counters != null ? productJpaRepository.findById(id) : Optional.empty();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>좌석 등급을 fetch join하여 상품 수와 관계없이 단일 쿼리로 조회한다.
+   */
+  @Override
+  public List<Product> findAllByIdsWithSeatGrades(Collection<Long> ids) {
+    return queryFactory
+        .selectFrom(product)
+        .distinct()
+        .join(product.counters, productCounters)
+        .fetchJoin()
+        .leftJoin(product.seatGrades)
+        .fetchJoin()
+        .where(product.id.in(ids))
+        .fetch();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Product> findAllByIds(Collection<Long> ids) {
+    return queryFactory
+        .selectFrom(product)
+        .join(product.counters, productCounters)
+        .fetchJoin()
+        .where(product.id.in(ids))
+        .fetch();
   }
 
   /**
@@ -65,35 +125,162 @@ public class ProductRepositoryImpl implements ProductRepository {
    */
   @Override
   public Page<Product> findAllByCondition(ProductSearchCondition condition, Pageable pageable) {
+    return findAllByCondition(condition, null, pageable);
+  }
 
-    List<Product> content =
-        queryFactory
-            .selectFrom(product)
-            .where(
-                notDeleted(),
-                nameContains(condition.getName()),
-                productTypeEq(condition.getProductType()),
-                statusEq(condition.getStatus()),
-                stageIdEq(condition.getStageId()),
-                sellerIdEq(condition.getSellerId()))
-            .orderBy(getOrderSpecifiers(pageable.getSort()))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+  /** {@inheritDoc} */
+  @Override
+  public Page<Product> findAllByCondition(
+      ProductSearchCondition condition, Collection<Long> candidateIds, Pageable pageable) {
+
+    List<Product> content = findContentByCondition(condition, candidateIds, pageable);
 
     JPAQuery<Long> countQuery =
         queryFactory
             .select(product.count())
             .from(product)
+            .where(searchConditions(condition))
+            .where(idIn(candidateIds));
+
+    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Product> findContentByCondition(
+      ProductSearchCondition condition, Collection<Long> candidateIds, Pageable pageable) {
+    return queryFactory
+        .selectFrom(product)
+        .join(product.counters, productCounters)
+        .fetchJoin()
+        .where(searchConditions(condition))
+        .where(idIn(candidateIds))
+        .orderBy(getOrderSpecifiers(pageable.getSort()))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Hibernate {@link ScrollableResults}(FORWARD_ONLY)로 상품을 읽고, 묶음마다 좌석 등급을 fetch join 한 번으로 초기화한
+   * 뒤 소비자에 전달한다. 전달 후에는 영속성 컨텍스트를 비워 순회 중 힙 사용량이 묶음 크기 이상으로 늘지 않도록 한다. 읽기 전용으로 조회하여 변경 감지용 스냅샷도 만들지
+   * 않는다.
+   */
+  @Override
+  public long scrollForExport(
+      ProductStatus status,
+      LocalDateTime updatedSince,
+      int chunkSize,
+      Consumer<List<Product>> chunkConsumer) {
+    Query<?> query =
+        queryFactory
+            .selectFrom(product)
+            .join(product.counters, productCounters)
+            .fetchJoin()
+            .where(notDeleted(), statusEq(status), updatedSinceGoe(updatedSince))
+            .orderBy(product.id.asc())
+            .createQuery()
+            .unwrap(Query.class);
+    query.setFetchSize(chunkSize).setReadOnly(true);
+
+    long count = 0;
+    List<Product> chunk = new ArrayList<>(chunkSize);
+    try (ScrollableResults<?> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+      while (results.next()) {
+        chunk.add((Product) results.get());
+        if (chunk.size() == chunkSize) {
+          count += flushChunk(chunk, chunkConsumer);
+        }
+      }
+    }
+    return count + flushChunk(chunk, chunkConsumer);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>기준 ID 다음의 상품 ID를 먼저 {@code limit}개 구한 뒤, 해당 상품을 좌석 등급과 함께 fetch join 한 번으로 조회한다. 기본 키 범위로
+   * 이어서 읽으므로 앞 묶음을 다시 건너뛰지 않는다. 수정 시각 하한은 상품과 카운터 중 하나라도 그 이후에 바뀌었으면 포함하므로 카운터를 조인한다.
+   */
+  @Override
+  public List<ProductResponse> findExportChunk(
+      ProductStatus status, LocalDateTime updatedSince, Long afterId, int limit) {
+    List<Long> ids =
+        queryFactory
+            .select(product.id)
+            .from(product)
+            .join(product.counters, productCounters)
             .where(
                 notDeleted(),
-                nameContains(condition.getName()),
-                productTypeEq(condition.getProductType()),
-                statusEq(condition.getStatus()),
-                stageIdEq(condition.getStageId()),
-                sellerIdEq(condition.getSellerId()));
+                statusEq(status),
+                updatedSinceGoe(updatedSince),
+                afterId != null ? product.id.gt(afterId) : null)
+            .orderBy(product.id.asc())
+            .limit(limit)
+            .fetch();
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    List<ProductResponse> chunk =
+        findAllByIdsWithSeatGrades(ids).stream()
+            .sorted(Comparator.comparing(Product::getId))
+            .map(ProductResponse::from)
+            .toList();
+    entityManager.clear();
+    return chunk;
+  }
 
-    return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+  /**
+   * 묶음의 좌석 등급을 초기화하여 소비자에 전달하고 영속성 컨텍스트를 비운다.
+   *
+   * @param chunk 전달할 상품 묶음 (전달 후 비워짐)
+   * @param chunkConsumer 묶음 소비자
+   * @return 전달한 상품 수
+   */
+  private int flushChunk(List<Product> chunk, Consumer<List<Product>> chunkConsumer) {
+    if (chunk.isEmpty()) {
+      return 0;
+    }
+    // 이미 영속성 컨텍스트에 있는 상품의 좌석 등급 컬렉션을 한 번에 초기화한다.
+    findAllByIdsWithSeatGrades(chunk.stream().map(Product::getId).toList());
+    chunkConsumer.accept(List.copyOf(chunk));
+    int size = chunk.size();
+    chunk.clear();
+    entityManager.clear();
+    return size;
+  }
+
+  /**
+   * 검색 조건을 QueryDSL 조건 배열로 변환한다.
+   *
+   * @param condition 검색 조건
+   * @return where 절 조건 배열 (null 원소는 QueryDSL이 무시)
+   */
+  private BooleanExpression[] searchConditions(ProductSearchCondition condition) {
+    return new BooleanExpression[] {
+      notDeleted(),
+      nameContains(condition.getName()),
+      productTypeEq(condition.getProductType()),
+      statusEq(condition.getStatus()),
+      stageIdEq(condition.getStageId()),
+      sellerIdEq(condition.getSellerId()),
+      minPriceGoe(condition.getMinPrice()),
+      minPriceLoe(condition.getMaxPrice()),
+      startAtGoe(condition.getStartFrom()),
+      startAtLoe(condition.getStartTo())
+    };
+  }
+
+  /**
+   * 후보 ID 한정 조건.
+   *
+   * @param ids 후보 상품 ID 목록
+   * @return ID 포함 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression idIn(Collection<Long> ids) {
+    return ids != null ? product.id.in(ids) : null;
   }
 
   /**
@@ -155,6 +342,73 @@ public class ProductRepositoryImpl implements ProductRepository {
     return StringUtils.hasText(sellerId) ? product.sellerId.eq(sellerId) : null;
   }
 
+  /**
+   * 최저가 하한 조건.
+   *
+   * <p>가격 조건은 모두 상품의 최저가(시작 가격) 컬럼 하나로 평가하므로 {@code idx_product_min_price} 범위 스캔 한 번으로 처리된다.
+   *
+   * @param minPrice 최저가 하한
+   * @return 최저가 이상 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression minPriceGoe(Long minPrice) {
+    return minPrice != null ? product.minPrice.goe(minPrice) : null;
+  }
+
+  /**
+   * 최저가 상한 조건.
+   *
+   * @param maxPrice 최저가 상한
+   * @return 최저가 이하 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression minPriceLoe(Long maxPrice) {
+    return maxPrice != null ? product.minPrice.loe(maxPrice) : null;
+  }
+
+  /**
+   * 행사 시작 일시 하한 조건.
+   *
+   * @param startFrom 시작 일시 하한
+   * @return 시작 일시 이후 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression startAtGoe(LocalDateTime startFrom) {
+    return startFrom != null ? product.schedule.startAt.goe(startFrom) : null;
+  }
+
+  /**
+   * 행사 시작 일시 상한 조건.
+   *
+   * @param startTo 시작 일시 상한
+   * @return 시작 일시 이전 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression startAtLoe(LocalDateTime startTo) {
+    return startTo != null ? product.schedule.startAt.loe(startTo) : null;
+  }
+
+  /**
+   * 행사 일정 겹침 조건. 두 구간 모두 끝을 포함하지 않는다.
+   *
+   * @param from 구간 시작
+   * @param to 구간 끝
+   * @return 행사 일정이 구간과 겹치는 조건
+   */
+  private BooleanExpression scheduleOverlaps(LocalDateTime from, LocalDateTime to) {
+    return product.schedule.startAt.lt(to).and(product.schedule.endAt.gt(from));
+  }
+
+  /**
+   * 수정 시각 하한 조건.
+   *
+   * <p>좌석 현황과 통계 변경은 카운터 행의 수정 시각에만 남으므로 두 수정 시각 중 하나라도 기준 이후이면 일치한다. 카운터를 조인한 쿼리에서만 사용한다.
+   *
+   * @param updatedSince 기준 시각
+   * @return 기준 시각 이후 수정 조건 (null이면 조건 미적용)
+   */
+  private BooleanExpression updatedSinceGoe(LocalDateTime updatedSince) {
+    return updatedSince != null
+        ? product.updatedAt.goe(updatedSince).or(productCounters.updatedAt.goe(updatedSince))
+        : null;
+  }
+
   /**
    * 정렬 조건을 OrderSpecifier 배열로 변환한다.
    *
@@ -176,7 +430,18 @@ public class ProductRepositoryImpl implements ProductRepository {
                 case "updatedAt" -> new OrderSpecifier<>(direction, product.updatedAt);
                 case "status" -> new OrderSpecifier<>(direction, product.status);
                 case "productType" -> new OrderSpecifier<>(direction, product.productType);
-                case "viewCount" -> new OrderSpecifier<>(direction, product.stats.viewCount);
+                case "viewCount" ->
+                    new OrderSpecifier<>(direction, productCounters.stats.viewCount);
+                case "reservationCount" ->
+                    new OrderSpecifier<>(direction, productCounters.stats.reservationCount);
+                case "soldRate" -> new OrderSpecifier<>(direction, productCounters.soldRate);
+                case "availableSeats" ->
+                    new OrderSpecifier<>(direction, productCounters.seatSummary.availableSeats);
+                case "startAt" -> new OrderSpecifier<>(direction, product.schedule.startAt);
+                case "minPrice" ->
+                    new OrderSpecifier<>(direction, product.minPrice, NullHandling.NullsLast);
+                case "maxPrice" ->
+                    new OrderSpecifier<>(direction, product.maxPrice, NullHandling.NullsLast);
                 default -> new OrderSpecifier<>(direction, product.createdAt);
               };
           orderSpecifiers.add(orderSpecifier);
@@ -189,6 +454,238 @@ public class ProductRepositoryImpl implements ProductRepository {
     return orderSpecifiers.toArray(new OrderSpecifier[0]);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>상품과 카운터만 조인하여 색인에 필요한 컬럼을 조회한다. 묶음마다 {@code id > 마지막 ID} 조건의 키셋 페이지로 읽는다.
+   */
+  @Override
+  public long scrollIndexSnapshots(
+      Collection<ProductStatus> statuses,
+      int chunkSize,
+      Consumer<List<ProductIndexSnapshot>> chunkConsumer) {
+    long count = 0;
+    Long lastId = null;
+    while (true) {
+      List<ProductIndexSnapshot> chunk =
+          selectIndexSnapshot()
+              .where(
+                  notDeleted(),
+                  product.status.in(statuses),
+                  lastId != null ? product.id.gt(lastId) : null)
+              .orderBy(product.id.asc())
+              .limit(chunkSize)
+              .fetch()
+              .stream()
+              .map(ProductRepositoryImpl::toIndexSnapshot)
+              .toList();
+      if (chunk.isEmpty()) {
+        return count;
+      }
+      chunkConsumer.accept(chunk);
+      count += chunk.size();
+      if (chunk.size() < chunkSize) {
+        return count;
+      }
+      lastId = chunk.get(chunk.size() - 1).getProductId();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>{@link #scrollIndexSnapshots}와 같은 컬럼을 ID 목록으로 한 번에 조회한다. 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션의 일괄
+   * UPDATE 결과를 그대로 읽는다.
+   */
+  @Override
+  public List<ProductIndexSnapshot> findIndexSnapshotsByIds(Collection<Long> ids) {
+    return selectIndexSnapshot()
+        .where(notDeleted(), product.id.in(ids))
+        .fetch()
+        .stream()
+        .map(ProductRepositoryImpl::toIndexSnapshot)
+        .toList();
+  }
+
+  private JPAQuery<Tuple> selectIndexSnapshot() {
+    return queryFactory
+        .select(
+            product.id,
+            product.name,
+            product.castInfo,
+            product.productType,
+            product.status,
+            product.venue.stageId,
+            product.venue.artHallId,
+            product.sellerId,
+            product.schedule.startAt,
+            product.schedule.endAt,
+            product.saleSchedule.saleStartAt,
+            product.saleSchedule.saleEndAt,
+            productCounters.stats.viewCount,
+            productCounters.stats.reservationCount)
+        .from(product)
+        .join(product.counters, productCounters);
+  }
+
+  private static ProductIndexSnapshot toIndexSnapshot(Tuple row) {
+    Long viewCount = row.get(productCounters.stats.viewCount);
+    Integer reservationCount = row.get(productCounters.stats.reservationCount);
+    return ProductIndexSnapshot.builder()
+        .productId(row.get(product.id))
+        .name(row.get(product.name))
+        .castInfo(row.get(product.castInfo))
+        .productType(row.get(product.productType))
+        .status(row.get(product.status))
+        .stageId(row.get(product.venue.stageId))
+        .artHallId(row.get(product.venue.artHallId))
+        .sellerId(row.get(product.sellerId))
+        .startAt(row.get(product.schedule.startAt))
+        .endAt(row.get(product.schedule.endAt))
+        .saleStartAt(row.get(product.saleSchedule.saleStartAt))
+        .saleEndAt(row.get(product.saleSchedule.saleEndAt))
+        .viewCount(viewCount != null ? viewCount : 0L)
+        .reservationCount(reservationCount != null ? reservationCount : 0)
+        .build();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Product> findAllOverlappingOnStage(
+      Long stageId, LocalDateTime from, LocalDateTime to) {
+    return queryFactory
+        .selectFrom(product)
+        .join(product.counters, productCounters)
+        .fetchJoin()
+        .where(notDeleted(), stageIdEq(stageId), scheduleOverlaps(from, to))
+        .orderBy(product.schedule.startAt.asc(), product.id.asc())
+        .fetch();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Long> findIdsOverlappingOnStage(
+      Long stageId, LocalDateTime from, LocalDateTime to) {
+    return queryFactory
+        .select(product.id)
+        .from(product)
+        .where(notDeleted(), stageIdEq(stageId), scheduleOverlaps(from, to))
+        .orderBy(product.schedule.startAt.asc(), product.id.asc())
+        .fetch();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Long> findIdsOverlappingInArtHall(
+      Long artHallId, LocalDateTime from, LocalDateTime to) {
+    return queryFactory
+        .select(product.id)
+        .from(product)
+        .where(notDeleted(), product.venue.artHallId.eq(artHallId), scheduleOverlaps(from, to))
+        .orderBy(product.schedule.startAt.asc(), product.id.asc())
+        .fetch();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>좌석 현황 한 번, 좌석 등급 한 번, 두 번의 쿼리로 조회한다.
+   */
+  @Override
+  public List<ProductAvailabilityResponse> findAvailabilityByIds(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return List.of();
+    }
+    List<Tuple> summaries =
+        queryFactory
+            .select(
+                productCounters.productId,
+                productCounters.seatSummary.totalSeats,
+                productCounters.seatSummary.availableSeats)
+            .from(productCounters)
+            .join(productCounters.product, product)
+            .where(productCounters.productId.in(productIds), notDeleted())
+            .fetch();
+    if (summaries.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, List<SeatGradeAvailability>> gradesByProduct = new HashMap<>();
+    queryFactory
+        .select(
+            seatGrade.product.id,
+            seatGrade.gradeName,
+            seatGrade.totalSeats,
+            seatGrade.availableSeats)
+        .from(seatGrade)
+        .where(seatGrade.product.id.in(productIds))
+        .orderBy(seatGrade.displayOrder.asc().nullsLast(), seatGrade.id.asc())
+        .fetch()
+        .forEach(
+            row ->
+                gradesByProduct
+                    .computeIfAbsent(row.get(seatGrade.product.id), key -> new ArrayList<>())
+                    .add(
+                        SeatGradeAvailability.builder()
+                            .gradeName(row.get(seatGrade.gradeName))
+                            .totalSeats(row.get(seatGrade.totalSeats))
+                            .availableSeats(row.get(seatGrade.availableSeats))
+                            .soldOut(row.get(seatGrade.availableSeats) <= 0)
+                            .build()));
+
+    return summaries.stream()
+        .map(
+            row -> {
+              Long productId = row.get(productCounters.productId);
+              Integer availableSeats = row.get(productCounters.seatSummary.availableSeats);
+              return ProductAvailabilityResponse.builder()
+                  .productId(productId)
+                  .totalSeats(row.get(productCounters.seatSummary.totalSeats))
+                  .availableSeats(availableSeats)
+                  .soldOut(availableSeats <= 0)
+                  .seatGrades(gradesByProduct.getOrDefault(productId, List.of()))
+                  .build();
+            })
+        .toList();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>스테이지 잠금 행을 {@code SELECT ... FOR UPDATE}로 잠근다. 행이 없으면 호출한 트랜잭션 안에서 {@code INSERT ... ON
+   * CONFLICT DO NOTHING}으로 만든 뒤 다시 잠근다. 다른 트랜잭션이 같은 행을 먼저 만들었으면 키 충돌 없이 그 트랜잭션이 끝날 때까지 기다린 뒤 그 행을
+   * 잠그므로, 별도 커넥션을 쓰지 않고 호출한 트랜잭션도 롤백되지 않는다.
+   */
+  @Override
+  public void lockStage(Long stageId) {
+    if (entityManager.find(StageScheduleLock.class, stageId, LockModeType.PESSIMISTIC_WRITE)
+        != null) {
+      return;
+    }
+    entityManager
+        .createNativeQuery(
+            "insert into p_stage_schedule_lock (stage_id) values (:stageId) on conflict do nothing")
+        .setParameter("stageId", stageId)
+        .executeUpdate();
+    entityManager.find(StageScheduleLock.class, stageId, LockModeType.PESSIMISTIC_WRITE);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean existsOverlappingOnStage(
+      Long stageId, LocalDateTime startAt, LocalDateTime endAt, Long excludeProductId) {
+    return queryFactory
+            .selectOne()
+            .from(product)
+            .where(
+                notDeleted(),
+                stageIdEq(stageId),
+                scheduleOverlaps(startAt, endAt),
+                excludeProductId != null ? product.id.ne(excludeProductId) : null)
+            .fetchFirst()
+        != null;
+  }
+
   /** {@inheritDoc} */
   @Override
   public List<Product> findByStatusAndSaleStartAtBefore(ProductStatus status, LocalDateTime time) {
@@ -207,6 +704,128 @@ public class ProductRepositoryImpl implements ProductRepository {
     return productJpaRepository.findByStatusAndScheduleEndAtBefore(status, time);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public List<ProductTransitionSchedule> findTransitionSchedulesBefore(LocalDateTime time) {
+    BooleanExpression opening =
+        product.status.eq(ProductStatus.SCHEDULED).and(product.saleSchedule.saleStartAt.lt(time));
+    BooleanExpression closing =
+        product.status.eq(ProductStatus.ON_SALE).and(product.saleSchedule.saleEndAt.lt(time));
+    BooleanExpression completing =
+        product.status.eq(ProductStatus.CLOSED).and(product.schedule.endAt.lt(time));
+
+    return queryFactory
+        .select(
+            product.id,
+            product.status,
+            product.saleSchedule.saleStartAt,
+            product.saleSchedule.saleEndAt,
+            product.schedule.endAt)
+        .from(product)
+        .where(opening.or(closing).or(completing), notDeleted())
+        .fetch()
+        .stream()
+        .map(
+            row ->
+                ProductTransitionSchedule.builder()
+                    .productId(row.get(product.id))
+                    .status(row.get(product.status))
+                    .saleStartAt(row.get(product.saleSchedule.saleStartAt))
+                    .saleEndAt(row.get(product.saleSchedule.saleEndAt))
+                    .endAt(row.get(product.schedule.endAt))
+                    .build())
+        .toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Long> changeStatusBySaleStartAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit) {
+    return changeStatusWhenDue(
+        from, to, product.saleSchedule.saleStartAt.loe(time), partitions, limit);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Long> changeStatusBySaleEndAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit) {
+    return changeStatusWhenDue(
+        from, to, product.saleSchedule.saleEndAt.loe(time), partitions, limit);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Long> changeStatusByEndAt(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime time,
+      PartitionAssignment partitions,
+      int limit) {
+    return changeStatusWhenDue(from, to, product.schedule.endAt.loe(time), partitions, limit);
+  }
+
+  /**
+   * 대상 상품 ID를 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 잠근 뒤 {@code UPDATE ... WHERE id IN (...)
+   * AND product_status = ?}로 한 번에 변경한다.
+   *
+   * <p>행을 잠근 상태이므로 변경 건수는 잠근 ID 수와 같다. 다르면(잠금을 지원하지 않는 DB 등) 실제로 변경된 ID만 다시 조회한다. 벌크 UPDATE는 감사 필드를
+   * 채우지 않으므로 수정 시각을 직접 기록한다.
+   */
+  private List<Long> changeStatusWhenDue(
+      ProductStatus from,
+      ProductStatus to,
+      BooleanExpression due,
+      PartitionAssignment partitions,
+      int limit) {
+    List<Long> ids =
+        queryFactory
+            .select(product.id)
+            .from(product)
+            .where(product.status.eq(from), due, inPartitions(partitions), notDeleted())
+            .orderBy(product.id.asc())
+            .limit(limit)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .setHint(SpecHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+            .fetch();
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    long updated =
+        queryFactory
+            .update(product)
+            .set(product.status, to)
+            .set(product.updatedAt, LocalDateTime.now())
+            .where(product.id.in(ids), product.status.eq(from))
+            .execute();
+    if (updated == ids.size()) {
+      return ids;
+    }
+    return queryFactory
+        .select(product.id)
+        .from(product)
+        .where(product.id.in(ids), product.status.eq(to))
+        .orderBy(product.id.asc())
+        .fetch();
+  }
+
+  /** 상품 ID를 파티션 수로 나눈 나머지가 맡은 파티션에 속하는 조건. 모든 파티션을 맡았으면 조건을 걸지 않는다. */
+  private BooleanExpression inPartitions(PartitionAssignment partitions) {
+    if (partitions.isAll()) {
+      return null;
+    }
+    List<Long> remainders = partitions.partitions().stream().map(Integer::longValue).toList();
+    return product.id.mod((long) partitions.partitionCount()).in(remainders);
+  }
+
   @Override
   public void flush() {
     productJpaRepository.flush();
@@ -0,0 +1,80 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.SeatGrade;
+import java.util.Comparator;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 잔여 좌석 응답 DTO.
+ *
+ * <p>잔여 좌석 폴링용으로 좌석 현황(총합)과 등급별 잔여 좌석만 담는다. 상품 상세 필드가 없으므로 상품 엔티티를 읽지 않고 카운터/좌석 등급 테이블만으로 채울 수 있으며,
+ * 값이 바뀌지 않는 한 그대로 캐시해 재사용한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public final class ProductAvailabilityResponse {
+
+  private static final Comparator<SeatGrade> DISPLAY_ORDER =
+      Comparator.comparing(
+          SeatGrade::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()));
+
+  /** 상품 ID */
+  private final Long productId;
+
+  /** 총 좌석 수 */
+  private final Integer totalSeats;
+
+  /** 잔여 좌석 수 */
+  private final Integer availableSeats;
+
+  /** 매진 여부 */
+  private final boolean soldOut;
+
+  /** 등급별 잔여 좌석 (표시 순서) */
+  private final List<SeatGradeAvailability> seatGrades;
+
+  /**
+   * 상품 엔티티의 현재 좌석 현황으로 응답 DTO를 생성한다.
+   *
+   * @param product 상품 엔티티
+   * @return 잔여 좌석 응답 DTO
+   */
+  public static ProductAvailabilityResponse from(Product product) {
+    return ProductAvailabilityResponse.builder()
+        .productId(product.getId())
+        .totalSeats(product.getSeatSummary().getTotalSeats())
+        .availableSeats(product.getSeatSummary().getAvailableSeats())
+        .soldOut(product.isSoldOut())
+        .seatGrades(
+            product.getSeatGrades().stream()
+                .sorted(DISPLAY_ORDER)
+                .map(SeatGradeAvailability::from)
+                .toList())
+        .build();
+  }
+
+  /** 등급별 잔여 좌석 응답 DTO. */
+  @Getter
+  @Builder
+  public static class SeatGradeAvailability {
+    private final String gradeName;
+    private final Integer totalSeats;
+    private final Integer availableSeats;
+    private final boolean soldOut;
+
+    public static SeatGradeAvailability from(SeatGrade seatGrade) {
+      return SeatGradeAvailability.builder()
+          .gradeName(seatGrade.getGradeName())
+          .totalSeats(seatGrade.getTotalSeats())
+          .availableSeats(seatGrade.getAvailableSeats())
+          .soldOut(seatGrade.isSoldOut())
+          .build();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 응답에 포함할 필드 집합.
+ *
+ * <p>요청의 {@code view} 또는 {@code fields} 파라미터로 결정된다. 조회 시에는 포함되지 않은 연관(좌석 등급)을 로딩하지 않는 데 사용하고, 응답
+ * 시에는 {@link ProductResponse}의 {@link #FILTER_ID} 필터로 포함된 필드만 직렬화하는 데 사용한다.
+ *
+ * <p>{@code fields}가 있으면 {@code view}보다 우선하며, 상품 ID는 항상 포함한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductView
+ */
+public final class ProductFields {
+
+  /** {@link ProductResponse} 직렬화 필터 ID */
+  public static final String FILTER_ID = "productFields";
+
+  /** 좌석 등급 필드 (별도 연관 로딩이 필요) */
+  public static final String SEAT_GRADES = "seatGrades";
+
+  /** 전체 필드 */
+  public static final ProductFields ALL = new ProductFields(null);
+
+  /** {@link ProductResponse}의 필드 이름 */
+  static final Set<String> NAMES =
+      Arrays.stream(ProductResponse.class.getDeclaredFields())
+          .filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+          .map(Field::getName)
+          .collect(Collectors.toUnmodifiableSet());
+
+  private final Set<String> names;
+
+  private ProductFields(Set<String> names) {
+    this.names = names;
+  }
+
+  /**
+   * 요청 파라미터로부터 필드 집합을 만든다.
+   *
+   * @param view 뷰 이름 (대소문자 무시, 없으면 {@link ProductView#DETAIL})
+   * @param fields 쉼표로 구분한 필드 이름 (있으면 뷰보다 우선)
+   * @return 필드 집합
+   * @throws ProductException 알 수 없는 뷰 또는 필드인 경우 ({@link ProductErrorCode#INVALID_RESPONSE_FIELDS})
+   */
+  public static ProductFields parse(String view, String fields) {
+    if (StringUtils.hasText(fields)) {
+      return of(StringUtils.commaDelimitedListToSet(fields.replace(" ", "")));
+    }
+    if (!StringUtils.hasText(view)) {
+      return ALL;
+    }
+    try {
+      return of(ProductView.valueOf(view.strip().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      throw new ProductException(ProductErrorCode.INVALID_RESPONSE_FIELDS, view);
+    }
+  }
+
+  /**
+   * 뷰의 필드 집합을 반환한다.
+   *
+   * @param view 뷰
+   * @return 필드 집합
+   */
+  public static ProductFields of(ProductView view) {
+    return view.fields() == null ? ALL : new ProductFields(view.fields());
+  }
+
+  /**
+   * 필드 이름 목록으로 필드 집합을 만든다.
+   *
+   * @param fields 필드 이름 목록
+   * @return 필드 집합 (상품 ID 포함)
+   * @throws ProductException 알 수 없는 필드인 경우 ({@link ProductErrorCode#INVALID_RESPONSE_FIELDS})
+   */
+  public static ProductFields of(Collection<String> fields) {
+    Set<String> names = new LinkedHashSet<>();
+    names.add("id");
+    for (String field : fields) {
+      if (field.isEmpty()) {
+        continue;
+      }
+      if (!NAMES.contains(field)) {
+        throw new ProductException(ProductErrorCode.INVALID_RESPONSE_FIELDS, field);
+      }
+      names.add(field);
+    }
+    return new ProductFields(Set.copyOf(names));
+  }
+
+  public boolean isAll() {
+    return names == null;
+  }
+
+  public boolean includes(String field) {
+    return names == null || names.contains(field);
+  }
+
+  /**
+   * 주어진 필드 중 하나라도 포함하는지 확인한다.
+   *
+   * @param fields 확인할 필드 이름
+   * @return 하나라도 포함하면 true
+   */
+  public boolean includesAny(String... fields) {
+    return names == null || Arrays.stream(fields).anyMatch(names::contains);
+  }
+
+  /**
+   * 포함된 필드 이름을 반환한다.
+   *
+   * @return 필드 이름 목록 (전체 필드이면 {@link #NAMES})
+   */
+  public Set<String> names() {
+    return names == null ? NAMES : names;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof ProductFields other && Objects.equals(names, other.names));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(names);
+  }
+}
@@ -0,0 +1,62 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 메모리 인덱스 적재용 DTO.
+ *
+ * <p>자동완성, 필터 비트맵, 스테이지 일정 인덱스가 상품을 색인하는 데 필요한 컬럼만 담는다. 상품 엔티티를 영속성 컨텍스트에 올리지 않고 조회한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public final class ProductIndexSnapshot {
+
+  /** 상품 ID */
+  private final Long productId;
+
+  /** 상품명 */
+  private final String name;
+
+  /** 출연진 정보 */
+  private final String castInfo;
+
+  /** 상품 타입 */
+  private final ProductType productType;
+
+  /** 상품 상태 */
+  private final ProductStatus status;
+
+  /** 스테이지 ID */
+  private final Long stageId;
+
+  /** 아트홀 ID */
+  private final Long artHallId;
+
+  /** 판매자 ID */
+  private final String sellerId;
+
+  /** 행사 시작 일시 */
+  private final LocalDateTime startAt;
+
+  /** 행사 종료 일시 */
+  private final LocalDateTime endAt;
+
+  /** 예매 시작 일시 */
+  private final LocalDateTime saleStartAt;
+
+  /** 예매 종료 일시 */
+  private final LocalDateTime saleEndAt;
+
+  /** 조회수 */
+  private final long viewCount;
+
+  /** 예매 수 */
+  private final int reservationCount;
+}
@@ -1,12 +1,16 @@
 package com.tickatch.product_service.product.domain.repository.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
 import com.tickatch.product_service.product.domain.SeatGrade;
 import com.tickatch.product_service.product.domain.vo.AgeRating;
+import com.tickatch.product_service.product.domain.vo.ProductContent;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import com.tickatch.product_service.product.domain.vo.ProductType;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,13 +19,51 @@ import lombok.Getter;
  *
  * <p>상품 조회 시 반환되는 데이터를 담는다. 엔티티를 외부에 노출하지 않고 필요한 필드만 전달한다.
  *
+ * <p>{@link ProductFields#FILTER_ID} 필터로 직렬화 필드를 제한할 수 있다. 필터가 지정되지 않으면 전체 필드를 직렬화한다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
 @Getter
 @Builder
+@JsonFilter(ProductFields.FILTER_ID)
 public final class ProductResponse {
 
+  /** 상세 콘텐츠 필드 이름 (별도 테이블에서 지연 로딩) */
+  private static final String[] DETAIL_CONTENT_FIELDS = {
+    "description", "detailImageUrls", "notice"
+  };
+
+  /** 카탈로그 조회 모델로 채울 수 있는 필드 이름 */
+  private static final Set<String> CATALOG_FIELDS =
+      Set.of(
+          "id",
+          "sellerId",
+          "name",
+          "productType",
+          "startAt",
+          "endAt",
+          "saleStartAt",
+          "saleEndAt",
+          "stageId",
+          "stageName",
+          "artHallId",
+          "artHallName",
+          "artHallAddress",
+          "posterImageUrl",
+          "ageRating",
+          "totalSeats",
+          "availableSeats",
+          "soldOut",
+          "minPrice",
+          "maxPrice",
+          "viewCount",
+          "reservationCount",
+          "purchasable",
+          "status",
+          "createdAt",
+          "updatedAt");
+
   // ========== 기본 정보 ==========
 
   /** 상품 ID */
@@ -160,6 +202,12 @@ public final class ProductResponse {
   /** 등급별 좌석 정보 */
   private final List<SeatGradeResponse> seatGrades;
 
+  /** 좌석 등급 최저 가격 (등급이 없으면 null) */
+  private final Long minPrice;
+
+  /** 좌석 등급 최고 가격 (등급이 없으면 null) */
+  private final Long maxPrice;
+
   // ========== 통계 ==========
 
   /** 조회수 */
@@ -194,6 +242,21 @@ public final class ProductResponse {
    * @return 상품 응답 DTO
    */
   public static ProductResponse from(Product product) {
+    return from(product, ProductFields.ALL);
+  }
+
+  /**
+   * 상품 엔티티를 응답 DTO로 변환한다. 포함되지 않은 콘텐츠와 좌석 등급은 채우지 않는다.
+   *
+   * <p>좌석 등급과 상세 콘텐츠는 포함된 경우에만 접근하므로 지연 로딩 연관이 초기화되지 않아 추가 쿼리가 발생하지 않는다.
+   *
+   * @param product 상품 엔티티
+   * @param fields 포함할 필드
+   * @return 상품 응답 DTO
+   */
+  public static ProductResponse from(Product product, ProductFields fields) {
+    ProductContent content =
+        fields.includesAny(DETAIL_CONTENT_FIELDS) ? product.getContent() : null;
     return ProductResponse.builder()
         // 기본 정보
         .id(product.getId())
@@ -213,15 +276,13 @@ public final class ProductResponse {
         .artHallName(product.getVenue().getArtHallName())
         .artHallAddress(product.getVenue().getArtHallAddress())
         // 콘텐츠
-        .description(product.getContent() != null ? product.getContent().getDescription() : null)
-        .posterImageUrl(
-            product.getContent() != null ? product.getContent().getPosterImageUrl() : null)
-        .detailImageUrls(
-            product.getContent() != null ? product.getContent().getDetailImageUrls() : null)
-        .castInfo(product.getContent() != null ? product.getContent().getCastInfo() : null)
-        .notice(product.getContent() != null ? product.getContent().getNotice() : null)
-        .organizer(product.getContent() != null ? product.getContent().getOrganizer() : null)
-        .agency(product.getContent() != null ? product.getContent().getAgency() : null)
+        .description(content != null ? content.getDescription() : null)
+        .posterImageUrl(product.getPosterImageUrl())
+        .detailImageUrls(content != null ? content.getDetailImageUrls() : null)
+        .castInfo(product.getCastInfo())
+        .notice(content != null ? content.getNotice() : null)
+        .organizer(product.getOrganizer())
+        .agency(product.getAgency())
         // 관람 제한
         .ageRating(
             product.getAgeRestriction() != null ? product.getAgeRestriction().getAgeRating() : null)
@@ -286,7 +347,12 @@ public final class ProductResponse {
         .totalSeats(product.getSeatSummary().getTotalSeats())
         .availableSeats(product.getSeatSummary().getAvailableSeats())
         .soldOut(product.isSoldOut())
-        .seatGrades(product.getSeatGrades().stream().map(SeatGradeResponse::from).toList())
+        .seatGrades(
+            fields.includes(ProductFields.SEAT_GRADES)
+                ? product.getSeatGrades().stream().map(SeatGradeResponse::from).toList()
+                : null)
+        .minPrice(product.getMinPrice())
+        .maxPrice(product.getMaxPrice())
         // 통계
         .viewCount(product.getStats().getViewCount())
         .reservationCount(product.getStats().getReservationCount())
@@ -300,6 +366,54 @@ public final class ProductResponse {
         .build();
   }
 
+  /**
+   * 요청한 필드를 카탈로그 조회 모델만으로 채울 수 있는지 확인한다.
+   *
+   * @param fields 포함할 필드
+   * @return 모든 필드가 조회 모델에 있으면 true (전체 필드이면 false)
+   */
+  public static boolean isCatalogServable(ProductFields fields) {
+    return !fields.isAll() && CATALOG_FIELDS.containsAll(fields.names());
+  }
+
+  /**
+   * 카탈로그 조회 모델을 응답 DTO로 변환한다. 조회 모델에 없는 필드는 채우지 않는다.
+   *
+   * @param view 카탈로그 조회 모델
+   * @return 상품 응답 DTO
+   * @see #isCatalogServable(ProductFields)
+   */
+  public static ProductResponse from(ProductCatalogView view) {
+    return ProductResponse.builder()
+        .id(view.getProductId())
+        .sellerId(view.getSellerId())
+        .name(view.getName())
+        .productType(view.getProductType())
+        .startAt(view.getSchedule().getStartAt())
+        .endAt(view.getSchedule().getEndAt())
+        .saleStartAt(view.getSaleSchedule().getSaleStartAt())
+        .saleEndAt(view.getSaleSchedule().getSaleEndAt())
+        .stageId(view.getVenue().getStageId())
+        .stageName(view.getVenue().getStageName())
+        .artHallId(view.getVenue().getArtHallId())
+        .artHallName(view.getVenue().getArtHallName())
+        .artHallAddress(view.getVenue().getArtHallAddress())
+        .posterImageUrl(view.getPosterImageUrl())
+        .ageRating(view.getAgeRating())
+        .totalSeats(view.getSeatSummary().getTotalSeats())
+        .availableSeats(view.getSeatSummary().getAvailableSeats())
+        .soldOut(view.getSeatSummary().isSoldOut())
+        .minPrice(view.getMinPrice())
+        .maxPrice(view.getMaxPrice())
+        .viewCount(view.getStats().getViewCount())
+        .reservationCount(view.getStats().getReservationCount())
+        .purchasable(view.canPurchase())
+        .status(view.getStatus())
+        .createdAt(view.getProductCreatedAt())
+        .updatedAt(view.getProductUpdatedAt())
+        .build();
+  }
+
   /** 등급별 좌석 응답 DTO. */
   @Getter
   @Builder
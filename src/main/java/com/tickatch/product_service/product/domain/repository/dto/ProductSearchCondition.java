@@ -2,7 +2,9 @@ package com.tickatch.product_service.product.domain.repository.dto;
 
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
@@ -15,6 +17,7 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@EqualsAndHashCode
 public class ProductSearchCondition {
 
   /** 상품명 (부분 일치 검색) */
@@ -31,4 +34,34 @@ public class ProductSearchCondition {
 
   /** 판매자 ID */
   private String sellerId;
+
+  /** 최저가 하한 (좌석 등급 최저 가격 기준, 이상) */
+  private Long minPrice;
+
+  /** 최저가 상한 (좌석 등급 최저 가격 기준, 이하) */
+  private Long maxPrice;
+
+  /** 행사 시작 일시 하한 (포함) */
+  private LocalDateTime startFrom;
+
+  /** 행사 시작 일시 상한 (포함) */
+  private LocalDateTime startTo;
+
+  /**
+   * 가격 조건이 있는지 확인한다.
+   *
+   * @return 최저가 하한 또는 상한이 있으면 true
+   */
+  public boolean hasPriceRange() {
+    return minPrice != null || maxPrice != null;
+  }
+
+  /**
+   * 행사 시작 일시 조건이 있는지 확인한다.
+   *
+   * @return 시작 일시 하한 또는 상한이 있으면 true
+   */
+  public boolean hasStartRange() {
+    return startFrom != null || startTo != null;
+  }
 }
@@ -0,0 +1,74 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 자동 상태 전이 일정 DTO.
+ *
+ * <p>상품의 현재 상태와 자동 전이 기준 시간만 담는다. 현재 상태에 따라 다음 전이와 그 시각이 정해진다.
+ *
+ * <ul>
+ *   <li>SCHEDULED → ON_SALE: 판매 시작 시간
+ *   <li>ON_SALE → CLOSED: 판매 종료 시간
+ *   <li>CLOSED → COMPLETED: 행사 종료 시간
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Getter
+@Builder
+public final class ProductTransitionSchedule {
+
+  /** 상품 ID */
+  private final Long productId;
+
+  /** 현재 상태 */
+  private final ProductStatus status;
+
+  /** 판매 시작 일시 */
+  private final LocalDateTime saleStartAt;
+
+  /** 판매 종료 일시 */
+  private final LocalDateTime saleEndAt;
+
+  /** 행사 종료 일시 */
+  private final LocalDateTime endAt;
+
+  /**
+   * 현재 상태에서 자동으로 전이할 다음 상태를 반환한다.
+   *
+   * @return 다음 상태 (자동 전이 대상이 아니면 null)
+   */
+  public ProductStatus nextStatus() {
+    if (status == null) {
+      return null;
+    }
+    return switch (status) {
+      case SCHEDULED -> ProductStatus.ON_SALE;
+      case ON_SALE -> ProductStatus.CLOSED;
+      case CLOSED -> ProductStatus.COMPLETED;
+      default -> null;
+    };
+  }
+
+  /**
+   * 다음 자동 전이 시각을 반환한다.
+   *
+   * @return 다음 전이 시각 (자동 전이 대상이 아니면 null)
+   */
+  public LocalDateTime nextTransitionAt() {
+    ProductStatus next = nextStatus();
+    if (next == null) {
+      return null;
+    }
+    return switch (next) {
+      case ON_SALE -> saleStartAt;
+      case CLOSED -> saleEndAt;
+      default -> endAt;
+    };
+  }
+}
@@ -0,0 +1,66 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import java.util.Set;
+
+/**
+ * 상품 응답 뷰.
+ *
+ * <p>호출 목적별로 미리 정의한 {@link ProductResponse} 필드 묶음이다. 필요한 필드만 조회하고 직렬화하여 응답 크기와 변환 비용을 줄인다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductFields
+ */
+public enum ProductView {
+
+  /** 목록 화면용 요약 (카드 노출 정보) */
+  SUMMARY(
+      Set.of(
+          "id",
+          "name",
+          "productType",
+          "status",
+          "startAt",
+          "endAt",
+          "saleStartAt",
+          "saleEndAt",
+          "stageName",
+          "artHallName",
+          "posterImageUrl",
+          "ageRating",
+          "minPrice",
+          "soldOut",
+          "purchasable")),
+
+  /** 예매/재고 확인용 (좌석 현황, 등급별 좌석) */
+  INVENTORY(
+      Set.of(
+          "id",
+          "status",
+          "saleStartAt",
+          "saleEndAt",
+          "totalSeats",
+          "availableSeats",
+          "soldOut",
+          "purchasable",
+          "seatGrades",
+          "reservationCount")),
+
+  /** 상세 화면용 전체 필드 */
+  DETAIL(null);
+
+  private final Set<String> fields;
+
+  ProductView(Set<String> fields) {
+    this.fields = fields;
+  }
+
+  /**
+   * 뷰에 포함된 필드 이름을 반환한다.
+   *
+   * @return 필드 이름 목록 (전체 필드이면 null)
+   */
+  Set<String> fields() {
+    return fields;
+  }
+}
@@ -2,14 +2,8 @@ package com.tickatch.product_service.product.domain.vo;
 
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
-import jakarta.persistence.Column;
-import jakarta.persistence.Embeddable;
-import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 /**
  * 상품 콘텐츠 Value Object.
@@ -28,13 +22,15 @@ import org.hibernate.type.SqlTypes;
  *   <li>agency: 최대 100자
  * </ul>
  *
+ * <p>저장 위치는 항목마다 다르다. 목록과 검색에 쓰는 짧은 항목(포스터, 출연진, 주최/주관사)은 상품 테이블에, 길이가 큰 항목(상세 설명, 상세 이미지, 유의사항)은
+ * {@link com.tickatch.product_service.product.domain.ProductDetail}에 저장하며, {@link
+ * com.tickatch.product_service.product.domain.Product#getContent()}가 두 곳의 값을 모아 이 객체로 돌려준다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
-@Embeddable
 @Getter
 @EqualsAndHashCode
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class ProductContent {
 
   private static final int DESCRIPTION_MAX_LENGTH = 5000;
@@ -45,33 +41,25 @@ public final class ProductContent {
   private static final int AGENCY_MAX_LENGTH = 100;
 
   /** 상세 설명 */
-  @Column(name = "description", length = DESCRIPTION_MAX_LENGTH)
-  private String description;
+  private final String description;
 
   /** 메인 포스터 이미지 URL */
-  @Column(name = "poster_image_url", length = POSTER_IMAGE_URL_MAX_LENGTH)
-  private String posterImageUrl;
+  private final String posterImageUrl;
 
   /** 상세 이미지 URL 배열 (JSON) */
-  @Column(name = "detail_image_urls", columnDefinition = "JSON")
-  @JdbcTypeCode(SqlTypes.JSON)
-  private String detailImageUrls;
+  private final String detailImageUrls;
 
   /** 출연진/아티스트 정보 */
-  @Column(name = "cast_info", length = CAST_INFO_MAX_LENGTH)
-  private String castInfo;
+  private final String castInfo;
 
   /** 유의사항 */
-  @Column(name = "notice", length = NOTICE_MAX_LENGTH)
-  private String notice;
+  private final String notice;
 
   /** 주최사 */
-  @Column(name = "organizer", length = ORGANIZER_MAX_LENGTH)
-  private String organizer;
+  private final String organizer;
 
   /** 주관사/기획사 */
-  @Column(name = "agency", length = AGENCY_MAX_LENGTH)
-  private String agency;
+  private final String agency;
 
   /**
    * 상품 콘텐츠를 생성한다.
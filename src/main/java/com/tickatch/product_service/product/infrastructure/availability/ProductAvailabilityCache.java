@@ -0,0 +1,153 @@
+package com.tickatch.product_service.product.infrastructure.availability;
+
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 잔여 좌석 캐시.
+ *
+ * <p>상품별 잔여 좌석 스냅샷({@link ProductAvailabilityResponse})을 메모리에 보관한다. 좌석 차감/복구 경로가 커밋 후 발행하는 {@link
+ * ProductAvailabilityChangedEvent}로 항목을 바로 교체하므로, 이 인스턴스에서 처리한 변경은 즉시 반영된다.
+ *
+ * <p>다른 인스턴스에서 처리한 변경은 이벤트로 전달되지 않으므로 항목마다 유효 시간을 두고, 만료되었거나 없는 항목만 카운터/좌석 등급 테이블에서 한 번에 다시 읽는다.
+ * 폴링이 몰려도 상품당 유효 시간마다 한 번만 DB를 조회한다.
+ *
+ * <p>이벤트는 아무도 조회하지 않는 상품의 항목도 만들므로, 주기({@code product.availability.cache-sweep-ms})마다 만료된 항목을 제거하여
+ * 캐시 크기를 최근에 조회되거나 변경된 상품 수로 제한한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductAvailabilityCache {
+
+  private final ProductRepository productRepository;
+  private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+  /** 캐시 항목 유효 시간 (밀리초) */
+  @Value("${product.availability.cache-ttl-ms:1000}")
+  private long ttlMillis;
+
+  public ProductAvailabilityCache(ProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  /**
+   * 여러 상품의 잔여 좌석을 조회한다.
+   *
+   * <p>유효한 항목은 캐시에서 반환하고, 나머지는 한 번의 DB 조회로 채운다. 결과는 요청 순서를 따르며, 삭제되었거나 존재하지 않는 상품은 빠진다.
+   *
+   * @param productIds 조회할 상품 ID 목록 (중복 없음)
+   * @return 잔여 좌석 목록
+   */
+  public List<ProductAvailabilityResponse> getAll(Collection<Long> productIds) {
+    long now = System.currentTimeMillis();
+    List<Long> misses = new ArrayList<>();
+    for (Long productId : productIds) {
+      Entry entry = entries.get(productId);
+      if (entry == null || entry.isExpired(now, ttlMillis)) {
+        misses.add(productId);
+      }
+    }
+    if (!misses.isEmpty()) {
+      load(misses, now);
+    }
+
+    List<ProductAvailabilityResponse> result = new ArrayList<>(productIds.size());
+    for (Long productId : productIds) {
+      Entry entry = entries.get(productId);
+      if (entry != null) {
+        result.add(entry.availability());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 잔여 좌석 변경 이벤트를 반영한다.
+   *
+   * <p>트랜잭션 커밋 이후에만 반영하여 롤백된 차감이 노출되지 않도록 한다. 삭제된 상품은 캐시에서 제거한다.
+   *
+   * @param event 잔여 좌석 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAvailabilityChanged(ProductAvailabilityChangedEvent event) {
+    if (event.deleted()) {
+      entries.remove(event.productId());
+      return;
+    }
+    entries.put(event.productId(), new Entry(event.availability(), System.currentTimeMillis()));
+  }
+
+  /** 만료된 항목을 제거한다. 그 사이 교체된 항목은 제거하지 않는다. */
+  @Scheduled(fixedDelayString = "${product.availability.cache-sweep-ms:60000}")
+  public void sweep() {
+    long now = System.currentTimeMillis();
+    int before = entries.size();
+    entries.values().removeIf(entry -> entry.isExpired(now, ttlMillis));
+    log.debug("잔여 좌석 캐시 정리. before: {}, after: {}", before, entries.size());
+  }
+
+  /**
+   * 캐시 항목 수를 반환한다.
+   *
+   * @return 항목 수
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * DB에서 읽은 값을 캐시에 넣는다.
+   *
+   * <p>조회 중 이벤트로 더 최신 값이 들어왔으면 덮어쓰지 않는다. 조회되지 않은 ID(삭제/미존재)의 기존 항목은 제거한다.
+   */
+  private void load(List<Long> productIds, long loadStartedAt) {
+    List<ProductAvailabilityResponse> loaded = productRepository.findAvailabilityByIds(productIds);
+    long loadedAt = System.currentTimeMillis();
+    for (ProductAvailabilityResponse availability : loaded) {
+      entries.compute(
+          availability.getProductId(),
+          (key, current) ->
+              current != null && current.cachedAt() >= loadStartedAt
+                  ? current
+                  : new Entry(availability, loadedAt));
+    }
+    if (loaded.size() < productIds.size()) {
+      Set<Long> found =
+          loaded.stream()
+              .map(ProductAvailabilityResponse::getProductId)
+              .collect(Collectors.toSet());
+      productIds.stream()
+          .filter(productId -> !found.contains(productId))
+          .forEach(
+              productId ->
+                  entries.computeIfPresent(
+                      productId,
+                      (key, current) -> current.cachedAt() >= loadStartedAt ? current : null));
+    }
+    log.debug("잔여 좌석 캐시 적재. requested: {}, loaded: {}", productIds.size(), loaded.size());
+  }
+
+  /** 캐시 항목. 스냅샷과 캐시에 들어간 시각을 보관한다. */
+  private record Entry(ProductAvailabilityResponse availability, long cachedAt) {
+
+    private boolean isExpired(long now, long ttlMillis) {
+      return now - cachedAt >= ttlMillis;
+    }
+  }
+}
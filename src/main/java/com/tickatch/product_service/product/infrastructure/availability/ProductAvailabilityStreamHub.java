@@ -0,0 +1,305 @@
+package com.tickatch.product_service.product.infrastructure.availability;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 상품 잔여 좌석 SSE 스트림 허브.
+ *
+ * <p>상품별 채널에 구독자(SSE 연결)를 모아 두고, {@link ProductAvailabilityChangedEvent}를 받으면 채널의 대기 스냅샷만 교체한다. 대기
+ * 스냅샷은 주기({@code product.availability.stream.interval-ms})마다 한 번 직렬화하여 채널의 모든 구독자에게 같은 프레임으로 전달하므로,
+ * 좌석 변경이 몰려도 상품당 주기마다 최대 한 번만 전송한다.
+ *
+ * <p>다른 인스턴스에서 처리한 좌석 변경은 이벤트로 전달되지 않으므로, 구독 중인 상품의 잔여 좌석을 주기({@code
+ * product.availability.stream.refresh-ms})마다 {@link ProductAvailabilityCache}에서 한 번에 다시 읽는다. 마지막으로
+ * 보낸 값과 같으면 전송하지 않는다.
+ *
+ * <p>구독자마다 프레임 한 개만 담는 우편함을 두고 가상 스레드에서 전송한다. 느린 구독자는 전송 중에 들어온 중간 프레임을 건너뛰고 최신 프레임만 받으므로, 한 구독자가
+ * 지연되어도 다른 구독자나 플러시 스레드를 막지 않는다. 유휴 연결은 요청 스레드를 점유하지 않는다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductAvailabilityStreamHub {
+
+  private static final String AVAILABILITY_EVENT = "availability";
+  private static final String DELETED_EVENT = "deleted";
+  private static final int REFRESH_BATCH_SIZE = 500;
+
+  private final ProductAvailabilityCache productAvailabilityCache;
+  private final ObjectMapper objectMapper;
+  private final Executor streamExecutor;
+  private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+  private final Counter droppedFrames;
+
+  /** 구독 연결 유지 시간 (밀리초). 만료되면 클라이언트가 다시 연결한다. */
+  @Value("${product.availability.stream.timeout-ms:1800000}")
+  private long timeoutMillis;
+
+  /** 변경이 없을 때 연결 유지를 위해 주석 프레임을 보내는 간격 (밀리초) */
+  @Value("${product.availability.stream.heartbeat-ms:15000}")
+  private long heartbeatMillis;
+
+  private long lastHeartbeatAt = System.currentTimeMillis();
+
+  public ProductAvailabilityStreamHub(
+      ProductAvailabilityCache productAvailabilityCache,
+      ObjectMapper objectMapper,
+      @Qualifier("streamExecutor") Executor streamExecutor,
+      MeterRegistry meterRegistry) {
+    this.productAvailabilityCache = productAvailabilityCache;
+    this.objectMapper = objectMapper;
+    this.streamExecutor = streamExecutor;
+    Gauge.builder(
+            "product.availability.stream.subscribers",
+            this,
+            ProductAvailabilityStreamHub::subscriberCount)
+        .register(meterRegistry);
+    this.droppedFrames =
+        Counter.builder("product.availability.stream.dropped").register(meterRegistry);
+  }
+
+  /**
+   * 상품의 잔여 좌석 스트림을 구독한다.
+   *
+   * <p>현재 스냅샷을 첫 프레임으로 보내고, 이후 변경은 플러시 주기마다 전달한다.
+   *
+   * @param initial 구독 시점의 잔여 좌석
+   * @return SSE 연결
+   */
+  public SseEmitter subscribe(ProductAvailabilityResponse initial) {
+    Long productId = initial.getProductId();
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(productId, emitter);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(e -> unsubscribe(subscriber));
+
+    channels.compute(
+        productId,
+        (key, channel) -> {
+          Channel target = channel == null ? new Channel() : channel;
+          target.subscribers.add(subscriber);
+          return target;
+        });
+
+    String json = serialize(initial);
+    if (json != null) {
+      subscriber.offer(availabilityFrame(json));
+    }
+    return emitter;
+  }
+
+  /**
+   * 잔여 좌석 변경 이벤트를 채널의 대기 스냅샷으로 둔다.
+   *
+   * <p>구독자가 없는 상품은 무시한다. 같은 주기 안의 변경은 마지막 스냅샷만 남는다.
+   *
+   * @param event 잔여 좌석 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAvailabilityChanged(ProductAvailabilityChangedEvent event) {
+    Channel channel = channels.get(event.productId());
+    if (channel != null) {
+      channel.pending.set(event);
+    }
+  }
+
+  /** 대기 스냅샷이 있는 채널을 구독자에게 전송하고, 간격이 지났으면 하트비트를 보낸다. */
+  @Scheduled(fixedDelayString = "${product.availability.stream.interval-ms:500}")
+  public void flush() {
+    channels.forEach(
+        (productId, channel) -> {
+          ProductAvailabilityChangedEvent event = channel.pending.getAndSet(null);
+          if (event == null) {
+            return;
+          }
+          Frame frame;
+          if (event.deleted()) {
+            frame = deletedFrame(productId);
+          } else {
+            String json = serialize(event.availability());
+            if (json == null || json.equals(channel.lastSent)) {
+              return;
+            }
+            channel.lastSent = json;
+            frame = availabilityFrame(json);
+          }
+          channel.subscribers.forEach(subscriber -> subscriber.offer(frame));
+        });
+
+    long now = System.currentTimeMillis();
+    if (now - lastHeartbeatAt >= heartbeatMillis) {
+      lastHeartbeatAt = now;
+      Frame heartbeat = new Frame(SseEmitter.event().comment("heartbeat").build(), false);
+      channels.values().forEach(c -> c.subscribers.forEach(s -> s.offerIfIdle(heartbeat)));
+    }
+  }
+
+  /**
+   * 구독 중인 상품의 잔여 좌석을 캐시에서 다시 읽어 대기 스냅샷으로 둔다.
+   *
+   * <p>이미 대기 중인 변경이 있는 채널은 건너뛴다. 조회되지 않은 상품은 삭제된 것으로 보고 구독을 종료한다.
+   */
+  @Scheduled(fixedDelayString = "${product.availability.stream.refresh-ms:1000}")
+  public void refresh() {
+    List<Long> productIds = List.copyOf(channels.keySet());
+    for (int from = 0; from < productIds.size(); from += REFRESH_BATCH_SIZE) {
+      List<Long> batch =
+          productIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, productIds.size()));
+      Map<Long, ProductAvailabilityResponse> loaded = new HashMap<>();
+      productAvailabilityCache
+          .getAll(batch)
+          .forEach(availability -> loaded.put(availability.getProductId(), availability));
+      for (Long productId : batch) {
+        Channel channel = channels.get(productId);
+        if (channel == null) {
+          continue;
+        }
+        ProductAvailabilityResponse availability = loaded.get(productId);
+        ProductAvailabilityChangedEvent event =
+            availability != null
+                ? new ProductAvailabilityChangedEvent(availability, false)
+                : new ProductAvailabilityChangedEvent(
+                    ProductAvailabilityResponse.builder().productId(productId).build(), true);
+        channel.pending.compareAndSet(null, event);
+      }
+    }
+  }
+
+  /**
+   * 현재 구독자 수를 반환한다.
+   *
+   * @return 전체 채널의 구독자 수
+   */
+  public int subscriberCount() {
+    return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    channels.computeIfPresent(
+        subscriber.productId,
+        (key, channel) -> {
+          channel.subscribers.remove(subscriber);
+          return channel.subscribers.isEmpty() ? null : channel;
+        });
+  }
+
+  private String serialize(ProductAvailabilityResponse availability) {
+    try {
+      return objectMapper.writeValueAsString(availability);
+    } catch (JsonProcessingException e) {
+      log.warn("잔여 좌석 직렬화 실패. productId: {}", availability.getProductId(), e);
+      return null;
+    }
+  }
+
+  private Frame availabilityFrame(String json) {
+    return new Frame(
+        SseEmitter.event().name(AVAILABILITY_EVENT).data(json, MediaType.APPLICATION_JSON).build(),
+        false);
+  }
+
+  private Frame deletedFrame(Long productId) {
+    return new Frame(
+        SseEmitter.event().name(DELETED_EVENT).data(String.valueOf(productId)).build(), true);
+  }
+
+  /** 상품별 채널. 구독자, 아직 전송하지 않은 최신 변경, 마지막으로 보낸 값을 보관한다. */
+  private static final class Channel {
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<ProductAvailabilityChangedEvent> pending =
+        new AtomicReference<>();
+    private volatile String lastSent;
+  }
+
+  /**
+   * 구독자에게 보낼 SSE 프레임.
+   *
+   * @param data 직렬화가 끝난 프레임 (같은 채널의 구독자가 공유)
+   * @param last 전송 후 연결을 종료할지 여부
+   */
+  private record Frame(Set<DataWithMediaType> data, boolean last) {}
+
+  /** SSE 구독자. 전송 대기 프레임을 하나만 보관한다. */
+  private final class Subscriber {
+    private final Long productId;
+    private final SseEmitter emitter;
+    private final AtomicReference<Frame> mailbox = new AtomicReference<>();
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    private Subscriber(Long productId, SseEmitter emitter) {
+      this.productId = productId;
+      this.emitter = emitter;
+    }
+
+    /** 프레임을 우편함에 넣는다. 아직 전송하지 못한 이전 프레임은 버린다. */
+    private void offer(Frame frame) {
+      Frame replaced = mailbox.getAndSet(frame);
+      if (replaced != null && !replaced.last()) {
+        droppedFrames.increment();
+      }
+      schedule();
+    }
+
+    /** 우편함이 비어 있을 때만 프레임을 넣는다. 하트비트가 변경 프레임을 밀어내지 않도록 한다. */
+    private void offerIfIdle(Frame frame) {
+      if (mailbox.compareAndSet(null, frame)) {
+        schedule();
+      }
+    }
+
+    private void schedule() {
+      if (sending.compareAndSet(false, true)) {
+        streamExecutor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        Frame frame;
+        while ((frame = mailbox.getAndSet(null)) != null) {
+          emitter.send(frame.data());
+          if (frame.last()) {
+            emitter.complete();
+            return;
+          }
+        }
+      } catch (IOException | IllegalStateException e) {
+        log.debug("잔여 좌석 스트림 전송 실패. productId: {}, error: {}", productId, e.getMessage());
+        unsubscribe(this);
+        return;
+      } finally {
+        sending.set(false);
+      }
+      if (mailbox.get() != null) {
+        schedule();
+      }
+    }
+  }
+}
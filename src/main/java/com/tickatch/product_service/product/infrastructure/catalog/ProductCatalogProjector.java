@@ -0,0 +1,173 @@
+package com.tickatch.product_service.product.infrastructure.catalog;
+
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductStatsChangedEvent;
+import com.tickatch.product_service.product.application.service.ProductCatalogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 카탈로그 조회 모델 갱신기.
+ *
+ * <p>{@code ProductCommandService}와 {@code ProductStatusScheduler}가 발행한 {@link
+ * ProductChangedEvent}, 좌석 현황이 바뀔 때의 {@link ProductAvailabilityChangedEvent}, 조회수/예매 수가 바뀔 때의
+ * {@link ProductStatsChangedEvent}를 트랜잭션 커밋 이후 수신하여 해당 상품의 조회 모델을 비동기로 갱신한다.
+ *
+ * <p>이벤트마다 작업을 큐에 넣지 않고 갱신할 상품 ID만 대기 집합에 모은다. 단일 스레드 실행기({@code catalogExecutor})의 작업 하나가 대기 집합을
+ * 비우며 상품마다 한 번씩 갱신하므로, 같은 상품의 이벤트가 몰려도 한 번 비울 때 한 번만 갱신하고 큐가 넘쳐 갱신을 버리는 일이 없다. 갱신은 이벤트 값 대신 DB의 현재
+ * 상태를 복사하므로 여러 이벤트를 하나로 합쳐도 결과가 같다. 대기 중인 상품 수는 {@code product.catalog.refresh.pending} 게이지, 이미 대기
+ * 중이라 합쳐진 이벤트 수는 {@code product.catalog.refresh} 카운터의 {@code result=coalesced}로 노출한다.
+ *
+ * <p>갱신에 실패하면 로그만 남긴다. 다음 변경 이벤트나 재구축 시 최신 상태로 맞춰진다.
+ *
+ * <p>기동 시 조회 모델이 비어 있으면 재구축한다. 여러 인스턴스가 동시에 기동해도 재구축 임대를 획득한 한 인스턴스만 재구축한다({@link
+ * ProductCatalogService#rebuildIfEmpty()}).
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductCatalogService
+ */
+@Slf4j
+@Component
+public class ProductCatalogProjector {
+
+  private final ProductCatalogService productCatalogService;
+  private final Executor catalogExecutor;
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final Counter refreshed;
+  private final Counter coalesced;
+  private final Counter failed;
+
+  public ProductCatalogProjector(
+      ProductCatalogService productCatalogService,
+      @Qualifier("catalogExecutor") Executor catalogExecutor,
+      MeterRegistry meterRegistry) {
+    this.productCatalogService = productCatalogService;
+    this.catalogExecutor = catalogExecutor;
+    Gauge.builder("product.catalog.refresh.pending", this, ProductCatalogProjector::pendingCount)
+        .register(meterRegistry);
+    this.refreshed = refreshCounter(meterRegistry, "refreshed");
+    this.coalesced = refreshCounter(meterRegistry, "coalesced");
+    this.failed = refreshCounter(meterRegistry, "failed");
+  }
+
+  /** 기동 완료 시 조회 모델이 비어 있으면 재구축한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void bootstrap() {
+    try {
+      productCatalogService.rebuildIfEmpty();
+    } catch (RuntimeException e) {
+      log.error("상품 카탈로그 조회 모델 초기 재구축 실패", e);
+    }
+  }
+
+  /**
+   * 상품 변경 이벤트를 조회 모델에 반영한다.
+   *
+   * <p>트랜잭션 커밋 이후에만 반영하여 롤백된 변경이 노출되지 않도록 한다. 트랜잭션 밖에서 발행된 경우에는 즉시 반영한다.
+   *
+   * @param event 상품 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    enqueue(event.productId());
+  }
+
+  /**
+   * 잔여 좌석 변경을 조회 모델의 좌석 현황과 판매율에 반영한다.
+   *
+   * @param event 잔여 좌석 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAvailabilityChanged(ProductAvailabilityChangedEvent event) {
+    enqueue(event.productId());
+  }
+
+  /**
+   * 조회수/예매 수 변경을 조회 모델의 통계에 반영한다.
+   *
+   * @param event 상품 통계 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStatsChanged(ProductStatsChangedEvent event) {
+    enqueue(event.productId());
+  }
+
+  /**
+   * 갱신을 기다리는 상품 수를 반환한다.
+   *
+   * @return 대기 중인 상품 수
+   */
+  public int pendingCount() {
+    return pending.size();
+  }
+
+  private void enqueue(Long productId) {
+    if (!pending.add(productId)) {
+      coalesced.increment();
+    }
+    scheduleDrain();
+  }
+
+  /** 대기 집합을 비우는 작업이 없으면 하나 예약한다. */
+  private void scheduleDrain() {
+    if (!draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      catalogExecutor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      draining.set(false);
+      log.warn("상품 카탈로그 갱신 작업 예약 실패. pending: {}", pending.size());
+    }
+  }
+
+  /**
+   * 지금 대기 중인 상품을 한 번씩 갱신한다.
+   *
+   * <p>갱신하는 동안 새로 들어온 상품은 끝난 뒤 다음 작업으로 이어서 처리한다. 예약 표시를 내린 뒤 대기 집합을 다시 확인하므로, 그 사이에 들어온 상품도 빠지지
+   * 않는다.
+   */
+  private void drain() {
+    try {
+      for (Long productId : List.copyOf(pending)) {
+        pending.remove(productId);
+        refresh(productId);
+      }
+    } finally {
+      draining.set(false);
+    }
+    if (!pending.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  private void refresh(Long productId) {
+    try {
+      productCatalogService.refresh(productId);
+      refreshed.increment();
+    } catch (RuntimeException e) {
+      failed.increment();
+      log.warn("상품 카탈로그 조회 모델 갱신 실패. productId: {}", productId, e);
+    }
+  }
+
+  private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("product.catalog.refresh").tag("result", result).register(meterRegistry);
+  }
+}
@@ -1,5 +1,6 @@
 package com.tickatch.product_service.product.infrastructure.messaging.config;
 
+import com.tickatch.product_service.product.infrastructure.messaging.log.codec.ProductLogMessageConverter;
 import io.github.tickatch.common.util.JsonUtils;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
@@ -21,8 +22,10 @@ import org.springframework.context.annotation.Configuration;
  * <ul>
  *   <li>Exchange: tickatch.product (Topic) - 도메인 이벤트용
  *   <li>Exchange: tickatch.log (Topic) - 로그 이벤트용
+ *   <li>Exchange: tickatch.product.index (Fanout) - 인스턴스 간 메모리 인덱스 변경 방송용
  *   <li>Queue: 서비스별 취소 이벤트 큐 2개 (ReservationSeat, Reservation)
- *   <li>Queue: 로그 서비스용 상품 로그 큐 1개
+ *   <li>Queue: 로그 서비스용 상품 로그 큐, 상품 로그 요약 큐
+ *   <li>Queue: 인스턴스별 인덱스 변경 수신 큐 (이름 자동 생성, 연결 종료 시 삭제)
  *   <li>DLQ: 각 큐별 Dead Letter Queue
  * </ul>
  *
@@ -45,6 +48,12 @@ public class RabbitMQConfig {
   @Value("${messaging.exchange.log:tickatch.log}")
   private String logExchange;
 
+  @Value("${messaging.exchange.product-index:tickatch.product.index}")
+  private String productIndexExchange;
+
+  @Value("${messaging.log.binary-encoding:false}")
+  private boolean logBinaryEncoding;
+
   // ========================================
   // Queue Names - Product 발행용
   // ========================================
@@ -101,6 +110,13 @@ public class RabbitMQConfig {
    */
   public static final String QUEUE_PRODUCT_LOG = "tickatch.product.log.queue";
 
+  /**
+   * 상품 로그 요약 큐 이름.
+   *
+   * <p>좌석, 예매 수 변경처럼 자주 발생하는 로그를 구간별로 합친 요약 이벤트가 이 큐로 전송된다.
+   */
+  public static final String QUEUE_PRODUCT_LOG_SUMMARY = "tickatch.product.log.summary.queue";
+
   // ========================================
   // Routing Keys - 로그 발행용
   // ========================================
@@ -112,6 +128,13 @@ public class RabbitMQConfig {
    */
   public static final String ROUTING_KEY_PRODUCT_LOG = "product.log";
 
+  /**
+   * 상품 로그 요약 라우팅 키.
+   *
+   * <p>로그 Exchange에서 상품 로그 요약 큐로 라우팅하기 위한 키이다.
+   */
+  public static final String ROUTING_KEY_PRODUCT_LOG_SUMMARY = "product.log.summary";
+
   // ========================================
   // Exchange - Product 발행용
   // ========================================
@@ -246,6 +269,21 @@ public class RabbitMQConfig {
         .build();
   }
 
+  /**
+   * 상품 로그 요약 큐를 생성한다.
+   *
+   * <p>요약 이벤트는 개별 로그와 형식이 달라 별도 큐로 받는다. 메시지 처리 실패 시 DLQ로 이동한다.
+   *
+   * @return DLQ 설정이 포함된 durable Queue
+   */
+  @Bean
+  public Queue productLogSummaryQueue() {
+    return QueueBuilder.durable(QUEUE_PRODUCT_LOG_SUMMARY)
+        .withArgument("x-dead-letter-exchange", logExchange + ".dlx")
+        .withArgument("x-dead-letter-routing-key", "dlq." + ROUTING_KEY_PRODUCT_LOG_SUMMARY)
+        .build();
+  }
+
   // ========================================
   // Bindings - Product 발행용
   // ========================================
@@ -337,6 +375,60 @@ public class RabbitMQConfig {
     return BindingBuilder.bind(productLogQueue).to(logExchange).with(ROUTING_KEY_PRODUCT_LOG);
   }
 
+  /**
+   * 상품 로그 요약 큐와 로그 Exchange를 바인딩한다.
+   *
+   * @param productLogSummaryQueue 바인딩할 큐
+   * @param logExchange 바인딩할 Exchange
+   * @return 라우팅 키로 연결된 Binding
+   */
+  @Bean
+  public Binding productLogSummaryBinding(Queue productLogSummaryQueue, TopicExchange logExchange) {
+    return BindingBuilder.bind(productLogSummaryQueue)
+        .to(logExchange)
+        .with(ROUTING_KEY_PRODUCT_LOG_SUMMARY);
+  }
+
+  // ========================================
+  // Exchange & Queue - 인덱스 변경 방송용
+  // ========================================
+
+  /**
+   * 메모리 인덱스 변경 방송용 Fanout Exchange를 생성한다.
+   *
+   * <p>각 인스턴스가 커밋한 상품 변경을 모든 인스턴스의 수신 큐로 복제한다.
+   *
+   * @return durable Fanout Exchange
+   */
+  @Bean
+  public FanoutExchange productIndexExchange() {
+    return ExchangeBuilder.fanoutExchange(productIndexExchange).durable(true).build();
+  }
+
+  /**
+   * 인스턴스별 인덱스 변경 수신 큐를 생성한다.
+   *
+   * <p>인스턴스마다 이름이 다른 배타적 큐로, 연결이 끊기면 삭제된다. 끊긴 동안의 변경은 인덱스의 주기적 재적재로 복구한다.
+   *
+   * @return 이름이 자동 생성되는 non-durable Queue
+   */
+  @Bean
+  public Queue productIndexQueue() {
+    return new AnonymousQueue();
+  }
+
+  /**
+   * 인스턴스별 인덱스 변경 수신 큐와 방송 Exchange를 바인딩한다.
+   *
+   * @param productIndexQueue 바인딩할 큐
+   * @param productIndexExchange 바인딩할 Exchange
+   * @return Fanout Binding
+   */
+  @Bean
+  public Binding productIndexBinding(Queue productIndexQueue, FanoutExchange productIndexExchange) {
+    return BindingBuilder.bind(productIndexQueue).to(productIndexExchange);
+  }
+
   // ========================================
   // Dead Letter Exchange & Queues - Product 발행용
   // ========================================
@@ -511,6 +603,31 @@ public class RabbitMQConfig {
         .with("dlq." + ROUTING_KEY_PRODUCT_LOG);
   }
 
+  /**
+   * 상품 로그 요약 Dead Letter Queue를 생성한다.
+   *
+   * @return durable DLQ
+   */
+  @Bean
+  public Queue productLogSummaryDlq() {
+    return QueueBuilder.durable(QUEUE_PRODUCT_LOG_SUMMARY + ".dlq").build();
+  }
+
+  /**
+   * 상품 로그 요약 DLQ와 로그 DLX를 바인딩한다.
+   *
+   * @param productLogSummaryDlq 바인딩할 DLQ
+   * @param logDeadLetterExchange 바인딩할 DLX
+   * @return DLQ Binding
+   */
+  @Bean
+  public Binding productLogSummaryDlqBinding(
+      Queue productLogSummaryDlq, TopicExchange logDeadLetterExchange) {
+    return BindingBuilder.bind(productLogSummaryDlq)
+        .to(logDeadLetterExchange)
+        .with("dlq." + ROUTING_KEY_PRODUCT_LOG_SUMMARY);
+  }
+
   // ========================================
   // Message Converter & Template
   // ========================================
@@ -518,14 +635,17 @@ public class RabbitMQConfig {
   /**
    * JSON 메시지 변환기를 생성한다.
    *
-   * <p>공통 라이브러리의 ObjectMapper를 사용하여 일관된 직렬화/역직렬화를 보장한다.
+   * <p>공통 라이브러리의 ObjectMapper를 사용하여 일관된 직렬화/역직렬화를 보장한다. {@code messaging.log.binary-encoding}이 켜져
+   * 있으면 로그 이벤트만 바이너리로 인코딩한다.
    *
    * @return Jackson 기반 MessageConverter
    * @see JsonUtils#getObjectMapper()
+   * @see ProductLogMessageConverter
    */
   @Bean
   public MessageConverter jsonMessageConverter() {
-    return new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper());
+    return new ProductLogMessageConverter(
+        new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper()), logBinaryEncoding);
   }
 
   /**
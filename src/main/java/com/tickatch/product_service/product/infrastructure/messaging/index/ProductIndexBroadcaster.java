@@ -0,0 +1,109 @@
+package com.tickatch.product_service.product.infrastructure.messaging.index;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.infrastructure.search.AbstractProductIndex;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 메모리 인덱스 변경 방송기.
+ *
+ * <p>{@link AbstractProductIndex} 구현(비트맵, 일정 구간 트리, 자동완성)은 인스턴스마다 따로 유지되며, 로컬에서 커밋된 {@link
+ * ProductChangedEvent}로만 갱신하면 다른 인스턴스의 변경은 다음 재적재까지 반영되지 않는다. 이 구성요소는 로컬에서 커밋된 변경을 Fanout Exchange로
+ * 방송하고, 다른 인스턴스가 방송한 변경을 받아 모든 인덱스에 반영한다.
+ *
+ * <ul>
+ *   <li>방송은 커밋 이후 전용 단일 스레드({@code indexBroadcastExecutor})에서 보내므로 요청 스레드가 브로커를 기다리지 않고, 한 인스턴스의
+ *       변경은 커밋 순서대로 나간다.
+ *   <li>자신이 방송한 변경은 이미 로컬 이벤트로 반영했으므로 다시 반영하지 않는다. 늦게 도착한 자기 메시지가 그 사이의 더 최신 로컬 변경을 덮어쓰지 않게 한다.
+ *   <li>브로커 장애로 보내지 못했거나 수신 큐가 끊긴 동안의 변경은 인덱스의 주기적 재적재({@code product.index.reload-ms})로 복구한다.
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see AbstractProductIndex
+ */
+@Slf4j
+@Component
+public class ProductIndexBroadcaster {
+
+  /** 인덱스 변경 수신 리스너 ID */
+  public static final String LISTENER_ID = "productIndexListener";
+
+  /** 방송한 인스턴스를 나타내는 메시지 헤더 */
+  public static final String ORIGIN_HEADER = "x-product-index-origin";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final List<AbstractProductIndex> indexes;
+  private final String exchange;
+  private final String originId;
+
+  public ProductIndexBroadcaster(
+      RabbitTemplate rabbitTemplate,
+      List<AbstractProductIndex> indexes,
+      @Value("${messaging.exchange.product-index:tickatch.product.index}") String exchange,
+      @Value("${eureka.instance.instance-id:${spring.application.name:product-service}}")
+          String instanceId) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.indexes = List.copyOf(indexes);
+    this.exchange = exchange;
+    this.originId = instanceId + ":" + UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  /**
+   * 로컬에서 커밋된 상품 변경을 다른 인스턴스로 방송한다.
+   *
+   * <p>보내지 못하면 경고만 남긴다. 다른 인스턴스는 다음 재적재 때 반영한다.
+   *
+   * @param event 상품 변경 이벤트
+   */
+  @Async("indexBroadcastExecutor")
+  @TransactionalEventListener(fallbackExecution = true)
+  public void broadcast(ProductChangedEvent event) {
+    try {
+      rabbitTemplate.convertAndSend(
+          exchange,
+          "",
+          event,
+          message -> {
+            message.getMessageProperties().setHeader(ORIGIN_HEADER, originId);
+            return message;
+          });
+    } catch (AmqpException e) {
+      log.warn("인덱스 변경 방송 실패. productId: {}", event.productId(), e);
+    }
+  }
+
+  /**
+   * 다른 인스턴스가 방송한 상품 변경을 모든 메모리 인덱스에 반영한다.
+   *
+   * @param event 상품 변경 이벤트
+   * @param origin 방송한 인스턴스
+   */
+  @RabbitListener(id = LISTENER_ID, queues = "#{productIndexQueue.name}")
+  public void receive(
+      ProductChangedEvent event, @Header(name = ORIGIN_HEADER, required = false) String origin) {
+    if (originId.equals(origin)) {
+      return;
+    }
+    indexes.forEach(index -> index.onProductChanged(event));
+  }
+
+  /**
+   * 이 인스턴스가 방송할 때 쓰는 식별자를 반환한다.
+   *
+   * @return 방송 인스턴스 식별자
+   */
+  public String originId() {
+    return originId;
+  }
+}
@@ -0,0 +1,226 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.codec;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductActionType;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * {@link ProductLogEvent} 바이너리 코덱.
+ *
+ * <p>JSON 대신 스키마 버전이 붙은 고정 레이아웃으로 인코딩한다. 버전 1의 레이아웃은 다음과 같다(빅 엔디언).
+ *
+ * <pre>
+ * [버전 1][플래그 1][eventId 16][productId 8]?[액션 코드 1][리터럴]?[액터 코드 1][리터럴]?[actorUserId 16]?
+ * [occurredAt 초 8][occurredAt 나노초 4]
+ * </pre>
+ *
+ * <p>플래그는 productId, actorUserId가 있는지 표시한다. 액션 타입과 액터 타입은 코드 표의 위치(1부터)로 쓰고, 0은 null, {@value
+ * #LITERAL}은 표에 없는 값이라 뒤에 길이(2바이트)가 붙은 UTF-8 문자열이 따라온다는 뜻이다. occurredAt은 UTC 기준 에포크 초와 나노초로 쓴다.
+ *
+ * <p>코드 표는 소비자와 공유하는 스키마이므로 끝에 추가만 하고 순서를 바꾸거나 지우지 않는다. 레이아웃이 바뀌면 {@link #VERSION}을 올린다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductLogMessageConverter
+ */
+public final class ProductLogEventCodec {
+
+  /** 바이너리 로그 이벤트의 Content-Type */
+  public static final String CONTENT_TYPE = "application/vnd.tickatch.product-log+binary";
+
+  /** 레이아웃 버전 */
+  public static final byte VERSION = 1;
+
+  /** 코드 표에 없는 값의 코드 */
+  static final int LITERAL = 0xFF;
+
+  private static final int FLAG_PRODUCT_ID = 1;
+  private static final int FLAG_ACTOR_USER_ID = 1 << 1;
+
+  /** 액션 타입 코드 표 (끝에 추가만 한다) */
+  private static final List<String> ACTION_TYPES =
+      List.of(
+          ProductActionType.CREATED,
+          ProductActionType.CREATE_FAILED,
+          ProductActionType.UPDATED,
+          ProductActionType.UPDATE_FAILED,
+          ProductActionType.SUBMITTED_FOR_APPROVAL,
+          ProductActionType.SUBMIT_FOR_APPROVAL_FAILED,
+          ProductActionType.APPROVED,
+          ProductActionType.APPROVE_FAILED,
+          ProductActionType.REJECTED,
+          ProductActionType.REJECT_FAILED,
+          ProductActionType.RESUBMITTED,
+          ProductActionType.RESUBMIT_FAILED,
+          ProductActionType.SCHEDULED,
+          ProductActionType.SCHEDULE_FAILED,
+          ProductActionType.SALE_STARTED,
+          ProductActionType.SALE_START_FAILED,
+          ProductActionType.SALE_CLOSED,
+          ProductActionType.SALE_CLOSE_FAILED,
+          ProductActionType.COMPLETED,
+          ProductActionType.COMPLETE_FAILED,
+          ProductActionType.CANCELLED,
+          ProductActionType.CANCEL_FAILED,
+          ProductActionType.SEATS_DECREASED,
+          ProductActionType.SEATS_INCREASED,
+          ProductActionType.SEAT_GRADE_DECREASED,
+          ProductActionType.SEAT_GRADE_INCREASED,
+          ProductActionType.SEAT_OPERATION_FAILED,
+          ProductActionType.VIEW_COUNT_SYNCED,
+          ProductActionType.VIEW_COUNT_SYNC_FAILED,
+          ProductActionType.RESERVATION_COUNT_INCREASED,
+          ProductActionType.RESERVATION_COUNT_DECREASED,
+          ProductActionType.RESERVATION_COUNT_CHANGE_FAILED);
+
+  /** 액터 타입 코드 표 (끝에 추가만 한다) */
+  private static final List<String> ACTOR_TYPES =
+      List.of("SYSTEM", "ADMIN", "SELLER", "CUSTOMER", "USER_UNKNOWN");
+
+  private static final Map<String, Integer> ACTION_CODES = index(ACTION_TYPES);
+  private static final Map<String, Integer> ACTOR_CODES = index(ACTOR_TYPES);
+
+  /** 리터럴이 없을 때의 인코딩 크기 */
+  private static final int FIXED_BYTES = 1 + 1 + 16 + 1 + 1 + 8 + 4;
+
+  private ProductLogEventCodec() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 로그 이벤트를 인코딩한다.
+   *
+   * @param event 로그 이벤트 (eventId, occurredAt 필수)
+   * @return 인코딩된 바이트 배열
+   */
+  public static byte[] encode(ProductLogEvent event) {
+    int actionCode = code(ACTION_CODES, event.actionType());
+    int actorCode = code(ACTOR_CODES, event.actorType());
+    byte[] actionLiteral = literal(actionCode, event.actionType());
+    byte[] actorLiteral = literal(actorCode, event.actorType());
+
+    int flags = 0;
+    int size = FIXED_BYTES + literalBytes(actionLiteral) + literalBytes(actorLiteral);
+    if (event.productId() != null) {
+      flags |= FLAG_PRODUCT_ID;
+      size += 8;
+    }
+    if (event.actorUserId() != null) {
+      flags |= FLAG_ACTOR_USER_ID;
+      size += 16;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.put(VERSION).put((byte) flags);
+    putUuid(buffer, event.eventId());
+    if (event.productId() != null) {
+      buffer.putLong(event.productId());
+    }
+    putCode(buffer, actionCode, actionLiteral);
+    putCode(buffer, actorCode, actorLiteral);
+    if (event.actorUserId() != null) {
+      putUuid(buffer, event.actorUserId());
+    }
+    buffer.putLong(event.occurredAt().toEpochSecond(ZoneOffset.UTC));
+    buffer.putInt(event.occurredAt().getNano());
+    return buffer.array();
+  }
+
+  /**
+   * 바이트 배열을 로그 이벤트로 디코딩한다.
+   *
+   * @param encoded 인코딩된 바이트 배열
+   * @return 로그 이벤트
+   * @throws IllegalArgumentException 지원하지 않는 버전이거나 형식이 맞지 않는 경우
+   */
+  public static ProductLogEvent decode(byte[] encoded) {
+    ByteBuffer buffer = ByteBuffer.wrap(encoded);
+    try {
+      byte version = buffer.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("지원하지 않는 로그 이벤트 버전입니다. version: " + version);
+      }
+      int flags = buffer.get();
+      UUID eventId = getUuid(buffer);
+      Long productId = (flags & FLAG_PRODUCT_ID) != 0 ? buffer.getLong() : null;
+      String actionType = getCode(buffer, ACTION_TYPES);
+      String actorType = getCode(buffer, ACTOR_TYPES);
+      UUID actorUserId = (flags & FLAG_ACTOR_USER_ID) != 0 ? getUuid(buffer) : null;
+      LocalDateTime occurredAt =
+          LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+      return new ProductLogEvent(
+          eventId, productId, actionType, actorType, actorUserId, occurredAt);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("로그 이벤트 길이가 맞지 않습니다. bytes: " + encoded.length, e);
+    }
+  }
+
+  private static Map<String, Integer> index(List<String> values) {
+    Map<String, Integer> codes = new HashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      codes.put(values.get(i), i + 1);
+    }
+    return Map.copyOf(codes);
+  }
+
+  private static int code(Map<String, Integer> codes, String value) {
+    if (value == null) {
+      return 0;
+    }
+    return codes.getOrDefault(value, LITERAL);
+  }
+
+  private static byte[] literal(int code, String value) {
+    if (code != LITERAL) {
+      return null;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > 0xFFFF) {
+      throw new IllegalArgumentException("타입 문자열이 너무 깁니다. bytes: " + bytes.length);
+    }
+    return bytes;
+  }
+
+  private static int literalBytes(byte[] literal) {
+    return literal == null ? 0 : 2 + literal.length;
+  }
+
+  private static void putCode(ByteBuffer buffer, int code, byte[] literal) {
+    buffer.put((byte) code);
+    if (literal != null) {
+      buffer.putShort((short) literal.length).put(literal);
+    }
+  }
+
+  private static String getCode(ByteBuffer buffer, List<String> values) {
+    int code = Byte.toUnsignedInt(buffer.get());
+    if (code == 0) {
+      return null;
+    }
+    if (code == LITERAL) {
+      byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+      buffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+    if (code > values.size()) {
+      throw new IllegalArgumentException("알 수 없는 타입 코드입니다. code: " + code);
+    }
+    return values.get(code - 1);
+  }
+
+  private static void putUuid(ByteBuffer buffer, UUID uuid) {
+    buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
@@ -0,0 +1,62 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.codec;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * 로그 이벤트를 바이너리로 변환하는 메시지 변환기.
+ *
+ * <p>바이너리 인코딩이 켜져 있으면 {@link ProductLogEvent}를 {@link ProductLogEventCodec}으로 인코딩하고 Content-Type을
+ * {@value ProductLogEventCodec#CONTENT_TYPE}로 표시한다. 그 밖의 페이로드는 위임 변환기(JSON)로 변환한다.
+ *
+ * <p>수신 메시지는 인코딩 설정과 관계없이 Content-Type으로 형식을 고르므로, 바이너리와 JSON 메시지가 섞여 있어도 읽을 수 있다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class ProductLogMessageConverter implements MessageConverter {
+
+  private final MessageConverter delegate;
+  private final boolean binaryEncoding;
+
+  /**
+   * 메시지 변환기를 생성한다.
+   *
+   * @param delegate 로그 이벤트 외 페이로드에 쓸 변환기
+   * @param binaryEncoding 로그 이벤트를 바이너리로 인코딩할지 여부
+   */
+  public ProductLogMessageConverter(MessageConverter delegate, boolean binaryEncoding) {
+    this.delegate = delegate;
+    this.binaryEncoding = binaryEncoding;
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    if (!binaryEncoding || !(object instanceof ProductLogEvent event)) {
+      return delegate.toMessage(object, messageProperties);
+    }
+    byte[] body = ProductLogEventCodec.encode(event);
+    messageProperties.setContentType(ProductLogEventCodec.CONTENT_TYPE);
+    messageProperties.setContentLength(body.length);
+    messageProperties.setHeader(
+        AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, ProductLogEvent.class.getName());
+    return new Message(body, messageProperties);
+  }
+
+  @Override
+  public Object fromMessage(Message message) {
+    String contentType = message.getMessageProperties().getContentType();
+    if (!ProductLogEventCodec.CONTENT_TYPE.equals(contentType)) {
+      return delegate.fromMessage(message);
+    }
+    try {
+      return ProductLogEventCodec.decode(message.getBody());
+    } catch (IllegalArgumentException e) {
+      throw new MessageConversionException("바이너리 로그 이벤트를 읽을 수 없습니다.", e);
+    }
+  }
+}
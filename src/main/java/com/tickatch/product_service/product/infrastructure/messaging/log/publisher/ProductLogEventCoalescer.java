@@ -0,0 +1,163 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.publisher;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogSummaryEvent;
+import com.tickatch.product_service.product.infrastructure.messaging.config.RabbitMQConfig;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 발생하는 상품 로그 이벤트를 구간별 요약으로 합치는 컴포넌트.
+ *
+ * <p>{@code messaging.log.coalesce.enabled}가 켜져 있으면 {@code messaging.log.coalesce.action-types}에 속한
+ * 로그를 개별로 발행하지 않고 상품과 액션 타입별로 건수와 첫/마지막 이벤트만 메모리에 모은다. 주기({@code
+ * messaging.log.coalesce.window-ms})마다 모은 구간을 {@link ProductLogSummaryEvent}로 바꿔 아웃박스에 적재한다. 요약 하나가
+ * 많은 로그를 대신하므로 잃지 않도록 아웃박스로 보내고, 적재에 실패한 구간은 다음 주기에 새로 모인 구간과 합쳐 다시 시도한다.
+ *
+ * <p>승인, 취소 같은 생명주기 로그와 실패 로그는 합치지 않고 그대로 발행한다. 합친 로그 수는 {@code messaging.log.events} 카운터의 {@code
+ * result=coalesced}, 발행한 요약 수는 {@code messaging.log.summaries} 카운터로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see RabbitProductLogPublisher
+ */
+@Slf4j
+@Component
+public class ProductLogEventCoalescer {
+
+  /** 요약 단위 */
+  private record Key(Long productId, String actionType) {}
+
+  /** 구간 동안 합친 로그. 맵의 키 잠금 안에서만 바꾼다. */
+  private static final class Window {
+
+    private final UUID firstEventId;
+    private final LocalDateTime firstOccurredAt;
+    private UUID lastEventId;
+    private LocalDateTime lastOccurredAt;
+    private long count;
+
+    private Window(ProductLogEvent event) {
+      this.firstEventId = event.eventId();
+      this.firstOccurredAt = event.occurredAt();
+      this.lastEventId = event.eventId();
+      this.lastOccurredAt = event.occurredAt();
+      this.count = 1;
+    }
+
+    private Window add(ProductLogEvent event) {
+      lastEventId = event.eventId();
+      lastOccurredAt = event.occurredAt();
+      count++;
+      return this;
+    }
+
+    private Window followedBy(Window later) {
+      lastEventId = later.lastEventId;
+      lastOccurredAt = later.lastOccurredAt;
+      count += later.count;
+      return this;
+    }
+
+    private ProductLogSummaryEvent toSummary(Key key) {
+      return new ProductLogSummaryEvent(
+          UUID.randomUUID(),
+          key.productId(),
+          key.actionType(),
+          count,
+          firstEventId,
+          lastEventId,
+          firstOccurredAt,
+          lastOccurredAt);
+    }
+  }
+
+  private final ProductOutboxWriter outboxWriter;
+  private final boolean enabled;
+  private final Set<String> actionTypes;
+  private final Map<Key, Window> windows = new ConcurrentHashMap<>();
+  private final Counter coalesced;
+  private final Counter summaries;
+
+  @Value("${messaging.exchange.log:tickatch.log}")
+  private String logExchange;
+
+  public ProductLogEventCoalescer(
+      ProductOutboxWriter outboxWriter,
+      MeterRegistry meterRegistry,
+      @Value("${messaging.log.coalesce.enabled:false}") boolean enabled,
+      @Value(
+              "${messaging.log.coalesce.action-types:SEATS_DECREASED,SEATS_INCREASED,"
+                  + "SEAT_GRADE_DECREASED,SEAT_GRADE_INCREASED,"
+                  + "RESERVATION_COUNT_INCREASED,RESERVATION_COUNT_DECREASED}")
+          String[] actionTypes) {
+    this.outboxWriter = outboxWriter;
+    this.enabled = enabled;
+    this.actionTypes = Set.of(actionTypes);
+    this.coalesced =
+        Counter.builder("messaging.log.events").tag("result", "coalesced").register(meterRegistry);
+    this.summaries = Counter.builder("messaging.log.summaries").register(meterRegistry);
+  }
+
+  /**
+   * 합칠 대상이면 현재 구간에 더한다.
+   *
+   * @param event 로그 이벤트
+   * @return 구간에 더했으면 true, 개별로 발행해야 하면 false
+   */
+  public boolean offer(ProductLogEvent event) {
+    if (!enabled || event.productId() == null || !actionTypes.contains(event.actionType())) {
+      return false;
+    }
+    windows.compute(
+        new Key(event.productId(), event.actionType()),
+        (key, window) -> window == null ? new Window(event) : window.add(event));
+    coalesced.increment();
+    return true;
+  }
+
+  /** 모은 구간을 요약 이벤트로 바꿔 아웃박스에 적재한다. */
+  @Scheduled(fixedDelayString = "${messaging.log.coalesce.window-ms:5000}")
+  public void flush() {
+    for (Key key : List.copyOf(windows.keySet())) {
+      Window window = windows.remove(key);
+      if (window == null) {
+        continue;
+      }
+      try {
+        outboxWriter.appendIndependently(
+            key.productId(),
+            logExchange,
+            RabbitMQConfig.ROUTING_KEY_PRODUCT_LOG_SUMMARY,
+            window.toSummary(key));
+        summaries.increment();
+      } catch (RuntimeException e) {
+        log.warn(
+            "상품 로그 요약 적재 실패. productId: {}, actionType: {}, count: {}, error: {}",
+            key.productId(),
+            key.actionType(),
+            window.count,
+            e.getMessage());
+        windows.merge(key, window, (later, earlier) -> earlier.followedBy(later));
+      }
+    }
+  }
+
+  /** 종료 전에 남은 구간을 적재한다. */
+  @PreDestroy
+  public void stop() {
+    flush();
+  }
+}
@@ -0,0 +1,319 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.publisher;
+
+import com.tickatch.product_service.global.concurrent.BoundedRingBuffer;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import com.tickatch.product_service.product.infrastructure.messaging.config.RabbitMQConfig;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
+import com.tickatch.product_service.product.infrastructure.messaging.spool.ProductEventSpool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 로그 이벤트 비동기 발행기.
+ *
+ * <p>요청 스레드는 로그 이벤트를 고정 크기 {@link BoundedRingBuffer}에 넣기만 하고 바로 돌아간다. 전용 발행 스레드가 버퍼를 최대 {@code
+ * messaging.log.buffer.batch-size}개씩 꺼내 하나의 채널로 연달아 보내고, 브로커 확인(publisher confirm)은 기다리지 않고 비동기로
+ * 받는다. 확인받지 못한(nack, {@code messaging.log.confirm-timeout-ms} 초과, 전송 실패) 이벤트는 로컬 {@link
+ * ProductEventSpool}에 적재하여 브로커가 복구되면 적재 순서대로 다시 발행한다. 스풀에 쓸 수 없으면 아웃박스에 적재한다.
+ *
+ * <p>버퍼가 가득 찼을 때의 처리는 {@code messaging.log.buffer.overflow-policy}로 정한다.
+ *
+ * <ul>
+ *   <li>DROP: 버리고 카운터만 올린다.
+ *   <li>BLOCK: 최대 {@code messaging.log.buffer.block-timeout-ms}만큼 자리가 나기를 기다리고, 그래도 없으면 버린다.
+ *   <li>SPILL: 스풀에 적재한다. 버퍼보다 느리지만 잃지 않는다.
+ * </ul>
+ *
+ * <p>종료 시 버퍼에 남은 이벤트를 모두 발행한 뒤 스레드를 멈춘다. 버퍼 깊이는 {@code messaging.log.buffer.depth} 게이지, 적재부터 브로커
+ * 확인까지의 시간은 {@code messaging.log.publish.latency} 타이머, 처리 결과는 {@code messaging.log.events} 카운터의
+ * {@code result} 태그(published/dropped/spilled/failed)로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see RabbitProductLogPublisher
+ */
+@Slf4j
+@Component
+public class ProductLogEventDispatcher {
+
+  /** 버퍼가 비었을 때 발행 스레드가 쉬는 최대 시간. 새 이벤트가 들어오면 바로 깨운다. */
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /** 버퍼가 가득 찼을 때의 처리 방식 */
+  public enum OverflowPolicy {
+    DROP,
+    BLOCK,
+    SPILL
+  }
+
+  /** 버퍼에 넣은 이벤트와 넣은 시각(나노초) */
+  private record Pending(ProductLogEvent event, long enqueuedAt) {}
+
+  private final RabbitTemplate rabbitTemplate;
+  private final ProductEventSpool spool;
+  private final ProductOutboxWriter outboxWriter;
+  private final BoundedRingBuffer<Pending> buffer;
+  private final List<Pending> batch;
+  private final Queue<ProductLogEvent> unconfirmed = new ConcurrentLinkedQueue<>();
+  private final int batchSize;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutNanos;
+  private final long confirmTimeoutMillis;
+  private final boolean confirmsEnabled;
+  private final Timer publishLatency;
+  private final Counter published;
+  private final Counter dropped;
+  private final Counter spilled;
+  private final Counter failed;
+
+  @Value("${messaging.exchange.log:tickatch.log}")
+  private String logExchange;
+
+  private volatile boolean running;
+  private volatile boolean idle;
+  private Thread publisher;
+
+  public ProductLogEventDispatcher(
+      RabbitTemplate rabbitTemplate,
+      ProductEventSpool spool,
+      ProductOutboxWriter outboxWriter,
+      MeterRegistry meterRegistry,
+      @Value("${messaging.log.buffer.capacity:8192}") int capacity,
+      @Value("${messaging.log.buffer.batch-size:256}") int batchSize,
+      @Value("${messaging.log.buffer.overflow-policy:SPILL}") OverflowPolicy overflowPolicy,
+      @Value("${messaging.log.buffer.block-timeout-ms:50}") long blockTimeoutMillis,
+      @Value("${messaging.log.confirm-timeout-ms:5000}") long confirmTimeoutMillis) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.spool = spool;
+    this.outboxWriter = outboxWriter;
+    this.buffer = new BoundedRingBuffer<>(capacity);
+    this.batch = new ArrayList<>(batchSize);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+    this.confirmTimeoutMillis = confirmTimeoutMillis;
+    ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+    this.confirmsEnabled = connectionFactory != null && connectionFactory.isPublisherConfirms();
+
+    Gauge.builder("messaging.log.buffer.depth", buffer, BoundedRingBuffer::size)
+        .register(meterRegistry);
+    this.publishLatency = Timer.builder("messaging.log.publish.latency").register(meterRegistry);
+    this.published = events(meterRegistry, "published");
+    this.dropped = events(meterRegistry, "dropped");
+    this.spilled = events(meterRegistry, "spilled");
+    this.failed = events(meterRegistry, "failed");
+  }
+
+  /** 발행 스레드를 시작한다. */
+  @PostConstruct
+  public void start() {
+    running = true;
+    publisher = Thread.ofPlatform().name("product-log-publisher").daemon().start(this::run);
+  }
+
+  /** 버퍼에 남은 이벤트를 발행한 뒤 발행 스레드를 멈춘다. */
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (publisher == null) {
+      return;
+    }
+    LockSupport.unpark(publisher);
+    try {
+      publisher.join(confirmTimeoutMillis + 1000);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (publisher.isAlive()) {
+      log.warn("상품 로그 발행 스레드가 종료되지 않았습니다. 남은 이벤트: {}", buffer.size());
+    }
+    spillUnconfirmed();
+  }
+
+  /**
+   * 로그 이벤트를 버퍼에 넣는다. 가득 차면 설정된 방식으로 처리한다.
+   *
+   * @param event 로그 이벤트
+   */
+  public void dispatch(ProductLogEvent event) {
+    Pending pending = new Pending(event, System.nanoTime());
+    if (buffer.offer(pending)) {
+      wakeUp();
+      return;
+    }
+    switch (overflowPolicy) {
+      case DROP -> drop(event);
+      case BLOCK -> block(pending);
+      case SPILL -> spill(event);
+    }
+  }
+
+  /**
+   * 버퍼에서 한 묶음을 꺼내 발행하고, 확인받지 못한 이벤트를 스풀에 적재한다. 발행 스레드에서만 호출한다.
+   *
+   * @return 꺼낸 이벤트 수
+   */
+  int drainOnce() {
+    int drained = buffer.drainTo(batch, batchSize);
+    try {
+      if (drained > 0) {
+        publish(batch);
+      }
+    } finally {
+      batch.clear();
+    }
+    spillUnconfirmed();
+    return drained;
+  }
+
+  private void run() {
+    while (running || !buffer.isEmpty()) {
+      try {
+        if (drainOnce() > 0) {
+          continue;
+        }
+      } catch (RuntimeException e) {
+        log.error("상품 로그 이벤트 발행 스레드 오류. error: {}", e.getMessage(), e);
+      }
+      idle = true;
+      if (running && buffer.isEmpty()) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+      idle = false;
+    }
+  }
+
+  private void wakeUp() {
+    if (idle) {
+      LockSupport.unpark(publisher);
+    }
+  }
+
+  private void publish(List<Pending> events) {
+    Integer sent = 0;
+    try {
+      sent =
+          rabbitTemplate.invoke(
+              operations -> {
+                int count = 0;
+                for (Pending pending : events) {
+                  CorrelationData correlation =
+                      new CorrelationData(pending.event().eventId().toString());
+                  try {
+                    operations.convertAndSend(
+                        logExchange,
+                        RabbitMQConfig.ROUTING_KEY_PRODUCT_LOG,
+                        pending.event(),
+                        correlation);
+                  } catch (AmqpException e) {
+                    log.warn("상품 로그 이벤트 전송 실패. error: {}", e.getMessage());
+                    break;
+                  }
+                  track(pending, correlation);
+                  count++;
+                }
+                return count;
+              });
+    } catch (AmqpException e) {
+      log.warn("상품 로그 이벤트 채널 획득 실패. events: {}, error: {}", events.size(), e.getMessage());
+    }
+    for (Pending pending : events.subList(sent == null ? 0 : sent, events.size())) {
+      failed.increment();
+      unconfirmed.add(pending.event());
+    }
+  }
+
+  /** 브로커 확인을 비동기로 받는다. 확인 콜백은 AMQP 스레드에서 실행되므로 실패한 이벤트는 발행 스레드가 적재하도록 넘긴다. */
+  private void track(Pending pending, CorrelationData correlation) {
+    if (!confirmsEnabled) {
+      confirmed(pending);
+      return;
+    }
+    correlation
+        .getFuture()
+        .orTimeout(confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (confirm, error) -> {
+              if (error == null && confirm.isAck()) {
+                confirmed(pending);
+                return;
+              }
+              failed.increment();
+              unconfirmed.add(pending.event());
+              wakeUp();
+            });
+  }
+
+  private void spillUnconfirmed() {
+    ProductLogEvent event;
+    while ((event = unconfirmed.poll()) != null) {
+      spill(event);
+    }
+  }
+
+  private void confirmed(Pending pending) {
+    published.increment();
+    publishLatency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+  }
+
+  private void block(Pending pending) {
+    long deadline = System.nanoTime() + blockTimeoutNanos;
+    while (System.nanoTime() < deadline) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+      if (buffer.offer(pending)) {
+        wakeUp();
+        return;
+      }
+    }
+    drop(pending.event());
+  }
+
+  private void drop(ProductLogEvent event) {
+    dropped.increment();
+    log.debug("상품 로그 버퍼가 가득 차 이벤트를 버립니다. eventId: {}", event.eventId());
+  }
+
+  /** 로컬 스풀에 적재한다. 스풀에 쓸 수 없으면(디스크 부족 등) 아웃박스에 적재한다. */
+  private void spill(ProductLogEvent event) {
+    try {
+      spool.append(logExchange, RabbitMQConfig.ROUTING_KEY_PRODUCT_LOG, event);
+      spilled.increment();
+      return;
+    } catch (RuntimeException e) {
+      log.warn("상품 로그 이벤트 스풀 적재 실패. eventId: {}, error: {}", event.eventId(), e.getMessage());
+    }
+    try {
+      outboxWriter.appendIndependently(
+          event.productId(), logExchange, RabbitMQConfig.ROUTING_KEY_PRODUCT_LOG, event);
+      spilled.increment();
+    } catch (RuntimeException e) {
+      dropped.increment();
+      log.error(
+          "상품 로그 이벤트 아웃박스 적재 실패. eventId: {}, productId: {}, error: {}",
+          event.eventId(),
+          event.productId(),
+          e.getMessage());
+    }
+  }
+
+  private static Counter events(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("messaging.log.events").tag("result", result).register(meterRegistry);
+  }
+}
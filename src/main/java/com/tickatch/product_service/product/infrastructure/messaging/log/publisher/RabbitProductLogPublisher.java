@@ -6,9 +6,9 @@ import com.tickatch.product_service.product.application.messaging.event.ProductL
 import com.tickatch.product_service.product.infrastructure.messaging.config.RabbitMQConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * RabbitMQ 기반 상품 로그 이벤트 발행자.
@@ -16,6 +16,10 @@ import org.springframework.stereotype.Component;
  * <p>상품 도메인에서 발생하는 주요 액션에 대한 로그 이벤트를 RabbitMQ를 통해 로그 서비스로 발행한다. 로그 발행 실패 시에도 비즈니스 로직에 영향을 주지 않도록
  * 예외를 던지지 않고 에러 로그로 기록한다.
  *
+ * <p>이벤트는 {@link ProductLogEventDispatcher}의 버퍼에 넘기기만 하므로 요청 스레드가 브로커를 기다리지 않는다. 성공 로그는 상품 변경이 커밋된
+ * 뒤에 넘겨 롤백된 변경의 로그는 발행되지 않고, 실패 로그는 트랜잭션 결과와 관계없이 바로 넘긴다. 좌석, 예매 수 변경처럼 자주 발생하는 로그는 {@link
+ * ProductLogEventCoalescer}가 켜져 있으면 개별로 넘기지 않고 구간별 요약으로 합친다.
+ *
  * <p>메시징 설정:
  *
  * <ul>
@@ -29,8 +33,8 @@ import org.springframework.stereotype.Component;
  * <pre>{@code
  * ProductCommandService
  *     -> ProductLogEventPublisher.publishCreated()
- *     -> RabbitProductLogPublisher.publish()
- *     -> RabbitTemplate.convertAndSend()
+ *     -> RabbitProductLogPublisher.publish() (커밋 후)
+ *     -> ProductLogEventDispatcher (링 버퍼, 전용 스레드에서 묶음 발행)
  *     -> RabbitMQ Exchange (tickatch.log)
  *     -> Queue (tickatch.product.log.queue)
  *     -> ProductLogConsumer (log-service)
@@ -41,16 +45,16 @@ import org.springframework.stereotype.Component;
  * @see ProductLogEventPublisher
  * @see ProductLogEvent
  * @see RabbitMQConfig
+ * @see ProductLogEventDispatcher
+ * @see ProductLogEventCoalescer
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RabbitProductLogPublisher implements ProductLogEventPublisher {
 
-  private final RabbitTemplate rabbitTemplate;
-
-  @Value("${messaging.exchange.log:tickatch.log}")
-  private String logExchange;
+  private final ProductLogEventDispatcher dispatcher;
+  private final ProductLogEventCoalescer coalescer;
 
   // ========================================
   // 기본 발행 메서드
@@ -59,12 +63,41 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   /**
    * {@inheritDoc}
    *
-   * <p>RabbitMQ를 통해 로그 Exchange로 이벤트를 발행한다. 발행 실패 시 예외를 던지지 않고 에러 로그로 기록하여 비즈니스 로직에 영향을 주지 않는다.
+   * <p>진행 중인 트랜잭션이 있으면 커밋된 뒤에 발행 버퍼로 넘기고, 롤백되면 버린다. 실패 시 예외를 던지지 않고 에러 로그로 기록하여 비즈니스 로직에 영향을 주지
+   * 않는다.
    */
   @Override
   public void publish(ProductLogEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      dispatch(event);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            dispatch(event);
+          }
+        });
+  }
+
+  /**
+   * 실패 로그 이벤트를 트랜잭션 결과와 관계없이 바로 발행 버퍼로 넘긴다.
+   *
+   * <p>실패 로그는 호출한 트랜잭션이 롤백되기 직전에 발행되므로, 커밋을 기다리면 발행되지 않는다.
+   *
+   * @param event 실패 로그 이벤트
+   */
+  private void publishIndependently(ProductLogEvent event) {
+    dispatch(event);
+  }
+
+  private void dispatch(ProductLogEvent event) {
     try {
-      rabbitTemplate.convertAndSend(logExchange, RabbitMQConfig.ROUTING_KEY_PRODUCT_LOG, event);
+      if (coalescer.offer(event)) {
+        return;
+      }
+      dispatcher.dispatch(event);
       log.debug(
           "상품 로그 이벤트 발행 완료. eventId: {}, productId: {}, actionType: {}, actorType: {}",
           event.eventId(),
@@ -98,7 +131,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishCreateFailed() {
     ProductLogEvent event = ProductLogEvent.create(null, ProductActionType.CREATE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 생성 실패 로그 발행.");
   }
 
@@ -114,7 +147,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishUpdateFailed(Long productId) {
     ProductLogEvent event = ProductLogEvent.create(productId, ProductActionType.UPDATE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 수정 실패 로그 발행. productId: {}", productId);
   }
 
@@ -136,7 +169,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishSubmitForApprovalFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.create(productId, ProductActionType.SUBMIT_FOR_APPROVAL_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("심사 요청 실패 로그 발행. productId: {}", productId);
   }
 
@@ -152,7 +185,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishApproveFailed(Long productId) {
     ProductLogEvent event = ProductLogEvent.create(productId, ProductActionType.APPROVE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 승인 실패 로그 발행. productId: {}", productId);
   }
 
@@ -168,7 +201,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishRejectFailed(Long productId) {
     ProductLogEvent event = ProductLogEvent.create(productId, ProductActionType.REJECT_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 반려 실패 로그 발행. productId: {}", productId);
   }
 
@@ -184,7 +217,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishResubmitFailed(Long productId) {
     ProductLogEvent event = ProductLogEvent.create(productId, ProductActionType.RESUBMIT_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 재제출 실패 로그 발행. productId: {}", productId);
   }
 
@@ -210,7 +243,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishScheduleFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.SCHEDULE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("판매 예정 상태 변경 실패 로그 발행. productId: {}", productId);
   }
 
@@ -232,7 +265,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishSaleStartFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.SALE_START_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("판매 시작 실패 로그 발행. productId: {}", productId);
   }
 
@@ -254,7 +287,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishSaleCloseFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.SALE_CLOSE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("판매 종료 실패 로그 발행. productId: {}", productId);
   }
 
@@ -276,7 +309,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishCompleteFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.COMPLETE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 완료 실패 로그 발행. productId: {}", productId);
   }
 
@@ -296,7 +329,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   @Override
   public void publishCancelFailed(Long productId) {
     ProductLogEvent event = ProductLogEvent.create(productId, ProductActionType.CANCEL_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("상품 취소 실패 로그 발행. productId: {}", productId);
   }
 
@@ -353,7 +386,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishSeatOperationFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.SEAT_OPERATION_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("좌석 작업 실패 로그 발행. productId: {}", productId);
   }
 
@@ -379,7 +412,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
   public void publishViewCountSyncFailed(Long productId) {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(productId, ProductActionType.VIEW_COUNT_SYNC_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("조회수 동기화 실패 로그 발행. productId: {}", productId);
   }
 
@@ -415,7 +448,7 @@ public class RabbitProductLogPublisher implements ProductLogEventPublisher {
     ProductLogEvent event =
         ProductLogEvent.createSystemEvent(
             productId, ProductActionType.RESERVATION_COUNT_CHANGE_FAILED);
-    publish(event);
+    publishIndependently(event);
     log.warn("예매 수 변경 실패 로그 발행. productId: {}", productId);
   }
 }
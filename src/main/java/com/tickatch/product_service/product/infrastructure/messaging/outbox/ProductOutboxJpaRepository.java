@@ -0,0 +1,87 @@
+package com.tickatch.product_service.product.infrastructure.messaging.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 상품 아웃박스 JPA 리포지토리.
+ *
+ * <p>릴레이는 발행할 메시지를 {@code FOR UPDATE SKIP LOCKED}(잠금 대기 시간 -2)로 잠가 가져오므로, 다른 릴레이가 처리 중인 행은 건너뛴다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductOutboxRelay
+ */
+public interface ProductOutboxJpaRepository extends JpaRepository<ProductOutboxMessage, Long> {
+
+  /**
+   * 격리되지 않은 발행할 메시지를 적재 순서대로 잠가 조회한다.
+   *
+   * @param pageable 최대 건수
+   * @return 메시지 목록
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+  @Query("select m from ProductOutboxMessage m where m.deadLetteredAt is null order by m.id")
+  List<ProductOutboxMessage> findPendingForUpdate(Pageable pageable);
+
+  /**
+   * 맡은 파티션에 속한 격리되지 않은 발행할 메시지를 적재 순서대로 잠가 조회한다.
+   *
+   * <p>파티션은 애그리거트 ID를 파티션 수로 나눈 나머지이며, 애그리거트가 없는 메시지는 0번 파티션이다.
+   *
+   * @param partitionCount 전체 파티션 수
+   * @param partitions 맡은 파티션 번호
+   * @param pageable 최대 건수
+   * @return 메시지 목록
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+  @Query(
+      "select m from ProductOutboxMessage m"
+          + " where m.deadLetteredAt is null"
+          + " and mod(coalesce(m.aggregateId, 0), :partitionCount) in :partitions"
+          + " order by m.id")
+  List<ProductOutboxMessage> findPendingForUpdate(
+      @Param("partitionCount") long partitionCount,
+      @Param("partitions") Collection<Long> partitions,
+      Pageable pageable);
+
+  /**
+   * 발행에 실패한 메시지의 시도 횟수를 늘린다.
+   *
+   * @param ids 메시지 ID 목록
+   * @return 변경된 행 수
+   */
+  @Modifying
+  @Query("update ProductOutboxMessage m set m.attempts = m.attempts + 1 where m.id in :ids")
+  int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+  /**
+   * 시도 횟수가 최대 횟수에 이른 메시지를 격리한다. 격리된 메시지는 더 발행하지 않는다.
+   *
+   * @param ids 메시지 ID 목록
+   * @param maxAttempts 최대 시도 횟수
+   * @param now 격리 일시
+   * @return 격리된 행 수
+   */
+  @Modifying
+  @Query(
+      "update ProductOutboxMessage m set m.deadLetteredAt = :now"
+          + " where m.id in :ids and m.attempts >= :maxAttempts and m.deadLetteredAt is null")
+  int deadLetterExhausted(
+      @Param("ids") Collection<Long> ids,
+      @Param("maxAttempts") int maxAttempts,
+      @Param("now") LocalDateTime now);
+}
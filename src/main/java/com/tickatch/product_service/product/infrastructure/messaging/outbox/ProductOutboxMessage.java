@@ -0,0 +1,101 @@
+package com.tickatch.product_service.product.infrastructure.messaging.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 아웃박스 메시지.
+ *
+ * <p>RabbitMQ로 보낼 메시지를 상품 변경과 같은 트랜잭션에서 저장한다. 페이로드는 메시지 변환기와 같은 ObjectMapper로 직렬화한 JSON이며, {@link
+ * ProductOutboxRelay}가 브로커 확인(confirm)을 받은 뒤 행을 삭제한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductOutboxWriter
+ * @see ProductOutboxRelay
+ */
+@Entity
+@Table(name = "p_product_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductOutboxMessage {
+
+  /** 메시지 ID (적재 순서) */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  /** 애그리거트 ID (상품 ID, 없으면 null). 같은 애그리거트의 메시지는 적재 순서대로 발행한다. */
+  @Column(name = "aggregate_id")
+  private Long aggregateId;
+
+  /** 발행할 Exchange */
+  @Column(name = "exchange", nullable = false, length = 100)
+  private String exchange;
+
+  /** 라우팅 키 */
+  @Column(name = "routing_key", nullable = false, length = 100)
+  private String routingKey;
+
+  /** 페이로드 타입 (메시지 변환기의 타입 헤더 값) */
+  @Column(name = "payload_type", nullable = false, length = 200)
+  private String payloadType;
+
+  /** JSON 페이로드 */
+  @Column(name = "payload", nullable = false, length = 8000)
+  private String payload;
+
+  /** 발행 시도 횟수 */
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  /** 적재 일시 */
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  /** 격리 일시. 최대 시도 횟수 안에 발행하지 못하면 기록하며, 격리된 메시지는 더 발행하지 않는다. */
+  @Column(name = "dead_lettered_at")
+  private LocalDateTime deadLetteredAt;
+
+  private ProductOutboxMessage(
+      Long aggregateId, String exchange, String routingKey, String payloadType, String payload) {
+    this.aggregateId = aggregateId;
+    this.exchange = exchange;
+    this.routingKey = routingKey;
+    this.payloadType = payloadType;
+    this.payload = payload;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  /**
+   * 아웃박스 메시지를 생성한다.
+   *
+   * @param aggregateId 애그리거트 ID (없으면 null)
+   * @param exchange 발행할 Exchange
+   * @param routingKey 라우팅 키
+   * @param payloadType 페이로드 타입
+   * @param payload JSON 페이로드
+   * @return 아웃박스 메시지
+   */
+  public static ProductOutboxMessage of(
+      Long aggregateId, String exchange, String routingKey, String payloadType, String payload) {
+    return new ProductOutboxMessage(aggregateId, exchange, routingKey, payloadType, payload);
+  }
+
+  /**
+   * 순서 보장 단위 키를 반환한다. 애그리거트가 없는 메시지는 0으로 묶는다.
+   *
+   * @return 순서 키
+   */
+  public long orderingKey() {
+    return aggregateId == null ? 0L : aggregateId;
+  }
+}
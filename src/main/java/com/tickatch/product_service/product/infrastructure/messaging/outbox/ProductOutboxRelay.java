@@ -0,0 +1,297 @@
+package com.tickatch.product_service.product.infrastructure.messaging.outbox;
+
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.global.lease.PartitionLeaseManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 아웃박스 릴레이.
+ *
+ * <p>주기({@code messaging.outbox.relay-interval-ms})마다 커밋된 {@link ProductOutboxMessage}를 최대 {@code
+ * messaging.outbox.batch-size}개씩 적재 순서대로 잠가 가져와 RabbitMQ로 발행하고, 브로커가 확인(ack)한 행을 같은 트랜잭션에서 삭제한다.
+ * 묶음이 가득 차면 남은 행이 없을 때까지 이어서 처리한다.
+ *
+ * <p>묶음은 애그리거트 ID 기준으로 {@code messaging.outbox.parallelism}개의 레인으로 나눠 병렬로 발행한다. 같은 애그리거트의 메시지는 항상
+ * 같은 레인에서 하나의 채널로 순서대로 보내고, 레인의 메시지를 모두 보낸 뒤 확인을 한 번에 기다린다. 애그리거트마다 앞에서부터 연속으로 확인받은 메시지만 발행된 것으로 보고
+ * 삭제한다. 확인받지 못한(nack, 시간 초과) 행은 시도 횟수만 늘리고, 같은 애그리거트의 뒤 메시지와 함께 다음 주기에 다시 발행하므로 소비자는 이벤트 ID로 중복을
+ * 걸러야 한다.
+ *
+ * <p>브로커가 확인하지 않은(nack, 시간 초과) 횟수가 {@code messaging.outbox.max-attempts}에 이른 행은 더 발행하지 않고 격리({@code
+ * dead_lettered_at})하여, 발행할 수 없는 메시지 하나가 같은 애그리거트의 메시지를 계속 막지 않도록 한다. 격리된 행은 운영자가 확인한 뒤 처리한다.
+ *
+ * <p>여러 인스턴스가 실행 중이면 {@link PartitionLeaseManager}가 맡긴 파티션(애그리거트 ID 기준)의 행만 발행하므로, 한 애그리거트의 메시지는 한
+ * 인스턴스에서만 발행된다. 발행 결과는 {@code messaging.outbox.relayed} 카운터의 {@code result}
+ * 태그(delivered/failed/dead_lettered)로 노출한다.
+ *
+ * <p>브로커 확인을 쓰려면 {@code spring.rabbitmq.publisher-confirm-type=correlated}여야 한다. 확인이 꺼져 있으면 전송에 성공한
+ * 메시지를 발행된 것으로 본다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductOutboxWriter
+ */
+@Slf4j
+@Component
+public class ProductOutboxRelay {
+
+  private final ProductOutboxJpaRepository outboxRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final PartitionLeaseManager partitionLeaseManager;
+  private final Executor relayExecutor;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean confirmsEnabled;
+  private final Counter delivered;
+  private final Counter failed;
+  private final Counter deadLettered;
+
+  /** 한 번에 가져와 발행하는 최대 메시지 수 */
+  @Value("${messaging.outbox.batch-size:500}")
+  private int batchSize;
+
+  /** 동시에 발행하는 레인 수 */
+  @Value("${messaging.outbox.parallelism:4}")
+  private int parallelism;
+
+  /** 레인별 브로커 확인 대기 시간 (밀리초) */
+  @Value("${messaging.outbox.confirm-timeout-ms:5000}")
+  private long confirmTimeoutMillis;
+
+  /** 격리하기 전까지의 최대 발행 시도 횟수 */
+  @Value("${messaging.outbox.max-attempts:20}")
+  private int maxAttempts;
+
+  /**
+   * 레인의 발행 결과.
+   *
+   * @param delivered 발행된 메시지 ID
+   * @param failed 확인받지 못한 메시지 ID
+   */
+  private record LaneResult(List<Long> delivered, List<Long> failed) {}
+
+  public ProductOutboxRelay(
+      ProductOutboxJpaRepository outboxRepository,
+      RabbitTemplate rabbitTemplate,
+      PartitionLeaseManager partitionLeaseManager,
+      @Qualifier("eventExecutor") Executor relayExecutor,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.outboxRepository = outboxRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.partitionLeaseManager = partitionLeaseManager;
+    this.relayExecutor = relayExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+    this.confirmsEnabled = connectionFactory != null && connectionFactory.isPublisherConfirms();
+    if (!confirmsEnabled) {
+      log.warn("RabbitMQ 발행 확인이 꺼져 있어 전송 성공을 발행 완료로 처리합니다.");
+    }
+    this.delivered =
+        Counter.builder("messaging.outbox.relayed")
+            .tag("result", "delivered")
+            .register(meterRegistry);
+    this.failed =
+        Counter.builder("messaging.outbox.relayed").tag("result", "failed").register(meterRegistry);
+    this.deadLettered =
+        Counter.builder("messaging.outbox.relayed")
+            .tag("result", "dead_lettered")
+            .register(meterRegistry);
+  }
+
+  /** 발행할 메시지가 없거나 묶음이 덜 찰 때까지 묶음 단위로 발행한다. */
+  @Scheduled(fixedDelayString = "${messaging.outbox.relay-interval-ms:200}")
+  public void relay() {
+    PartitionAssignment partitions = partitionLeaseManager.current();
+    if (partitions.isEmpty()) {
+      return;
+    }
+    try {
+      Integer relayed;
+      do {
+        relayed = transactionTemplate.execute(status -> relayBatch(partitions));
+      } while (relayed != null && relayed == batchSize);
+    } catch (RuntimeException e) {
+      log.warn("아웃박스 릴레이 실패. error: {}", e.getMessage());
+    }
+  }
+
+  private int relayBatch(PartitionAssignment partitions) {
+    List<ProductOutboxMessage> batch = claim(partitions);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    Map<Integer, List<ProductOutboxMessage>> lanes = new LinkedHashMap<>();
+    for (ProductOutboxMessage message : batch) {
+      lanes
+          .computeIfAbsent(
+              Math.floorMod(message.orderingKey(), parallelism), lane -> new ArrayList<>())
+          .add(message);
+    }
+    List<CompletableFuture<LaneResult>> publishing =
+        lanes.values().stream()
+            .map(lane -> CompletableFuture.supplyAsync(() -> publish(lane), relayExecutor))
+            .toList();
+    List<Long> deliveredIds = new ArrayList<>(batch.size());
+    List<Long> failedIds = new ArrayList<>();
+    for (CompletableFuture<LaneResult> future : publishing) {
+      LaneResult result = future.join();
+      deliveredIds.addAll(result.delivered());
+      failedIds.addAll(result.failed());
+    }
+
+    if (!deliveredIds.isEmpty()) {
+      outboxRepository.deleteAllByIdInBatch(deliveredIds);
+    }
+    if (!failedIds.isEmpty()) {
+      outboxRepository.incrementAttempts(failedIds);
+      failed.increment(failedIds.size());
+      log.warn("아웃박스 메시지 발행 실패. failed: {}, batch: {}", failedIds.size(), batch.size());
+      int exhausted =
+          outboxRepository.deadLetterExhausted(failedIds, maxAttempts, LocalDateTime.now());
+      if (exhausted > 0) {
+        deadLettered.increment(exhausted);
+        log.error("아웃박스 메시지 격리. count: {}, maxAttempts: {}", exhausted, maxAttempts);
+      }
+    }
+    delivered.increment(deliveredIds.size());
+    log.debug("아웃박스 메시지 발행. delivered: {}, batch: {}", deliveredIds.size(), batch.size());
+    return deliveredIds.size();
+  }
+
+  private List<ProductOutboxMessage> claim(PartitionAssignment partitions) {
+    PageRequest limit = PageRequest.ofSize(batchSize);
+    if (partitions.isAll()) {
+      return outboxRepository.findPendingForUpdate(limit);
+    }
+    List<Long> remainders = partitions.partitions().stream().map(Integer::longValue).toList();
+    return outboxRepository.findPendingForUpdate(partitions.partitionCount(), remainders, limit);
+  }
+
+  /**
+   * 레인의 메시지를 하나의 채널로 순서대로 보내고 확인을 기다린다.
+   *
+   * <p>전송에 실패하면 나머지는 보내지 않는다. 전송 실패와 채널 획득 실패는 브로커 연결 문제이므로 시도 횟수에 세지 않는다.
+   *
+   * @return 발행 결과
+   */
+  private LaneResult publish(List<ProductOutboxMessage> lane) {
+    try {
+      return rabbitTemplate.invoke(
+          operations -> {
+            List<CorrelationData> sent = new ArrayList<>(lane.size());
+            for (ProductOutboxMessage message : lane) {
+              CorrelationData correlation = new CorrelationData(String.valueOf(message.getId()));
+              try {
+                operations.send(
+                    message.getExchange(),
+                    message.getRoutingKey(),
+                    toAmqpMessage(message),
+                    correlation);
+              } catch (AmqpException e) {
+                log.warn("아웃박스 메시지 전송 실패. id: {}, error: {}", message.getId(), e.getMessage());
+                break;
+              }
+              sent.add(correlation);
+            }
+            return awaitConfirms(lane, sent);
+          });
+    } catch (AmqpException e) {
+      log.warn("아웃박스 레인 발행 실패. messages: {}, error: {}", lane.size(), e.getMessage());
+      return new LaneResult(List.of(), List.of());
+    }
+  }
+
+  /**
+   * 보낸 메시지의 확인을 기다린다.
+   *
+   * <p>애그리거트마다 처음 확인받지 못한 메시지에서 멈춘다. 그 뒤 같은 애그리거트의 메시지는 확인받았더라도 발행되지 않은 것으로 남겨, 다음 주기에 앞 메시지와 함께 적재
+   * 순서대로 다시 보낸다. 이 메시지들은 실패로 세지 않는다.
+   *
+   * @param messages 보낸 메시지 (보낸 순서)
+   * @param sent 메시지별 확인
+   * @return 발행 결과
+   */
+  private LaneResult awaitConfirms(
+      List<ProductOutboxMessage> messages, List<CorrelationData> sent) {
+    List<Long> acked = new ArrayList<>(sent.size());
+    List<Long> unconfirmed = new ArrayList<>();
+    Set<Long> blocked = new HashSet<>();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+    for (int i = 0; i < sent.size(); i++) {
+      ProductOutboxMessage message = messages.get(i);
+      if (blocked.contains(message.orderingKey())) {
+        continue;
+      }
+      if (confirmed(sent.get(i), deadline)) {
+        acked.add(message.getId());
+      } else {
+        unconfirmed.add(message.getId());
+        blocked.add(message.orderingKey());
+      }
+    }
+    return new LaneResult(acked, unconfirmed);
+  }
+
+  private boolean confirmed(CorrelationData correlation, long deadline) {
+    if (!confirmsEnabled) {
+      return true;
+    }
+    try {
+      Confirm confirm =
+          correlation
+              .getFuture()
+              .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      if (!confirm.isAck()) {
+        log.warn("아웃박스 메시지 nack. id: {}, reason: {}", correlation.getId(), confirm.reason());
+      }
+      return confirm.isAck();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (ExecutionException | TimeoutException e) {
+      log.warn("아웃박스 메시지 확인 대기 실패. id: {}, error: {}", correlation.getId(), e.toString());
+      return false;
+    }
+  }
+
+  private static Message toAmqpMessage(ProductOutboxMessage message) {
+    byte[] body = message.getPayload().getBytes(StandardCharsets.UTF_8);
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    properties.setContentEncoding(StandardCharsets.UTF_8.name());
+    properties.setContentLength(body.length);
+    properties.setHeader(
+        AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, message.getPayloadType());
+    return new Message(body, properties);
+  }
+}
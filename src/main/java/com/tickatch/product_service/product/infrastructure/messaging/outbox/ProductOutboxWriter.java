@@ -0,0 +1,79 @@
+package com.tickatch.product_service.product.infrastructure.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.tickatch.common.util.JsonUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 아웃박스 적재기.
+ *
+ * <p>메시지를 바로 브로커로 보내지 않고 {@link ProductOutboxMessage}로 저장한다. 진행 중인 트랜잭션이 있으면 함께 커밋되거나 롤백되므로, 롤백된
+ * 변경의 메시지는 발행되지 않는다. 실제 발행은 {@link ProductOutboxRelay}가 커밋된 행을 모아 처리한다.
+ *
+ * <p>실패 로그처럼 트랜잭션이 롤백되어도 남겨야 하는 메시지는 {@link #appendIndependently}로 별도 트랜잭션에 저장한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductOutboxRelay
+ */
+@Slf4j
+@Component
+public class ProductOutboxWriter {
+
+  private final ProductOutboxJpaRepository outboxRepository;
+  private final TransactionTemplate independentTransaction;
+
+  public ProductOutboxWriter(
+      ProductOutboxJpaRepository outboxRepository, PlatformTransactionManager transactionManager) {
+    this.outboxRepository = outboxRepository;
+    this.independentTransaction = new TransactionTemplate(transactionManager);
+    this.independentTransaction.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * 메시지를 진행 중인 트랜잭션에 적재한다. 트랜잭션이 없으면 바로 저장한다.
+   *
+   * @param aggregateId 애그리거트 ID (없으면 null)
+   * @param exchange 발행할 Exchange
+   * @param routingKey 라우팅 키
+   * @param payload 페이로드
+   * @throws IllegalArgumentException 페이로드를 직렬화할 수 없는 경우
+   */
+  public void append(Long aggregateId, String exchange, String routingKey, Object payload) {
+    outboxRepository.save(toMessage(aggregateId, exchange, routingKey, payload));
+  }
+
+  /**
+   * 메시지를 진행 중인 트랜잭션과 별도로 적재한다. 호출한 트랜잭션이 롤백되어도 메시지는 남는다.
+   *
+   * @param aggregateId 애그리거트 ID (없으면 null)
+   * @param exchange 발행할 Exchange
+   * @param routingKey 라우팅 키
+   * @param payload 페이로드
+   * @throws IllegalArgumentException 페이로드를 직렬화할 수 없는 경우
+   */
+  public void appendIndependently(
+      Long aggregateId, String exchange, String routingKey, Object payload) {
+    ProductOutboxMessage message = toMessage(aggregateId, exchange, routingKey, payload);
+    independentTransaction.executeWithoutResult(status -> outboxRepository.save(message));
+  }
+
+  private ProductOutboxMessage toMessage(
+      Long aggregateId, String exchange, String routingKey, Object payload) {
+    try {
+      return ProductOutboxMessage.of(
+          aggregateId,
+          exchange,
+          routingKey,
+          payload.getClass().getName(),
+          JsonUtils.getObjectMapper().writeValueAsString(payload));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("아웃박스 페이로드 직렬화 실패: " + payload.getClass(), e);
+    }
+  }
+}
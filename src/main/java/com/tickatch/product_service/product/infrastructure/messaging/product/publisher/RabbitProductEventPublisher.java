@@ -6,10 +6,10 @@ import com.tickatch.product_service.product.application.messaging.event.ProductC
 import com.tickatch.product_service.product.domain.Product;
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
 import io.github.tickatch.common.event.IntegrationEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -24,20 +24,24 @@ import org.springframework.stereotype.Component;
  * <ol>
  *   <li>DomainEvent 생성
  *   <li>IntegrationEvent로 래핑
- *   <li>RabbitTemplate을 통해 발행
+ *   <li>상품 변경과 같은 트랜잭션의 아웃박스에 적재
+ *   <li>커밋 후 {@code ProductOutboxRelay}가 발행
  * </ol>
  *
+ * <p>아웃박스에 적재하므로 취소 트랜잭션이 롤백되면 이벤트도 발행되지 않고, 커밋되면 브로커 장애가 있어도 복구된 뒤 발행된다.
+ *
  * @author Tickatch
  * @since 1.0.0
  * @see ProductEventPublisher
  * @see IntegrationEvent
+ * @see ProductOutboxWriter
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RabbitProductEventPublisher implements ProductEventPublisher {
 
-  private final RabbitTemplate rabbitTemplate;
+  private final ProductOutboxWriter outboxWriter;
 
   @Value("${spring.application.name:product-service}")
   private String serviceName;
@@ -48,7 +52,7 @@ public class RabbitProductEventPublisher implements ProductEventPublisher {
   /**
    * 상품 취소 이벤트를 발행한다.
    *
-   * <p>3개 서비스(ReservationSeat, Reservation, Ticket)로 각각 이벤트를 발행한다. 하나라도 발행에 실패하면 {@link
+   * <p>3개 서비스(ReservationSeat, Reservation, Ticket)로 각각 이벤트를 발행한다. 하나라도 아웃박스 적재에 실패하면 {@link
    * ProductException}을 발생시킨다.
    *
    * @param product 취소된 상품 엔티티
@@ -81,7 +85,7 @@ public class RabbitProductEventPublisher implements ProductEventPublisher {
         new ProductCancelledToReservationSeatEvent(productId);
     IntegrationEvent integrationEvent = IntegrationEvent.from(domainEvent, serviceName);
 
-    rabbitTemplate.convertAndSend(productExchange, domainEvent.getRoutingKey(), integrationEvent);
+    outboxWriter.append(productId, productExchange, domainEvent.getRoutingKey(), integrationEvent);
 
     log.debug(
         "ReservationSeat 취소 이벤트 발행. productId: {}, routingKey: {}",
@@ -99,7 +103,7 @@ public class RabbitProductEventPublisher implements ProductEventPublisher {
         new ProductCancelledToReservationEvent(productId);
     IntegrationEvent integrationEvent = IntegrationEvent.from(domainEvent, serviceName);
 
-    rabbitTemplate.convertAndSend(productExchange, domainEvent.getRoutingKey(), integrationEvent);
+    outboxWriter.append(productId, productExchange, domainEvent.getRoutingKey(), integrationEvent);
 
     log.debug(
         "Reservation 취소 이벤트 발행. productId: {}, routingKey: {}",
@@ -0,0 +1,252 @@
+package com.tickatch.product_service.product.infrastructure.messaging.reservationseat.consumer;
+
+import com.tickatch.product_service.product.infrastructure.messaging.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.DirectMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 이벤트 리스너의 소비자 수와 프리페치를 DB 부하에 맞춰 조절하는 컨트롤러.
+ *
+ * <p>주기({@code messaging.seat.adaptive.interval-ms})마다 커넥션 풀 사용률과 대기 스레드({@code
+ * hikaricp.connections.*} 메트릭), 좌석 이벤트 처리 시간의 p99, 좌석 큐의 대기 메시지 수를 보고 AIMD 방식으로 조절한다.
+ *
+ * <ul>
+ *   <li>사용률이 높거나, 커넥션을 기다리는 스레드가 있거나, p99가 목표를 넘으면 소비자 수와 프리페치를 비율로 줄인다.
+ *   <li>큐에 처리 중인 양보다 많은 메시지가 쌓여 있고 사용률이 낮으면 한 단계씩 늘린다.
+ *   <li>그 밖에는 유지한다.
+ * </ul>
+ *
+ * <p>두 좌석 리스너는 같은 DB를 쓰므로 같은 값으로 맞춘다. 소비자 수는 바로 반영되지만, 프리페치는 컨테이너 설정만 바꾸므로 이미 실행 중인 소비자에는 적용되지 않고
+ * 이후 새로 시작하는 소비자(소비자를 늘리거나 재연결할 때)부터 적용된다. 컨테이너를 재시작하면 받아 둔 메시지가 재전달되므로 프리페치 변경만으로 재시작하지 않는다. 그래서
+ * 프리페치는 실제 적용값이 아닌 목표값으로 노출한다. 소비자 수는 {@code messaging.seat.consumers}, 목표 프리페치는 {@code
+ * messaging.seat.prefetch.target}, 풀 사용률은 {@code messaging.seat.db.utilization} 게이지, 판단 결과는 {@code
+ * messaging.seat.adaptive.decisions} 카운터의 {@code decision} 태그로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see SeatConsumerConcurrencyProperties
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(SeatConsumerConcurrencyProperties.class)
+public class SeatConsumerConcurrencyController {
+
+  /** 조절 대상 리스너 ID와 큐 이름 */
+  private static final Map<String, String> LISTENER_QUEUES =
+      Map.of(
+          SeatEventConsumer.LISTENER_SEAT_RESERVED,
+          RabbitMQConfig.QUEUE_SEAT_RESERVED_PRODUCT,
+          SeatEventConsumer.LISTENER_SEAT_RELEASED,
+          RabbitMQConfig.QUEUE_SEAT_RELEASED_PRODUCT);
+
+  /** 조절 판단 */
+  enum Decision {
+    INCREASE,
+    DECREASE,
+    HOLD
+  }
+
+  /**
+   * 조절 판단에 쓰는 지표.
+   *
+   * @param utilization 커넥션 풀 사용률 (0~1)
+   * @param pendingConnections 커넥션을 기다리는 스레드 수
+   * @param latencyMillis 처리 시간 p99 (ms)
+   * @param queueDepth 좌석 큐의 대기 메시지 수 (큐별 최댓값)
+   */
+  record Signals(
+      double utilization, double pendingConnections, double latencyMillis, long queueDepth) {}
+
+  private final RabbitListenerEndpointRegistry listenerRegistry;
+  private final AmqpAdmin amqpAdmin;
+  private final MeterRegistry meterRegistry;
+  private final SeatConsumerConcurrencyProperties properties;
+  private final Timer handling;
+  private final Map<Decision, Counter> decisions = new EnumMap<>(Decision.class);
+
+  private volatile int consumers;
+
+  /** 목표 프리페치. 실행 중인 소비자에는 적용되지 않는다. */
+  private volatile int prefetch;
+  private volatile double utilization;
+
+  public SeatConsumerConcurrencyController(
+      RabbitListenerEndpointRegistry listenerRegistry,
+      AmqpAdmin amqpAdmin,
+      MeterRegistry meterRegistry,
+      SeatConsumerConcurrencyProperties properties) {
+    this.listenerRegistry = listenerRegistry;
+    this.amqpAdmin = amqpAdmin;
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+    this.consumers = properties.getMinConsumers();
+    this.prefetch = properties.getMaxPrefetch();
+
+    this.handling =
+        Timer.builder("messaging.seat.handle.latency")
+            .publishPercentiles(0.99)
+            .distributionStatisticExpiry(Duration.ofMillis(properties.getIntervalMs() * 2))
+            .distributionStatisticBufferLength(2)
+            .register(meterRegistry);
+    Gauge.builder("messaging.seat.consumers", this, controller -> controller.consumers)
+        .register(meterRegistry);
+    Gauge.builder("messaging.seat.prefetch.target", this, controller -> controller.prefetch)
+        .register(meterRegistry);
+    Gauge.builder("messaging.seat.db.utilization", this, controller -> controller.utilization)
+        .register(meterRegistry);
+    for (Decision decision : Decision.values()) {
+      decisions.put(
+          decision,
+          Counter.builder("messaging.seat.adaptive.decisions")
+              .tag("decision", decision.name().toLowerCase(Locale.ROOT))
+              .register(meterRegistry));
+    }
+  }
+
+  /**
+   * 좌석 이벤트 처리 시간을 기록한다.
+   *
+   * @param handler 이벤트 처리
+   */
+  public void measure(Runnable handler) {
+    handling.record(handler);
+  }
+
+  /** 지표를 모아 소비자 수와 프리페치를 조절한다. */
+  @Scheduled(fixedDelayString = "${messaging.seat.adaptive.interval-ms:5000}")
+  public void adjust() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    Signals signals = collect();
+    Decision decision = decide(signals);
+    decisions.get(decision).increment();
+
+    int nextConsumers = consumers;
+    int nextPrefetch = prefetch;
+    if (decision == Decision.INCREASE) {
+      nextConsumers =
+          Math.min(properties.getMaxConsumers(), consumers + properties.getConsumerStep());
+      nextPrefetch = Math.min(properties.getMaxPrefetch(), prefetch + properties.getPrefetchStep());
+    } else if (decision == Decision.DECREASE) {
+      double factor = properties.getDecreaseFactor();
+      nextConsumers = Math.max(properties.getMinConsumers(), (int) (consumers * factor));
+      nextPrefetch = Math.max(properties.getMinPrefetch(), (int) (prefetch * factor));
+    }
+    if (nextConsumers == consumers && nextPrefetch == prefetch) {
+      return;
+    }
+
+    log.info(
+        "좌석 리스너 동시성 조절. decision: {}, consumers: {} -> {}, prefetch: {} -> {}, signals: {}",
+        decision,
+        consumers,
+        nextConsumers,
+        prefetch,
+        nextPrefetch,
+        signals);
+    for (String listenerId : LISTENER_QUEUES.keySet()) {
+      apply(listenerRegistry.getListenerContainer(listenerId), nextConsumers, nextPrefetch);
+    }
+    consumers = nextConsumers;
+    prefetch = nextPrefetch;
+  }
+
+  Decision decide(Signals signals) {
+    if (signals.utilization() >= properties.getHighUtilization()
+        || signals.pendingConnections() > 0
+        || signals.latencyMillis() > properties.getLatencyTarget().toMillis()) {
+      return Decision.DECREASE;
+    }
+    if (signals.queueDepth() > (long) consumers * prefetch
+        && signals.utilization() < properties.getLowUtilization()) {
+      return Decision.INCREASE;
+    }
+    return Decision.HOLD;
+  }
+
+  int consumers() {
+    return consumers;
+  }
+
+  int prefetch() {
+    return prefetch;
+  }
+
+  private Signals collect() {
+    double busiest = 0;
+    double pending = 0;
+    for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+      String pool = active.getId().getTag("pool");
+      if (!properties.getPoolName().isBlank() && !properties.getPoolName().equals(pool)) {
+        continue;
+      }
+      Gauge max = meterRegistry.find("hikaricp.connections.max").tag("pool", pool).gauge();
+      Gauge waiting = meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge();
+      if (max != null && max.value() > 0) {
+        busiest = Math.max(busiest, active.value() / max.value());
+      }
+      if (waiting != null) {
+        pending = Math.max(pending, waiting.value());
+      }
+    }
+    utilization = busiest;
+
+    double latencyMillis = 0;
+    for (ValueAtPercentile percentile : handling.takeSnapshot().percentileValues()) {
+      latencyMillis = percentile.value(TimeUnit.MILLISECONDS);
+    }
+
+    long depth = 0;
+    for (String queue : LISTENER_QUEUES.values()) {
+      try {
+        QueueInformation information = amqpAdmin.getQueueInfo(queue);
+        if (information != null) {
+          depth = Math.max(depth, information.getMessageCount());
+        }
+      } catch (AmqpException e) {
+        log.debug("좌석 큐 조회 실패. queue: {}, error: {}", queue, e.getMessage());
+      }
+    }
+    return new Signals(busiest, pending, latencyMillis, depth);
+  }
+
+  private void apply(MessageListenerContainer container, int nextConsumers, int nextPrefetch) {
+    if (container instanceof AbstractMessageListenerContainer listenerContainer) {
+      // 새로 시작하는 소비자부터 적용된다. 실행 중인 소비자의 채널 QoS는 바꾸지 않는다.
+      listenerContainer.setPrefetchCount(nextPrefetch);
+    }
+    if (container instanceof SimpleMessageListenerContainer simple) {
+      // 최댓값을 함께 맞춰 컨테이너 자체의 소비자 증감은 끈다. 검증 순서상 늘릴 때는 최댓값을 먼저 바꾼다.
+      if (nextConsumers > consumers) {
+        simple.setMaxConcurrentConsumers(nextConsumers);
+        simple.setConcurrentConsumers(nextConsumers);
+      } else {
+        simple.setConcurrentConsumers(nextConsumers);
+        simple.setMaxConcurrentConsumers(nextConsumers);
+      }
+    } else if (container instanceof DirectMessageListenerContainer direct) {
+      direct.setConsumersPerQueue(nextConsumers);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package com.tickatch.product_service.product.infrastructure.messaging.reservationseat.consumer;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 좌석 이벤트 리스너 동시성 조절 설정.
+ *
+ * <p>소비자 수와 프리페치는 최솟값과 최댓값 사이에서만 움직인다. 시작값은 기존 고정 설정과 같도록 소비자 수는 최솟값, 프리페치는 최댓값이다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see SeatConsumerConcurrencyController
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "messaging.seat.adaptive")
+public class SeatConsumerConcurrencyProperties {
+
+  /** 조절 사용 여부 */
+  private boolean enabled;
+
+  /** 조절 주기 (ms) */
+  private long intervalMs = 5000;
+
+  /** 리스너별 최소 소비자 수 */
+  private int minConsumers = 1;
+
+  /** 리스너별 최대 소비자 수 */
+  private int maxConsumers = 8;
+
+  /** 한 번에 늘리는 소비자 수 */
+  private int consumerStep = 1;
+
+  /** 최소 프리페치 */
+  private int minPrefetch = 10;
+
+  /** 최대 프리페치 */
+  private int maxPrefetch = 250;
+
+  /** 한 번에 늘리는 프리페치 */
+  private int prefetchStep = 25;
+
+  /** 줄일 때 곱하는 비율 */
+  private double decreaseFactor = 0.5;
+
+  /** 이 사용률 이상이면 줄인다 */
+  private double highUtilization = 0.85;
+
+  /** 이 사용률 미만일 때만 늘린다 */
+  private double lowUtilization = 0.6;
+
+  /** 처리 시간 p99가 이 값을 넘으면 줄인다 */
+  private Duration latencyTarget = Duration.ofMillis(200);
+
+  /** 사용률을 볼 커넥션 풀 이름. 비워 두면 가장 바쁜 풀을 본다. */
+  private String poolName = "";
+}
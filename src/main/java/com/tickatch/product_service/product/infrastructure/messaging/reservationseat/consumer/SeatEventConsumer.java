@@ -23,6 +23,8 @@ import org.springframework.stereotype.Component;
  *   <li>SeatReleasedEvent: 좌석 해제 시 잔여 좌석 복구 및 예매 수 감소
  * </ul>
  *
+ * <p>처리 시간은 {@link SeatConsumerConcurrencyController}에 기록되어 리스너 동시성 조절에 쓰인다.
+ *
  * @author Tickatch
  * @since 1.0.0
  */
@@ -31,7 +33,14 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SeatEventConsumer {
 
+  /** 좌석 예약 이벤트 리스너 ID */
+  public static final String LISTENER_SEAT_RESERVED = "seatReservedListener";
+
+  /** 좌석 해제 이벤트 리스너 ID */
+  public static final String LISTENER_SEAT_RELEASED = "seatReleasedListener";
+
   private final ProductCommandService productCommandService;
+  private final SeatConsumerConcurrencyController concurrencyController;
 
   /**
    * 좌석 예약 이벤트를 수신하여 처리한다.
@@ -45,36 +54,14 @@ public class SeatEventConsumer {
    *
    * @param integrationEvent IntegrationEvent
    */
-  @RabbitListener(queues = RabbitMQConfig.QUEUE_SEAT_RESERVED_PRODUCT)
+  @RabbitListener(id = LISTENER_SEAT_RESERVED, queues = RabbitMQConfig.QUEUE_SEAT_RESERVED_PRODUCT)
   public void handleSeatReserved(IntegrationEvent integrationEvent) {
     log.info(
         "좌석 예약 이벤트 수신. eventId: {}, traceId: {}",
         integrationEvent.getEventId(),
         integrationEvent.getTraceId());
 
-    EventContext.run(
-        integrationEvent,
-        event -> {
-          SeatReservedEvent payload = event.getPayloadAs(SeatReservedEvent.class);
-
-          log.info(
-              "좌석 예약 처리 시작. productId: {}, grade: {}, count: {}",
-              payload.getProductId(),
-              payload.getGrade(),
-              payload.getCount());
-
-          // 잔여 좌석 차감
-          productCommandService.decreaseAvailableSeats(payload.getProductId(), payload.getCount());
-
-          // 예매 수 증가
-          productCommandService.incrementReservationCount(payload.getProductId());
-
-          // 등급별 좌석 차감
-          productCommandService.decreaseSeatGradeAvailable(
-              payload.getProductId(), payload.getGrade(), payload.getCount());
-
-          log.info("좌석 예약 처리 완료. productId: {}", payload.getProductId());
-        });
+    concurrencyController.measure(() -> EventContext.run(integrationEvent, this::reserveSeats));
   }
 
   /**
@@ -89,35 +76,57 @@ public class SeatEventConsumer {
    *
    * @param integrationEvent IntegrationEvent
    */
-  @RabbitListener(queues = RabbitMQConfig.QUEUE_SEAT_RELEASED_PRODUCT)
+  @RabbitListener(id = LISTENER_SEAT_RELEASED, queues = RabbitMQConfig.QUEUE_SEAT_RELEASED_PRODUCT)
   public void handleSeatReleased(IntegrationEvent integrationEvent) {
     log.info(
         "좌석 해제 이벤트 수신. eventId: {}, traceId: {}",
         integrationEvent.getEventId(),
         integrationEvent.getTraceId());
 
-    EventContext.run(
-        integrationEvent,
-        event -> {
-          SeatReleasedEvent payload = event.getPayloadAs(SeatReleasedEvent.class);
+    concurrencyController.measure(() -> EventContext.run(integrationEvent, this::releaseSeats));
+  }
+
+  private void reserveSeats(IntegrationEvent event) {
+    SeatReservedEvent payload = event.getPayloadAs(SeatReservedEvent.class);
 
-          log.info(
-              "좌석 해제 처리 시작. productId: {}, grade: {}, count: {}",
-              payload.getProductId(),
-              payload.getGrade(),
-              payload.getCount());
+    log.info(
+        "좌석 예약 처리 시작. productId: {}, grade: {}, count: {}",
+        payload.getProductId(),
+        payload.getGrade(),
+        payload.getCount());
+
+    // 잔여 좌석 차감
+    productCommandService.decreaseAvailableSeats(payload.getProductId(), payload.getCount());
+
+    // 예매 수 증가
+    productCommandService.incrementReservationCount(payload.getProductId());
+
+    // 등급별 좌석 차감
+    productCommandService.decreaseSeatGradeAvailable(
+        payload.getProductId(), payload.getGrade(), payload.getCount());
+
+    log.info("좌석 예약 처리 완료. productId: {}", payload.getProductId());
+  }
+
+  private void releaseSeats(IntegrationEvent event) {
+    SeatReleasedEvent payload = event.getPayloadAs(SeatReleasedEvent.class);
+
+    log.info(
+        "좌석 해제 처리 시작. productId: {}, grade: {}, count: {}",
+        payload.getProductId(),
+        payload.getGrade(),
+        payload.getCount());
 
-          // 잔여 좌석 복구
-          productCommandService.increaseAvailableSeats(payload.getProductId(), payload.getCount());
+    // 잔여 좌석 복구
+    productCommandService.increaseAvailableSeats(payload.getProductId(), payload.getCount());
 
-          // 예매 수 감소
-          productCommandService.decrementReservationCount(payload.getProductId());
+    // 예매 수 감소
+    productCommandService.decrementReservationCount(payload.getProductId());
 
-          // 등급별 좌석 복구
-          productCommandService.increaseSeatGradeAvailable(
-              payload.getProductId(), payload.getGrade(), payload.getCount());
+    // 등급별 좌석 복구
+    productCommandService.increaseSeatGradeAvailable(
+        payload.getProductId(), payload.getGrade(), payload.getCount());
 
-          log.info("좌석 해제 처리 완료. productId: {}", payload.getProductId());
-        });
+    log.info("좌석 해제 처리 완료. productId: {}", payload.getProductId());
   }
 }
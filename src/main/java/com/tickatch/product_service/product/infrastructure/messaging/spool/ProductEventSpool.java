@@ -0,0 +1,419 @@
+package com.tickatch.product_service.product.infrastructure.messaging.spool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.tickatch.common.util.JsonUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 브로커 장애 시 발행하지 못한 메시지를 보관하는 로컬 스풀.
+ *
+ * <p>메시지를 {@code messaging.spool.dir} 아래 고정 크기({@code messaging.spool.segment-bytes}) {@link
+ * SpoolSegment} 파일에 순서대로 덧붙인다. 세그먼트가 차면 다음 번호의 세그먼트를 만든다. 디스크 반영은 쓸 때마다 하지 않고 주기({@code
+ * messaging.spool.sync-interval-ms})마다 모아서 한다.
+ *
+ * <p>디렉터리({@code messaging.spool.dir})는 기본값이 없으며, 재시작 후에도 남는 인스턴스 전용 경로를 지정해야 한다. 임시 디렉터리에 두면 재시작이나
+ * 정리 작업으로 발행하지 못한 메시지를 잃는다. 기동 시 디렉터리의 잠금 파일에 배타 잠금을 걸어 두 프로세스가 같은 스풀을 쓰지 않도록 한다.
+ *
+ * <p>주기({@code messaging.spool.replay-interval-ms})마다 읽기 위치부터 최대 {@code
+ * messaging.spool.replay-batch-size}개를 하나의 채널로 다시 발행하고, 앞에서부터 브로커가 확인한 만큼만 읽기 위치를 옮긴다. 확인받지 못한 메시지가
+ * 있으면 그 뒤는 다음 주기에 다시 보내므로 적재 순서대로 발행된다. 읽기 위치는 체크포인트 파일에 저장하며, 모두 발행한 세그먼트는 삭제한다.
+ *
+ * <p>기동 시 세그먼트를 처음부터 읽어 잘린 레코드를 버리고 체크포인트부터 이어서 발행한다. 체크포인트 저장 전에 종료되면 일부 메시지가 한 번 더 발행될 수 있다. 남은
+ * 세그먼트 수는 {@code messaging.spool.segments} 게이지, 처리 결과는 {@code messaging.spool.records} 카운터의 {@code
+ * result} 태그(spooled/replayed)로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductEventSpool {
+
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".spool";
+  private static final String CHECKPOINT = "checkpoint";
+  private static final String LOCK = "spool.lock";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final Path directory;
+  private final int segmentBytes;
+  private final int replayBatchSize;
+  private final long confirmTimeoutMillis;
+  private final boolean confirmsEnabled;
+  private final Counter spooled;
+  private final Counter replayed;
+
+  private final TreeMap<Long, SpoolSegment> segments = new TreeMap<>();
+  private SpoolSegment active;
+  private Cursor checkpoint = new Cursor(1, 0);
+  private boolean dirty;
+  private FileChannel lockChannel;
+  private FileLock lock;
+
+  /** 세그먼트 번호와 세그먼트 안의 위치 */
+  record Cursor(long sequence, int position) {}
+
+  /** 스풀에서 읽은 레코드와 그 다음 레코드의 위치 */
+  private record Entry(SpoolRecord record, Cursor next) {}
+
+  public ProductEventSpool(
+      RabbitTemplate rabbitTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${messaging.spool.dir}") String directory,
+      @Value("${messaging.spool.segment-bytes:16777216}") int segmentBytes,
+      @Value("${messaging.spool.replay-batch-size:500}") int replayBatchSize,
+      @Value("${messaging.spool.confirm-timeout-ms:5000}") long confirmTimeoutMillis) {
+    if (!StringUtils.hasText(directory)) {
+      throw new IllegalArgumentException("messaging.spool.dir를 지정해야 합니다.");
+    }
+    this.rabbitTemplate = rabbitTemplate;
+    this.directory = Paths.get(directory);
+    this.segmentBytes = segmentBytes;
+    this.replayBatchSize = replayBatchSize;
+    this.confirmTimeoutMillis = confirmTimeoutMillis;
+    ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+    this.confirmsEnabled = connectionFactory != null && connectionFactory.isPublisherConfirms();
+
+    Gauge.builder("messaging.spool.segments", this, ProductEventSpool::segmentCount)
+        .register(meterRegistry);
+    this.spooled =
+        Counter.builder("messaging.spool.records").tag("result", "spooled").register(meterRegistry);
+    this.replayed =
+        Counter.builder("messaging.spool.records")
+            .tag("result", "replayed")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 디렉터리를 잠그고 기존 세그먼트와 체크포인트를 복구한다. 이미 발행한 세그먼트는 삭제한다.
+   *
+   * @throws IOException 디렉터리나 세그먼트를 열 수 없는 경우
+   * @throws IllegalStateException 다른 프로세스가 같은 디렉터리를 사용 중인 경우
+   */
+  @PostConstruct
+  public synchronized void open() throws IOException {
+    Files.createDirectories(directory);
+    lockDirectory();
+    Path checkpointFile = directory.resolve(CHECKPOINT);
+    if (Files.exists(checkpointFile)) {
+      ByteBuffer saved = ByteBuffer.wrap(Files.readAllBytes(checkpointFile));
+      checkpoint = new Cursor(saved.getLong(), saved.getInt());
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.filter(ProductEventSpool::isSegment).toList()) {
+        long sequence = sequenceOf(file);
+        if (sequence < checkpoint.sequence()) {
+          Files.deleteIfExists(file);
+        } else {
+          segments.put(sequence, SpoolSegment.open(file, sequence, segmentBytes));
+        }
+      }
+    }
+    if (segments.isEmpty()) {
+      segments.put(checkpoint.sequence(), openSegment(checkpoint.sequence()));
+    } else if (segments.firstKey() > checkpoint.sequence()) {
+      checkpoint = new Cursor(segments.firstKey(), 0);
+    }
+    active = segments.lastEntry().getValue();
+    log.info(
+        "이벤트 스풀 복구. dir: {}, segments: {}, checkpoint: {}", directory, segments.size(), checkpoint);
+  }
+
+  /** 디스크에 반영하고 세그먼트를 닫는다. */
+  @PreDestroy
+  public synchronized void close() {
+    sync();
+    for (SpoolSegment segment : segments.values()) {
+      try {
+        segment.close();
+      } catch (IOException e) {
+        log.warn("스풀 세그먼트 닫기 실패. sequence: {}, error: {}", segment.sequence(), e.getMessage());
+      }
+    }
+    segments.clear();
+    releaseLock();
+  }
+
+  /**
+   * 메시지를 스풀에 덧붙인다. 디스크 반영은 다음 동기화 주기에 한다.
+   *
+   * @param exchange 발행할 Exchange
+   * @param routingKey 라우팅 키
+   * @param payload 페이로드
+   * @throws IllegalArgumentException 페이로드를 직렬화할 수 없거나 세그먼트보다 큰 경우
+   * @throws UncheckedIOException 새 세그먼트를 만들 수 없는 경우
+   */
+  public void append(String exchange, String routingKey, Object payload) {
+    byte[] record;
+    try {
+      record =
+          new SpoolRecord(
+                  exchange,
+                  routingKey,
+                  payload.getClass().getName(),
+                  JsonUtils.getObjectMapper().writeValueAsBytes(payload))
+              .encode();
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("스풀 페이로드 직렬화 실패: " + payload.getClass(), e);
+    }
+    if (record.length > segmentBytes - SpoolSegment.HEADER_BYTES) {
+      throw new IllegalArgumentException("스풀 레코드가 세그먼트보다 큽니다. bytes: " + record.length);
+    }
+
+    synchronized (this) {
+      if (!active.append(record)) {
+        roll();
+        active.append(record);
+      }
+      dirty = true;
+    }
+    spooled.increment();
+  }
+
+  /** 마지막 동기화 이후 덧붙인 레코드를 디스크에 반영한다. */
+  @Scheduled(fixedDelayString = "${messaging.spool.sync-interval-ms:100}")
+  public synchronized void sync() {
+    if (dirty && active != null) {
+      active.force();
+      dirty = false;
+    }
+  }
+
+  /** 읽기 위치부터 스풀된 메시지를 적재 순서대로 다시 발행한다. */
+  @Scheduled(fixedDelayString = "${messaging.spool.replay-interval-ms:1000}")
+  public void replay() {
+    try {
+      List<Entry> batch;
+      while (!(batch = readBatch()).isEmpty()) {
+        int acked = publish(batch);
+        if (acked > 0) {
+          advance(batch.get(acked - 1).next());
+          replayed.increment(acked);
+        }
+        if (acked < batch.size()) {
+          return;
+        }
+      }
+    } catch (RuntimeException | IOException e) {
+      log.warn("스풀 재발행 실패. error: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 남은 세그먼트 수를 반환한다.
+   *
+   * @return 세그먼트 수
+   */
+  public synchronized int segmentCount() {
+    return segments.size();
+  }
+
+  private synchronized List<Entry> readBatch() {
+    List<Entry> batch = new ArrayList<>();
+    Cursor cursor = checkpoint;
+    while (batch.size() < replayBatchSize) {
+      SpoolSegment segment = segments.get(cursor.sequence());
+      byte[] record = segment == null ? null : segment.read(cursor.position());
+      if (record == null) {
+        Map.Entry<Long, SpoolSegment> next = segments.higherEntry(cursor.sequence());
+        if (next == null) {
+          break;
+        }
+        cursor = new Cursor(next.getKey(), 0);
+        continue;
+      }
+      int end = cursor.position() + SpoolSegment.HEADER_BYTES + record.length;
+      cursor = new Cursor(cursor.sequence(), end);
+      batch.add(new Entry(SpoolRecord.decode(record), cursor));
+    }
+    return batch;
+  }
+
+  /** 읽기 위치를 옮겨 체크포인트에 저장하고, 모두 발행한 세그먼트를 삭제한다. */
+  private synchronized void advance(Cursor next) throws IOException {
+    Path checkpointFile = directory.resolve(CHECKPOINT);
+    Path temporary = directory.resolve(CHECKPOINT + ".tmp");
+    byte[] saved = ByteBuffer.allocate(12).putLong(next.sequence()).putInt(next.position()).array();
+    Files.write(temporary, saved);
+    Files.move(
+        temporary,
+        checkpointFile,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    checkpoint = next;
+
+    while (segments.firstKey() < next.sequence()) {
+      segments.pollFirstEntry().getValue().delete();
+    }
+  }
+
+  /**
+   * 묶음을 하나의 채널로 순서대로 보내고 확인을 기다린다.
+   *
+   * @return 앞에서부터 연속으로 확인받은 메시지 수
+   */
+  private int publish(List<Entry> batch) {
+    try {
+      return rabbitTemplate.invoke(
+          operations -> {
+            List<CorrelationData> sent = new ArrayList<>(batch.size());
+            for (Entry entry : batch) {
+              CorrelationData correlation = new CorrelationData();
+              try {
+                operations.send(
+                    entry.record().exchange(),
+                    entry.record().routingKey(),
+                    toAmqpMessage(entry.record()),
+                    correlation);
+              } catch (AmqpException e) {
+                log.warn("스풀 메시지 전송 실패. error: {}", e.getMessage());
+                break;
+              }
+              sent.add(correlation);
+            }
+            return confirmedPrefix(sent);
+          });
+    } catch (AmqpException e) {
+      log.debug("스풀 재발행 채널 획득 실패. error: {}", e.getMessage());
+      return 0;
+    }
+  }
+
+  private int confirmedPrefix(List<CorrelationData> sent) {
+    if (!confirmsEnabled) {
+      return sent.size();
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+    int acked = 0;
+    for (CorrelationData correlation : sent) {
+      try {
+        Confirm confirm =
+            correlation
+                .getFuture()
+                .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        if (!confirm.isAck()) {
+          break;
+        }
+        acked++;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (ExecutionException | TimeoutException e) {
+        break;
+      }
+    }
+    return acked;
+  }
+
+  /**
+   * 디렉터리의 잠금 파일에 배타 잠금을 건다.
+   *
+   * <p>두 프로세스가 같은 세그먼트에 덧붙이거나 체크포인트를 옮기면 레코드가 덮어써지거나 중복 발행되므로, 잠금을 얻지 못하면 기동을 중단한다. 잠금은 프로세스가 종료되면
+   * 운영체제가 해제한다.
+   */
+  private void lockDirectory() throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    FileLock acquired;
+    try {
+      acquired = channel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      acquired = null;
+    }
+    if (acquired == null) {
+      channel.close();
+      throw new IllegalStateException("다른 프로세스가 스풀 디렉터리를 사용 중입니다. dir: " + directory);
+    }
+    lockChannel = channel;
+    lock = acquired;
+  }
+
+  private void releaseLock() {
+    if (lockChannel == null) {
+      return;
+    }
+    try {
+      lock.release();
+      lockChannel.close();
+    } catch (IOException e) {
+      log.warn("스풀 잠금 해제 실패. dir: {}, error: {}", directory, e.getMessage());
+    }
+    lockChannel = null;
+    lock = null;
+  }
+
+  private void roll() {
+    active.force();
+    long sequence = active.sequence() + 1;
+    try {
+      active = openSegment(sequence);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    segments.put(sequence, active);
+    log.info("스풀 세그먼트 추가. sequence: {}", sequence);
+  }
+
+  private SpoolSegment openSegment(long sequence) throws IOException {
+    Path file = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(sequence) + SEGMENT_SUFFIX);
+    return SpoolSegment.open(file, sequence, segmentBytes);
+  }
+
+  private static boolean isSegment(Path file) {
+    String name = file.getFileName().toString();
+    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+  }
+
+  private static long sequenceOf(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(
+        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private static Message toAmqpMessage(SpoolRecord record) {
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    properties.setContentEncoding(StandardCharsets.UTF_8.name());
+    properties.setContentLength(record.body().length);
+    properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, record.payloadType());
+    return new Message(record.body(), properties);
+  }
+}
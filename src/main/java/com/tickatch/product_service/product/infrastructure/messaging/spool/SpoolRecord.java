@@ -0,0 +1,62 @@
+package com.tickatch.product_service.product.infrastructure.messaging.spool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 스풀에 저장하는 메시지 한 건.
+ *
+ * <p>Exchange, 라우팅 키, 페이로드 타입은 길이가 앞에 붙은 UTF-8 문자열로, 본문은 길이가 앞에 붙은 바이트 배열로 이어 붙인다.
+ *
+ * @param exchange 발행할 Exchange
+ * @param routingKey 라우팅 키
+ * @param payloadType 페이로드 타입 (메시지 변환기의 타입 헤더 값)
+ * @param body JSON 본문
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record SpoolRecord(String exchange, String routingKey, String payloadType, byte[] body) {
+
+  /**
+   * 레코드를 바이트 배열로 변환한다.
+   *
+   * @return 인코딩된 레코드
+   */
+  public byte[] encode() {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeUTF(exchange);
+      out.writeUTF(routingKey);
+      out.writeUTF(payloadType);
+      out.writeInt(body.length);
+      out.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * 바이트 배열을 레코드로 변환한다.
+   *
+   * @param encoded 인코딩된 레코드
+   * @return 레코드
+   * @throws UncheckedIOException 형식이 맞지 않는 경우
+   */
+  public static SpoolRecord decode(byte[] encoded) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+      String exchange = in.readUTF();
+      String routingKey = in.readUTF();
+      String payloadType = in.readUTF();
+      byte[] body = new byte[in.readInt()];
+      in.readFully(body);
+      return new SpoolRecord(exchange, routingKey, payloadType, body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
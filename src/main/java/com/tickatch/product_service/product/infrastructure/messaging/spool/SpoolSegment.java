@@ -0,0 +1,145 @@
+package com.tickatch.product_service.product.infrastructure.messaging.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑된 고정 크기 스풀 세그먼트 파일.
+ *
+ * <p>레코드는 {@code [길이 4바이트][CRC32 4바이트][본문]} 형식으로 앞에서부터 이어 쓴다. 본문과 CRC를 먼저 쓰고 길이를 마지막에 쓰므로, 길이가 0이면
+ * 세그먼트의 끝이다. 다시 열 때는 처음부터 레코드를 읽어 길이나 CRC가 맞지 않는 첫 위치를 끝으로 보고 그 뒤를 버린다(비정상 종료 복구).
+ *
+ * <p>디스크 반영은 {@link #force()}를 호출할 때 한 번에 한다. 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+class SpoolSegment implements Closeable {
+
+  /** 레코드 머리(길이, CRC) 크기 */
+  static final int HEADER_BYTES = 8;
+
+  private final Path path;
+  private final long sequence;
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private int writePosition;
+
+  private SpoolSegment(Path path, long sequence, FileChannel channel, MappedByteBuffer buffer) {
+    this.path = path;
+    this.sequence = sequence;
+    this.channel = channel;
+    this.buffer = buffer;
+  }
+
+  /**
+   * 세그먼트 파일을 열거나 만든다. 기존 파일이면 마지막 온전한 레코드 뒤에서 이어 쓴다.
+   *
+   * @param path 파일 경로
+   * @param sequence 세그먼트 번호
+   * @param size 세그먼트 크기 (바이트)
+   * @return 세그먼트
+   * @throws IOException 파일을 열거나 매핑할 수 없는 경우
+   */
+  static SpoolSegment open(Path path, long sequence, int size) throws IOException {
+    FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, size);
+      SpoolSegment segment = new SpoolSegment(path, sequence, channel, buffer);
+      segment.writePosition = segment.recover();
+      return segment;
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 레코드를 덧붙인다.
+   *
+   * @param record 인코딩된 레코드
+   * @return 덧붙였으면 true, 남은 공간이 부족하면 false
+   */
+  boolean append(byte[] record) {
+    int end = writePosition + HEADER_BYTES + record.length;
+    if (end > buffer.capacity()) {
+      return false;
+    }
+    CRC32 crc = new CRC32();
+    crc.update(record);
+    buffer.put(writePosition + HEADER_BYTES, record);
+    buffer.putInt(writePosition + 4, (int) crc.getValue());
+    buffer.putInt(writePosition, record.length);
+    writePosition = end;
+    return true;
+  }
+
+  /**
+   * 위치의 레코드를 읽는다.
+   *
+   * @param position 레코드 시작 위치
+   * @return 레코드 본문 (끝이거나 손상되었으면 null)
+   */
+  byte[] read(int position) {
+    if (position + HEADER_BYTES > buffer.capacity()) {
+      return null;
+    }
+    int length = buffer.getInt(position);
+    if (length <= 0 || length > buffer.capacity() - position - HEADER_BYTES) {
+      return null;
+    }
+    byte[] record = new byte[length];
+    buffer.get(position + HEADER_BYTES, record);
+    CRC32 crc = new CRC32();
+    crc.update(record);
+    return (int) crc.getValue() == buffer.getInt(position + 4) ? record : null;
+  }
+
+  /** 매핑된 변경을 디스크에 반영한다. */
+  void force() {
+    buffer.force();
+  }
+
+  /** 파일을 닫고 삭제한다. */
+  void delete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  long sequence() {
+    return sequence;
+  }
+
+  int writePosition() {
+    return writePosition;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private int recover() {
+    int position = 0;
+    byte[] record;
+    while ((record = read(position)) != null) {
+      position += HEADER_BYTES + record.length;
+    }
+    if (position + 4 <= buffer.capacity()) {
+      buffer.putInt(position, 0);
+    }
+    return position;
+  }
+}
@@ -0,0 +1,213 @@
+package com.tickatch.product_service.product.infrastructure.prewarm;
+
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse.Status;
+import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 판매 오픈 사전 준비기.
+ *
+ * <p>판매 시작이 {@code product.prewarm.lead-seconds} 안으로 다가온 판매 예정 상품을 주기({@code
+ * product.prewarm.scan-ms})마다 찾아, 판매 시작 전에 오픈 직후 몰리는 조회 경로를 한 번씩 실행해 둔다.
+ *
+ * <ol>
+ *   <li>상품, 상세 콘텐츠, 좌석 등급을 전체 필드 응답으로 읽기 전용 트랜잭션에서 읽어 DB 버퍼와 읽기 커넥션 풀을 채운다.
+ *   <li>잔여 좌석을 {@link ProductAvailabilityCache}에 적재한다.
+ * </ol>
+ *
+ * <p>준비한 상품은 판매 시작 전후 {@code product.prewarm.hot-seconds} 동안 짧은 주기({@code
+ * product.prewarm.hot-refresh-ms})로 잔여 좌석 캐시를 다시 채워, 판매 중 전이 직후의 첫 조회도 캐시에서 응답하도록 한다. 판매 시작 일시가 바뀌면
+ * 다시 준비하고, 실패한 상품은 다음 주기에 다시 시도한다.
+ *
+ * <p>준비 상태는 상품별로 {@link #readiness(Long)}로 조회할 수 있으며, 이 인스턴스 기준이다. 준비 완료 상품 수는 {@code
+ * product.prewarm.ready} 게이지로, 준비 결과는 {@code product.prewarm} 카운터의 {@code result} 태그로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductSaleOpenPrewarmer {
+
+  private final ProductRepository productRepository;
+  private final ProductQueryService productQueryService;
+  private final ProductAvailabilityCache productAvailabilityCache;
+  private final Map<Long, ProductPrewarmResponse> states = new ConcurrentHashMap<>();
+  private final Counter warmed;
+  private final Counter failed;
+
+  /** 사전 준비 사용 여부 */
+  @Value("${product.prewarm.enabled:true}")
+  private boolean enabled;
+
+  /** 판매 시작 몇 초 전부터 준비할지 */
+  @Value("${product.prewarm.lead-seconds:300}")
+  private long leadSeconds;
+
+  /** 판매 시작 전후로 잔여 좌석 캐시를 계속 채워 두는 시간 (초) */
+  @Value("${product.prewarm.hot-seconds:30}")
+  private long hotSeconds;
+
+  /** 한 번에 준비하는 상품 수 */
+  @Value("${product.batch.max-size:100}")
+  private int batchSize;
+
+  public ProductSaleOpenPrewarmer(
+      ProductRepository productRepository,
+      ProductQueryService productQueryService,
+      ProductAvailabilityCache productAvailabilityCache,
+      MeterRegistry meterRegistry) {
+    this.productRepository = productRepository;
+    this.productQueryService = productQueryService;
+    this.productAvailabilityCache = productAvailabilityCache;
+    Gauge.builder("product.prewarm.ready", this, ProductSaleOpenPrewarmer::readyCount)
+        .register(meterRegistry);
+    this.warmed =
+        Counter.builder("product.prewarm").tag("result", "warmed").register(meterRegistry);
+    this.failed =
+        Counter.builder("product.prewarm").tag("result", "failed").register(meterRegistry);
+  }
+
+  /**
+   * 판매 시작이 다가온 상품을 찾아 준비한다.
+   *
+   * <p>새로 범위에 들어왔거나 판매 시작 일시가 바뀌었거나 직전 준비에 실패한 상품만 준비한다. 판매 시작 후 유지 시간이 지났거나 범위에서 빠진 상품은 상태를 지운다.
+   */
+  @Scheduled(fixedDelayString = "${product.prewarm.scan-ms:30000}")
+  public void scan() {
+    if (!enabled) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<ProductTransitionSchedule> opening =
+        productRepository.findTransitionSchedulesBefore(now.plusSeconds(leadSeconds)).stream()
+            .filter(schedule -> schedule.getStatus() == ProductStatus.SCHEDULED)
+            .toList();
+
+    Set<Long> targetIds = new HashSet<>();
+    List<ProductTransitionSchedule> pending = new ArrayList<>();
+    for (ProductTransitionSchedule schedule : opening) {
+      targetIds.add(schedule.getProductId());
+      ProductPrewarmResponse state = states.get(schedule.getProductId());
+      if (state == null
+          || state.getStatus() == Status.FAILED
+          || !schedule.getSaleStartAt().equals(state.getSaleStartAt())) {
+        states.put(schedule.getProductId(), state(schedule, Status.PENDING, null));
+        pending.add(schedule);
+      }
+    }
+
+    LocalDateTime expiredBefore = now.minusSeconds(hotSeconds);
+    states
+        .entrySet()
+        .removeIf(
+            entry ->
+                !targetIds.contains(entry.getKey())
+                    && (entry.getValue().getSaleStartAt().isBefore(expiredBefore)
+                        || entry.getValue().getSaleStartAt().isAfter(now)));
+
+    for (int from = 0; from < pending.size(); from += batchSize) {
+      warm(pending.subList(from, Math.min(from + batchSize, pending.size())));
+    }
+  }
+
+  /** 판매 시작 전후 유지 시간 안의 준비된 상품의 잔여 좌석 캐시를 다시 채운다. */
+  @Scheduled(fixedDelayString = "${product.prewarm.hot-refresh-ms:500}")
+  public void keepHot() {
+    if (!enabled || states.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> hot =
+        states.values().stream()
+            .filter(state -> state.getStatus() == Status.WARMED)
+            .filter(
+                state ->
+                    Duration.between(now, state.getSaleStartAt()).abs().toSeconds() <= hotSeconds)
+            .map(ProductPrewarmResponse::getProductId)
+            .toList();
+    try {
+      for (int from = 0; from < hot.size(); from += batchSize) {
+        productAvailabilityCache.getAll(hot.subList(from, Math.min(from + batchSize, hot.size())));
+      }
+    } catch (RuntimeException e) {
+      log.warn("판매 오픈 잔여 좌석 캐시 갱신 실패. products: {}, error: {}", hot.size(), e.getMessage());
+    }
+  }
+
+  /**
+   * 상품의 사전 준비 상태를 반환한다.
+   *
+   * @param productId 상품 ID
+   * @return 준비 상태 (준비 대상이 아니면 {@link Status#NONE})
+   */
+  public ProductPrewarmResponse readiness(Long productId) {
+    return states.getOrDefault(productId, ProductPrewarmResponse.none(productId));
+  }
+
+  private void warm(List<ProductTransitionSchedule> batch) {
+    List<Long> productIds = batch.stream().map(ProductTransitionSchedule::getProductId).toList();
+    try {
+      ProductBatchResponse loaded =
+          productQueryService.getProductsByIds(productIds, ProductFields.ALL);
+      Set<Long> loadedIds = new HashSet<>();
+      for (ProductResponse product : loaded.getProducts()) {
+        loadedIds.add(product.getId());
+      }
+      productAvailabilityCache.getAll(productIds);
+
+      LocalDateTime warmedAt = LocalDateTime.now();
+      for (ProductTransitionSchedule schedule : batch) {
+        if (!loadedIds.contains(schedule.getProductId())) {
+          states.remove(schedule.getProductId());
+          continue;
+        }
+        states.put(schedule.getProductId(), state(schedule, Status.WARMED, warmedAt));
+        warmed.increment();
+      }
+      log.info("판매 오픈 사전 준비 완료. products: {}", loadedIds.size());
+    } catch (RuntimeException e) {
+      batch.forEach(
+          schedule -> states.put(schedule.getProductId(), state(schedule, Status.FAILED, null)));
+      failed.increment(batch.size());
+      log.warn("판매 오픈 사전 준비 실패. products: {}, error: {}", batch.size(), e.getMessage());
+    }
+  }
+
+  private int readyCount() {
+    return (int)
+        states.values().stream().filter(state -> state.getStatus() == Status.WARMED).count();
+  }
+
+  private static ProductPrewarmResponse state(
+      ProductTransitionSchedule schedule, Status status, LocalDateTime warmedAt) {
+    return ProductPrewarmResponse.builder()
+        .productId(schedule.getProductId())
+        .status(status)
+        .saleStartAt(schedule.getSaleStartAt())
+        .warmedAt(warmedAt)
+        .build();
+  }
+}
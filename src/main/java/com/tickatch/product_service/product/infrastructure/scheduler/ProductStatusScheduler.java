@@ -1,12 +1,18 @@
 package com.tickatch.product_service.product.infrastructure.scheduler;
 
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.global.lease.PartitionLeaseManager;
+import com.tickatch.product_service.product.application.messaging.ProductLogEventPublisher;
 import com.tickatch.product_service.product.domain.Product;
 import com.tickatch.product_service.product.domain.ProductRepository;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -16,12 +22,20 @@ import org.springframework.stereotype.Component;
  * <p>시간 조건에 따라 상품 상태를 자동으로 전이한다:
  *
  * <ul>
- *   <li>SCHEDULED → ON_SALE: 판매 시작 시간 도래 (매 분)
- *   <li>ON_SALE → CLOSED: 판매 종료 시간 도래 (매 분)
- *   <li>CLOSED → COMPLETED: 행사 종료 시간 도래 (매 시간)
+ *   <li>SCHEDULED → ON_SALE: 판매 시작 시간 도래
+ *   <li>ON_SALE → CLOSED: 판매 종료 시간 도래
+ *   <li>CLOSED → COMPLETED: 행사 종료 시간 도래
  * </ul>
  *
- * <p>각 상품의 상태 전이는 독립된 트랜잭션으로 처리되어, 한 상품의 실패가 다른 상품에 영향을 주지 않는다.
+ * <p>기준 시각의 전이는 {@link ProductTransitionTimer}가 초 단위로 실행한다. 이 스케줄러의 정기 실행({@code
+ * product.scheduler.sweep-cron}, {@code product.scheduler.complete-cron})은 타이머가 놓친 전이를 처리하는 점검용이다.
+ *
+ * <p>여러 인스턴스가 함께 실행되면 정기 점검은 {@link PartitionLeaseManager}가 나눠 준 상품 ID 파티션만 처리한다. 맡은 파티션이 없으면 아무 것도
+ * 하지 않는다. 타이머가 만료시킨 전이({@link #transitionDue(ProductStatus)})는 파티션과 관계없이 실행한다.
+ *
+ * <p>대상 상품은 엔티티로 읽지 않고 최대 {@code product.scheduler.transition-chunk-size}개씩 묶어 UPDATE 한 번으로 전이한다.
+ * 묶음마다 독립된 트랜잭션으로 처리하며, 변경된 상품 ID마다 로그 이벤트를 발행한다. 묶음 전이가 실패하면 남은 대상만 상품별 트랜잭션으로 다시 처리하여, 한 상품의 실패가
+ * 다른 상품에 영향을 주지 않도록 한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -33,101 +47,160 @@ public class ProductStatusScheduler {
 
   private final ProductRepository productRepository;
   private final ProductStatusTransitionHelper transitionHelper;
+  private final ProductLogEventPublisher logEventPublisher;
+  private final PartitionLeaseManager partitionLeaseManager;
+
+  /** 한 트랜잭션에서 일괄 전이할 최대 상품 수 */
+  @Value("${product.scheduler.transition-chunk-size:1000}")
+  private int chunkSize;
 
   /**
    * SCHEDULED → ON_SALE 상태 전이.
    *
-   * <p>판매 시작 시간이 도래한 SCHEDULED 상태 상품을 ON_SALE로 변경한다. 매 분 실행된다.
+   * <p>판매 시작 시간이 도래한 SCHEDULED 상태 상품을 ON_SALE로 변경한다. 기본 10분마다 점검한다.
    */
-  @Scheduled(cron = "0 * * * * *")
+  @Scheduled(cron = "${product.scheduler.sweep-cron:0 */10 * * * *}")
   public void transitionToOnSale() {
-    LocalDateTime now = LocalDateTime.now();
-    List<Product> products =
-        productRepository.findByStatusAndSaleStartAtBefore(ProductStatus.SCHEDULED, now);
+    transition(ProductStatus.ON_SALE, partitionLeaseManager.current());
+  }
 
-    if (products.isEmpty()) {
-      return;
-    }
+  /**
+   * ON_SALE → CLOSED 상태 전이.
+   *
+   * <p>판매 종료 시간이 도래한 ON_SALE 상태 상품을 CLOSED로 변경한다. 기본 10분마다 점검한다.
+   */
+  @Scheduled(cron = "${product.scheduler.sweep-cron:0 */10 * * * *}")
+  public void transitionToClosed() {
+    transition(ProductStatus.CLOSED, partitionLeaseManager.current());
+  }
 
-    log.info("SCHEDULED → ON_SALE 전이 시작. 대상 상품 수: {}", products.size());
+  /**
+   * CLOSED → COMPLETED 상태 전이.
+   *
+   * <p>행사 종료 시간이 도래한 CLOSED 상태 상품을 COMPLETED로 변경한다. 기본 매 시간 점검한다.
+   */
+  @Scheduled(cron = "${product.scheduler.complete-cron:0 0 * * * *}")
+  public void transitionToCompleted() {
+    transition(ProductStatus.COMPLETED, partitionLeaseManager.current());
+  }
 
-    int successCount = 0;
-    int failCount = 0;
+  /**
+   * {@link ProductTransitionTimer}가 만료시킨 전이를 맡은 파티션과 관계없이 실행한다.
+   *
+   * <p>타이머는 변경 이벤트를 받은 인스턴스에 등록되므로, 다른 인스턴스가 맡은 파티션의 상품도 이 인스턴스에서 만료된다. 파티션으로 거르면 해당 상품은 정기 점검까지
+   * 전이가 늦어진다. 전이는 기준 시간이 지난 상품을 현재 상태 조건으로 변경하므로 여러 인스턴스가 함께 실행해도 한 번만 변경된다.
+   *
+   * @param to 변경할 상태 (ON_SALE, CLOSED, COMPLETED)
+   * @throws IllegalArgumentException 자동 전이 대상 상태가 아닌 경우
+   */
+  public void transitionDue(ProductStatus to) {
+    transition(to, PartitionAssignment.all(1));
+  }
 
-    for (Product product : products) {
-      boolean success = transitionHelper.changeStatusSafely(product.getId(), ProductStatus.ON_SALE);
-      if (success) {
-        successCount++;
-      } else {
-        failCount++;
-      }
+  private void transition(ProductStatus to, PartitionAssignment partitions) {
+    switch (to) {
+      case ON_SALE ->
+          transition(
+              ProductStatus.SCHEDULED,
+              ProductStatus.ON_SALE,
+              partitions,
+              productRepository::findByStatusAndSaleStartAtBefore,
+              logEventPublisher::publishSaleStarted,
+              logEventPublisher::publishSaleStartFailed);
+      case CLOSED ->
+          transition(
+              ProductStatus.ON_SALE,
+              ProductStatus.CLOSED,
+              partitions,
+              productRepository::findByStatusAndSaleEndAtBefore,
+              logEventPublisher::publishSaleClosed,
+              logEventPublisher::publishSaleCloseFailed);
+      case COMPLETED ->
+          transition(
+              ProductStatus.CLOSED,
+              ProductStatus.COMPLETED,
+              partitions,
+              productRepository::findByStatusAndEndAtBefore,
+              logEventPublisher::publishCompleted,
+              logEventPublisher::publishCompleteFailed);
+      default -> throw new IllegalArgumentException("자동 전이 대상 상태가 아닙니다. " + to);
     }
-
-    log.info("SCHEDULED → ON_SALE 전이 완료. 성공: {}, 실패: {}", successCount, failCount);
   }
 
   /**
-   * ON_SALE → CLOSED 상태 전이.
+   * 기준 시간이 도래한 상품을 묶음 단위로 전이한다.
+   *
+   * <p>묶음이 가득 차지 않을 때까지 반복한다. 묶음 전이가 실패하면 남은 대상을 조회하여 상품별로 전이한다.
    *
-   * <p>판매 종료 시간이 도래한 ON_SALE 상태 상품을 CLOSED로 변경한다. 매 분 실행된다.
+   * @param from 현재 상태
+   * @param to 변경할 상태
+   * @param partitions 대상 상품 ID 파티션
+   * @param dueFinder 상품별 전이로 대체할 때 남은 대상을 조회하는 함수
+   * @param onSuccess 전이에 성공한 상품의 로그 이벤트 발행
+   * @param onFailure 전이에 실패한 상품의 로그 이벤트 발행
    */
-  @Scheduled(cron = "0 * * * * *")
-  public void transitionToClosed() {
-    LocalDateTime now = LocalDateTime.now();
-    List<Product> products =
-        productRepository.findByStatusAndSaleEndAtBefore(ProductStatus.ON_SALE, now);
-
-    if (products.isEmpty()) {
+  private void transition(
+      ProductStatus from,
+      ProductStatus to,
+      PartitionAssignment partitions,
+      BiFunction<ProductStatus, LocalDateTime, List<Product>> dueFinder,
+      Consumer<Long> onSuccess,
+      Consumer<Long> onFailure) {
+    if (partitions.isEmpty()) {
       return;
     }
-
-    log.info("ON_SALE → CLOSED 전이 시작. 대상 상품 수: {}", products.size());
-
+    LocalDateTime now = LocalDateTime.now();
     int successCount = 0;
     int failCount = 0;
 
-    for (Product product : products) {
-      boolean success = transitionHelper.changeStatusSafely(product.getId(), ProductStatus.CLOSED);
-      if (success) {
-        successCount++;
-      } else {
-        failCount++;
+    while (true) {
+      List<Long> changedIds;
+      try {
+        changedIds = transitionHelper.changeStatusInBulk(from, to, now, partitions, chunkSize);
+      } catch (Exception e) {
+        log.error("{} → {} 일괄 전이 실패. 상품별 전이로 대체. error: {}", from, to, e.getMessage());
+        List<Product> remaining =
+            dueFinder.apply(from, now).stream()
+                .filter(product -> partitions.contains(product.getId()))
+                .toList();
+        failCount = transitionEach(remaining, to, onSuccess, onFailure);
+        successCount += remaining.size() - failCount;
+        break;
+      }
+      changedIds.forEach(onSuccess);
+      successCount += changedIds.size();
+      if (changedIds.size() < chunkSize) {
+        break;
       }
     }
 
-    log.info("ON_SALE → CLOSED 전이 완료. 성공: {}, 실패: {}", successCount, failCount);
+    if (successCount + failCount > 0) {
+      log.info("{} → {} 전이 완료. 성공: {}, 실패: {}", from, to, successCount, failCount);
+    }
   }
 
   /**
-   * CLOSED → COMPLETED 상태 전이.
+   * 상품마다 독립된 트랜잭션으로 전이한다.
    *
-   * <p>행사 종료 시간이 도래한 CLOSED 상태 상품을 COMPLETED로 변경한다. 매 시간 실행된다.
+   * @return 실패한 상품 수
    */
-  @Scheduled(cron = "0 0 * * * *")
-  public void transitionToCompleted() {
-    LocalDateTime now = LocalDateTime.now();
-    List<Product> products =
-        productRepository.findByStatusAndEndAtBefore(ProductStatus.CLOSED, now);
-
-    if (products.isEmpty()) {
-      return;
-    }
-
-    log.info("CLOSED → COMPLETED 전이 시작. 대상 상품 수: {}", products.size());
-
-    int successCount = 0;
+  private int transitionEach(
+      List<Product> products,
+      ProductStatus to,
+      Consumer<Long> onSuccess,
+      Consumer<Long> onFailure) {
     int failCount = 0;
 
     for (Product product : products) {
-      boolean success =
-          transitionHelper.changeStatusSafely(product.getId(), ProductStatus.COMPLETED);
+      boolean success = transitionHelper.changeStatusSafely(product.getId(), to);
       if (success) {
-        successCount++;
+        onSuccess.accept(product.getId());
       } else {
+        onFailure.accept(product.getId());
         failCount++;
       }
     }
 
-    log.info("CLOSED → COMPLETED 전이 완료. 성공: {}, 실패: {}", successCount, failCount);
+    return failCount;
   }
 }
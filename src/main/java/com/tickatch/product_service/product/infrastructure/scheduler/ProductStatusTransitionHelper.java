@@ -1,10 +1,16 @@
 package com.tickatch.product_service.product.infrastructure.scheduler;
 
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
 import com.tickatch.product_service.product.domain.Product;
 import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +18,11 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 상품 상태 전이 헬퍼.
  *
- * <p>스케줄러에서 호출되며, 개별 상품의 상태 전이를 독립된 트랜잭션으로 처리한다. 한 상품의 실패가 다른 상품에 영향을 주지 않도록 트랜잭션을 분리한다.
+ * <p>스케줄러에서 호출되며, 상태 전이를 독립된 트랜잭션으로 처리한다. 일괄 전이는 묶음마다, 개별 전이는 상품마다 트랜잭션을 분리하여 한 묶음이나 한 상품의 실패가 다른
+ * 처리에 영향을 주지 않도록 한다.
  *
- * <p>각 상품은 새 트랜잭션에서 다시 조회하여 영속성 컨텍스트에 포함시킨 후 상태를 변경한다.
+ * <p>개별 전이는 상품을 새 트랜잭션에서 다시 조회하여 영속성 컨텍스트에 포함시킨 후 상태를 변경한다. 어느 경우든 변경 후 {@link
+ * ProductChangedEvent}를 발행하여 메모리 인덱스가 커밋 이후 갱신되도록 한다.
  *
  * @author Tickatch
  * @since 1.0.0
@@ -25,6 +33,49 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductStatusTransitionHelper {
 
   private final ProductRepository productRepository;
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  /**
+   * 기준 시간이 도래한 상품의 상태를 한 묶음 일괄 변경한다.
+   *
+   * <p>REQUIRES_NEW propagation으로 묶음마다 독립된 트랜잭션에서 처리한다. 대상 상품을 엔티티로 읽지 않고 단일 UPDATE로 변경한 뒤, 변경된 상품의
+   * 색인용 컬럼만 한 번에 조회하여 {@link ProductChangedEvent}를 발행한다. 메모리 인덱스 적재와 같은 조회를 쓰므로 상품 엔티티와 좌석 등급을 다시
+   * 읽지 않는다. 실패하면 묶음 전체가 롤백되고 예외를 그대로 던진다.
+   *
+   * @param from 현재 상태
+   * @param to 변경할 상태 (ON_SALE, CLOSED, COMPLETED)
+   * @param now 기준 시간
+   * @param partitions 대상 상품 ID 파티션
+   * @param limit 한 번에 변경할 최대 상품 수
+   * @return 상태를 변경한 상품 ID 목록
+   * @throws IllegalArgumentException 상태 전이 규칙상 허용되지 않거나 일괄 전이를 지원하지 않는 상태인 경우
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<Long> changeStatusInBulk(
+      ProductStatus from,
+      ProductStatus to,
+      LocalDateTime now,
+      PartitionAssignment partitions,
+      int limit) {
+    if (!from.canChangeTo(to)) {
+      throw new IllegalArgumentException("허용되지 않는 상태 전이입니다. " + from + " → " + to);
+    }
+    List<Long> changedIds =
+        switch (to) {
+          case ON_SALE ->
+              productRepository.changeStatusBySaleStartAt(from, to, now, partitions, limit);
+          case CLOSED ->
+              productRepository.changeStatusBySaleEndAt(from, to, now, partitions, limit);
+          case COMPLETED -> productRepository.changeStatusByEndAt(from, to, now, partitions, limit);
+          default -> throw new IllegalArgumentException("일괄 전이를 지원하지 않는 상태입니다. " + to);
+        };
+    if (!changedIds.isEmpty()) {
+      for (ProductIndexSnapshot snapshot : productRepository.findIndexSnapshotsByIds(changedIds)) {
+        applicationEventPublisher.publishEvent(ProductChangedEvent.from(snapshot));
+      }
+    }
+    return changedIds;
+  }
 
   /**
    * 개별 상품의 상태를 변경한다.
@@ -47,6 +98,7 @@ public class ProductStatusTransitionHelper {
 
       ProductStatus previousStatus = product.getStatus();
       product.changeStatus(targetStatus);
+      applicationEventPublisher.publishEvent(ProductChangedEvent.from(product));
 
       log.info(
           "상품 상태 전이 성공. productId: {}, status: {} → {}", productId, previousStatus, targetStatus);
@@ -0,0 +1,175 @@
+package com.tickatch.product_service.product.infrastructure.scheduler;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 자동 상태 전이 타이머.
+ *
+ * <p>가까운 시간({@code product.scheduler.timer.horizon-hours}) 안에 도래하는 판매 시작, 판매 종료, 행사 종료 시각을 상품마다
+ * {@link TimerWheel}에 등록하고, 짧은 주기({@code product.scheduler.timer.tick-ms})로 휠을 진행하여 만료된 전이만 {@link
+ * ProductStatusScheduler}로 실행한다. 분 단위 폴링 없이 기준 시각이 된 초에 전이하며, 만료된 타이머가 없으면 DB에 접근하지 않는다.
+ *
+ * <p>등록은 커밋된 {@link ProductChangedEvent}로 갱신되므로 판매 예정 전환, 일정 수정, 취소, 상태 전이가 바로 반영된다. 다른 인스턴스에서 처리된
+ * 변경과 새로 범위에 들어온 일정은 주기({@code product.scheduler.timer.reload-ms})마다 DB에서 다시 적재한다. 타이머가 놓친 전이는
+ * {@link ProductStatusScheduler}의 정기 점검이 처리한다.
+ *
+ * <p>전이 자체는 DB 기준으로 기준 시간이 지난 상품을 일괄 변경하므로, 여러 인스턴스의 타이머가 같은 전이를 실행해도 한 번만 변경된다. 그래서 만료된 전이는 맡은
+ * 파티션과 관계없이 실행하며, 다른 인스턴스가 맡은 파티션의 상품도 기준 시각에 전이된다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductTransitionTimer {
+
+  private static final int SLOT_COUNT = 3600;
+
+  private final ProductRepository productRepository;
+  private final ProductStatusScheduler productStatusScheduler;
+  private final TimerWheel<Long> wheel;
+  private final Map<Long, ProductStatus> targets = new HashMap<>();
+
+  private boolean reloading;
+  private final Set<Long> changedDuringReload = new HashSet<>();
+
+  /** 타이머에 등록할 전이의 최대 선행 시간 (시간). 다시 적재하는 주기보다 길어야 한다. */
+  @Value("${product.scheduler.timer.horizon-hours:24}")
+  private long horizonHours;
+
+  public ProductTransitionTimer(
+      ProductRepository productRepository, ProductStatusScheduler productStatusScheduler) {
+    this.productRepository = productRepository;
+    this.productStatusScheduler = productStatusScheduler;
+    this.wheel = new TimerWheel<>(SLOT_COUNT, Instant.now().getEpochSecond());
+  }
+
+  /**
+   * 범위 안의 전이 일정을 DB에서 다시 적재한다.
+   *
+   * <p>적재 중 수신된 변경 이벤트가 더 최신이므로, 해당 상품은 적재 스냅샷으로 덮어쓰지 않는다.
+   */
+  @Scheduled(fixedDelayString = "${product.scheduler.timer.reload-ms:600000}")
+  public void reload() {
+    synchronized (this) {
+      reloading = true;
+    }
+
+    List<ProductTransitionSchedule> schedules;
+    try {
+      schedules = productRepository.findTransitionSchedulesBefore(horizon());
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        reloading = false;
+        changedDuringReload.clear();
+      }
+      throw e;
+    }
+
+    synchronized (this) {
+      for (ProductTransitionSchedule schedule : schedules) {
+        if (!changedDuringReload.contains(schedule.getProductId())) {
+          apply(schedule);
+        }
+      }
+      changedDuringReload.clear();
+      reloading = false;
+      log.info("상품 상태 전이 타이머 적재 완료. 대상 상품 수: {}", wheel.size());
+    }
+  }
+
+  /**
+   * 상품 변경 이벤트를 반영한다.
+   *
+   * <p>삭제되었거나 자동 전이 대상이 아닌 상태가 되면 등록을 취소하고, 그 외에는 다음 전이 시각으로 다시 등록한다.
+   *
+   * @param event 상품 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void onProductChanged(ProductChangedEvent event) {
+    if (reloading) {
+      changedDuringReload.add(event.productId());
+    }
+    if (event.deleted()) {
+      cancel(event.productId());
+      return;
+    }
+    apply(
+        ProductTransitionSchedule.builder()
+            .productId(event.productId())
+            .status(event.status())
+            .saleStartAt(event.saleStartAt())
+            .saleEndAt(event.saleEndAt())
+            .endAt(event.endAt())
+            .build());
+  }
+
+  /** 현재 초까지 휠을 진행하고, 만료된 전이를 상태별로 한 번씩 실행한다. */
+  @Scheduled(fixedDelayString = "${product.scheduler.timer.tick-ms:200}")
+  public void tick() {
+    Set<ProductStatus> due = EnumSet.noneOf(ProductStatus.class);
+    synchronized (this) {
+      for (Long productId : wheel.advance(Instant.now().getEpochSecond())) {
+        ProductStatus target = targets.remove(productId);
+        if (target != null) {
+          due.add(target);
+        }
+      }
+    }
+
+    due.forEach(productStatusScheduler::transitionDue);
+  }
+
+  /**
+   * 등록된 타이머 수를 반환한다.
+   *
+   * @return 전이를 기다리는 상품 수
+   */
+  public synchronized int size() {
+    return wheel.size();
+  }
+
+  private void apply(ProductTransitionSchedule schedule) {
+    ProductStatus next = schedule.nextStatus();
+    LocalDateTime dueAt = schedule.nextTransitionAt();
+    if (next == null || dueAt == null || !dueAt.isBefore(horizon())) {
+      cancel(schedule.getProductId());
+      return;
+    }
+    wheel.schedule(schedule.getProductId(), toEpochSecond(dueAt));
+    targets.put(schedule.getProductId(), next);
+  }
+
+  private void cancel(Long productId) {
+    wheel.cancel(productId);
+    targets.remove(productId);
+  }
+
+  private LocalDateTime horizon() {
+    return LocalDateTime.now().plus(Duration.ofHours(horizonHours));
+  }
+
+  /** 기준 시각 이후의 첫 정각 초. 전이 조건(기준 시간 이하)이 만족된 뒤에 만료되도록 올림한다. */
+  private static long toEpochSecond(LocalDateTime time) {
+    long seconds = time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    return time.getNano() > 0 ? seconds + 1 : seconds;
+  }
+}
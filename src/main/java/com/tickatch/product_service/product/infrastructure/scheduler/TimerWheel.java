@@ -0,0 +1,132 @@
+package com.tickatch.product_service.product.infrastructure.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 초 단위 해시 타이머 휠.
+ *
+ * <p>만료 시각(epoch 초)을 슬롯 수로 나눈 나머지 슬롯에 키를 넣는다. {@link #advance(long)}는 마지막으로 처리한 초부터 현재 초까지의 슬롯만
+ * 확인하므로, 등록된 키 수와 무관하게 한 번의 진행 비용은 지나간 초 수와 해당 슬롯의 키 수에 비례한다. 한 바퀴보다 먼 만료 시각은 같은 슬롯에 남아 있다가 해당 바퀴에서
+ * 만료된다.
+ *
+ * <p>키마다 만료 시각은 하나이며, 다시 등록하면 이전 만료 시각을 대체한다. 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+ *
+ * @param <K> 타이머 키
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class TimerWheel<K> {
+
+  private final List<Set<K>> slots;
+  private final Set<K> overdue = new LinkedHashSet<>();
+  private final Map<K, Long> deadlines = new HashMap<>();
+  private long currentTick;
+
+  /**
+   * 타이머 휠을 생성한다.
+   *
+   * @param slotCount 슬롯 수 (한 바퀴의 초 수)
+   * @param startTick 시작 시각 (epoch 초). 이 시각까지는 처리된 것으로 본다.
+   */
+  public TimerWheel(int slotCount, long startTick) {
+    if (slotCount <= 0) {
+      throw new IllegalArgumentException("슬롯 수는 1 이상이어야 합니다. slotCount: " + slotCount);
+    }
+    this.slots = new ArrayList<>(slotCount);
+    for (int i = 0; i < slotCount; i++) {
+      slots.add(new LinkedHashSet<>());
+    }
+    this.currentTick = startTick;
+  }
+
+  /**
+   * 키의 만료 시각을 등록한다. 이미 처리한 시각이면 시간이 흐르지 않아도 다음 진행에서 만료된다.
+   *
+   * @param key 타이머 키
+   * @param deadline 만료 시각 (epoch 초)
+   */
+  public void schedule(K key, long deadline) {
+    cancel(key);
+    deadlines.put(key, deadline);
+    if (deadline <= currentTick) {
+      overdue.add(key);
+    } else {
+      slotOf(deadline).add(key);
+    }
+  }
+
+  /**
+   * 키의 등록을 취소한다.
+   *
+   * @param key 타이머 키
+   * @return 등록되어 있었으면 true
+   */
+  public boolean cancel(K key) {
+    Long deadline = deadlines.remove(key);
+    if (deadline == null) {
+      return false;
+    }
+    if (!overdue.remove(key)) {
+      slotOf(deadline).remove(key);
+    }
+    return true;
+  }
+
+  /**
+   * 키의 만료 시각을 반환한다.
+   *
+   * @param key 타이머 키
+   * @return 만료 시각 (등록되지 않았으면 null)
+   */
+  public Long deadlineOf(K key) {
+    return deadlines.get(key);
+  }
+
+  /**
+   * 현재 시각까지 진행하고 만료된 키를 반환한다. 반환한 키는 등록에서 제거된다.
+   *
+   * @param now 현재 시각 (epoch 초)
+   * @return 만료된 키 목록 (만료 시각 순서는 보장하지 않는다)
+   */
+  public List<K> advance(long now) {
+    List<K> expired = new ArrayList<>(overdue);
+    overdue.clear();
+    expired.forEach(deadlines::remove);
+    if (now <= currentTick) {
+      return expired;
+    }
+    long ticks = Math.min(now - currentTick, slots.size());
+    for (long tick = currentTick + 1; tick <= currentTick + ticks; tick++) {
+      Iterator<K> iterator = slotOf(tick).iterator();
+      while (iterator.hasNext()) {
+        K key = iterator.next();
+        if (deadlines.get(key) <= now) {
+          iterator.remove();
+          deadlines.remove(key);
+          expired.add(key);
+        }
+      }
+    }
+    currentTick = now;
+    return expired;
+  }
+
+  /**
+   * 등록된 키 수를 반환한다.
+   *
+   * @return 등록된 키 수
+   */
+  public int size() {
+    return deadlines.size();
+  }
+
+  private Set<K> slotOf(long tick) {
+    return slots.get(Math.floorMod(tick, slots.size()));
+  }
+}
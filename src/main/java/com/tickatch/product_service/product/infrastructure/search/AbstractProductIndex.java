@@ -0,0 +1,168 @@
+package com.tickatch.product_service.product.infrastructure.search;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 메모리 인덱스의 공통 적재/갱신 구현.
+ *
+ * <p>인덱스는 {@link #reload()}로 DB에서 적재되고, 그 사이에는 커밋된 {@link ProductChangedEvent}로 갱신된다. 적재는 상품 엔티티 대신
+ * 색인에 필요한 컬럼만 {@value #RELOAD_CHUNK_SIZE}개씩 읽어 묶음마다 쓰기 잠금을 잡고 반영하므로, 상품 수와 관계없이 메모리 사용량과 조회 대기 시간이
+ * 묶음 크기로 제한된다.
+ *
+ * <p>다시 적재할 때는 다음을 지킨다.
+ *
+ * <ul>
+ *   <li>적재 중 수신된 변경 이벤트가 더 최신이므로, 해당 상품은 적재 스냅샷으로 덮어쓰지 않는다.
+ *   <li>색인되어 있지만 적재 결과에 없는 상품은 다른 인스턴스에서 삭제되었거나 대상 상태를 벗어난 것이므로 제거한다.
+ * </ul>
+ *
+ * <p>첫 적재가 끝나기 전에는 {@link #isReady()}가 false를 반환하며, 호출 측은 DB 조회로 대체해야 한다. 이후 다시 적재하는 동안에는 기존 색인으로
+ * 계속 조회한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public abstract class AbstractProductIndex {
+
+  /** 한 번에 읽어 반영할 상품 수 */
+  static final int RELOAD_CHUNK_SIZE = 1000;
+
+  protected final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final ProductRepository productRepository;
+  private final Collection<ProductStatus> statuses;
+
+  private volatile boolean ready;
+  private boolean reloading;
+  private final Set<Long> changedDuringReload = new HashSet<>();
+
+  protected AbstractProductIndex(
+      ProductRepository productRepository, Collection<ProductStatus> statuses) {
+    this.productRepository = productRepository;
+    this.statuses = List.copyOf(statuses);
+  }
+
+  /**
+   * 대상 상태의 삭제되지 않은 상품 전체를 DB에서 다시 적재한다.
+   *
+   * <p>이미 적재 중이면 아무 것도 하지 않는다.
+   *
+   * @return 적재한 상품 수 (이미 적재 중이면 -1)
+   */
+  public long reload() {
+    lock.writeLock().lock();
+    try {
+      if (reloading) {
+        return -1;
+      }
+      reloading = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    Set<Long> loaded = new HashSet<>();
+    try {
+      productRepository.scrollIndexSnapshots(
+          statuses,
+          RELOAD_CHUNK_SIZE,
+          chunk -> {
+            lock.writeLock().lock();
+            try {
+              chunk.stream()
+                  .map(ProductChangedEvent::from)
+                  .forEach(
+                      snapshot -> {
+                        loaded.add(snapshot.productId());
+                        if (!changedDuringReload.contains(snapshot.productId())) {
+                          apply(snapshot);
+                        }
+                      });
+            } finally {
+              lock.writeLock().unlock();
+            }
+          });
+    } catch (RuntimeException e) {
+      lock.writeLock().lock();
+      try {
+        changedDuringReload.clear();
+        reloading = false;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      throw e;
+    }
+
+    lock.writeLock().lock();
+    try {
+      for (Long productId : List.copyOf(indexedProductIds())) {
+        if (!loaded.contains(productId) && !changedDuringReload.contains(productId)) {
+          remove(productId);
+        }
+      }
+      changedDuringReload.clear();
+      reloading = false;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return loaded.size();
+  }
+
+  /**
+   * 상품 변경 이벤트를 반영한다.
+   *
+   * <p>트랜잭션 커밋 이후에만 반영하여 롤백된 변경이 노출되지 않도록 한다. 트랜잭션 밖에서 발행된 경우에는 즉시 반영한다.
+   *
+   * @param event 상품 변경 이벤트
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    lock.writeLock().lock();
+    try {
+      if (reloading) {
+        changedDuringReload.add(event.productId());
+      }
+      apply(event);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 첫 적재가 완료되었는지 확인한다.
+   *
+   * @return 조회에 사용할 수 있으면 true
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 상품의 현재 값을 색인한다. 이전 색인은 교체한다. 쓰기 잠금 안에서 호출된다.
+   *
+   * @param event 상품의 현재 값
+   */
+  protected abstract void apply(ProductChangedEvent event);
+
+  /**
+   * 상품을 색인에서 제거한다. 쓰기 잠금 안에서 호출된다.
+   *
+   * @param productId 상품 ID
+   */
+  protected abstract void remove(Long productId);
+
+  /**
+   * 현재 색인된 상품 ID를 반환한다. 쓰기 잠금 안에서 호출된다.
+   *
+   * @return 색인된 상품 ID
+   */
+  protected abstract Set<Long> indexedProductIds();
+}
@@ -0,0 +1,428 @@
+package com.tickatch.product_service.product.infrastructure.search.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 압축 비트맵 (Roaring 방식).
+ *
+ * <p>32비트 정수를 상위 16비트 키로 청크를 나누고, 청크마다 밀도에 따라 두 종류의 컨테이너 중 하나를 사용한다.
+ *
+ * <ul>
+ *   <li>배열 컨테이너: 원소가 {@value #ARRAY_MAX_SIZE}개 이하일 때 정렬된 하위 16비트 배열
+ *   <li>비트셋 컨테이너: 그보다 많을 때 65536비트 고정 비트셋
+ * </ul>
+ *
+ * <p>희소한 필터 값(특정 스테이지, 판매자)은 배열로, 밀집된 값(ON_SALE 상태 등)은 비트셋으로 저장되어 메모리와 교집합 연산 비용이 모두 작다.
+ *
+ * <p>이 클래스는 스레드 안전하지 않다. 동시 접근은 호출 측에서 제어해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class CompressedBitmap {
+
+  /** 배열 컨테이너의 최대 원소 수. 이를 넘으면 비트셋이 더 작다. */
+  static final int ARRAY_MAX_SIZE = 4096;
+
+  private char[] keys = new char[4];
+  private Container[] containers = new Container[4];
+  private int size;
+
+  /**
+   * 값을 추가한다.
+   *
+   * @param value 추가할 값 (0 이상)
+   */
+  public void add(int value) {
+    char high = (char) (value >>> 16);
+    int i = Arrays.binarySearch(keys, 0, size, high);
+    if (i >= 0) {
+      containers[i] = containers[i].add((char) value);
+      return;
+    }
+    int insertAt = -i - 1;
+    ensureCapacity();
+    System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+    System.arraycopy(containers, insertAt, containers, insertAt + 1, size - insertAt);
+    keys[insertAt] = high;
+    containers[insertAt] = new ArrayContainer().add((char) value);
+    size++;
+  }
+
+  /**
+   * 값을 제거한다.
+   *
+   * @param value 제거할 값
+   */
+  public void remove(int value) {
+    char high = (char) (value >>> 16);
+    int i = Arrays.binarySearch(keys, 0, size, high);
+    if (i < 0) {
+      return;
+    }
+    Container container = containers[i].remove((char) value);
+    if (container.cardinality() > 0) {
+      containers[i] = container;
+      return;
+    }
+    System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+    System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+    size--;
+    containers[size] = null;
+  }
+
+  /**
+   * 값 포함 여부를 확인한다.
+   *
+   * @param value 확인할 값
+   * @return 포함되어 있으면 true
+   */
+  public boolean contains(int value) {
+    int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+    return i >= 0 && containers[i].contains((char) value);
+  }
+
+  /**
+   * 원소 수를 반환한다.
+   *
+   * @return 원소 수
+   */
+  public long cardinality() {
+    long sum = 0;
+    for (int i = 0; i < size; i++) {
+      sum += containers[i].cardinality();
+    }
+    return sum;
+  }
+
+  /**
+   * 비어 있는지 확인한다.
+   *
+   * @return 원소가 없으면 true
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * 교집합을 새 비트맵으로 반환한다.
+   *
+   * @param other 다른 비트맵
+   * @return 교집합
+   */
+  public CompressedBitmap and(CompressedBitmap other) {
+    CompressedBitmap result = new CompressedBitmap();
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        Container c = containers[i].and(other.containers[j]);
+        if (c.cardinality() > 0) {
+          result.ensureCapacity();
+          result.keys[result.size] = keys[i];
+          result.containers[result.size] = c;
+          result.size++;
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 교집합의 원소 수를 계산한다. 교집합 비트맵을 만들지 않는다.
+   *
+   * @param other 다른 비트맵
+   * @return 교집합 원소 수
+   */
+  public long andCardinality(CompressedBitmap other) {
+    long sum = 0;
+    int i = 0;
+    int j = 0;
+    while (i < size && j < other.size) {
+      if (keys[i] < other.keys[j]) {
+        i++;
+      } else if (keys[i] > other.keys[j]) {
+        j++;
+      } else {
+        sum += containers[i].andCardinality(other.containers[j]);
+        i++;
+        j++;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * 모든 원소를 오름차순으로 순회한다.
+   *
+   * @param consumer 원소 소비자
+   */
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0; i < size; i++) {
+      containers[i].forEach(keys[i] << 16, consumer);
+    }
+  }
+
+  /**
+   * 비트맵 복사본을 반환한다.
+   *
+   * @return 깊은 복사본
+   */
+  public CompressedBitmap copy() {
+    CompressedBitmap copy = new CompressedBitmap();
+    copy.keys = Arrays.copyOf(keys, keys.length);
+    copy.containers = new Container[containers.length];
+    for (int i = 0; i < size; i++) {
+      copy.containers[i] = containers[i].copy();
+    }
+    copy.size = size;
+    return copy;
+  }
+
+  private void ensureCapacity() {
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+  }
+
+  // ========== 컨테이너 ==========
+
+  private interface Container {
+    Container add(char value);
+
+    Container remove(char value);
+
+    boolean contains(char value);
+
+    int cardinality();
+
+    Container and(Container other);
+
+    int andCardinality(Container other);
+
+    void forEach(int base, IntConsumer consumer);
+
+    Container copy();
+  }
+
+  private static final class ArrayContainer implements Container {
+    private char[] values = new char[4];
+    private int cardinality;
+
+    @Override
+    public Container add(char value) {
+      int i = Arrays.binarySearch(values, 0, cardinality, value);
+      if (i >= 0) {
+        return this;
+      }
+      if (cardinality >= ARRAY_MAX_SIZE) {
+        return toBitmap().add(value);
+      }
+      int insertAt = -i - 1;
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_MAX_SIZE));
+      }
+      System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+      values[insertAt] = value;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    public Container remove(char value) {
+      int i = Arrays.binarySearch(values, 0, cardinality, value);
+      if (i >= 0) {
+        System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public Container and(Container other) {
+      ArrayContainer result = new ArrayContainer();
+      result.values = new char[Math.max(cardinality, 1)];
+      if (other instanceof ArrayContainer array) {
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+          if (values[i] < array.values[j]) {
+            i++;
+          } else if (values[i] > array.values[j]) {
+            j++;
+          } else {
+            result.values[result.cardinality++] = values[i];
+            i++;
+            j++;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            result.values[result.cardinality++] = values[i];
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public int andCardinality(Container other) {
+      int count = 0;
+      if (other instanceof ArrayContainer array) {
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+          if (values[i] < array.values[j]) {
+            i++;
+          } else if (values[i] > array.values[j]) {
+            j++;
+          } else {
+            count++;
+            i++;
+            j++;
+          }
+        }
+      } else {
+        for (int i = 0; i < cardinality; i++) {
+          if (other.contains(values[i])) {
+            count++;
+          }
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public void forEach(int base, IntConsumer consumer) {
+      for (int i = 0; i < cardinality; i++) {
+        consumer.accept(base | values[i]);
+      }
+    }
+
+    @Override
+    public Container copy() {
+      ArrayContainer copy = new ArrayContainer();
+      copy.values = Arrays.copyOf(values, values.length);
+      copy.cardinality = cardinality;
+      return copy;
+    }
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.add(values[i]);
+      }
+      return bitmap;
+    }
+  }
+
+  private static final class BitmapContainer implements Container {
+    private final long[] words = new long[1024];
+    private int cardinality;
+
+    @Override
+    public Container add(char value) {
+      long before = words[value >>> 6];
+      long after = before | (1L << value);
+      if (before != after) {
+        words[value >>> 6] = after;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    public Container remove(char value) {
+      long before = words[value >>> 6];
+      long after = before & ~(1L << value);
+      if (before == after) {
+        return this;
+      }
+      words[value >>> 6] = after;
+      cardinality--;
+      return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public Container and(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.and(this);
+      }
+      BitmapContainer bitmap = (BitmapContainer) other;
+      BitmapContainer result = new BitmapContainer();
+      for (int i = 0; i < words.length; i++) {
+        result.words[i] = words[i] & bitmap.words[i];
+        result.cardinality += Long.bitCount(result.words[i]);
+      }
+      return result.cardinality <= ARRAY_MAX_SIZE ? result.toArray() : result;
+    }
+
+    @Override
+    public int andCardinality(Container other) {
+      if (other instanceof ArrayContainer) {
+        return other.andCardinality(this);
+      }
+      BitmapContainer bitmap = (BitmapContainer) other;
+      int count = 0;
+      for (int i = 0; i < words.length; i++) {
+        count += Long.bitCount(words[i] & bitmap.words[i]);
+      }
+      return count;
+    }
+
+    @Override
+    public void forEach(int base, IntConsumer consumer) {
+      for (int i = 0; i < words.length; i++) {
+        long word = words[i];
+        while (word != 0) {
+          consumer.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+
+    @Override
+    public Container copy() {
+      BitmapContainer copy = new BitmapContainer();
+      System.arraycopy(words, 0, copy.words, 0, words.length);
+      copy.cardinality = cardinality;
+      return copy;
+    }
+
+    private ArrayContainer toArray() {
+      ArrayContainer array = new ArrayContainer();
+      array.values = new char[Math.max(cardinality, 1)];
+      forEach(0, v -> array.values[array.cardinality++] = (char) v);
+      return array;
+    }
+  }
+}
@@ -0,0 +1,310 @@
+package com.tickatch.product_service.product.infrastructure.search.bitmap;
+
+import com.tickatch.product_service.product.application.dto.ProductFacetResponse;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.infrastructure.search.AbstractProductIndex;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 필터 비트맵 인덱스.
+ *
+ * <p>삭제되지 않은 모든 상품에 조밀한 서수(ordinal)를 부여하고, 필터 차원(상품 타입, 상태, 스테이지, 판매자)의 값마다 해당 서수 집합을 {@link
+ * CompressedBitmap}으로 유지한다.
+ *
+ * <ul>
+ *   <li>다중 필터 조회: 각 조건 값의 비트맵 교집합(AND)
+ *   <li>패싯 건수: 다른 차원 필터의 교집합과 각 값 비트맵의 교집합 원소 수
+ * </ul>
+ *
+ * <p>상품 삭제 시 반환된 서수는 재사용하여 서수 공간을 조밀하게 유지한다. 인덱스는 애플리케이션 기동 시 적재되고, 이후에는 커밋된 {@link
+ * ProductChangedEvent}와 다른 인스턴스가 방송한 변경({@code ProductIndexBroadcaster})으로 갱신되며 {@link
+ * #reconcile()}이 주기적으로 다시 적재한다. 적재 완료 전에는 {@link #isReady()}가 false를 반환하며, 호출 측은 DB 조회로 대체해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductBitmapIndex extends AbstractProductIndex {
+
+  // ========== 서수 ==========
+
+  private final Map<Long, Integer> ordinals = new HashMap<>();
+  private final Map<Integer, Attributes> attributesByOrdinal = new HashMap<>();
+  private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+  private int nextOrdinal;
+
+  // ========== 차원별 비트맵 ==========
+
+  private final CompressedBitmap all = new CompressedBitmap();
+  private final Map<ProductType, CompressedBitmap> byType = new EnumMap<>(ProductType.class);
+  private final Map<ProductStatus, CompressedBitmap> byStatus = new EnumMap<>(ProductStatus.class);
+  private final Map<Long, CompressedBitmap> byStage = new HashMap<>();
+  private final Map<String, CompressedBitmap> bySeller = new HashMap<>();
+
+  public ProductBitmapIndex(ProductRepository productRepository) {
+    super(productRepository, EnumSet.allOf(ProductStatus.class));
+  }
+
+  /** 기동 완료 시 삭제되지 않은 상품 전체를 색인한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void bootstrap() {
+    reload();
+    log.info("상품 비트맵 인덱스 적재 완료. products: {}", all.cardinality());
+  }
+
+  /**
+   * 주기적으로 DB에서 다시 적재하여 다른 인스턴스의 변경을 반영한다.
+   *
+   * <p>다른 인스턴스의 변경은 방송으로 받지만, 방송이 유실된 경우(브로커 장애, 수신 큐 재생성)에도 반영되지 않은 채로 남는 시간을 적재 주기로 제한한다.
+   */
+  @Scheduled(
+      fixedDelayString = "${product.index.reload-ms:300000}",
+      initialDelayString = "${product.index.reload-ms:300000}")
+  public void reconcile() {
+    long loaded = reload();
+    log.debug("상품 비트맵 인덱스 재적재. products: {}", loaded);
+  }
+
+  /**
+   * 검색 조건의 필터 차원을 비트맵 교집합으로 평가한다.
+   *
+   * <p>상품명 조건은 비트맵으로 평가할 수 없으므로 무시한다. 호출 측은 {@link #supports(ProductSearchCondition)}로 먼저 확인해야 한다.
+   *
+   * @param condition 검색 조건
+   * @param maxIds 상품 ID 목록을 반환할 최대 일치 건수
+   * @return 일치 건수와 (건수가 maxIds 이하인 경우) 상품 ID 목록
+   */
+  public BitmapMatch match(ProductSearchCondition condition, int maxIds) {
+    lock.readLock().lock();
+    try {
+      CompressedBitmap matched =
+          intersect(
+              condition.getProductType(),
+              condition.getStatus(),
+              condition.getStageId(),
+              condition.getSellerId(),
+              null);
+      long total = matched.cardinality();
+      if (total > maxIds) {
+        return new BitmapMatch(total, null);
+      }
+      List<Long> productIds = new ArrayList<>((int) total);
+      matched.forEach(ordinal -> productIds.add(attributesByOrdinal.get(ordinal).productId()));
+      return new BitmapMatch(total, productIds);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색 조건을 비트맵만으로 평가할 수 있는지 확인한다.
+   *
+   * @param condition 검색 조건
+   * @return 인덱스가 준비되었고 상품명·가격·시작 일시 조건이 없으면 true
+   */
+  public boolean supports(ProductSearchCondition condition) {
+    return isReady()
+        && !StringUtils.hasText(condition.getName())
+        && !condition.hasPriceRange()
+        && !condition.hasStartRange();
+  }
+
+  /**
+   * 필터 조건별 패싯 건수를 계산한다.
+   *
+   * <p>각 차원의 건수는 해당 차원을 제외한 나머지 필터를 적용한 결과 기준이다. 예를 들어 status=ON_SALE, stageId=1 조건이면 상품 타입별 건수는
+   * "1번 스테이지의 판매 중 상품" 중 타입별 건수이고, 상태별 건수는 "1번 스테이지 상품" 중 상태별 건수이다. 건수가 0인 값은 포함하지 않는다.
+   *
+   * @param productType 상품 타입 필터 (null이면 미적용)
+   * @param status 상품 상태 필터 (null이면 미적용)
+   * @param stageId 스테이지 ID 필터 (null이면 미적용)
+   * @param sellerId 판매자 ID 필터 (null이면 미적용)
+   * @return 패싯 건수
+   */
+  public ProductFacetResponse facets(
+      ProductType productType, ProductStatus status, Long stageId, String sellerId) {
+    lock.readLock().lock();
+    try {
+      return ProductFacetResponse.builder()
+          .total(intersect(productType, status, stageId, sellerId, null).cardinality())
+          .productTypes(
+              count(byType, intersect(productType, status, stageId, sellerId, Dimension.TYPE)))
+          .statuses(
+              count(byStatus, intersect(productType, status, stageId, sellerId, Dimension.STATUS)))
+          .stages(
+              count(byStage, intersect(productType, status, stageId, sellerId, Dimension.STAGE)))
+          .sellers(
+              count(bySeller, intersect(productType, status, stageId, sellerId, Dimension.SELLER)))
+          .build();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ========== 내부 구현 ==========
+
+  @Override
+  protected void apply(ProductChangedEvent event) {
+    if (event.deleted()) {
+      remove(event.productId());
+      return;
+    }
+    Integer ordinal = ordinals.get(event.productId());
+    if (ordinal != null) {
+      unindex(ordinal, attributesByOrdinal.get(ordinal));
+    } else {
+      ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+      ordinals.put(event.productId(), ordinal);
+    }
+    Attributes attributes =
+        new Attributes(
+            event.productId(),
+            event.productType(),
+            event.status(),
+            event.stageId(),
+            event.sellerId());
+    attributesByOrdinal.put(ordinal, attributes);
+    index(ordinal, attributes);
+  }
+
+  @Override
+  protected void remove(Long productId) {
+    Integer ordinal = ordinals.remove(productId);
+    if (ordinal == null) {
+      return;
+    }
+    unindex(ordinal, attributesByOrdinal.remove(ordinal));
+    freeOrdinals.push(ordinal);
+  }
+
+  @Override
+  protected Set<Long> indexedProductIds() {
+    return ordinals.keySet();
+  }
+
+  private void index(int ordinal, Attributes attributes) {
+    all.add(ordinal);
+    if (attributes.productType() != null) {
+      byType.computeIfAbsent(attributes.productType(), k -> new CompressedBitmap()).add(ordinal);
+    }
+    if (attributes.status() != null) {
+      byStatus.computeIfAbsent(attributes.status(), k -> new CompressedBitmap()).add(ordinal);
+    }
+    if (attributes.stageId() != null) {
+      byStage.computeIfAbsent(attributes.stageId(), k -> new CompressedBitmap()).add(ordinal);
+    }
+    if (attributes.sellerId() != null) {
+      bySeller.computeIfAbsent(attributes.sellerId(), k -> new CompressedBitmap()).add(ordinal);
+    }
+  }
+
+  private void unindex(int ordinal, Attributes attributes) {
+    all.remove(ordinal);
+    removeFrom(byType, attributes.productType(), ordinal);
+    removeFrom(byStatus, attributes.status(), ordinal);
+    removeFrom(byStage, attributes.stageId(), ordinal);
+    removeFrom(bySeller, attributes.sellerId(), ordinal);
+  }
+
+  private static <K> void removeFrom(Map<K, CompressedBitmap> bitmaps, K key, int ordinal) {
+    if (key == null) {
+      return;
+    }
+    CompressedBitmap bitmap = bitmaps.get(key);
+    if (bitmap != null) {
+      bitmap.remove(ordinal);
+      if (bitmap.isEmpty()) {
+        bitmaps.remove(key);
+      }
+    }
+  }
+
+  private CompressedBitmap intersect(
+      ProductType productType,
+      ProductStatus status,
+      Long stageId,
+      String sellerId,
+      Dimension excluded) {
+    List<CompressedBitmap> filters = new ArrayList<>(4);
+    if (productType != null && excluded != Dimension.TYPE) {
+      filters.add(byType.get(productType));
+    }
+    if (status != null && excluded != Dimension.STATUS) {
+      filters.add(byStatus.get(status));
+    }
+    if (stageId != null && excluded != Dimension.STAGE) {
+      filters.add(byStage.get(stageId));
+    }
+    if (StringUtils.hasText(sellerId) && excluded != Dimension.SELLER) {
+      filters.add(bySeller.get(sellerId));
+    }
+    if (filters.contains(null)) {
+      return new CompressedBitmap();
+    }
+    if (filters.isEmpty()) {
+      return all;
+    }
+    // 가장 작은 비트맵부터 교집합하여 중간 결과를 최소화한다.
+    filters.sort((a, b) -> Long.compare(a.cardinality(), b.cardinality()));
+    CompressedBitmap result = filters.get(0);
+    for (int i = 1; i < filters.size(); i++) {
+      result = result.and(filters.get(i));
+    }
+    return result;
+  }
+
+  private static <K extends Comparable<K>> Map<K, Long> count(
+      Map<K, CompressedBitmap> bitmaps, CompressedBitmap base) {
+    Map<K, Long> counts = new TreeMap<>();
+    bitmaps.forEach(
+        (key, bitmap) -> {
+          long count = bitmap.andCardinality(base);
+          if (count > 0) {
+            counts.put(key, count);
+          }
+        });
+    return counts;
+  }
+
+  private enum Dimension {
+    TYPE,
+    STATUS,
+    STAGE,
+    SELLER
+  }
+
+  private record Attributes(
+      Long productId,
+      ProductType productType,
+      ProductStatus status,
+      Long stageId,
+      String sellerId) {}
+
+  /**
+   * 비트맵 평가 결과.
+   *
+   * @param total 일치 건수
+   * @param productIds 일치 상품 ID 목록 (일치 건수가 요청 한도를 넘으면 null)
+   */
+  public record BitmapMatch(long total, List<Long> productIds) {}
+}
@@ -0,0 +1,296 @@
+package com.tickatch.product_service.product.infrastructure.search.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 행사 일정 구간 트리.
+ *
+ * <p>상품별 행사 일정 {@code [startAt, endAt)}을 시작 일시(같으면 상품 ID) 순으로 정렬한 AVL 트리에 저장하고, 각 노드에 하위 트리의 최대 종료
+ * 일시를 함께 보관한다. 최대 종료 일시가 조회 구간 시작 이하인 하위 트리는 통째로 건너뛰므로 다음 연산이 트리 높이에 비례한다.
+ *
+ * <ul>
+ *   <li>겹침 여부 확인: O(log n)
+ *   <li>겹치는 구간 조회: O(log n + k)
+ *   <li>시작 일시 범위 조회: O(log n + k)
+ * </ul>
+ *
+ * <p>구간은 끝을 포함하지 않으므로 한 행사가 끝나는 시각에 다음 행사가 시작하는 것은 겹침이 아니다.
+ *
+ * <p>이 클래스는 스레드 안전하지 않다. 동시 접근은 호출 측에서 제어해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class IntervalTree {
+
+  private Node root;
+  private int size;
+
+  /**
+   * 구간을 추가한다. 같은 상품 ID와 시작 일시의 구간이 이미 있으면 중복으로 저장되므로 먼저 제거해야 한다.
+   *
+   * @param productId 상품 ID
+   * @param startAt 행사 시작 일시
+   * @param endAt 행사 종료 일시 (시작 일시 이후)
+   */
+  public void insert(long productId, LocalDateTime startAt, LocalDateTime endAt) {
+    root = insert(root, new Node(productId, startAt, endAt));
+    size++;
+  }
+
+  /**
+   * 구간을 제거한다.
+   *
+   * @param productId 상품 ID
+   * @param startAt 추가할 때의 행사 시작 일시
+   * @return 제거했으면 true
+   */
+  public boolean remove(long productId, LocalDateTime startAt) {
+    int before = size;
+    root = remove(root, productId, startAt);
+    return size < before;
+  }
+
+  /**
+   * 조회 구간과 겹치는 구간이 하나라도 있는지 확인한다.
+   *
+   * @param from 조회 구간 시작 (포함)
+   * @param to 조회 구간 끝 (제외)
+   * @param excludeProductId 검사에서 제외할 상품 ID (수정 중인 상품 자신, null이면 제외 없음)
+   * @return 겹치는 구간이 있으면 true
+   */
+  public boolean overlapsAny(LocalDateTime from, LocalDateTime to, Long excludeProductId) {
+    return overlapsAny(root, from, to, excludeProductId);
+  }
+
+  /**
+   * 조회 구간과 겹치는 구간의 상품 ID를 시작 일시 순으로 반환한다.
+   *
+   * @param from 조회 구간 시작 (포함)
+   * @param to 조회 구간 끝 (제외)
+   * @return 상품 ID 목록
+   */
+  public List<Long> findOverlapping(LocalDateTime from, LocalDateTime to) {
+    List<Long> result = new ArrayList<>();
+    collectOverlapping(root, from, to, result);
+    return result;
+  }
+
+  /**
+   * 시작 일시가 범위 안에 있는 구간의 상품 ID를 시작 일시 순으로 반환한다.
+   *
+   * @param from 시작 일시 하한 (포함, null이면 제한 없음)
+   * @param to 시작 일시 상한 (포함, null이면 제한 없음)
+   * @return 상품 ID 목록
+   */
+  public List<Long> findStartingBetween(LocalDateTime from, LocalDateTime to) {
+    List<Long> result = new ArrayList<>();
+    collectStartingBetween(root, from, to, result);
+    return result;
+  }
+
+  /**
+   * 저장된 구간 수를 반환한다.
+   *
+   * @return 구간 수
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * 트리 높이를 반환한다. 비어 있으면 0이다.
+   *
+   * @return 트리 높이
+   */
+  int height() {
+    return height(root);
+  }
+
+  // ========== 조회 ==========
+
+  private boolean overlapsAny(Node node, LocalDateTime from, LocalDateTime to, Long excludeId) {
+    if (node == null || !node.maxEnd.isAfter(from)) {
+      return false;
+    }
+    if (node.overlaps(from, to) && (excludeId == null || node.productId != excludeId)) {
+      return true;
+    }
+    if (overlapsAny(node.left, from, to, excludeId)) {
+      return true;
+    }
+    return node.startAt.isBefore(to) && overlapsAny(node.right, from, to, excludeId);
+  }
+
+  private void collectOverlapping(
+      Node node, LocalDateTime from, LocalDateTime to, List<Long> result) {
+    if (node == null || !node.maxEnd.isAfter(from)) {
+      return;
+    }
+    collectOverlapping(node.left, from, to, result);
+    if (!node.startAt.isBefore(to)) {
+      return;
+    }
+    if (node.endAt.isAfter(from)) {
+      result.add(node.productId);
+    }
+    collectOverlapping(node.right, from, to, result);
+  }
+
+  private void collectStartingBetween(
+      Node node, LocalDateTime from, LocalDateTime to, List<Long> result) {
+    if (node == null) {
+      return;
+    }
+    boolean afterFrom = from == null || !node.startAt.isBefore(from);
+    boolean beforeTo = to == null || !node.startAt.isAfter(to);
+    if (afterFrom) {
+      collectStartingBetween(node.left, from, to, result);
+    }
+    if (afterFrom && beforeTo) {
+      result.add(node.productId);
+    }
+    if (beforeTo) {
+      collectStartingBetween(node.right, from, to, result);
+    }
+  }
+
+  // ========== 변경 ==========
+
+  private Node insert(Node node, Node added) {
+    if (node == null) {
+      return added;
+    }
+    if (compare(added.startAt, added.productId, node) < 0) {
+      node.left = insert(node.left, added);
+    } else {
+      node.right = insert(node.right, added);
+    }
+    return rebalance(node);
+  }
+
+  private Node remove(Node node, long productId, LocalDateTime startAt) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = compare(startAt, productId, node);
+    if (cmp < 0) {
+      node.left = remove(node.left, productId, startAt);
+    } else if (cmp > 0) {
+      node.right = remove(node.right, productId, startAt);
+    } else {
+      size--;
+      if (node.left == null) {
+        return node.right;
+      }
+      if (node.right == null) {
+        return node.left;
+      }
+      Node successor = min(node.right);
+      successor.right = removeMin(node.right);
+      successor.left = node.left;
+      node = successor;
+    }
+    return rebalance(node);
+  }
+
+  private Node min(Node node) {
+    while (node.left != null) {
+      node = node.left;
+    }
+    return node;
+  }
+
+  private Node removeMin(Node node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = removeMin(node.left);
+    return rebalance(node);
+  }
+
+  // ========== 균형 ==========
+
+  private Node rebalance(Node node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private Node rotateRight(Node node) {
+    Node left = node.left;
+    node.left = left.right;
+    left.right = node;
+    update(node);
+    update(left);
+    return left;
+  }
+
+  private Node rotateLeft(Node node) {
+    Node right = node.right;
+    node.right = right.left;
+    right.left = node;
+    update(node);
+    update(right);
+    return right;
+  }
+
+  private void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    LocalDateTime maxEnd = node.endAt;
+    if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+      maxEnd = node.left.maxEnd;
+    }
+    if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+      maxEnd = node.right.maxEnd;
+    }
+    node.maxEnd = maxEnd;
+  }
+
+  private static int height(Node node) {
+    return node != null ? node.height : 0;
+  }
+
+  private static int compare(LocalDateTime startAt, long productId, Node node) {
+    int cmp = startAt.compareTo(node.startAt);
+    return cmp != 0 ? cmp : Long.compare(productId, node.productId);
+  }
+
+  /** 트리 노드. 하위 트리의 최대 종료 일시와 높이를 함께 보관한다. */
+  private static final class Node {
+
+    private final long productId;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private LocalDateTime maxEnd;
+    private int height;
+    private Node left;
+    private Node right;
+
+    private Node(long productId, LocalDateTime startAt, LocalDateTime endAt) {
+      this.productId = productId;
+      this.startAt = startAt;
+      this.endAt = endAt;
+      this.maxEnd = endAt;
+      this.height = 1;
+    }
+
+    private boolean overlaps(LocalDateTime from, LocalDateTime to) {
+      return startAt.isBefore(to) && endAt.isAfter(from);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.tickatch.product_service.product.infrastructure.search.schedule;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.infrastructure.search.AbstractProductIndex;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스테이지별 행사 일정 인덱스.
+ *
+ * <p>삭제되지 않은 상품의 행사 일정을 스테이지마다, 그리고 아트홀마다 {@link IntervalTree}로 유지한다. 스테이지 캘린더 조회, 스테이지 + 시작 일시 범위
+ * 검색, 스테이지/아트홀 잔여 좌석 캘린더가 테이블 범위 스캔 없이 트리 탐색만으로 처리된다.
+ *
+ * <p>인스턴스마다 따로 유지되므로 조회에만 사용한다. 상품 생성/수정 시 일정 겹침 검사는 스테이지를 잠근 뒤 DB에서 확인한다.
+ *
+ * <p>인덱스는 애플리케이션 기동 시 적재되고, 이후에는 커밋된 {@link ProductChangedEvent}와 다른 인스턴스가 방송한 변경({@code
+ * ProductIndexBroadcaster})으로 갱신되며 {@link #reconcile()}이 주기적으로 다시 적재한다. 적재 완료 전에는 {@link
+ * #isReady()}가 false를 반환하며, 호출 측은 DB 조회로 대체해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StageScheduleIndex extends AbstractProductIndex {
+
+  private final Map<Long, IntervalTree> byStage = new HashMap<>();
+  private final Map<Long, IntervalTree> byArtHall = new HashMap<>();
+  private final Map<Long, Entry> entries = new HashMap<>();
+
+  public StageScheduleIndex(ProductRepository productRepository) {
+    super(productRepository, EnumSet.allOf(ProductStatus.class));
+  }
+
+  /** 기동 완료 시 삭제되지 않은 상품 전체의 일정을 색인한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void bootstrap() {
+    reload();
+    log.info("스테이지 일정 인덱스 적재 완료. products: {}, stages: {}", entries.size(), byStage.size());
+  }
+
+  /**
+   * 주기적으로 DB에서 다시 적재하여 다른 인스턴스의 변경을 반영한다.
+   *
+   * <p>다른 인스턴스의 변경은 방송으로 받지만, 방송이 유실된 경우(브로커 장애, 수신 큐 재생성)에도 반영되지 않은 채로 남는 시간을 적재 주기로 제한한다.
+   */
+  @Scheduled(
+      fixedDelayString = "${product.index.reload-ms:300000}",
+      initialDelayString = "${product.index.reload-ms:300000}")
+  public void reconcile() {
+    long loaded = reload();
+    log.debug("스테이지 일정 인덱스 재적재. products: {}", loaded);
+  }
+
+  /**
+   * 스테이지에서 주어진 구간과 일정이 겹치는 다른 상품이 있는지 확인한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param startAt 행사 시작 일시
+   * @param endAt 행사 종료 일시
+   * @param excludeProductId 검사에서 제외할 상품 ID (수정 중인 상품 자신, 신규 생성이면 null)
+   * @return 겹치는 상품이 있으면 true
+   */
+  public boolean hasOverlap(
+      Long stageId, LocalDateTime startAt, LocalDateTime endAt, Long excludeProductId) {
+    lock.readLock().lock();
+    try {
+      IntervalTree tree = byStage.get(stageId);
+      return tree != null && tree.overlapsAny(startAt, endAt, excludeProductId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 스테이지에서 주어진 기간과 행사 일정이 겹치는 상품 ID를 시작 일시 순으로 반환한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 상품 ID 목록
+   */
+  public List<Long> findOverlapping(Long stageId, LocalDateTime from, LocalDateTime to) {
+    lock.readLock().lock();
+    try {
+      IntervalTree tree = byStage.get(stageId);
+      return tree != null ? tree.findOverlapping(from, to) : List.of();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 스테이지에서 행사 시작 일시가 범위 안에 있는 상품 ID를 시작 일시 순으로 반환한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 시작 일시 하한 (포함, null이면 제한 없음)
+   * @param to 시작 일시 상한 (포함, null이면 제한 없음)
+   * @return 상품 ID 목록
+   */
+  public List<Long> findStartingBetween(Long stageId, LocalDateTime from, LocalDateTime to) {
+    lock.readLock().lock();
+    try {
+      IntervalTree tree = byStage.get(stageId);
+      return tree != null ? tree.findStartingBetween(from, to) : List.of();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 아트홀에서 주어진 기간과 행사 일정이 겹치는 상품 ID를 시작 일시 순으로 반환한다.
+   *
+   * @param artHallId 아트홀 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 상품 ID 목록
+   */
+  public List<Long> findOverlappingInArtHall(Long artHallId, LocalDateTime from, LocalDateTime to) {
+    lock.readLock().lock();
+    try {
+      IntervalTree tree = byArtHall.get(artHallId);
+      return tree != null ? tree.findOverlapping(from, to) : List.of();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ========== 내부 갱신 ==========
+
+  @Override
+  protected void apply(ProductChangedEvent event) {
+    remove(event.productId());
+    if (event.deleted()
+        || event.stageId() == null
+        || event.startAt() == null
+        || event.endAt() == null) {
+      return;
+    }
+    byStage
+        .computeIfAbsent(event.stageId(), key -> new IntervalTree())
+        .insert(event.productId(), event.startAt(), event.endAt());
+    if (event.artHallId() != null) {
+      byArtHall
+          .computeIfAbsent(event.artHallId(), key -> new IntervalTree())
+          .insert(event.productId(), event.startAt(), event.endAt());
+    }
+    entries.put(event.productId(), new Entry(event.stageId(), event.artHallId(), event.startAt()));
+  }
+
+  @Override
+  protected void remove(Long productId) {
+    Entry previous = entries.remove(productId);
+    if (previous != null) {
+      removeFrom(byStage, previous.stageId(), productId, previous.startAt());
+      removeFrom(byArtHall, previous.artHallId(), productId, previous.startAt());
+    }
+  }
+
+  @Override
+  protected Set<Long> indexedProductIds() {
+    return entries.keySet();
+  }
+
+  private static void removeFrom(
+      Map<Long, IntervalTree> trees, Long key, Long productId, LocalDateTime startAt) {
+    IntervalTree tree = key != null ? trees.get(key) : null;
+    if (tree == null) {
+      return;
+    }
+    tree.remove(productId, startAt);
+    if (tree.size() == 0) {
+      trees.remove(key);
+    }
+  }
+
+  /** 상품이 현재 색인된 스테이지, 아트홀과 시작 일시. 변경 시 이전 구간을 찾아 제거하는 데 사용한다. */
+  private record Entry(Long stageId, Long artHallId, LocalDateTime startAt) {}
+}
@@ -0,0 +1,155 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸리티.
+ *
+ * <p>자동완성 색인 키와 검색어를 동일한 규칙으로 정규화하기 위해 사용한다. 완성형 음절은 초성/중성/종성 호환 자모로 분해하고, 겹모음과 겹받침은 입력 순서대로 다시
+ * 분해한다. 이렇게 하면 입력 중인 미완성 음절도 접두사로 일치한다.
+ *
+ * <pre>
+ * "닭" → "ㄷㅏㄹㄱ"   ("달" → "ㄷㅏㄹ" 은 접두사)
+ * "과" → "ㄱㅗㅏ"     ("고" → "ㄱㅗ" 는 접두사)
+ * </pre>
+ *
+ * <p>공백은 제거하고, 한글 외 문자는 소문자로 변환한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public final class HangulJamo {
+
+  private static final char SYLLABLE_BEGIN = 0xAC00;
+  private static final char SYLLABLE_END = 0xD7A3;
+  private static final int JUNGSUNG_COUNT = 21;
+  private static final int JONGSUNG_COUNT = 28;
+
+  private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+
+  /** 종성 (인덱스 0은 받침 없음) */
+  private static final String JONGSUNG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+  /** 겹모음/겹받침 → 입력 순서 자모 */
+  private static final Map<Character, String> COMPOUND =
+      Map.ofEntries(
+          Map.entry('ㄳ', "ㄱㅅ"),
+          Map.entry('ㄵ', "ㄴㅈ"),
+          Map.entry('ㄶ', "ㄴㅎ"),
+          Map.entry('ㄺ', "ㄹㄱ"),
+          Map.entry('ㄻ', "ㄹㅁ"),
+          Map.entry('ㄼ', "ㄹㅂ"),
+          Map.entry('ㄽ', "ㄹㅅ"),
+          Map.entry('ㄾ', "ㄹㅌ"),
+          Map.entry('ㄿ', "ㄹㅍ"),
+          Map.entry('ㅀ', "ㄹㅎ"),
+          Map.entry('ㅄ', "ㅂㅅ"),
+          Map.entry('ㅘ', "ㅗㅏ"),
+          Map.entry('ㅙ', "ㅗㅐ"),
+          Map.entry('ㅚ', "ㅗㅣ"),
+          Map.entry('ㅝ', "ㅜㅓ"),
+          Map.entry('ㅞ', "ㅜㅔ"),
+          Map.entry('ㅟ', "ㅜㅣ"),
+          Map.entry('ㅢ', "ㅡㅣ"));
+
+  private HangulJamo() {
+    // 인스턴스화 방지
+  }
+
+  /**
+   * 문자열을 자모 단위로 분해한다.
+   *
+   * @param text 원본 문자열 (null 허용)
+   * @return 분해된 자모 문자열 (null이면 빈 문자열)
+   */
+  public static String decompose(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (isSyllable(c)) {
+        int offset = c - SYLLABLE_BEGIN;
+        int cho = offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT);
+        int jung = (offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT;
+        int jong = offset % JONGSUNG_COUNT;
+        sb.append(CHOSUNG.charAt(cho));
+        appendJamo(sb, JUNGSUNG.charAt(jung));
+        if (jong != 0) {
+          appendJamo(sb, JONGSUNG.charAt(jong));
+        }
+      } else {
+        appendJamo(sb, Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 문자열의 초성만 추출한다.
+   *
+   * <p>완성형 음절은 초성으로, 그 외 문자는 {@link #decompose(String)}와 같은 규칙으로 변환한다.
+   *
+   * <pre>
+   * "레미제라블" → "ㄹㅁㅈㄹㅂ"
+   * </pre>
+   *
+   * @param text 원본 문자열 (null 허용)
+   * @return 초성 문자열 (null이면 빈 문자열)
+   */
+  public static String chosung(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (isSyllable(c)) {
+        int offset = c - SYLLABLE_BEGIN;
+        sb.append(CHOSUNG.charAt(offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)));
+      } else {
+        appendJamo(sb, Character.toLowerCase(c));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 문자열이 한글 음절을 포함하는지 확인한다.
+   *
+   * @param text 확인할 문자열
+   * @return 완성형 음절이 하나라도 있으면 true
+   */
+  public static boolean containsSyllable(String text) {
+    if (text == null) {
+      return false;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      if (isSyllable(text.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+
+  private static void appendJamo(StringBuilder sb, char jamo) {
+    String split = COMPOUND.get(jamo);
+    if (split != null) {
+      sb.append(split);
+    } else {
+      sb.append(jamo);
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse.SuggestType;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.infrastructure.search.AbstractProductIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 자동완성 메모리 인덱스.
+ *
+ * <p>노출 가능한 상품({@link ProductStatus#canBePurchased()})의 상품명과 출연진 이름을 {@link SuggestTrie}에 색인한다. 조회
+ * 시 DB에 접근하지 않으며, 색인은 다음 두 경로로만 갱신된다.
+ *
+ * <ul>
+ *   <li>애플리케이션 기동 완료 시, 그리고 주기({@code product.index.reload-ms})마다 노출 대상 상품 전체 적재 ({@link
+ *       AbstractProductIndex#reload()})
+ *   <li>트랜잭션 커밋 이후 {@link ProductChangedEvent} 수신 시 해당 상품만 재색인
+ * </ul>
+ *
+ * <p>각 문구는 다음 키로 색인된다. 모든 키는 {@link HangulJamo}로 자모 분해되므로 "레미"를 입력하는 도중의 "렘"이나 초성 "ㄹㅁ"로도 일치한다.
+ *
+ * <ul>
+ *   <li>전체 문구 ("레미제라블")
+ *   <li>공백 뒤 단어 시작 위치부터의 접미 ("뮤지컬 레미제라블" → "레미제라블")
+ *   <li>위 두 키의 초성
+ * </ul>
+ *
+ * <p>인기도 점수는 예매 수에 가중치를 두고 조회수를 더해 계산한다. 조회수와 예매 수 변경은 예매 경로의 부담을 줄이기 위해 바로 반영하지 않고 주기적 적재 때 반영한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductSuggestIndex extends AbstractProductIndex {
+
+  /** 예매 1건의 점수 가중치 (조회 1회 = 1) */
+  static final long RESERVATION_WEIGHT = 10L;
+
+  private static final List<ProductStatus> BROWSABLE_STATUSES =
+      Arrays.stream(ProductStatus.values()).filter(ProductStatus::canBePurchased).toList();
+
+  private final SuggestTrie trie;
+
+  /** 상품별 색인된 (키, 항목) 목록. 재색인 시 이전 항목 제거에 사용한다. */
+  private final Map<Long, List<IndexedKey>> indexedKeys = new HashMap<>();
+
+  public ProductSuggestIndex(
+      ProductRepository productRepository, @Value("${product.suggest.top-n:10}") int topN) {
+    super(productRepository, BROWSABLE_STATUSES);
+    this.trie = new SuggestTrie(topN);
+  }
+
+  /** 기동 완료 시 노출 대상 상품 전체를 색인한다. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void bootstrap() {
+    long products = reload();
+    log.info("상품 자동완성 인덱스 적재 완료. products: {}, keys: {}", products, trie.size());
+  }
+
+  /**
+   * 주기적으로 DB에서 다시 적재하여 인기도 점수와 다른 인스턴스의 변경을 반영한다.
+   *
+   * <p>조회수와 예매 수 변경은 {@link ProductChangedEvent}로 전달되지 않으므로 점수는 이 주기로만 갱신된다.
+   */
+  @Scheduled(
+      fixedDelayString = "${product.index.reload-ms:300000}",
+      initialDelayString = "${product.index.reload-ms:300000}")
+  public void reconcile() {
+    long products = reload();
+    log.debug("상품 자동완성 인덱스 재적재. products: {}", products);
+  }
+
+  /**
+   * 입력어로 시작하는 제안 항목을 조회한다.
+   *
+   * <p>입력어에 완성형 음절이 없고 모두 자음이면 초성 검색으로도 동작한다. 초성 키도 자모 분해 키와 같은 트라이에 있으므로 별도 분기 없이 동일하게 조회된다.
+   *
+   * @param query 입력어
+   * @param limit 최대 반환 개수
+   * @return 인기도 순으로 정렬된 제안 항목
+   */
+  public List<SuggestEntry> search(String query, int limit) {
+    String prefix = HangulJamo.decompose(query);
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      return trie.search(prefix, limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ========== 내부 구현 ==========
+
+  @Override
+  protected void apply(ProductChangedEvent event) {
+    remove(event.productId());
+    if (!event.isBrowsable()) {
+      return;
+    }
+
+    long score = (long) event.reservationCount() * RESERVATION_WEIGHT + event.viewCount();
+    List<IndexedKey> keys = new ArrayList<>();
+    addKeys(keys, new SuggestEntry(event.productId(), SuggestType.PRODUCT, event.name(), score));
+    for (String cast : splitCast(event.castInfo())) {
+      addKeys(keys, new SuggestEntry(event.productId(), SuggestType.CAST, cast, score));
+    }
+    keys.forEach(k -> trie.insert(k.key(), k.entry()));
+    indexedKeys.put(event.productId(), keys);
+  }
+
+  @Override
+  protected void remove(Long productId) {
+    List<IndexedKey> previous = indexedKeys.remove(productId);
+    if (previous != null) {
+      previous.forEach(k -> trie.remove(k.key(), k.entry()));
+    }
+  }
+
+  @Override
+  protected Set<Long> indexedProductIds() {
+    return indexedKeys.keySet();
+  }
+
+  private void addKeys(List<IndexedKey> keys, SuggestEntry entry) {
+    if (entry.text() == null || entry.text().isBlank()) {
+      return;
+    }
+    Set<String> distinct = new LinkedHashSet<>();
+    for (String suffix : wordSuffixes(entry.text().strip())) {
+      distinct.add(HangulJamo.decompose(suffix));
+      distinct.add(HangulJamo.chosung(suffix));
+    }
+    for (String key : distinct) {
+      if (!key.isEmpty()) {
+        keys.add(new IndexedKey(key, entry));
+      }
+    }
+  }
+
+  private static List<String> wordSuffixes(String text) {
+    List<String> suffixes = new ArrayList<>();
+    suffixes.add(text);
+    for (int i = 1; i < text.length(); i++) {
+      if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+        suffixes.add(text.substring(i));
+      }
+    }
+    return suffixes;
+  }
+
+  private static List<String> splitCast(String castInfo) {
+    if (castInfo == null || castInfo.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(castInfo.split("[,/\\n]"))
+        .map(String::strip)
+        .filter(s -> !s.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  private record IndexedKey(String key, SuggestEntry entry) {}
+}
@@ -0,0 +1,36 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse.SuggestType;
+import java.util.Comparator;
+
+/**
+ * 자동완성 트라이에 저장되는 항목.
+ *
+ * <p>동일 상품이 여러 키(전체 이름, 단어 시작, 초성)로 색인되므로 {@link #identity()}로 중복을 제거한다. 점수는 갱신될 수 있으므로 식별자에 포함하지
+ * 않는다.
+ *
+ * @param productId 상품 ID
+ * @param type 제안 타입
+ * @param text 노출 문구
+ * @param score 인기도 점수
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public record SuggestEntry(Long productId, SuggestType type, String text, long score) {
+
+  /** 점수 내림차순, 동점이면 문구/상품 ID 오름차순 */
+  static final Comparator<SuggestEntry> RANKING =
+      Comparator.comparingLong(SuggestEntry::score)
+          .reversed()
+          .thenComparing(SuggestEntry::text)
+          .thenComparing(SuggestEntry::productId);
+
+  /**
+   * 중복 제거용 식별자를 반환한다.
+   *
+   * @return 상품 ID, 타입, 문구의 조합
+   */
+  public String identity() {
+    return productId + ":" + type + ":" + text;
+  }
+}
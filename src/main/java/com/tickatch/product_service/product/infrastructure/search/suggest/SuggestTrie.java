@@ -0,0 +1,238 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 접두사 자동완성용 압축 트라이(radix tree).
+ *
+ * <p>단일 자식 체인을 하나의 간선 레이블로 압축하여 노드 수를 줄이고, 각 노드에 하위 트리 전체의 상위 N개 항목을 미리 계산해 둔다. 따라서 조회는 접두사 길이만큼
+ * 내려간 뒤 해당 노드의 목록을 반환하는 것으로 끝나며, 하위 트리를 순회하지 않는다.
+ *
+ * <p>삽입/삭제 시에는 경로상의 노드만 아래에서 위로 상위 N개를 다시 계산한다.
+ *
+ * <p>이 클래스는 스레드 안전하지 않다. 동시 접근은 호출 측에서 제어해야 한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class SuggestTrie {
+
+  private final int topN;
+  private final Node root = new Node("");
+  private int size;
+
+  /**
+   * 트라이를 생성한다.
+   *
+   * @param topN 노드별로 유지할 상위 항목 수
+   */
+  public SuggestTrie(int topN) {
+    if (topN <= 0) {
+      throw new IllegalArgumentException("topN must be positive: " + topN);
+    }
+    this.topN = topN;
+  }
+
+  /**
+   * 키에 항목을 추가한다. 동일 식별자의 항목이 이미 있으면 교체한다.
+   *
+   * @param key 정규화된 색인 키
+   * @param entry 추가할 항목
+   */
+  public void insert(String key, SuggestEntry entry) {
+    if (key == null || key.isEmpty()) {
+      return;
+    }
+    List<Node> path = new ArrayList<>();
+    Node node = root;
+    path.add(node);
+    int i = 0;
+    while (i < key.length()) {
+      Node child = node.children.get(key.charAt(i));
+      if (child == null) {
+        child = new Node(key.substring(i));
+        node.children.put(key.charAt(i), child);
+        node = child;
+        path.add(node);
+        break;
+      }
+      int common = commonPrefixLength(child.label, key, i);
+      if (common < child.label.length()) {
+        child = split(node, child, common);
+      }
+      node = child;
+      path.add(node);
+      i += common;
+    }
+    if (node.terminals.put(entry.identity(), entry) == null) {
+      size++;
+    }
+    recompute(path);
+  }
+
+  /**
+   * 키에서 항목을 제거한다.
+   *
+   * @param key 정규화된 색인 키
+   * @param entry 제거할 항목 (식별자로 비교)
+   */
+  public void remove(String key, SuggestEntry entry) {
+    if (key == null || key.isEmpty()) {
+      return;
+    }
+    List<Node> path = new ArrayList<>();
+    Node node = root;
+    path.add(node);
+    int i = 0;
+    while (i < key.length()) {
+      Node child = node.children.get(key.charAt(i));
+      if (child == null || !key.startsWith(child.label, i)) {
+        return;
+      }
+      node = child;
+      path.add(node);
+      i += child.label.length();
+    }
+    if (node.terminals.remove(entry.identity()) == null) {
+      return;
+    }
+    size--;
+    prune(path);
+    recompute(path);
+  }
+
+  /**
+   * 접두사로 시작하는 키의 상위 항목을 조회한다.
+   *
+   * @param prefix 정규화된 접두사
+   * @param limit 최대 반환 개수 (노드별 상위 N개를 넘을 수 없음)
+   * @return 점수 순으로 정렬된 항목 목록
+   */
+  public List<SuggestEntry> search(String prefix, int limit) {
+    if (prefix == null || prefix.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    Node node = root;
+    int i = 0;
+    while (i < prefix.length()) {
+      Node child = node.children.get(prefix.charAt(i));
+      if (child == null) {
+        return List.of();
+      }
+      int common = commonPrefixLength(child.label, prefix, i);
+      if (i + common == prefix.length()) {
+        // 접두사가 간선 중간에서 끝나도 해당 하위 트리 전체가 일치한다.
+        node = child;
+        break;
+      }
+      if (common < child.label.length()) {
+        return List.of();
+      }
+      node = child;
+      i += common;
+    }
+    List<SuggestEntry> top = node.top;
+    return top.size() <= limit ? top : top.subList(0, limit);
+  }
+
+  /**
+   * 저장된 (키, 항목) 쌍의 수를 반환한다.
+   *
+   * @return 항목 수
+   */
+  public int size() {
+    return size;
+  }
+
+  // ========== 내부 구현 ==========
+
+  private Node split(Node parent, Node child, int at) {
+    Node middle = new Node(child.label.substring(0, at));
+    child.label = child.label.substring(at);
+    middle.children.put(child.label.charAt(0), child);
+    middle.top = child.top;
+    parent.children.put(middle.label.charAt(0), middle);
+    return middle;
+  }
+
+  private void prune(List<Node> path) {
+    for (int depth = path.size() - 1; depth > 0; depth--) {
+      Node node = path.get(depth);
+      Node parent = path.get(depth - 1);
+      if (!node.terminals.isEmpty()) {
+        return;
+      }
+      if (node.children.isEmpty()) {
+        parent.children.remove(node.label.charAt(0));
+        path.remove(depth);
+        continue;
+      }
+      mergeSingleChild(parent, node);
+      return;
+    }
+  }
+
+  private void mergeSingleChild(Node parent, Node node) {
+    if (node.children.size() != 1) {
+      return;
+    }
+    Node only = node.children.values().iterator().next();
+    only.label = node.label + only.label;
+    parent.children.put(only.label.charAt(0), only);
+  }
+
+  private void recompute(List<Node> path) {
+    for (int depth = path.size() - 1; depth >= 0; depth--) {
+      Node node = path.get(depth);
+      if (depth > 0 && path.get(depth - 1).children.get(node.label.charAt(0)) != node) {
+        // 병합으로 분리된 노드는 건너뛴다.
+        continue;
+      }
+      node.top = collectTop(node);
+    }
+  }
+
+  private List<SuggestEntry> collectTop(Node node) {
+    Map<String, SuggestEntry> merged = new HashMap<>();
+    for (SuggestEntry entry : node.terminals.values()) {
+      merged.merge(entry.identity(), entry, SuggestTrie::higher);
+    }
+    for (Node child : node.children.values()) {
+      for (SuggestEntry entry : child.top) {
+        merged.merge(entry.identity(), entry, SuggestTrie::higher);
+      }
+    }
+    List<SuggestEntry> sorted = new ArrayList<>(merged.values());
+    sorted.sort(SuggestEntry.RANKING);
+    return sorted.size() <= topN ? List.copyOf(sorted) : List.copyOf(sorted.subList(0, topN));
+  }
+
+  private static SuggestEntry higher(SuggestEntry a, SuggestEntry b) {
+    return a.score() >= b.score() ? a : b;
+  }
+
+  private static int commonPrefixLength(String label, String key, int offset) {
+    int max = Math.min(label.length(), key.length() - offset);
+    int n = 0;
+    while (n < max && label.charAt(n) == key.charAt(offset + n)) {
+      n++;
+    }
+    return n;
+  }
+
+  private static final class Node {
+    private String label;
+    private final TreeMap<Character, Node> children = new TreeMap<>();
+    private final Map<String, SuggestEntry> terminals = new LinkedHashMap<>();
+    private List<SuggestEntry> top = List.of();
+
+    private Node(String label) {
+      this.label = label;
+    }
+  }
+}
@@ -1,8 +1,19 @@
 package com.tickatch.product_service.product.presentation.api;
 
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
+import com.tickatch.product_service.product.application.dto.ProductFacetResponse;
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse;
+import com.tickatch.product_service.product.application.service.ProductAvailabilityService;
 import com.tickatch.product_service.product.application.service.ProductCommandService;
+import com.tickatch.product_service.product.application.service.ProductFacetService;
+import com.tickatch.product_service.product.application.service.ProductQueryCoalescer;
 import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.application.service.ProductSuggestService;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.presentation.api.dto.ProductBatchRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductCreateRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductSearchRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductUpdateRequest;
@@ -15,11 +26,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -29,8 +44,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 상품 API 컨트롤러.
@@ -41,6 +58,8 @@ import org.springframework.web.bind.annotation.RestController;
  * @since 1.0.0
  * @see ProductCommandService
  * @see ProductQueryService
+ * @see ProductSuggestService
+ * @see ProductFacetService
  */
 @Tag(name = "Product", description = "상품 관리 API")
 @RestController
@@ -50,6 +69,10 @@ public class ProductApi {
 
   private final ProductCommandService productCommandService;
   private final ProductQueryService productQueryService;
+  private final ProductQueryCoalescer productQueryCoalescer;
+  private final ProductSuggestService productSuggestService;
+  private final ProductFacetService productFacetService;
+  private final ProductAvailabilityService productAvailabilityService;
 
   // ========== 조회 ==========
 
@@ -58,6 +81,8 @@ public class ProductApi {
    *
    * @param request 검색 조건 (상품명, 타입, 상태, 스테이지 ID, 판매자 ID)
    * @param pageable 페이징 정보 (기본값: size=10, sort=createdAt DESC)
+   * @param view 응답 뷰 (summary, inventory, detail)
+   * @param fields 응답에 포함할 필드 (쉼표 구분, view보다 우선)
    * @return 페이징된 상품 목록
    */
   @Operation(summary = "상품 목록 조회", description = "검색 조건과 페이징을 적용하여 상품 목록을 조회한다.")
@@ -70,15 +95,273 @@ public class ProductApi {
   public ApiResponse<PageResponse<ProductResponse>> getProducts(
       @ModelAttribute ProductSearchRequest request,
       @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
-          Pageable pageable) {
-    var products = productQueryService.getProducts(request.toCondition(), pageable);
+          Pageable pageable,
+      @Parameter(description = "응답 뷰 (summary, inventory, detail)")
+          @RequestParam(required = false)
+          String view,
+      @Parameter(description = "응답 필드 (쉼표 구분, view보다 우선)")
+          @RequestParam(required = false)
+          String fields) {
+    var products =
+        productQueryCoalescer.getProducts(
+            request.toCondition(), pageable, ProductFieldsResponseBodyAdvice.bind(view, fields));
     return ApiResponse.success(PageResponse.from(products));
   }
 
+  /**
+   * 상품 검색어 자동완성 제안을 조회한다.
+   *
+   * @param q 입력어 (부분 입력, 초성 입력 허용)
+   * @param size 최대 반환 개수 (기본값: 10)
+   * @return 인기도 순 제안 목록
+   */
+  @Operation(
+      summary = "상품 검색어 자동완성",
+      description = "상품명/출연진 이름을 접두사로 검색한다. 한글 자모 단위 부분 입력과 초성 입력(예: ㄹㅁㅈ)을 지원하며 판매 노출 상품만 제안한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공")
+  })
+  @GetMapping("/suggest")
+  public ApiResponse<List<ProductSuggestResponse>> suggest(
+      @Parameter(description = "입력어", required = true) @RequestParam String q,
+      @Parameter(description = "최대 반환 개수") @RequestParam(defaultValue = "10") int size) {
+    return ApiResponse.success(productSuggestService.suggest(q, size));
+  }
+
+  /**
+   * 필터 차원별 상품 건수를 조회한다.
+   *
+   * @param productType 상품 타입 필터
+   * @param status 상품 상태 필터
+   * @param stageId 스테이지 ID 필터
+   * @param sellerId 판매자 ID 필터
+   * @return 상품 타입/상태/스테이지/판매자별 건수
+   */
+  @Operation(
+      summary = "상품 패싯 건수 조회",
+      description = "상품 타입, 상태, 스테이지, 판매자별 건수를 한 번에 조회한다. 각 차원의 건수는 나머지 차원의 필터를 적용한 기준이다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공")
+  })
+  @GetMapping("/facets")
+  public ApiResponse<ProductFacetResponse> getFacets(
+      @Parameter(description = "상품 타입") @RequestParam(required = false) ProductType productType,
+      @Parameter(description = "상품 상태") @RequestParam(required = false) ProductStatus status,
+      @Parameter(description = "스테이지 ID") @RequestParam(required = false) Long stageId,
+      @Parameter(description = "판매자 ID") @RequestParam(required = false) String sellerId) {
+    return ApiResponse.success(
+        productFacetService.getFacets(productType, status, stageId, sellerId));
+  }
+
+  /**
+   * 여러 상품을 한 번에 조회한다.
+   *
+   * @param ids 조회할 상품 ID 목록 (쉼표 구분)
+   * @param view 응답 뷰 (summary, inventory, detail)
+   * @param fields 응답에 포함할 필드 (쉼표 구분, view보다 우선)
+   * @return 요청 순서대로 정렬된 상품 목록과 존재하지 않는 ID 목록
+   */
+  @Operation(
+      summary = "상품 다건 조회",
+      description = "여러 상품을 한 번에 조회한다. 응답은 요청 순서를 유지하며, 존재하지 않는 ID는 missingIds로 반환한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "최대 조회 수 초과")
+  })
+  @GetMapping("/batch")
+  public ApiResponse<ProductBatchResponse> getProductsByIds(
+      @Parameter(description = "상품 ID 목록", required = true) @RequestParam List<Long> ids,
+      @Parameter(description = "응답 뷰 (summary, inventory, detail)")
+          @RequestParam(required = false)
+          String view,
+      @Parameter(description = "응답 필드 (쉼표 구분, view보다 우선)")
+          @RequestParam(required = false)
+          String fields) {
+    return ApiResponse.success(
+        productQueryService.getProductsByIds(
+            ids, ProductFieldsResponseBodyAdvice.bind(view, fields)));
+  }
+
+  /**
+   * 여러 상품을 한 번에 조회한다. (요청 본문)
+   *
+   * <p>ID가 많아 쿼리 스트링 길이 제한을 넘을 수 있을 때 사용한다.
+   *
+   * @param request 다건 조회 요청
+   * @param view 응답 뷰 (summary, inventory, detail)
+   * @param fields 응답에 포함할 필드 (쉼표 구분, view보다 우선)
+   * @return 요청 순서대로 정렬된 상품 목록과 존재하지 않는 ID 목록
+   */
+  @Operation(summary = "상품 다건 조회 (본문)", description = "요청 본문의 ID 목록으로 여러 상품을 한 번에 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 요청 또는 최대 조회 수 초과")
+  })
+  @PostMapping("/batch")
+  public ApiResponse<ProductBatchResponse> getProductsByIdsInBody(
+      @Valid @RequestBody ProductBatchRequest request,
+      @Parameter(description = "응답 뷰 (summary, inventory, detail)")
+          @RequestParam(required = false)
+          String view,
+      @Parameter(description = "응답 필드 (쉼표 구분, view보다 우선)")
+          @RequestParam(required = false)
+          String fields) {
+    return ApiResponse.success(
+        productQueryService.getProductsByIds(
+            request.ids(), ProductFieldsResponseBodyAdvice.bind(view, fields)));
+  }
+
+  /**
+   * 스테이지 캘린더를 조회한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @param view 응답 뷰 (summary, inventory, detail)
+   * @param fields 응답에 포함할 필드 (쉼표 구분, view보다 우선)
+   * @return 기간과 행사 일정이 겹치는 상품 목록 (행사 시작 일시 순)
+   */
+  @Operation(
+      summary = "스테이지 캘린더 조회",
+      description = "스테이지에서 기간과 행사 일정이 겹치는 상품을 행사 시작 일시 순으로 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 기간 또는 최대 조회 기간 초과")
+  })
+  @GetMapping("/stages/{stageId}/calendar")
+  public ApiResponse<List<ProductResponse>> getStageCalendar(
+      @Parameter(description = "스테이지 ID", required = true) @PathVariable Long stageId,
+      @Parameter(description = "기간 시작 (ISO-8601, 포함)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @Parameter(description = "기간 끝 (ISO-8601, 제외)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to,
+      @Parameter(description = "응답 뷰 (summary, inventory, detail)")
+          @RequestParam(required = false)
+          String view,
+      @Parameter(description = "응답 필드 (쉼표 구분, view보다 우선)")
+          @RequestParam(required = false)
+          String fields) {
+    return ApiResponse.success(
+        productQueryService.getStageCalendar(
+            stageId, from, to, ProductFieldsResponseBodyAdvice.bind(view, fields)));
+  }
+
+  /**
+   * 여러 상품의 잔여 좌석을 조회한다.
+   *
+   * @param ids 상품 ID 목록
+   * @return 요청 순서대로 정렬된 잔여 좌석 목록 (삭제되었거나 존재하지 않는 상품은 제외)
+   */
+  @Operation(
+      summary = "잔여 좌석 다건 조회",
+      description = "여러 상품의 좌석 현황과 등급별 잔여 좌석만 조회한다. 잔여 좌석 폴링용이며 캐시에서 응답한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "최대 조회 수 초과")
+  })
+  @GetMapping("/availability")
+  public ApiResponse<List<ProductAvailabilityResponse>> getAvailabilities(
+      @Parameter(description = "상품 ID 목록", required = true) @RequestParam List<Long> ids) {
+    return ApiResponse.success(productAvailabilityService.getAvailabilities(ids));
+  }
+
+  /**
+   * 스테이지 잔여 좌석 캘린더를 조회한다.
+   *
+   * @param stageId 스테이지 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 기간과 행사 일정이 겹치는 상품의 잔여 좌석 목록 (행사 시작 일시 순)
+   */
+  @Operation(
+      summary = "스테이지 잔여 좌석 캘린더 조회",
+      description = "스테이지에서 기간과 행사 일정이 겹치는 상품의 잔여 좌석을 행사 시작 일시 순으로 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 기간 또는 최대 조회 기간 초과")
+  })
+  @GetMapping("/stages/{stageId}/availability")
+  public ApiResponse<List<ProductAvailabilityResponse>> getStageAvailability(
+      @Parameter(description = "스테이지 ID", required = true) @PathVariable Long stageId,
+      @Parameter(description = "기간 시작 (ISO-8601, 포함)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @Parameter(description = "기간 끝 (ISO-8601, 제외)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to) {
+    return ApiResponse.success(productAvailabilityService.getStageAvailability(stageId, from, to));
+  }
+
+  /**
+   * 아트홀 잔여 좌석 캘린더를 조회한다.
+   *
+   * @param artHallId 아트홀 ID
+   * @param from 기간 시작 (포함)
+   * @param to 기간 끝 (제외)
+   * @return 기간과 행사 일정이 겹치는 상품의 잔여 좌석 목록 (행사 시작 일시 순)
+   */
+  @Operation(
+      summary = "아트홀 잔여 좌석 캘린더 조회",
+      description = "아트홀의 모든 스테이지에서 기간과 행사 일정이 겹치는 상품의 잔여 좌석을 행사 시작 일시 순으로 조회한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "400",
+        description = "잘못된 기간 또는 최대 조회 기간 초과")
+  })
+  @GetMapping("/art-halls/{artHallId}/availability")
+  public ApiResponse<List<ProductAvailabilityResponse>> getArtHallAvailability(
+      @Parameter(description = "아트홀 ID", required = true) @PathVariable Long artHallId,
+      @Parameter(description = "기간 시작 (ISO-8601, 포함)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime from,
+      @Parameter(description = "기간 끝 (ISO-8601, 제외)", required = true)
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime to) {
+    return ApiResponse.success(
+        productAvailabilityService.getArtHallAvailability(artHallId, from, to));
+  }
+
   /**
    * 상품 단건을 조회한다.
    *
    * @param id 상품 ID
+   * @param view 응답 뷰 (summary, inventory, detail)
+   * @param fields 응답에 포함할 필드 (쉼표 구분, view보다 우선)
    * @return 상품 상세 정보
    */
   @Operation(summary = "상품 단건 조회", description = "상품 ID로 상품 상세 정보를 조회한다.")
@@ -92,12 +375,65 @@ public class ProductApi {
   })
   @GetMapping("/{id}")
   public ApiResponse<ProductResponse> getProduct(
-      @Parameter(description = "상품 ID", required = true) @PathVariable Long id) {
-    var product = productQueryService.getProduct(id);
+      @Parameter(description = "상품 ID", required = true) @PathVariable Long id,
+      @Parameter(description = "응답 뷰 (summary, inventory, detail)")
+          @RequestParam(required = false)
+          String view,
+      @Parameter(description = "응답 필드 (쉼표 구분, view보다 우선)")
+          @RequestParam(required = false)
+          String fields) {
+    var product =
+        productQueryCoalescer.getProduct(id, ProductFieldsResponseBodyAdvice.bind(view, fields));
     productCommandService.incrementViewCount(id);
     return ApiResponse.success(product);
   }
 
+  /**
+   * 상품 하나의 잔여 좌석을 조회한다.
+   *
+   * @param id 상품 ID
+   * @return 좌석 현황과 등급별 잔여 좌석
+   */
+  @Operation(
+      summary = "잔여 좌석 조회",
+      description = "상품의 좌석 현황과 등급별 잔여 좌석만 조회한다. 잔여 좌석 폴링용이며 캐시에서 응답한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "상품을 찾을 수 없음")
+  })
+  @GetMapping("/{id}/availability")
+  public ApiResponse<ProductAvailabilityResponse> getAvailability(
+      @Parameter(description = "상품 ID", required = true) @PathVariable Long id) {
+    return ApiResponse.success(productAvailabilityService.getAvailability(id));
+  }
+
+  /**
+   * 상품 잔여 좌석 변경을 SSE로 구독한다.
+   *
+   * @param id 상품 ID
+   * @return SSE 연결 (이벤트: {@code availability}, 상품 취소 시 {@code deleted} 후 종료)
+   */
+  @Operation(
+      summary = "잔여 좌석 스트림 구독",
+      description = "현재 잔여 좌석을 먼저 보내고, 이후 변경을 상품별로 모아 일정 주기마다 SSE로 전송한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "구독 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "404",
+        description = "상품을 찾을 수 없음")
+  })
+  @GetMapping(value = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamAvailability(
+      @Parameter(description = "상품 ID", required = true) @PathVariable Long id) {
+    return productAvailabilityService.subscribe(id);
+  }
+
   // ========== 생성/수정 ==========
 
   /**
@@ -0,0 +1,80 @@
+package com.tickatch.product_service.product.presentation.api;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * 상품 응답 필드 제한 처리기.
+ *
+ * <p>{@link ProductApi}가 요청의 {@code view}/{@code fields} 파라미터로 결정한 {@link ProductFields}를 요청 속성에
+ * 보관하면, 응답을 직렬화할 때 해당 필드만 쓰도록 {@link ProductFields#FILTER_ID} 필터를 지정한다. 속성이 없으면 전체 필드를 쓴다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@RestControllerAdvice(assignableTypes = ProductApi.class)
+public class ProductFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+  private static final String ATTRIBUTE = ProductFields.class.getName();
+
+  /**
+   * 요청 파라미터로 필드 집합을 만들고 현재 요청에 보관한다.
+   *
+   * @param view 뷰 이름
+   * @param fields 쉼표로 구분한 필드 이름
+   * @return 필드 집합
+   * @throws com.tickatch.product_service.product.domain.exception.ProductException 알 수 없는 뷰 또는 필드인
+   *     경우
+   */
+  static ProductFields bind(String view, String fields) {
+    ProductFields parsed = ProductFields.parse(view, fields);
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null && !parsed.isAll()) {
+      attributes.setAttribute(ATTRIBUTE, parsed, RequestAttributes.SCOPE_REQUEST);
+    }
+    return parsed;
+  }
+
+  @Override
+  protected void beforeBodyWriteInternal(
+      MappingJacksonValue bodyContainer,
+      MediaType contentType,
+      MethodParameter returnType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    ProductFields fields = ProductFields.ALL;
+    if (request instanceof ServletServerHttpRequest servletRequest
+        && servletRequest.getServletRequest().getAttribute(ATTRIBUTE) instanceof ProductFields f) {
+      fields = f;
+    }
+    bodyContainer.setFilters(filters(fields));
+  }
+
+  /**
+   * 필드 집합에 해당하는 직렬화 필터를 반환한다.
+   *
+   * @param fields 필드 집합
+   * @return {@link ProductFields#FILTER_ID} 필터 제공자
+   */
+  static FilterProvider filters(ProductFields fields) {
+    SimpleBeanPropertyFilter filter =
+        fields.isAll()
+            ? SimpleBeanPropertyFilter.serializeAll()
+            : SimpleBeanPropertyFilter.filterOutAllExcept(fields.names());
+    return new SimpleFilterProvider()
+        .setFailOnUnknownId(false)
+        .addFilter(ProductFields.FILTER_ID, filter);
+  }
+}
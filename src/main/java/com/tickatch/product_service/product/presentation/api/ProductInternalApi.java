@@ -0,0 +1,168 @@
+package com.tickatch.product_service.product.presentation.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse;
+import com.tickatch.product_service.product.application.service.ProductCatalogService;
+import com.tickatch.product_service.product.application.service.ProductPrewarmService;
+import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import io.github.tickatch.common.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 상품 내부 API 컨트롤러.
+ *
+ * <p>다른 서비스와 운영 도구가 호출하는 API를 제공한다. 공개 조회 API({@link ProductApi})와 경로를 분리하여 인증 없이 허용되는 {@code
+ * /api/v1/products/**}에 포함되지 않으며, 인증된 요청만 처리한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ * @see ProductQueryService
+ * @see ProductPrewarmService
+ * @see ProductCatalogService
+ */
+@Tag(name = "Product Internal", description = "상품 내부 API")
+@RestController
+@RequestMapping("/api/v1/internal/products")
+@RequiredArgsConstructor
+public class ProductInternalApi {
+
+  private final ProductQueryService productQueryService;
+  private final ProductPrewarmService productPrewarmService;
+  private final ProductCatalogService productCatalogService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 상품 전체를 NDJSON으로 내보낸다.
+   *
+   * <p>검색 색인, 분석 등 카탈로그 전체가 필요한 내부 소비자를 위한 API다. 한 줄에 상품 하나를 ID 오름차순으로 기록하며, 결과를 모으지 않고 읽는 대로 응답에
+   * 쓴다. 요청의 {@code Accept-Encoding}에 gzip이 있으면 gzip으로 압축한다.
+   *
+   * @param status 상품 상태 필터
+   * @param updatedSince 이 시각 이후 수정된 상품만 (증분 동기화용)
+   * @param acceptEncoding 요청 Accept-Encoding 헤더
+   * @param response HTTP 응답
+   * @throws IOException 응답 쓰기에 실패한 경우
+   */
+  @Operation(
+      summary = "상품 내보내기 (NDJSON)",
+      description = "삭제되지 않은 상품 전체를 한 줄에 하나씩 스트리밍한다. 상태와 수정 시각 하한으로 필터할 수 있으며 gzip 압축을 지원한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "내보내기 성공")
+  })
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportProducts(
+      @Parameter(description = "상품 상태") @RequestParam(required = false) ProductStatus status,
+      @Parameter(description = "수정 시각 하한 (ISO-8601)")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          LocalDateTime updatedSince,
+      @Parameter(hidden = true)
+          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+          String acceptEncoding,
+      HttpServletResponse response)
+      throws IOException {
+    boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    OutputStream out =
+        gzip
+            ? new GZIPOutputStream(response.getOutputStream(), 8192)
+            : new BufferedOutputStream(response.getOutputStream(), 8192);
+    // 한 줄마다 응답을 flush하지 않는다. 버퍼가 찰 때만 클라이언트로 내보낸다.
+    ObjectWriter writer =
+        objectMapper
+            .writer(ProductFieldsResponseBodyAdvice.filters(ProductFields.ALL))
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    // 생성기를 닫으면 압축 스트림과 응답 스트림도 함께 닫힌다.
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      productQueryService.exportProducts(
+          status, updatedSince, product -> writeLine(writer, generator, product));
+    }
+  }
+
+  /**
+   * 상품의 판매 오픈 사전 준비 상태를 조회한다.
+   *
+   * @param id 상품 ID
+   * @return 준비 상태 (요청을 처리한 인스턴스 기준)
+   */
+  @Operation(
+      summary = "판매 오픈 사전 준비 상태 조회",
+      description = "판매 시작 전 캐시와 조회 경로를 미리 채웠는지 조회한다. 요청을 처리한 인스턴스 기준이다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "조회 성공")
+  })
+  @GetMapping("/{id}/prewarm")
+  public ApiResponse<ProductPrewarmResponse> getPrewarmReadiness(
+      @Parameter(description = "상품 ID", required = true) @PathVariable Long id) {
+    return ApiResponse.success(productPrewarmService.getReadiness(id));
+  }
+
+  /**
+   * 카탈로그 조회 모델을 재구축한다.
+   *
+   * @return 재구축한 상품 수
+   */
+  @Operation(
+      summary = "카탈로그 조회 모델 재구축",
+      description = "목록 조회용 카탈로그 조회 모델을 삭제되지 않은 상품 전체로부터 다시 만든다. 다른 인스턴스나 요청이 재구축 중이면 409를 반환한다.")
+  @ApiResponses({
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "200",
+        description = "재구축 성공"),
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(
+        responseCode = "409",
+        description = "다른 재구축이 진행 중")
+  })
+  @PostMapping("/catalog/rebuild")
+  public ApiResponse<Long> rebuildCatalog() {
+    return ApiResponse.success(productCatalogService.rebuild());
+  }
+
+  private static void writeLine(
+      ObjectWriter writer, JsonGenerator generator, ProductResponse product) {
+    try {
+      writer.writeValue(generator, product);
+      generator.writeRaw('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
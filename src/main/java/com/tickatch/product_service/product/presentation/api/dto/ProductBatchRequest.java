@@ -0,0 +1,23 @@
+package com.tickatch.product_service.product.presentation.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 상품 다건 조회 요청 DTO.
+ *
+ * <p>조회할 ID가 많아 쿼리 스트링 길이를 넘을 수 있을 때 사용한다. 응답은 요청 순서를 유지한다.
+ *
+ * @param ids 조회할 상품 ID 목록 (필수)
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Schema(description = "상품 다건 조회 요청")
+public record ProductBatchRequest(
+    @Schema(
+            description = "조회할 상품 ID 목록",
+            example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "상품 ID 목록은 필수입니다")
+        List<Long> ids) {}
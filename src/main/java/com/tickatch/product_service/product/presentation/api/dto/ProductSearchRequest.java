@@ -1,9 +1,13 @@
 package com.tickatch.product_service.product.presentation.api.dto;
 
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import com.tickatch.product_service.product.domain.vo.ProductType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
 
 /**
  * 상품 검색 요청 DTO.
@@ -15,6 +19,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param status 상품 상태 (DRAFT, PENDING, APPROVED, ON_SALE 등)
  * @param stageId 스테이지 ID
  * @param sellerId 판매자 ID
+ * @param minPrice 최저가 하한 (좌석 등급 최저 가격이 이 값 이상)
+ * @param maxPrice 최저가 상한 (좌석 등급 최저 가격이 이 값 이하)
+ * @param startFrom 행사 시작 일시 하한 (이 시각 이후 시작)
+ * @param startTo 행사 시작 일시 상한 (이 시각 이전 시작)
  * @author Tickatch
  * @since 1.0.0
  */
@@ -24,20 +32,42 @@ public record ProductSearchRequest(
     @Schema(description = "상품 타입", example = "MUSICAL") ProductType productType,
     @Schema(description = "상품 상태", example = "ON_SALE") ProductStatus status,
     @Schema(description = "스테이지 ID", example = "1") Long stageId,
-    @Schema(description = "판매자 ID", example = "seller-001") String sellerId) {
+    @Schema(description = "판매자 ID", example = "seller-001") String sellerId,
+    @Schema(description = "최저가 하한 (좌석 등급 최저 가격 기준)", example = "50000") Long minPrice,
+    @Schema(description = "최저가 상한 (좌석 등급 최저 가격 기준)", example = "150000") Long maxPrice,
+    @Schema(description = "행사 시작 일시 하한 (포함)", example = "2025-03-01T00:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime startFrom,
+    @Schema(description = "행사 시작 일시 상한 (포함)", example = "2025-03-31T23:59:59")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime startTo) {
 
   /**
    * 검색 요청을 검색 조건 객체로 변환한다.
    *
    * @return 변환된 검색 조건
+   * @throws ProductException 가격이 음수이거나 하한이 상한보다 큰 경우 ({@link ProductErrorCode#INVALID_PRICE_RANGE})
+   * @throws ProductException 시작 일시 하한이 상한보다 늦은 경우 ({@link ProductErrorCode#INVALID_DATE_RANGE})
    */
   public ProductSearchCondition toCondition() {
+    if ((minPrice != null && minPrice < 0)
+        || (maxPrice != null && maxPrice < 0)
+        || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+      throw new ProductException(ProductErrorCode.INVALID_PRICE_RANGE);
+    }
+    if (startFrom != null && startTo != null && startFrom.isAfter(startTo)) {
+      throw new ProductException(ProductErrorCode.INVALID_DATE_RANGE);
+    }
     return ProductSearchCondition.builder()
         .name(name)
         .productType(productType)
         .status(status)
         .stageId(stageId)
         .sellerId(sellerId)
+        .minPrice(minPrice)
+        .maxPrice(maxPrice)
+        .startFrom(startFrom)
+        .startTo(startTo)
         .build();
   }
 }
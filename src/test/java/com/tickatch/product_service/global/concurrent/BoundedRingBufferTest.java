@@ -0,0 +1,147 @@
+package com.tickatch.product_service.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BoundedRingBuffer 테스트")
+class BoundedRingBufferTest {
+
+  @Nested
+  class 생성_테스트 {
+
+    @Test
+    void 용량을_2의_거듭제곱으로_올림한다() {
+      assertThat(new BoundedRingBuffer<Long>(2).capacity()).isEqualTo(2);
+      assertThat(new BoundedRingBuffer<Long>(8).capacity()).isEqualTo(8);
+      assertThat(new BoundedRingBuffer<Long>(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void 용량이_1이면_최소_용량_2로_올림한다() {
+      assertThat(new BoundedRingBuffer<Long>(1).capacity()).isEqualTo(2);
+    }
+
+    @Test
+    void 용량이_0이면_예외가_발생한다() {
+      assertThatThrownBy(() -> new BoundedRingBuffer<Long>(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class 넣고_꺼내기_테스트 {
+
+    @Test
+    void 넣은_순서대로_꺼낸다() {
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(4);
+      buffer.offer(1L);
+      buffer.offer(2L);
+      buffer.offer(3L);
+
+      assertThat(buffer.poll()).isEqualTo(1L);
+      assertThat(buffer.poll()).isEqualTo(2L);
+      assertThat(buffer.poll()).isEqualTo(3L);
+      assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void 가득_차면_넣지_않고_false를_반환한다() {
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(2);
+
+      assertThat(buffer.offer(1L)).isTrue();
+      assertThat(buffer.offer(2L)).isTrue();
+      assertThat(buffer.offer(3L)).isFalse();
+      assertThat(buffer.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 최소_용량에서도_두_번_넣은_원소를_덮어쓰지_않고_순서대로_꺼낸다() {
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(1);
+
+      assertThat(buffer.offer(1L)).isTrue();
+      assertThat(buffer.offer(2L)).isTrue();
+      assertThat(buffer.offer(3L)).isFalse();
+      assertThat(buffer.poll()).isEqualTo(1L);
+      assertThat(buffer.poll()).isEqualTo(2L);
+      assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void 꺼낸_자리는_다시_쓸_수_있다() {
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(2);
+      for (long i = 0; i < 10; i++) {
+        assertThat(buffer.offer(i)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(i);
+      }
+
+      assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 최대_개수만큼만_꺼내_담는다() {
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(8);
+      for (long i = 1; i <= 5; i++) {
+        buffer.offer(i);
+      }
+      List<Long> sink = new ArrayList<>();
+
+      int drained = buffer.drainTo(sink, 3);
+
+      assertThat(drained).isEqualTo(3);
+      assertThat(sink).containsExactly(1L, 2L, 3L);
+      assertThat(buffer.size()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 동시성_테스트 {
+
+    @Test
+    void 여러_생산자가_넣은_원소를_잃지_않고_모두_꺼낸다() throws Exception {
+      int producers = 4;
+      int perProducer = 10_000;
+      BoundedRingBuffer<Long> buffer = new BoundedRingBuffer<>(256);
+      CountDownLatch start = new CountDownLatch(1);
+      ExecutorService executor = Executors.newFixedThreadPool(producers);
+      for (int p = 0; p < producers; p++) {
+        long base = (long) p * perProducer;
+        executor.submit(
+            () -> {
+              start.await();
+              for (long i = 0; i < perProducer; i++) {
+                while (!buffer.offer(base + i)) {
+                  Thread.onSpinWait();
+                }
+              }
+              return null;
+            });
+      }
+
+      start.countDown();
+      Set<Long> received = new HashSet<>();
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+        Long element = buffer.poll();
+        if (element != null) {
+          received.add(element);
+        }
+      }
+      executor.shutdown();
+
+      assertThat(received).hasSize(producers * perProducer);
+      assertThat(buffer.isEmpty()).isTrue();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package com.tickatch.product_service.global.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+  private MeterRegistry meterRegistry;
+  private SingleFlight<Long, String> singleFlight;
+
+  private final CountDownLatch loading = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+  }
+
+  @Nested
+  class 병합_테스트 {
+
+    @Test
+    void 동시에_들어온_같은_키의_요청은_한_번만_조회한다() throws Exception {
+      CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(1L, "A"));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> execute(1L, "B"));
+      awaitCoalesced(1);
+
+      release.countDown();
+
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+      assertThat(loads).hasValue(1);
+      assertThat(count("leader")).isEqualTo(1);
+      assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void 다른_키는_병합하지_않는다() {
+      assertThat(singleFlight.execute(1L, () -> "A")).isEqualTo("A");
+      assertThat(singleFlight.execute(2L, () -> "B")).isEqualTo("B");
+      assertThat(count("leader")).isEqualTo(2);
+      assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void 조회가_끝나면_결과를_보관하지_않는다() {
+      singleFlight.execute(1L, () -> "A");
+
+      assertThat(singleFlight.execute(1L, () -> "B")).isEqualTo("B");
+    }
+  }
+
+  @Nested
+  class 실패_테스트 {
+
+    @Test
+    void 리더의_예외를_대기자도_받는다() throws Exception {
+      CompletableFuture<String> leader =
+          CompletableFuture.supplyAsync(
+              () ->
+                  singleFlight.execute(
+                      1L,
+                      () -> {
+                        loading.countDown();
+                        awaitRelease();
+                        throw new IllegalArgumentException("boom");
+                      }));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> execute(1L, "B"));
+      awaitCoalesced(1);
+
+      release.countDown();
+
+      assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(IllegalArgumentException.class);
+      assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void 대기_시간이_지나면_예외가_발생한다() throws Exception {
+      singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+      CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(1L, "A"));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> singleFlight.execute(1L, () -> "B"))
+          .isInstanceOf(SingleFlightTimeoutException.class);
+      assertThat(count("timeout")).isEqualTo(1);
+
+      release.countDown();
+      assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("A");
+    }
+  }
+
+  private String execute(Long key, String value) {
+    return singleFlight.execute(
+        key,
+        () -> {
+          loads.incrementAndGet();
+          loading.countDown();
+          awaitRelease();
+          return value;
+        });
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void awaitCoalesced(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (count("coalesced") < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private double count(String result) {
+    return meterRegistry
+        .get("singleflight.calls")
+        .tag("name", "test")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
@@ -0,0 +1,219 @@
+package com.tickatch.product_service.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.product_service.global.datasource.ReplicaRoutingProperties.ConsistencyMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+  private static final String HEADER = "X-Read-After";
+
+  private final DataSource primary = h2("routing-primary");
+  private final DataSource replicaA = h2("routing-replica-a");
+  private final DataSource replicaB = h2("routing-replica-b");
+
+  private ReplicaRoutingProperties properties;
+  private ReplicaLagMonitor monitor;
+  private ReplicaRoutingDataSource routing;
+  private MockHttpServletRequest request;
+  private MockHttpServletResponse response;
+
+  @BeforeEach
+  void setUp() {
+    setLag(replicaA, 0L);
+    setLag(replicaB, 0L);
+
+    properties = new ReplicaRoutingProperties();
+    properties.setMaxLag(Duration.ofMillis(500));
+    properties.setLagQuery("SELECT ms FROM replica_lag");
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    replicas.put("replica-a", replicaA);
+    replicas.put("replica-b", replicaB);
+    ReplicaDataSources replicaDataSources = new ReplicaDataSources(replicas);
+    ReadYourWritesTokens tokens = new ReadYourWritesTokens(HEADER);
+    monitor =
+        new ReplicaLagMonitor(primary, replicaDataSources, properties, new SimpleMeterRegistry());
+    routing = new ReplicaRoutingDataSource(primary, replicaDataSources, monitor, tokens);
+    routing.afterPropertiesSet();
+
+    request = new MockHttpServletRequest();
+    response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Nested
+  class 읽기_전용_트랜잭션_테스트 {
+
+    @Test
+    void 지연_확인_전에는_주_DB로_라우팅한다() {
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void 정상_복제본을_번갈아_사용한다() {
+      monitor.check();
+      beginTransaction(true);
+
+      Set<Object> keys =
+          Set.copyOf(
+              IntStream.range(0, 4).mapToObj(i -> routing.determineCurrentLookupKey()).toList());
+
+      assertThat(keys).containsExactlyInAnyOrder("replica-a", "replica-b");
+    }
+
+    @Test
+    void 지연이_허용치를_넘은_복제본은_제외한다() {
+      setLag(replicaA, 5_000L);
+      monitor.check();
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-b");
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-b");
+    }
+
+    @Test
+    void 모든_복제본이_지연되면_주_DB로_라우팅한다() {
+      setLag(replicaA, 5_000L);
+      setLag(replicaB, 5_000L);
+      monitor.check();
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void 조회에_실패한_복제본은_제외한다() {
+      new JdbcTemplate(replicaA).execute("DROP TABLE replica_lag");
+      monitor.check();
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-b");
+    }
+  }
+
+  @Nested
+  class 쓰기_후_읽기_테스트 {
+
+    @Test
+    void 토큰보다_뒤처진_복제본은_사용하지_않는다() {
+      monitor.check();
+      request.addHeader(HEADER, Long.toString(System.currentTimeMillis() + 60_000L));
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void 토큰을_만족하는_복제본은_사용한다() {
+      request.addHeader(HEADER, Long.toString(System.currentTimeMillis() - 60_000L));
+      monitor.check();
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey())
+          .isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_무시한다() {
+      monitor.check();
+      request.addHeader(HEADER, "not-a-number");
+      beginTransaction(true);
+
+      assertThat(routing.determineCurrentLookupKey())
+          .isNotEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void 쓰기_트랜잭션_커밋_후_토큰을_발급한다() {
+      setLag(replicaA, 100L);
+      setLag(replicaB, 100L);
+      monitor.check();
+      beginTransaction(false);
+
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+      routing.determineCurrentLookupKey();
+      assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      assertThat(response.getHeader(HEADER)).isNotNull();
+      // 같은 요청에서 이어지는 조회도 방금 쓴 내용을 보지 못한 복제본은 피한다.
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+      assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void LSN_기준이면_주_DB_위치를_토큰으로_발급한다() {
+      properties.setConsistency(ConsistencyMode.LSN);
+      properties.setPrimaryPositionQuery("SELECT 42");
+      beginTransaction(false);
+
+      routing.determineCurrentLookupKey();
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+
+      assertThat(response.getHeader(HEADER)).isEqualTo("42");
+    }
+  }
+
+  @Test
+  void 트랜잭션_밖에서는_주_DB로_라우팅한다() {
+    monitor.check();
+
+    assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+  }
+
+  private static void beginTransaction(boolean readOnly) {
+    TransactionSynchronizationManager.initSynchronization();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+  }
+
+  private static void setLag(DataSource dataSource, long lagMillis) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (ms BIGINT)");
+    jdbcTemplate.update("DELETE FROM replica_lag");
+    jdbcTemplate.update("INSERT INTO replica_lag (ms) VALUES (?)", lagMillis);
+  }
+
+  private static DataSource h2(String name) {
+    return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+  }
+}
@@ -0,0 +1,126 @@
+package com.tickatch.product_service.global.lease;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("PartitionLeaseManager 통합 테스트")
+class PartitionLeaseManagerTest {
+
+  private static final String LEASE_NAME = "test-lease";
+  private static final int PARTITIONS = 4;
+
+  @Autowired private SchedulerLeaseJpaRepository leaseRepository;
+
+  private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cleanUp();
+  }
+
+  @AfterEach
+  void cleanUp() {
+    leaseRepository.deleteAll(
+        leaseRepository.findAllById(leaseRepository.findNamesByPrefix(LEASE_NAME)));
+  }
+
+  @Nested
+  class 파티션_분배_테스트 {
+
+    @Test
+    void 단독_인스턴스는_모든_파티션을_맡는다() {
+      PartitionLeaseManager manager = manager("a", 30000);
+
+      assertThat(manager.current().isEmpty()).isTrue();
+      manager.heartbeat();
+
+      assertThat(manager.current().partitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+      assertThat(count("acquired")).isEqualTo(4);
+    }
+
+    @Test
+    void 인스턴스가_늘어나면_파티션을_겹치지_않게_나눈다() {
+      PartitionLeaseManager first = manager("a", 30000);
+      PartitionLeaseManager second = manager("b", 30000);
+
+      first.heartbeat();
+      second.heartbeat();
+      first.heartbeat();
+      second.heartbeat();
+
+      Set<Integer> firstOwned = first.current().partitions();
+      Set<Integer> secondOwned = second.current().partitions();
+      assertThat(firstOwned).hasSize(2);
+      assertThat(secondOwned).hasSize(2).doesNotContainAnyElementsOf(firstOwned);
+      Set<Integer> union = new HashSet<>(firstOwned);
+      union.addAll(secondOwned);
+      assertThat(union).containsExactlyInAnyOrder(0, 1, 2, 3);
+      assertThat(count("released")).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 인계_테스트 {
+
+    @Test
+    void 만료된_임대는_다른_인스턴스가_가져간다() throws InterruptedException {
+      PartitionLeaseManager dead = manager("dead", 1);
+      PartitionLeaseManager alive = manager("alive", 30000);
+      dead.heartbeat();
+      Thread.sleep(20);
+
+      alive.heartbeat();
+
+      assertThat(alive.current().partitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+      assertThat(dead.current().isEmpty()).isTrue();
+    }
+
+    @Test
+    void 종료한_인스턴스의_임대는_바로_가져간다() {
+      PartitionLeaseManager leaving = manager("leaving", 30000);
+      PartitionLeaseManager staying = manager("staying", 30000);
+      leaving.heartbeat();
+      staying.heartbeat();
+
+      leaving.shutdown();
+      staying.heartbeat();
+
+      assertThat(leaving.current().isEmpty()).isTrue();
+      assertThat(staying.current().partitions()).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+  }
+
+  @Test
+  void 비활성화하면_임대_없이_모든_상품을_맡는다() {
+    PartitionLeaseManager manager =
+        new PartitionLeaseManager(
+            leaseRepository, meterRegistry, false, LEASE_NAME, PARTITIONS, 30000, "off");
+
+    assertThat(manager.current().isAll()).isTrue();
+    assertThat(manager.current().contains(12345L)).isTrue();
+  }
+
+  private PartitionLeaseManager manager(String instanceId, long ttlMillis) {
+    return new PartitionLeaseManager(
+        leaseRepository, meterRegistry, true, LEASE_NAME, PARTITIONS, ttlMillis, instanceId);
+  }
+
+  private double count(String type) {
+    return meterRegistry.get("scheduler.lease.handovers").tag("type", type).counters().stream()
+        .mapToDouble(counter -> counter.count())
+        .sum();
+  }
+}
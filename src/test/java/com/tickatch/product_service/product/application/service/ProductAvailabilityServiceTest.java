@@ -0,0 +1,172 @@
+package com.tickatch.product_service.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityCache;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityStreamHub;
+import com.tickatch.product_service.product.infrastructure.search.schedule.StageScheduleIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductAvailabilityService 테스트")
+class ProductAvailabilityServiceTest {
+
+  private static final LocalDateTime FROM = LocalDateTime.of(2026, 3, 1, 0, 0);
+  private static final LocalDateTime TO = FROM.plusDays(30);
+
+  @InjectMocks private ProductAvailabilityService productAvailabilityService;
+
+  @Mock private ProductAvailabilityCache productAvailabilityCache;
+
+  @Mock private ProductAvailabilityStreamHub productAvailabilityStreamHub;
+
+  @Mock private StageScheduleIndex stageScheduleIndex;
+
+  @Mock private ProductRepository productRepository;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(productAvailabilityService, "batchMaxSize", 3);
+    ReflectionTestUtils.setField(productAvailabilityService, "calendarMaxDays", 366);
+  }
+
+  @Nested
+  class 단건_조회_테스트 {
+
+    @Test
+    void 캐시에서_잔여_좌석을_반환한다() {
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of(availability(1L)));
+
+      assertThat(productAvailabilityService.getAvailability(1L).getProductId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 상품이_없으면_예외가_발생한다() {
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of());
+
+      assertThatThrownBy(() -> productAvailabilityService.getAvailability(1L))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.PRODUCT_NOT_FOUND);
+    }
+  }
+
+  @Nested
+  class 구독_테스트 {
+
+    @Test
+    void 현재_잔여_좌석으로_스트림을_구독한다() {
+      ProductAvailabilityResponse initial = availability(1L);
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of(initial));
+
+      productAvailabilityService.subscribe(1L);
+
+      verify(productAvailabilityStreamHub).subscribe(initial);
+    }
+
+    @Test
+    void 상품이_없으면_구독하지_않는다() {
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of());
+
+      assertThatThrownBy(() -> productAvailabilityService.subscribe(1L))
+          .isInstanceOf(ProductException.class);
+      verify(productAvailabilityStreamHub, never()).subscribe(any());
+    }
+  }
+
+  @Nested
+  class 다건_조회_테스트 {
+
+    @Test
+    void 중복_ID는_한_번만_조회한다() {
+      given(productAvailabilityCache.getAll(List.of(2L, 1L)))
+          .willReturn(List.of(availability(2L), availability(1L)));
+
+      List<ProductAvailabilityResponse> result =
+          productAvailabilityService.getAvailabilities(List.of(2L, 1L, 2L));
+
+      assertThat(result)
+          .extracting(ProductAvailabilityResponse::getProductId)
+          .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 최대_조회_수를_넘으면_예외가_발생한다() {
+      List<Long> ids = List.of(1L, 2L, 3L, 4L);
+
+      assertThatThrownBy(() -> productAvailabilityService.getAvailabilities(ids))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.BATCH_SIZE_EXCEEDED);
+    }
+  }
+
+  @Nested
+  class 캘린더_조회_테스트 {
+
+    @Test
+    void 인덱스가_준비되면_인덱스로_대상_상품을_구한다() {
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findOverlapping(10L, FROM, TO)).willReturn(List.of(1L));
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of(availability(1L)));
+
+      assertThat(productAvailabilityService.getStageAvailability(10L, FROM, TO)).hasSize(1);
+      verify(productRepository, never()).findIdsOverlappingOnStage(any(), any(), any());
+    }
+
+    @Test
+    void 인덱스가_준비되지_않으면_DB로_대상_상품을_구한다() {
+      given(stageScheduleIndex.isReady()).willReturn(false);
+      given(productRepository.findIdsOverlappingInArtHall(100L, FROM, TO)).willReturn(List.of());
+
+      assertThat(productAvailabilityService.getArtHallAvailability(100L, FROM, TO)).isEmpty();
+      verify(productAvailabilityCache, never()).getAll(any());
+    }
+
+    @Test
+    void 기간_시작이_끝보다_늦으면_예외가_발생한다() {
+      assertThatThrownBy(() -> productAvailabilityService.getStageAvailability(10L, TO, FROM))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.INVALID_DATE_RANGE);
+    }
+
+    @Test
+    void 기간이_최대_일수를_넘으면_예외가_발생한다() {
+      assertThatThrownBy(
+              () -> productAvailabilityService.getStageAvailability(10L, FROM, FROM.plusDays(367)))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.CALENDAR_RANGE_TOO_LONG);
+    }
+  }
+
+  private static ProductAvailabilityResponse availability(Long productId) {
+    return ProductAvailabilityResponse.builder()
+        .productId(productId)
+        .totalSeats(100)
+        .availableSeats(50)
+        .soldOut(false)
+        .seatGrades(List.of())
+        .build();
+  }
+}
@@ -0,0 +1,269 @@
+package com.tickatch.product_service.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.global.lease.SchedulerLeaseJpaRepository;
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import com.tickatch.product_service.product.domain.ProductCatalogViewRepository;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.vo.AdmissionPolicy;
+import com.tickatch.product_service.product.domain.vo.AgeRestriction;
+import com.tickatch.product_service.product.domain.vo.BookingPolicy;
+import com.tickatch.product_service.product.domain.vo.ProductContent;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.domain.vo.RefundPolicy;
+import com.tickatch.product_service.product.domain.vo.SaleSchedule;
+import com.tickatch.product_service.product.domain.vo.Schedule;
+import com.tickatch.product_service.product.domain.vo.Venue;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalogService 테스트")
+class ProductCatalogServiceTest {
+
+  @InjectMocks private ProductCatalogService productCatalogService;
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private ProductCatalogViewRepository productCatalogViewRepository;
+
+  @Mock private SchedulerLeaseJpaRepository leaseRepository;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(productCatalogService, "rebuildLeaseTtlMillis", 600_000L);
+    ReflectionTestUtils.setField(productCatalogService, "instanceId", "product-service-1");
+  }
+
+  @Nested
+  class 조회_모델_갱신_테스트 {
+
+    @Test
+    void 조회_모델이_없으면_가격_범위와_함께_새로_저장한다() {
+      Product product = createProduct(1L, "콘서트A");
+      product.addSeatGrade("VIP", 150000L, 10, 1);
+      product.addSeatGrade("R", 120000L, 30, 2);
+      given(productRepository.findById(1L)).willReturn(Optional.of(product));
+      given(productCatalogViewRepository.findById(1L)).willReturn(Optional.empty());
+
+      productCatalogService.refresh(1L);
+
+      ArgumentCaptor<ProductCatalogView> captor = ArgumentCaptor.forClass(ProductCatalogView.class);
+      verify(productCatalogViewRepository).save(captor.capture());
+      ProductCatalogView saved = captor.getValue();
+      assertThat(saved.getProductId()).isEqualTo(1L);
+      assertThat(saved.isNew()).isTrue();
+      assertThat(saved.getMinPrice()).isEqualTo(120000L);
+      assertThat(saved.getMaxPrice()).isEqualTo(150000L);
+      assertThat(saved.getSeatSummary().getTotalSeats()).isEqualTo(40);
+    }
+
+    @Test
+    void 조회_모델이_있으면_현재_상태로_덮어쓴다() {
+      Product product = createProduct(1L, "콘서트A");
+      ProductCatalogView view = ProductCatalogView.of(product);
+      product.update(
+          "콘서트B", ProductType.CONCERT, 120, product.getSchedule(), product.getSaleSchedule());
+      given(productRepository.findById(1L)).willReturn(Optional.of(product));
+      given(productCatalogViewRepository.findById(1L)).willReturn(Optional.of(view));
+
+      productCatalogService.refresh(1L);
+
+      assertThat(view.getName()).isEqualTo("콘서트B");
+      verify(productCatalogViewRepository, never()).save(any());
+    }
+
+    @Test
+    void 취소된_상품은_조회_모델에서_삭제한다() {
+      Product product = createProduct(1L, "콘서트A");
+      product.cancel("admin");
+      given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+      productCatalogService.refresh(1L);
+
+      verify(productCatalogViewRepository).deleteById(1L);
+      verify(productCatalogViewRepository, never()).save(any());
+    }
+
+    @Test
+    void 존재하지_않는_상품은_조회_모델에서_삭제한다() {
+      given(productRepository.findById(999L)).willReturn(Optional.empty());
+
+      productCatalogService.refresh(999L);
+
+      verify(productCatalogViewRepository).deleteById(999L);
+    }
+  }
+
+  @Nested
+  class 조회_모델_재구축_테스트 {
+
+    @Test
+    void 임대를_획득하면_기존_행을_일괄_삭제하고_묶음마다_저장한_뒤_반납한다() {
+      ReflectionTestUtils.setField(productCatalogService, "rebuildChunkSize", 2);
+      givenLeaseAcquired(1);
+      given(productRepository.scrollForExport(isNull(), isNull(), eq(2), any()))
+          .willAnswer(
+              invocation -> {
+                Consumer<List<Product>> consumer = invocation.getArgument(3);
+                consumer.accept(List.of(createProduct(1L, "콘서트A"), createProduct(2L, "콘서트B")));
+                consumer.accept(List.of(createProduct(3L, "콘서트C")));
+                return 3L;
+              });
+
+      long count = productCatalogService.rebuild();
+
+      assertThat(count).isEqualTo(3);
+      InOrder order = inOrder(productCatalogViewRepository, leaseRepository);
+      order.verify(productCatalogViewRepository).deleteAllInBulk();
+      order.verify(productCatalogViewRepository).saveAll(anyCollection());
+      order.verify(productCatalogViewRepository).flush();
+      order.verify(productCatalogViewRepository).saveAll(anyCollection());
+      order.verify(productCatalogViewRepository).flush();
+      order
+          .verify(leaseRepository)
+          .release(eq(List.of(ProductCatalogService.REBUILD_LEASE)), anyString());
+    }
+
+    @Test
+    void 다른_곳에서_재구축_중이면_예외가_발생한다() {
+      givenLeaseAcquired(0);
+
+      assertThatThrownBy(() -> productCatalogService.rebuild())
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.CATALOG_REBUILD_IN_PROGRESS);
+      verify(productCatalogViewRepository, never()).deleteAllInBulk();
+      verify(leaseRepository, never()).release(any(), anyString());
+    }
+
+    @Test
+    void 재구축에_실패해도_임대를_반납한다() {
+      givenLeaseAcquired(1);
+      given(productRepository.scrollForExport(isNull(), isNull(), anyInt(), any()))
+          .willThrow(new IllegalStateException("db down"));
+
+      assertThatThrownBy(() -> productCatalogService.rebuild())
+          .isInstanceOf(IllegalStateException.class);
+      verify(leaseRepository)
+          .release(eq(List.of(ProductCatalogService.REBUILD_LEASE)), anyString());
+    }
+
+    @Test
+    void 조회_모델이_비어_있는지_확인한다() {
+      given(productCatalogViewRepository.count()).willReturn(0L);
+
+      assertThat(productCatalogService.isEmpty()).isTrue();
+    }
+  }
+
+  @Nested
+  class 기동_재구축_테스트 {
+
+    @Test
+    void 비어_있고_임대를_획득하면_재구축한다() {
+      given(productCatalogViewRepository.count()).willReturn(0L);
+      givenLeaseAcquired(1);
+
+      assertThat(productCatalogService.rebuildIfEmpty()).isTrue();
+
+      verify(productCatalogViewRepository).deleteAllInBulk();
+      verify(leaseRepository)
+          .release(eq(List.of(ProductCatalogService.REBUILD_LEASE)), anyString());
+    }
+
+    @Test
+    void 다른_인스턴스가_임대를_가지고_있으면_재구축하지_않는다() {
+      given(productCatalogViewRepository.count()).willReturn(0L);
+      givenLeaseAcquired(0);
+
+      assertThat(productCatalogService.rebuildIfEmpty()).isFalse();
+
+      verify(productCatalogViewRepository, never()).deleteAllInBulk();
+      verify(leaseRepository, never()).release(any(), anyString());
+    }
+
+    @Test
+    void 임대를_획득한_사이_다른_인스턴스가_채웠으면_재구축하지_않는다() {
+      given(productCatalogViewRepository.count()).willReturn(0L, 5L);
+      givenLeaseAcquired(1);
+
+      assertThat(productCatalogService.rebuildIfEmpty()).isFalse();
+
+      verify(productCatalogViewRepository, never()).deleteAllInBulk();
+      verify(leaseRepository)
+          .release(eq(List.of(ProductCatalogService.REBUILD_LEASE)), anyString());
+    }
+
+    @Test
+    void 조회_모델이_채워져_있으면_임대를_잡지_않는다() {
+      given(productCatalogViewRepository.count()).willReturn(5L);
+
+      assertThat(productCatalogService.rebuildIfEmpty()).isFalse();
+
+      verifyNoInteractions(leaseRepository);
+    }
+  }
+
+  private void givenLeaseAcquired(int acquired) {
+    given(leaseRepository.existsById(ProductCatalogService.REBUILD_LEASE)).willReturn(true);
+    given(
+            leaseRepository.acquire(
+                eq(ProductCatalogService.REBUILD_LEASE), anyString(), any(), any()))
+        .willReturn(acquired);
+  }
+
+  // ========== Helper Methods ==========
+
+  private Product createProduct(Long id, String name) {
+    LocalDateTime now = LocalDateTime.now();
+    Product product =
+        Product.create(
+            "seller-001",
+            name,
+            ProductType.CONCERT,
+            120,
+            new Schedule(now.plusDays(30), now.plusDays(31)),
+            new SaleSchedule(now.plusDays(1), now.plusDays(29)),
+            new Venue(1L, "올림픽홀", 100L, "올림픽공원", "서울시 송파구"),
+            ProductContent.empty(),
+            AgeRestriction.defaultRestriction(),
+            BookingPolicy.defaultPolicy(),
+            AdmissionPolicy.defaultPolicy(),
+            RefundPolicy.defaultPolicy());
+    ReflectionTestUtils.setField(product, "id", id);
+    return product;
+  }
+}
@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.tickatch.product_service.product.application.dto.ProductCreateCommand;
 import com.tickatch.product_service.product.application.dto.ProductCreateCommand.SeatCreateInfo;
 import com.tickatch.product_service.product.application.dto.ProductCreateCommand.SeatGradeInfo;
 import com.tickatch.product_service.product.application.dto.ProductUpdateCommand;
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.application.event.ProductStatsChangedEvent;
 import com.tickatch.product_service.product.application.messaging.ProductEventPublisher;
 import com.tickatch.product_service.product.application.messaging.ProductLogEventPublisher;
 import com.tickatch.product_service.product.domain.Product;
@@ -38,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +70,8 @@ class ProductCommandServiceTest {
 
   @Mock private ReservationSeatClient reservationSeatClient;
 
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+
   private LocalDateTime startAt;
   private LocalDateTime endAt;
   private LocalDateTime saleStartAt;
@@ -95,6 +102,21 @@ class ProductCommandServiceTest {
       verify(reservationSeatClient).createSeats(any());
     }
 
+    @Test
+    void 같은_스테이지에_일정이_겹치는_상품이_있으면_생성할_수_없다() {
+      given(productRepository.existsOverlappingOnStage(DEFAULT_STAGE_ID, startAt, endAt, null))
+          .willReturn(true);
+
+      ProductCreateCommand command = createDefaultCommand();
+
+      assertThatThrownBy(() -> productCommandService.createProduct(command))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.STAGE_SCHEDULE_CONFLICT);
+      verify(productRepository).lockStage(DEFAULT_STAGE_ID);
+      verify(productRepository, never()).save(any(Product.class));
+    }
+
     @Test
     void 잘못된_일정으로_생성하면_예외가_발생한다() {
       LocalDateTime invalidEndAt = startAt.minusDays(1);
@@ -214,6 +236,29 @@ class ProductCommandServiceTest {
       assertThat(product.getVenue().getStageName()).isEqualTo("대공연장");
     }
 
+    @Test
+    void 변경할_스테이지에_일정이_겹치는_상품이_있으면_예외가_발생한다() {
+      Product product = createProduct(1L);
+      given(productRepository.findById(1L)).willReturn(Optional.of(product));
+      given(productRepository.existsOverlappingOnStage(2L, startAt, endAt, 1L)).willReturn(true);
+
+      ProductUpdateCommand command =
+          ProductUpdateCommand.builder()
+              .productId(1L)
+              .sellerId(DEFAULT_SELLER_ID)
+              .stageId(2L)
+              .stageName("대공연장")
+              .artHallId(200L)
+              .artHallName("세종문화회관")
+              .artHallAddress("서울시 종로구")
+              .build();
+
+      assertThatThrownBy(() -> productCommandService.updateProduct(command))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.STAGE_SCHEDULE_CONFLICT);
+    }
+
     @Test
     void 소유자가_아니면_장소를_변경할_수_없다() {
       Product product = createProduct(1L);
@@ -488,6 +533,17 @@ class ProductCommandServiceTest {
       assertThat(product.getSeatSummary().getAvailableSeats()).isEqualTo(20);
     }
 
+    @Test
+    void 좌석_차감은_잔여_좌석_변경만_발행하고_상품_변경은_발행하지_않는다() {
+      Product product = createProductWithSeatGrade(1L);
+      given(productRepository.findByIdForUpdate(1L)).willReturn(Optional.of(product));
+
+      productCommandService.decreaseAvailableSeats(1L, 10);
+
+      verify(applicationEventPublisher).publishEvent(any(ProductAvailabilityChangedEvent.class));
+      verify(applicationEventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    }
+
     @Test
     void 잔여_좌석보다_많이_차감하면_예외가_발생한다() {
       Product product = createProductWithSeatGrade(1L);
@@ -575,6 +631,17 @@ class ProductCommandServiceTest {
       assertThat(product.getStats().getReservationCount()).isEqualTo(1);
     }
 
+    @Test
+    void 예매수_변경은_통계_변경만_발행하고_상품_변경은_발행하지_않는다() {
+      Product product = createProduct(1L);
+      given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+      productCommandService.incrementReservationCount(1L);
+
+      verify(applicationEventPublisher).publishEvent(new ProductStatsChangedEvent(1L));
+      verify(applicationEventPublisher, never()).publishEvent(any(ProductChangedEvent.class));
+    }
+
     @Test
     void 예매수_증가시_상품이_없으면_예외가_발생한다() {
       given(productRepository.findById(999L)).willReturn(Optional.empty());
@@ -0,0 +1,121 @@
+package com.tickatch.product_service.product.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.global.datasource.ReadYourWritesTokens;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+@DisplayName("ProductQueryCoalescer 테스트")
+class ProductQueryCoalescerTest {
+
+  private ProductQueryService productQueryService;
+  private ReadYourWritesTokens readYourWritesTokens;
+  private ObjectProvider<ReadYourWritesTokens> tokensProvider;
+
+  private final CountDownLatch loading = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    productQueryService = mock(ProductQueryService.class);
+    readYourWritesTokens = mock(ReadYourWritesTokens.class);
+    tokensProvider = mock(ObjectProvider.class);
+    given(tokensProvider.getIfAvailable()).willReturn(readYourWritesTokens);
+    given(readYourWritesTokens.required()).willReturn(OptionalLong.empty());
+
+    ProductResponse response = ProductResponse.builder().id(1L).build();
+    given(productQueryService.getProduct(1L, ProductFields.ALL))
+        .willAnswer(
+            invocation -> {
+              if (calls.incrementAndGet() == 1) {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+              }
+              return response;
+            });
+  }
+
+  @Nested
+  class 상세_조회_테스트 {
+
+    @Test
+    void 조회_결과를_그대로_반환한다() {
+      ProductQueryCoalescer coalescer = coalescer(true, 3000);
+      release.countDown();
+
+      assertThat(coalescer.getProduct(1L, ProductFields.ALL).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void 진행_중인_조회를_기다리다_시간이_지나면_예외가_발생한다() throws Exception {
+      ProductQueryCoalescer coalescer = coalescer(true, 50);
+      CompletableFuture<ProductResponse> leader =
+          CompletableFuture.supplyAsync(() -> coalescer.getProduct(1L, ProductFields.ALL));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> coalescer.getProduct(1L, ProductFields.ALL))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.PRODUCT_READ_TIMEOUT);
+
+      release.countDown();
+      assertThat(leader.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+      verify(productQueryService, times(1)).getProduct(1L, ProductFields.ALL);
+    }
+
+    @Test
+    void 쓰기_후_읽기_토큰이_있으면_병합하지_않는다() throws Exception {
+      ProductQueryCoalescer coalescer = coalescer(true, 50);
+      CompletableFuture<ProductResponse> leader =
+          CompletableFuture.supplyAsync(() -> coalescer.getProduct(1L, ProductFields.ALL));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      given(readYourWritesTokens.required()).willReturn(OptionalLong.of(10L));
+
+      assertThat(coalescer.getProduct(1L, ProductFields.ALL).getId()).isEqualTo(1L);
+
+      release.countDown();
+      leader.get(5, TimeUnit.SECONDS);
+      verify(productQueryService, times(2)).getProduct(1L, ProductFields.ALL);
+    }
+
+    @Test
+    void 비활성화하면_병합하지_않는다() throws Exception {
+      ProductQueryCoalescer coalescer = coalescer(false, 50);
+      CompletableFuture<ProductResponse> first =
+          CompletableFuture.supplyAsync(() -> coalescer.getProduct(1L, ProductFields.ALL));
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(coalescer.getProduct(1L, ProductFields.ALL).getId()).isEqualTo(1L);
+
+      release.countDown();
+      first.get(5, TimeUnit.SECONDS);
+      verify(productQueryService, times(2)).getProduct(1L, ProductFields.ALL);
+    }
+  }
+
+  private ProductQueryCoalescer coalescer(boolean enabled, long timeoutMillis) {
+    return new ProductQueryCoalescer(
+        productQueryService, tokensProvider, new SimpleMeterRegistry(), enabled, timeoutMillis);
+  }
+}
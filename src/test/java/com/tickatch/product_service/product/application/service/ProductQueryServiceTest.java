@@ -2,14 +2,28 @@ package com.tickatch.product_service.product.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
 import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductCatalogView;
+import com.tickatch.product_service.product.domain.ProductCatalogViewRepository;
 import com.tickatch.product_service.product.domain.ProductRepository;
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
 import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.repository.dto.ProductView;
 import com.tickatch.product_service.product.domain.vo.AdmissionPolicy;
 import com.tickatch.product_service.product.domain.vo.AgeRestriction;
 import com.tickatch.product_service.product.domain.vo.BookingPolicy;
@@ -20,14 +34,19 @@ import com.tickatch.product_service.product.domain.vo.RefundPolicy;
 import com.tickatch.product_service.product.domain.vo.SaleSchedule;
 import com.tickatch.product_service.product.domain.vo.Schedule;
 import com.tickatch.product_service.product.domain.vo.Venue;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex.BitmapMatch;
+import com.tickatch.product_service.product.infrastructure.search.schedule.StageScheduleIndex;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,6 +55,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductQueryService 테스트")
@@ -55,6 +75,14 @@ class ProductQueryServiceTest {
 
   @Mock private ProductRepository productRepository;
 
+  @Mock private ProductCatalogViewRepository productCatalogViewRepository;
+
+  @Mock private ProductBitmapIndex productBitmapIndex;
+
+  @Mock private StageScheduleIndex stageScheduleIndex;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
   private LocalDateTime startAt;
   private LocalDateTime endAt;
   private LocalDateTime saleStartAt;
@@ -196,6 +224,67 @@ class ProductQueryServiceTest {
     }
   }
 
+  @Nested
+  class 상품_다건_조회_테스트 {
+
+    @BeforeEach
+    void setUpBatchSize() {
+      ReflectionTestUtils.setField(productQueryService, "batchMaxSize", 3);
+    }
+
+    @Test
+    void 요청_순서대로_반환하고_누락된_ID를_알려준다() {
+      given(productRepository.findAllByIdsWithSeatGrades(List.of(3L, 1L, 999L)))
+          .willReturn(List.of(createProduct(1L, "공연A"), createProduct(3L, "공연C")));
+
+      ProductBatchResponse response = productQueryService.getProductsByIds(List.of(3L, 1L, 999L));
+
+      assertThat(response.getProducts()).extracting(ProductResponse::getId).containsExactly(3L, 1L);
+      assertThat(response.getMissingIds()).containsExactly(999L);
+    }
+
+    @Test
+    void 중복_ID는_한_번만_조회한다() {
+      given(productRepository.findAllByIdsWithSeatGrades(List.of(1L, 2L)))
+          .willReturn(List.of(createProduct(1L, "공연A"), createProduct(2L, "공연B")));
+
+      ProductBatchResponse response = productQueryService.getProductsByIds(List.of(1L, 2L, 1L));
+
+      assertThat(response.getProducts()).extracting(ProductResponse::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 빈_목록이면_DB를_조회하지_않는다() {
+      ProductBatchResponse response = productQueryService.getProductsByIds(List.of());
+
+      assertThat(response.getProducts()).isEmpty();
+      verify(productRepository, never()).findAllByIdsWithSeatGrades(any());
+    }
+
+    @Test
+    void 좌석_등급이_없는_뷰이면_좌석_등급을_함께_조회하지_않는다() {
+      given(productRepository.findAllByIds(List.of(1L, 2L)))
+          .willReturn(List.of(createProduct(1L, "공연A"), createProduct(2L, "공연B")));
+
+      ProductBatchResponse response =
+          productQueryService.getProductsByIds(
+              List.of(1L, 2L), ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(response.getProducts())
+          .extracting(ProductResponse::getSeatGrades)
+          .containsOnlyNulls();
+      verify(productRepository, never()).findAllByIdsWithSeatGrades(any());
+    }
+
+    @Test
+    void 최대_조회_수를_넘으면_예외가_발생한다() {
+      assertThatThrownBy(() -> productQueryService.getProductsByIds(List.of(1L, 2L, 3L, 4L)))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.BATCH_SIZE_EXCEEDED);
+    }
+  }
+
   @Nested
   class 상품목록_조회_테스트 {
 
@@ -248,6 +337,266 @@ class ProductQueryServiceTest {
     }
   }
 
+  @Nested
+  class 비트맵_인덱스_목록_조회_테스트 {
+
+    @Test
+    void 비트맵_일치_건수를_전체_건수로_사용하고_건수_쿼리를_생략한다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder().status(ProductStatus.ON_SALE).build();
+      Pageable pageable = PageRequest.of(0, 2);
+      ReflectionTestUtils.setField(productQueryService, "bitmapIdThreshold", 1000);
+      given(productBitmapIndex.supports(condition)).willReturn(true);
+      given(productBitmapIndex.match(condition, 1000))
+          .willReturn(new BitmapMatch(3, List.of(1L, 2L, 3L)));
+      given(productRepository.findContentByCondition(condition, List.of(1L, 2L, 3L), pageable))
+          .willReturn(List.of(createProduct(1L, "콘서트A"), createProduct(2L, "콘서트B")));
+
+      Page<ProductResponse> result = productQueryService.getProducts(condition, pageable);
+
+      assertThat(result.getContent()).hasSize(2);
+      assertThat(result.getTotalElements()).isEqualTo(3);
+      verify(productRepository, never()).findAllByCondition(any(), any());
+    }
+
+    @Test
+    void 비트맵_일치_건수가_0이면_일반_조회로_처리한다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder().stageId(DEFAULT_STAGE_ID).build();
+      Pageable pageable = PageRequest.of(0, 10);
+      given(productBitmapIndex.supports(condition)).willReturn(true);
+      given(productBitmapIndex.match(condition, 0)).willReturn(new BitmapMatch(0, List.of()));
+      given(productRepository.findAllByCondition(condition, pageable))
+          .willReturn(new PageImpl<>(List.of(createProduct(1L, "콘서트A")), pageable, 1));
+
+      Page<ProductResponse> result = productQueryService.getProducts(condition, pageable);
+
+      assertThat(result.getContent()).extracting(ProductResponse::getId).containsExactly(1L);
+      assertThat(result.getTotalElements()).isEqualTo(1);
+      verify(productRepository, never()).findContentByCondition(any(), any(), any());
+    }
+  }
+
+  @Nested
+  class 스테이지_일정_조회_테스트 {
+
+    @BeforeEach
+    void setUpLimits() {
+      ReflectionTestUtils.setField(productQueryService, "bitmapIdThreshold", 1000);
+      ReflectionTestUtils.setField(productQueryService, "calendarMaxDays", 31);
+    }
+
+    @Test
+    void 스테이지와_시작_일시_조건이면_일정_인덱스의_후보만_조회한다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder()
+              .stageId(DEFAULT_STAGE_ID)
+              .startFrom(startAt)
+              .startTo(endAt)
+              .build();
+      Pageable pageable = PageRequest.of(0, 10);
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findStartingBetween(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of(1L));
+      given(productRepository.findAllByCondition(condition, List.of(1L), pageable))
+          .willReturn(new PageImpl<>(List.of(createProduct(1L, "콘서트A")), pageable, 1));
+
+      Page<ProductResponse> result = productQueryService.getProducts(condition, pageable);
+
+      assertThat(result.getContent()).extracting(ProductResponse::getId).containsExactly(1L);
+      verify(productRepository, never()).findAllByCondition(condition, pageable);
+    }
+
+    @Test
+    void 일정_인덱스에_후보가_없으면_일반_조회로_처리한다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder()
+              .stageId(DEFAULT_STAGE_ID)
+              .startFrom(startAt)
+              .startTo(endAt)
+              .build();
+      Pageable pageable = PageRequest.of(0, 10);
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findStartingBetween(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of());
+      given(productRepository.findAllByCondition(condition, pageable))
+          .willReturn(new PageImpl<>(List.of(createProduct(1L, "콘서트A")), pageable, 1));
+
+      Page<ProductResponse> result = productQueryService.getProducts(condition, pageable);
+
+      assertThat(result.getContent()).extracting(ProductResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 캘린더는_일정_인덱스에_대상이_없으면_DB에서_조회한다() {
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findOverlapping(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of());
+      given(productRepository.findAllOverlappingOnStage(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of(createProduct(1L, "공연A")));
+
+      List<ProductResponse> result =
+          productQueryService.getStageCalendar(
+              DEFAULT_STAGE_ID, startAt, endAt, ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(result).extracting(ProductResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 캘린더는_일정_인덱스_순서대로_반환하고_삭제된_상품을_제외한다() {
+      Product cancelled = createProduct(3L, "공연C");
+      cancelled.cancel("admin");
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findOverlapping(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of(2L, 1L, 3L));
+      given(productRepository.findAllByIds(List.of(2L, 1L, 3L)))
+          .willReturn(List.of(createProduct(1L, "공연A"), createProduct(2L, "공연B"), cancelled));
+
+      List<ProductResponse> result =
+          productQueryService.getStageCalendar(
+              DEFAULT_STAGE_ID, startAt, endAt, ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(result).extracting(ProductResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 캘린더는_DB_기준으로_다른_스테이지로_옮겨진_후보를_제외한다() {
+      Product moved = createProduct(2L, "공연B");
+      moved.changeVenue(
+          new Venue(
+              DEFAULT_STAGE_ID + 1,
+              "소극장",
+              DEFAULT_ART_HALL_ID,
+              DEFAULT_ART_HALL_NAME,
+              DEFAULT_ART_HALL_ADDRESS));
+      given(stageScheduleIndex.isReady()).willReturn(true);
+      given(stageScheduleIndex.findOverlapping(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of(1L, 2L));
+      given(productRepository.findAllByIds(List.of(1L, 2L)))
+          .willReturn(List.of(createProduct(1L, "공연A"), moved));
+
+      List<ProductResponse> result =
+          productQueryService.getStageCalendar(
+              DEFAULT_STAGE_ID, startAt, endAt, ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(result).extracting(ProductResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void 일정_인덱스가_준비되지_않았으면_DB에서_조회한다() {
+      given(productRepository.findAllOverlappingOnStage(DEFAULT_STAGE_ID, startAt, endAt))
+          .willReturn(List.of(createProduct(1L, "공연A")));
+
+      List<ProductResponse> result =
+          productQueryService.getStageCalendar(
+              DEFAULT_STAGE_ID, startAt, endAt, ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(result).hasSize(1);
+      verify(stageScheduleIndex, never()).findOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void 기간_시작이_끝보다_늦으면_예외가_발생한다() {
+      assertThatThrownBy(
+              () ->
+                  productQueryService.getStageCalendar(
+                      DEFAULT_STAGE_ID, endAt, startAt, ProductFields.ALL))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.INVALID_DATE_RANGE);
+    }
+
+    @Test
+    void 최대_조회_기간을_넘으면_예외가_발생한다() {
+      assertThatThrownBy(
+              () ->
+                  productQueryService.getStageCalendar(
+                      DEFAULT_STAGE_ID, startAt, startAt.plusDays(32), ProductFields.ALL))
+          .isInstanceOf(ProductException.class)
+          .extracting(e -> ((ProductException) e).getErrorCode())
+          .isEqualTo(ProductErrorCode.CALENDAR_RANGE_TOO_LONG);
+    }
+  }
+
+  @Nested
+  class 카탈로그_조회_모델_목록_조회_테스트 {
+
+    @Test
+    void 요약_뷰는_카탈로그_조회_모델에서_읽는다() {
+      ProductSearchCondition condition = ProductSearchCondition.builder().build();
+      Pageable pageable = PageRequest.of(0, 10);
+      ReflectionTestUtils.setField(productQueryService, "catalogReadEnabled", true);
+      ProductCatalogView view = ProductCatalogView.of(createProductWithSeatGrade(1L, "콘서트A"));
+      given(productCatalogViewRepository.findAllByCondition(condition, pageable))
+          .willReturn(new PageImpl<>(List.of(view), pageable, 1));
+
+      Page<ProductResponse> result =
+          productQueryService.getProducts(
+              condition, pageable, ProductFields.of(ProductView.SUMMARY));
+
+      assertThat(result.getContent()).hasSize(1);
+      assertThat(result.getContent().get(0).getName()).isEqualTo("콘서트A");
+      assertThat(result.getContent().get(0).getStageName()).isEqualTo(DEFAULT_STAGE_NAME);
+      verify(productRepository, never()).findAllByCondition(any(), any());
+      verify(productBitmapIndex, never()).supports(any());
+    }
+
+    @Test
+    void 조회_모델에_없는_필드를_요청하면_쓰기_모델에서_읽는다() {
+      ProductSearchCondition condition = ProductSearchCondition.builder().build();
+      Pageable pageable = PageRequest.of(0, 10);
+      ReflectionTestUtils.setField(productQueryService, "catalogReadEnabled", true);
+      given(productRepository.findAllByCondition(condition, pageable))
+          .willReturn(new PageImpl<>(List.of(createProduct(1L, "콘서트A")), pageable, 1));
+
+      Page<ProductResponse> result =
+          productQueryService.getProducts(
+              condition, pageable, ProductFields.of(ProductView.INVENTORY));
+
+      assertThat(result.getContent()).hasSize(1);
+      verify(productCatalogViewRepository, never()).findAllByCondition(any(), any());
+    }
+
+    @Test
+    void 카탈로그_읽기가_꺼져_있으면_쓰기_모델에서_읽는다() {
+      ProductSearchCondition condition = ProductSearchCondition.builder().build();
+      Pageable pageable = PageRequest.of(0, 10);
+      given(productRepository.findAllByCondition(condition, pageable))
+          .willReturn(new PageImpl<>(List.of(createProduct(1L, "콘서트A")), pageable, 1));
+
+      productQueryService.getProducts(condition, pageable, ProductFields.of(ProductView.SUMMARY));
+
+      verify(productCatalogViewRepository, never()).findAllByCondition(any(), any());
+    }
+  }
+
+  @Nested
+  class 상품_내보내기_테스트 {
+
+    @Test
+    void 묶음마다_트랜잭션을_끝낸_뒤_전달한다() {
+      ReflectionTestUtils.setField(productQueryService, "exportChunkSize", 2);
+      given(productRepository.findExportChunk(eq(ProductStatus.ON_SALE), isNull(), isNull(), eq(2)))
+          .willReturn(
+              List.of(
+                  ProductResponse.from(createProduct(1L, "콘서트A")),
+                  ProductResponse.from(createProduct(2L, "콘서트B"))));
+      given(productRepository.findExportChunk(eq(ProductStatus.ON_SALE), isNull(), eq(2L), eq(2)))
+          .willReturn(List.of(ProductResponse.from(createProduct(3L, "콘서트C"))));
+      @SuppressWarnings("unchecked")
+      Consumer<ProductResponse> sink = mock(Consumer.class);
+
+      long count = productQueryService.exportProducts(ProductStatus.ON_SALE, null, sink);
+
+      assertThat(count).isEqualTo(3);
+      InOrder order = inOrder(transactionManager, sink);
+      order.verify(transactionManager).commit(any());
+      order.verify(sink, times(2)).accept(any());
+      order.verify(transactionManager).commit(any());
+      order.verify(sink).accept(argThat(response -> response.getId().equals(3L)));
+    }
+  }
+
   // ========== Helper Methods ==========
 
   private Product createProduct(Long id, String name) {
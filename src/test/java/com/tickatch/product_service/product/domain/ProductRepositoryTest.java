@@ -2,10 +2,17 @@ package com.tickatch.product_service.product.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.tickatch.product_service.global.lease.PartitionAssignment;
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse.SeatGradeAvailability;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
 import com.tickatch.product_service.product.domain.vo.AdmissionPolicy;
 import com.tickatch.product_service.product.domain.vo.AgeRestriction;
 import com.tickatch.product_service.product.domain.vo.BookingPolicy;
@@ -16,8 +23,13 @@ import com.tickatch.product_service.product.domain.vo.RefundPolicy;
 import com.tickatch.product_service.product.domain.vo.SaleSchedule;
 import com.tickatch.product_service.product.domain.vo.Schedule;
 import com.tickatch.product_service.product.domain.vo.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -46,9 +58,12 @@ class ProductRepositoryTest {
   private static final String PRODUCT_NAME = "테스트 공연";
   private static final ProductType PRODUCT_TYPE = ProductType.CONCERT;
   private static final Long FAIL_PRODUCT_ID = 999L;
+  private static final PartitionAssignment ALL_PARTITIONS = PartitionAssignment.all(1);
 
   @Autowired private ProductRepository productRepository;
 
+  @Autowired private EntityManager entityManager;
+
   private Schedule futureSchedule;
   private SaleSchedule futureSaleSchedule;
   private Venue defaultVenue;
@@ -109,6 +124,41 @@ class ProductRepositoryTest {
       assertThat(found).isPresent();
       assertThat(found.get().getId()).isEqualTo(product.getId());
     }
+
+    @Test
+    void 여러_상품을_좌석_등급과_함께_조회할_수_있다() {
+      Product first = productRepository.save(createProduct("공연A", PRODUCT_TYPE));
+      first.addSeatGrade("VIP", 150000L, 100, 1);
+      first.addSeatGrade("R석", 120000L, 200, 2);
+      Product second = productRepository.save(createProduct("공연B", PRODUCT_TYPE));
+      productRepository.flush();
+
+      List<Product> found =
+          productRepository.findAllByIdsWithSeatGrades(
+              List.of(first.getId(), second.getId(), FAIL_PRODUCT_ID));
+
+      assertThat(found)
+          .extracting(Product::getId)
+          .containsExactlyInAnyOrder(first.getId(), second.getId());
+      assertThat(found)
+          .filteredOn(p -> p.getId().equals(first.getId()))
+          .singleElement()
+          .satisfies(p -> assertThat(p.getSeatGrades()).hasSize(2));
+    }
+
+    @Test
+    void 여러_상품을_좌석_등급_없이_조회할_수_있다() {
+      Product first = productRepository.save(createProduct("공연A", PRODUCT_TYPE));
+      Product second = productRepository.save(createProduct("공연B", PRODUCT_TYPE));
+      productRepository.flush();
+
+      List<Product> found =
+          productRepository.findAllByIds(List.of(first.getId(), second.getId(), FAIL_PRODUCT_ID));
+
+      assertThat(found)
+          .extracting(Product::getId)
+          .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
   }
 
   @Nested
@@ -299,6 +349,623 @@ class ProductRepositoryTest {
     }
   }
 
+  @Nested
+  class 내보내기_순회_테스트 {
+
+    @Test
+    void 묶음_단위로_ID_오름차순_순회한다() {
+      Product first = productRepository.save(createProduct("공연A", PRODUCT_TYPE));
+      first.addSeatGrade("VIP", 150000L, 100, 1);
+      first.addSeatGrade("R석", 120000L, 200, 2);
+      for (int i = 0; i < 4; i++) {
+        productRepository.save(createProduct("공연" + i, PRODUCT_TYPE));
+      }
+      productRepository.flush();
+      List<Integer> chunkSizes = new ArrayList<>();
+      List<Long> ids = new ArrayList<>();
+      List<Integer> firstSeatGrades = new ArrayList<>();
+
+      long count =
+          productRepository.scrollForExport(
+              null,
+              null,
+              2,
+              chunk -> {
+                chunkSizes.add(chunk.size());
+                for (Product p : chunk) {
+                  ids.add(p.getId());
+                  if (p.getId().equals(first.getId())) {
+                    firstSeatGrades.add(p.getSeatGrades().size());
+                  }
+                }
+              });
+
+      assertThat(count).isEqualTo(5);
+      assertThat(chunkSizes).containsExactly(2, 2, 1);
+      assertThat(ids).isSorted().hasSize(5);
+      assertThat(firstSeatGrades).containsExactly(2);
+    }
+
+    @Test
+    void 상태와_수정_시각으로_필터한다() {
+      Product pending = productRepository.save(createProduct("심사중 공연", PRODUCT_TYPE));
+      pending.changeStatus(ProductStatus.PENDING);
+      productRepository.save(createProduct("작성중 공연", PRODUCT_TYPE));
+      productRepository.flush();
+      List<Long> ids = new ArrayList<>();
+
+      long byStatus =
+          productRepository.scrollForExport(
+              ProductStatus.PENDING, null, 10, chunk -> chunk.forEach(p -> ids.add(p.getId())));
+      long byUpdatedAt =
+          productRepository.scrollForExport(null, LocalDateTime.now().plusDays(1), 10, chunk -> {});
+
+      assertThat(byStatus).isEqualTo(1);
+      assertThat(ids).containsExactly(pending.getId());
+      assertThat(byUpdatedAt).isZero();
+    }
+
+    @Test
+    void 삭제된_상품은_내보내지_않는다() {
+      Product deleted = productRepository.save(createProduct("삭제된 공연", PRODUCT_TYPE));
+      deleted.cancel("admin");
+      productRepository.flush();
+
+      long count = productRepository.scrollForExport(null, null, 10, chunk -> {});
+
+      assertThat(count).isZero();
+    }
+
+    @Test
+    void 기준_ID_다음_묶음을_좌석_등급과_함께_조회한다() {
+      Product first = productRepository.save(createProduct("공연A", PRODUCT_TYPE));
+      first.addSeatGrade("VIP", 150000L, 100, 1);
+      Product second = productRepository.save(createProduct("공연B", PRODUCT_TYPE));
+      Product third = productRepository.save(createProduct("공연C", PRODUCT_TYPE));
+      Product deleted = productRepository.save(createProduct("삭제된 공연", PRODUCT_TYPE));
+      deleted.cancel("admin");
+      productRepository.flush();
+
+      List<ProductResponse> firstChunk = productRepository.findExportChunk(null, null, null, 2);
+      List<ProductResponse> secondChunk =
+          productRepository.findExportChunk(null, null, second.getId(), 2);
+
+      assertThat(firstChunk)
+          .extracting(ProductResponse::getId)
+          .containsExactly(first.getId(), second.getId());
+      assertThat(firstChunk.get(0).getSeatGrades()).hasSize(1);
+      assertThat(secondChunk).extracting(ProductResponse::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void 수정_시각_하한은_상품이나_카운터_중_하나가_바뀌었으면_포함한다() {
+      LocalDateTime since = LocalDateTime.now().minusHours(1);
+      Product productUpdated = productRepository.save(createProduct("공연A", PRODUCT_TYPE));
+      Product countersUpdated = productRepository.save(createProduct("공연B", PRODUCT_TYPE));
+      productRepository.save(createProduct("공연C", PRODUCT_TYPE));
+      productRepository.flush();
+      LocalDateTime old = since.minusDays(1);
+      updateTimestamps("p_product", old);
+      updateTimestamps("p_product_counters", old);
+      setUpdatedAt("p_product", "id", productUpdated.getId(), LocalDateTime.now());
+      setUpdatedAt(
+          "p_product_counters", "product_id", countersUpdated.getId(), LocalDateTime.now());
+      entityManager.clear();
+
+      List<ProductResponse> chunk = productRepository.findExportChunk(null, since, null, 10);
+
+      assertThat(chunk)
+          .extracting(ProductResponse::getId)
+          .containsExactly(productUpdated.getId(), countersUpdated.getId());
+    }
+
+    private void updateTimestamps(String table, LocalDateTime updatedAt) {
+      entityManager
+          .createNativeQuery("update " + table + " set updated_at = :updatedAt")
+          .setParameter("updatedAt", updatedAt)
+          .executeUpdate();
+    }
+
+    private void setUpdatedAt(String table, String idColumn, Long id, LocalDateTime updatedAt) {
+      entityManager
+          .createNativeQuery(
+              "update " + table + " set updated_at = :updatedAt where " + idColumn + " = :id")
+          .setParameter("updatedAt", updatedAt)
+          .setParameter("id", id)
+          .executeUpdate();
+    }
+  }
+
+  @Nested
+  class 색인_순회_테스트 {
+
+    @Test
+    void 대상_상태의_상품을_묶음_단위로_ID_오름차순_순회한다() {
+      for (int i = 0; i < 5; i++) {
+        productRepository.save(createProduct("공연" + i, PRODUCT_TYPE));
+      }
+      Product pending = productRepository.save(createProduct("심사중 공연", PRODUCT_TYPE));
+      pending.changeStatus(ProductStatus.PENDING);
+      Product deleted = productRepository.save(createProduct("삭제된 공연", PRODUCT_TYPE));
+      deleted.cancel("admin");
+      productRepository.flush();
+      List<Integer> chunkSizes = new ArrayList<>();
+      List<Long> ids = new ArrayList<>();
+
+      long count =
+          productRepository.scrollIndexSnapshots(
+              Set.of(ProductStatus.DRAFT),
+              2,
+              chunk -> {
+                chunkSizes.add(chunk.size());
+                chunk.forEach(snapshot -> ids.add(snapshot.getProductId()));
+              });
+
+      assertThat(count).isEqualTo(5);
+      assertThat(chunkSizes).containsExactly(2, 2, 1);
+      assertThat(ids).isSorted().doesNotContain(pending.getId(), deleted.getId());
+    }
+  }
+
+  @Nested
+  class 상세_콘텐츠_테스트 {
+
+    @Test
+    void 상세_콘텐츠는_별도_테이블에서_지연_로딩된다() {
+      Product product = productRepository.save(createProduct(PRODUCT_NAME, PRODUCT_TYPE));
+      product.updateContent(
+          new ProductContent(
+              "상세 설명", "https://example.com/poster.jpg", "[]", "출연진", "유의사항", "주최사", "주관사"));
+      productRepository.flush();
+      entityManager.clear();
+
+      Product found = productRepository.findById(product.getId()).orElseThrow();
+
+      assertThat(found.getPosterImageUrl()).isEqualTo("https://example.com/poster.jpg");
+      assertThat(found.getCastInfo()).isEqualTo("출연진");
+      assertThat(persistenceUnitUtil().isLoaded(found, "detail")).isFalse();
+      assertThat(found.getContent().getDescription()).isEqualTo("상세 설명");
+      assertThat(found.getContent().getNotice()).isEqualTo("유의사항");
+      assertThat(persistenceUnitUtil().isLoaded(found, "detail")).isTrue();
+    }
+
+    private PersistenceUnitUtil persistenceUnitUtil() {
+      return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    }
+  }
+
+  @Nested
+  class 카운터_테스트 {
+
+    @Test
+    void 카운터는_별도_테이블에_저장되고_상품과_함께_조회된다() {
+      Product product = productRepository.save(createProduct(PRODUCT_NAME, PRODUCT_TYPE));
+      product.initializeSeatSummary(100);
+      productRepository.flush();
+      entityManager.clear();
+
+      Product found = productRepository.findByIdForUpdate(product.getId()).orElseThrow();
+
+      assertThat(found.getSeatSummary().getTotalSeats()).isEqualTo(100);
+      assertThat(found.getSeatSummary().getAvailableSeats()).isEqualTo(100);
+      assertThat(found.getStats().getViewCount()).isZero();
+      assertThat(entityManager.find(ProductCounters.class, product.getId())).isNotNull();
+    }
+
+    @Test
+    void 카운터만_바뀌면_상품의_수정_일시는_바뀌지_않는다() {
+      Product product = productRepository.save(createProduct(PRODUCT_NAME, PRODUCT_TYPE));
+      productRepository.flush();
+      entityManager.clear();
+      LocalDateTime updatedAt =
+          productRepository.findById(product.getId()).orElseThrow().getUpdatedAt();
+
+      productRepository.findById(product.getId()).orElseThrow().incrementViewCount();
+      productRepository.flush();
+      entityManager.clear();
+
+      Product found = productRepository.findById(product.getId()).orElseThrow();
+      assertThat(found.getStats().getViewCount()).isEqualTo(1L);
+      assertThat(found.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void 존재하지_않는_상품을_잠그면_빈_값을_반환한다() {
+      assertThat(productRepository.findByIdForUpdate(999L)).isEmpty();
+    }
+  }
+
+  @Nested
+  class 가격_범위_테스트 {
+
+    @BeforeEach
+    void 상품들_초기화() {
+      createPricedProduct("저가 공연", 30000L, 50000L);
+      createPricedProduct("중가 공연", 70000L, 120000L);
+      createPricedProduct("고가 공연", 150000L, 200000L);
+      productRepository.save(createProduct("등급 없는 공연", PRODUCT_TYPE));
+      productRepository.flush();
+    }
+
+    @Test
+    void 최저가_기준으로_가격_범위_검색이_가능하다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder().minPrice(50000L).maxPrice(150000L).build();
+
+      Page<Product> result = productRepository.findAllByCondition(condition, PageRequest.of(0, 10));
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactlyInAnyOrder("중가 공연", "고가 공연");
+    }
+
+    @Test
+    void 하한만_지정하면_그_이상만_조회된다() {
+      ProductSearchCondition condition = ProductSearchCondition.builder().minPrice(100000L).build();
+
+      Page<Product> result = productRepository.findAllByCondition(condition, PageRequest.of(0, 10));
+
+      assertThat(result.getContent()).extracting(Product::getName).containsExactly("고가 공연");
+    }
+
+    @Test
+    void 최저가_오름차순_정렬시_등급_없는_상품은_마지막에_온다() {
+      Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "minPrice"));
+
+      Page<Product> result =
+          productRepository.findAllByCondition(ProductSearchCondition.builder().build(), pageable);
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactly("저가 공연", "중가 공연", "고가 공연", "등급 없는 공연");
+    }
+
+    @Test
+    void 최고가_내림차순_정렬시_등급_없는_상품은_마지막에_온다() {
+      Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "maxPrice"));
+
+      Page<Product> result =
+          productRepository.findAllByCondition(ProductSearchCondition.builder().build(), pageable);
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactly("고가 공연", "중가 공연", "저가 공연", "등급 없는 공연");
+    }
+
+    private void createPricedProduct(String name, Long lowPrice, Long highPrice) {
+      Product product = productRepository.save(createProduct(name, PRODUCT_TYPE));
+      product.addSeatGrade("R석", lowPrice, 100, 2);
+      product.addSeatGrade("VIP", highPrice, 50, 1);
+    }
+  }
+
+  @Nested
+  class 인기_정렬_테스트 {
+
+    @BeforeEach
+    void 상품들_초기화() {
+      createSoldProduct("A 공연", 100, 90, 3);
+      createSoldProduct("B 공연", 100, 40, 8);
+      createSoldProduct("C 공연", 50, 10, 1);
+      productRepository.flush();
+    }
+
+    @Test
+    void 예매_수_내림차순_정렬할_수_있다() {
+      Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "reservationCount"));
+
+      Page<Product> result =
+          productRepository.findAllByCondition(ProductSearchCondition.builder().build(), pageable);
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactly("B 공연", "A 공연", "C 공연");
+    }
+
+    @Test
+    void 판매율_내림차순_정렬할_수_있다() {
+      Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "soldRate"));
+
+      Page<Product> result =
+          productRepository.findAllByCondition(ProductSearchCondition.builder().build(), pageable);
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactly("A 공연", "C 공연", "B 공연");
+    }
+
+    @Test
+    void 잔여_좌석_오름차순_정렬할_수_있다() {
+      Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "availableSeats"));
+
+      Page<Product> result =
+          productRepository.findAllByCondition(ProductSearchCondition.builder().build(), pageable);
+
+      assertThat(result.getContent())
+          .extracting(Product::getName)
+          .containsExactly("A 공연", "C 공연", "B 공연");
+    }
+
+    @Test
+    void 판매율은_좌석_현황이_바뀔_때마다_카운터에_저장된다() {
+      Product product = createSoldProduct("D 공연", 200, 50, 1);
+      productRepository.flush();
+      entityManager.clear();
+
+      ProductCounters counters = entityManager.find(ProductCounters.class, product.getId());
+
+      assertThat(counters.getSoldRate()).isEqualTo(25.0);
+    }
+
+    private Product createSoldProduct(
+        String name, int totalSeats, int soldSeats, int reservations) {
+      Product product = productRepository.save(createProduct(name, PRODUCT_TYPE));
+      product.addSeatGrade("R석", 100000L, totalSeats, 1);
+      product.decreaseSeatGradeAvailable("R석", soldSeats);
+      for (int i = 0; i < reservations; i++) {
+        product.incrementReservationCount();
+      }
+      return product;
+    }
+  }
+
+  @Nested
+  class 일괄_상태_전이_테스트 {
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void 기준_시간_초기화() {
+      now = LocalDateTime.now().withNano(0);
+    }
+
+    @Test
+    void 판매_시작_시간이_도래한_SCHEDULED_상품만_ON_SALE로_변경하고_ID를_반환한다() {
+      Product due = createScheduled("A 공연", now.minusHours(1));
+      Product notDue = createScheduled("B 공연", now.plusHours(1));
+      Product draft =
+          productRepository.save(
+              createWithSaleSchedule("C 공연", new SaleSchedule(now.minusHours(1), now.plusDays(1))));
+      productRepository.flush();
+
+      List<Long> changed =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, ALL_PARTITIONS, 100);
+      entityManager.clear();
+
+      assertThat(changed).containsExactly(due.getId());
+      assertThat(productRepository.findById(due.getId()).orElseThrow().getStatus())
+          .isEqualTo(ProductStatus.ON_SALE);
+      assertThat(productRepository.findById(notDue.getId()).orElseThrow().getStatus())
+          .isEqualTo(ProductStatus.SCHEDULED);
+      assertThat(productRepository.findById(draft.getId()).orElseThrow().getStatus())
+          .isEqualTo(ProductStatus.DRAFT);
+    }
+
+    @Test
+    void 일괄_변경한_상품의_색인용_값은_바뀐_상태로_조회된다() {
+      Product due = createScheduled("A 공연", now.minusHours(1));
+      Product cancelled = createScheduled("B 공연", now.minusHours(1));
+      cancelled.cancel("admin");
+      productRepository.flush();
+
+      List<Long> changed =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, ALL_PARTITIONS, 100);
+      List<ProductIndexSnapshot> snapshots =
+          productRepository.findIndexSnapshotsByIds(List.of(due.getId(), cancelled.getId()));
+
+      assertThat(changed).containsExactly(due.getId());
+      assertThat(snapshots)
+          .extracting(ProductIndexSnapshot::getProductId, ProductIndexSnapshot::getStatus)
+          .containsExactly(tuple(due.getId(), ProductStatus.ON_SALE));
+    }
+
+    @Test
+    void 한_번에_최대_개수만큼만_ID_오름차순으로_변경한다() {
+      List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        ids.add(createScheduled("공연 " + i, now.minusHours(1)).getId());
+      }
+      productRepository.flush();
+
+      List<Long> first =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, ALL_PARTITIONS, 2);
+      List<Long> second =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, ALL_PARTITIONS, 2);
+
+      assertThat(first).containsExactly(ids.get(0), ids.get(1));
+      assertThat(second).containsExactly(ids.get(2));
+    }
+
+    @Test
+    void 맡은_파티션에_속한_상품만_변경한다() {
+      Product first = createScheduled("A 공연", now.minusHours(1));
+      Product second = createScheduled("B 공연", now.minusHours(1));
+      productRepository.flush();
+      PartitionAssignment partitions =
+          new PartitionAssignment(2, Set.of((int) (first.getId() % 2)));
+
+      List<Long> changed =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, partitions, 100);
+
+      assertThat(changed).contains(first.getId()).doesNotContain(second.getId());
+    }
+
+    @Test
+    void 취소된_상품은_변경하지_않는다() {
+      Product cancelled = createScheduled("A 공연", now.minusHours(1));
+      cancelled.cancel("admin");
+      productRepository.flush();
+
+      List<Long> changed =
+          productRepository.changeStatusBySaleStartAt(
+              ProductStatus.SCHEDULED, ProductStatus.ON_SALE, now, ALL_PARTITIONS, 100);
+
+      assertThat(changed).isEmpty();
+    }
+
+    @Test
+    void 다음_전이_시각이_기준_시간_이전인_상품의_전이_일정을_조회한다() {
+      Product soon = createScheduled("A 공연", now.plusMinutes(10));
+      createScheduled("B 공연", now.plusDays(2));
+      productRepository.flush();
+
+      List<ProductTransitionSchedule> result =
+          productRepository.findTransitionSchedulesBefore(now.plusHours(1));
+
+      assertThat(result).hasSize(1);
+      assertThat(result.get(0).getProductId()).isEqualTo(soon.getId());
+      assertThat(result.get(0).nextStatus()).isEqualTo(ProductStatus.ON_SALE);
+      assertThat(result.get(0).nextTransitionAt()).isEqualTo(now.plusMinutes(10));
+    }
+
+    private Product createScheduled(String name, LocalDateTime saleStartAt) {
+      Product product =
+          createWithSaleSchedule(name, new SaleSchedule(saleStartAt, saleStartAt.plusDays(1)));
+      product.changeStatus(ProductStatus.PENDING);
+      product.approve();
+      product.changeStatus(ProductStatus.SCHEDULED);
+      return productRepository.save(product);
+    }
+
+    private Product createWithSaleSchedule(String name, SaleSchedule saleSchedule) {
+      return Product.create(
+          DEFAULT_SELLER_ID,
+          name,
+          PRODUCT_TYPE,
+          RUNNING_TIME,
+          futureSchedule,
+          saleSchedule,
+          defaultVenue,
+          ProductContent.empty(),
+          AgeRestriction.defaultRestriction(),
+          BookingPolicy.defaultPolicy(),
+          AdmissionPolicy.defaultPolicy(),
+          RefundPolicy.defaultPolicy());
+    }
+  }
+
+  @Nested
+  class 스테이지_일정_테스트 {
+
+    private LocalDateTime base;
+    private Product first;
+
+    @BeforeEach
+    void 상품들_초기화() {
+      base = LocalDateTime.now().plusDays(40).withNano(0);
+      first = createScheduledProduct("A 공연", STAGE_ID, 0, 2);
+      createScheduledProduct("B 공연", STAGE_ID, 3, 5);
+      createScheduledProduct("C 공연", 2L, 0, 5);
+      productRepository.flush();
+    }
+
+    @Test
+    void 시작_일시_범위로_검색이_가능하다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder().startFrom(base.plusHours(1)).build();
+
+      Page<Product> result = productRepository.findAllByCondition(condition, PageRequest.of(0, 10));
+
+      assertThat(result.getContent()).extracting(Product::getName).containsExactly("B 공연");
+    }
+
+    @Test
+    void 스테이지에서_기간과_겹치는_상품을_시작_일시_순으로_조회한다() {
+      List<Product> result =
+          productRepository.findAllOverlappingOnStage(
+              STAGE_ID, base.plusHours(1), base.plusHours(4));
+
+      assertThat(result).extracting(Product::getName).containsExactly("A 공연", "B 공연");
+    }
+
+    @Test
+    void 일정이_맞닿기만_하면_겹치지_않는다() {
+      assertThat(
+              productRepository.existsOverlappingOnStage(
+                  STAGE_ID, base.plusHours(2), base.plusHours(3), null))
+          .isFalse();
+      assertThat(
+              productRepository.existsOverlappingOnStage(
+                  STAGE_ID, base.plusHours(1), base.plusHours(2), null))
+          .isTrue();
+    }
+
+    @Test
+    void 제외한_상품과_삭제된_상품은_겹침으로_보지_않는다() {
+      assertThat(
+              productRepository.existsOverlappingOnStage(
+                  STAGE_ID, base, base.plusHours(1), first.getId()))
+          .isFalse();
+
+      first.cancel("admin");
+      productRepository.flush();
+
+      assertThat(
+              productRepository.existsOverlappingOnStage(STAGE_ID, base, base.plusHours(1), null))
+          .isFalse();
+    }
+
+    @Test
+    void 스테이지_잠금_행이_없으면_만들어_잠근다() {
+      productRepository.lockStage(STAGE_ID);
+      productRepository.lockStage(STAGE_ID);
+
+      assertThat(entityManager.find(StageScheduleLock.class, STAGE_ID)).isNotNull();
+    }
+
+    @Test
+    void 아트홀에서_기간과_겹치는_상품_ID를_시작_일시_순으로_조회한다() {
+      List<Long> result =
+          productRepository.findIdsOverlappingInArtHall(
+              ART_HALL_ID, base.plusHours(1), base.plusHours(4));
+
+      assertThat(result).hasSize(3).startsWith(first.getId());
+    }
+
+    @Test
+    void 잔여_좌석을_등급_표시_순서대로_조회하고_삭제된_상품은_제외한다() {
+      first.addSeatGrade("R석", 120000L, 200, 2);
+      first.addSeatGrade("VIP", 150000L, 100, 1);
+      first.decreaseSeatGradeAvailable("VIP", 10);
+      Product cancelled = createScheduledProduct("D 공연", 3L, 0, 1);
+      cancelled.cancel("admin");
+      productRepository.flush();
+
+      List<ProductAvailabilityResponse> result =
+          productRepository.findAvailabilityByIds(List.of(first.getId(), cancelled.getId()));
+
+      assertThat(result).hasSize(1);
+      assertThat(result.get(0).getTotalSeats()).isEqualTo(300);
+      assertThat(result.get(0).getAvailableSeats()).isEqualTo(290);
+      assertThat(result.get(0).getSeatGrades())
+          .extracting(SeatGradeAvailability::getGradeName, SeatGradeAvailability::getAvailableSeats)
+          .containsExactly(tuple("VIP", 90), tuple("R석", 200));
+    }
+
+    private Product createScheduledProduct(
+        String name, Long stageId, int startHours, int endHours) {
+      return productRepository.save(
+          Product.create(
+              DEFAULT_SELLER_ID,
+              name,
+              PRODUCT_TYPE,
+              RUNNING_TIME,
+              new Schedule(base.plusHours(startHours), base.plusHours(endHours)),
+              futureSaleSchedule,
+              new Venue(stageId, STAGE_NAME, ART_HALL_ID, ART_HALL_NAME, ART_HALL_ADDRESS),
+              ProductContent.empty(),
+              AgeRestriction.defaultRestriction(),
+              BookingPolicy.defaultPolicy(),
+              AdmissionPolicy.defaultPolicy(),
+              RefundPolicy.defaultPolicy()));
+    }
+  }
+
   @Nested
   @DisplayName("좌석 등급 제거 테스트 (JPA 환경)")
   class 좌석_등급_제거_테스트 {
@@ -335,6 +1002,22 @@ class ProductRepositoryTest {
       assertThat(product.getSeatSummary().getAvailableSeats()).isEqualTo(200);
     }
 
+    @Test
+    void 좌석_등급_제거시_최저_최고_가격이_자동_재계산된다() {
+      // given
+      Product product = productRepository.save(createProduct(PRODUCT_NAME, PRODUCT_TYPE));
+      SeatGrade vip = product.addSeatGrade("VIP", 150000L, 100, 1);
+      product.addSeatGrade("R석", 120000L, 200, 2);
+      productRepository.flush();
+
+      // when
+      product.removeSeatGrade(vip.getId());
+
+      // then
+      assertThat(product.getMinPrice()).isEqualTo(120000L);
+      assertThat(product.getMaxPrice()).isEqualTo(120000L);
+    }
+
     @Test
     void 존재하지_않는_좌석_등급_제거시_예외가_발생한다() {
       // given
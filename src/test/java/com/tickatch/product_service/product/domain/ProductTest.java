@@ -947,6 +947,26 @@ class ProductTest {
         assertThat(product.getSeatSummary().getAvailableSeats()).isEqualTo(300);
       }
 
+      @Test
+      void 좌석_등급_추가시_최저_최고_가격이_자동_재계산된다() {
+        Product product = createDefaultProduct();
+
+        product.addSeatGrade("R석", 120000L, 200, 2);
+        product.addSeatGrade("VIP", 150000L, 100, 1);
+        product.addSeatGrade("S석", 90000L, 300, 3);
+
+        assertThat(product.getMinPrice()).isEqualTo(90000L);
+        assertThat(product.getMaxPrice()).isEqualTo(150000L);
+      }
+
+      @Test
+      void 좌석_등급이_없으면_최저_최고_가격은_null이다() {
+        Product product = createDefaultProduct();
+
+        assertThat(product.getMinPrice()).isNull();
+        assertThat(product.getMaxPrice()).isNull();
+      }
+
       @Test
       void REJECTED_상태에서_좌석_등급을_추가할_수_있다() {
         Product product = createRejectedProduct();
@@ -0,0 +1,77 @@
+package com.tickatch.product_service.product.domain.repository.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductFields 테스트")
+class ProductFieldsTest {
+
+  @Test
+  void 뷰와_필드가_없으면_전체_필드다() {
+    ProductFields fields = ProductFields.parse(null, " ");
+
+    assertThat(fields.isAll()).isTrue();
+    assertThat(fields.includes(ProductFields.SEAT_GRADES)).isTrue();
+    assertThat(fields.names()).contains("id", "name", "description", "seatGrades");
+  }
+
+  @Test
+  void 뷰_이름은_대소문자를_구분하지_않는다() {
+    ProductFields fields = ProductFields.parse("Summary", null);
+
+    assertThat(fields.isAll()).isFalse();
+    assertThat(fields.includes("name")).isTrue();
+    assertThat(fields.includes("description")).isFalse();
+    assertThat(fields.includes(ProductFields.SEAT_GRADES)).isFalse();
+  }
+
+  @Test
+  void 상세_뷰는_전체_필드다() {
+    assertThat(ProductFields.parse("detail", null).isAll()).isTrue();
+  }
+
+  @Test
+  void 필드를_지정하면_뷰보다_우선하고_ID를_항상_포함한다() {
+    ProductFields fields = ProductFields.parse("inventory", "name, status");
+
+    assertThat(fields.names()).containsExactlyInAnyOrder("id", "name", "status");
+  }
+
+  @Test
+  void 포함된_필드가_하나라도_있으면_includesAny가_참이다() {
+    ProductFields fields = ProductFields.of(List.of("posterImageUrl"));
+
+    assertThat(fields.includesAny("description", "posterImageUrl")).isTrue();
+    assertThat(fields.includesAny("description", "notice")).isFalse();
+  }
+
+  @Test
+  void 같은_필드_집합은_순서와_관계없이_같다() {
+    assertThat(ProductFields.parse(null, "name,status"))
+        .isEqualTo(ProductFields.parse(null, "status, name"))
+        .hasSameHashCodeAs(ProductFields.parse(null, "status,name"));
+    assertThat(ProductFields.parse(null, "name")).isNotEqualTo(ProductFields.ALL);
+  }
+
+  @Test
+  void 알_수_없는_뷰이면_예외가_발생한다() {
+    assertThatThrownBy(() -> ProductFields.parse("unknown", null))
+        .isInstanceOf(ProductException.class)
+        .extracting(e -> ((ProductException) e).getErrorCode())
+        .isEqualTo(ProductErrorCode.INVALID_RESPONSE_FIELDS);
+  }
+
+  @Test
+  void 알_수_없는_필드이면_예외가_발생한다() {
+    assertThatThrownBy(() -> ProductFields.parse(null, "name,password"))
+        .isInstanceOf(ProductException.class)
+        .extracting(e -> ((ProductException) e).getErrorCode())
+        .isEqualTo(ProductErrorCode.INVALID_RESPONSE_FIELDS);
+  }
+}
@@ -197,6 +197,26 @@ class ProductResponseTest {
     assertThat(response.isPurchasable()).isTrue();
   }
 
+  @Test
+  void 요약_뷰로_변환하면_좌석_등급을_채우지_않는다() {
+    Product product = createTestProduct();
+
+    ProductResponse response = ProductResponse.from(product, ProductFields.of(ProductView.SUMMARY));
+
+    assertThat(response.getName()).isEqualTo("테스트 공연");
+    assertThat(response.getStageName()).isEqualTo(STAGE_NAME);
+    assertThat(response.getSeatGrades()).isNull();
+  }
+
+  @Test
+  void 전체_필드로_변환하면_좌석_등급을_채운다() {
+    Product product = createTestProduct();
+
+    ProductResponse response = ProductResponse.from(product, ProductFields.ALL);
+
+    assertThat(response.getSeatGrades()).isNotNull();
+  }
+
   // ========== Helper Methods ==========
 
   private Product createTestProduct() {
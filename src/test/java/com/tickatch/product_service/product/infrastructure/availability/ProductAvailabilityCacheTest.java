@@ -0,0 +1,146 @@
+package com.tickatch.product_service.product.infrastructure.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ProductAvailabilityCache 테스트")
+class ProductAvailabilityCacheTest {
+
+  private ProductRepository productRepository;
+  private ProductAvailabilityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    productRepository = mock(ProductRepository.class);
+    cache = new ProductAvailabilityCache(productRepository);
+    ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 없는_항목만_한_번에_DB에서_읽는다() {
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 10), false));
+      given(productRepository.findAvailabilityByIds(List.of(2L, 3L)))
+          .willReturn(List.of(availability(2L, 20), availability(3L, 30)));
+
+      List<ProductAvailabilityResponse> result = cache.getAll(List.of(1L, 2L, 3L));
+
+      assertThat(result)
+          .extracting(ProductAvailabilityResponse::getAvailableSeats)
+          .containsExactly(10, 20, 30);
+      verify(productRepository, times(1)).findAvailabilityByIds(anyCollection());
+    }
+
+    @Test
+    void 유효한_항목은_DB를_조회하지_않는다() {
+      given(productRepository.findAvailabilityByIds(List.of(1L)))
+          .willReturn(List.of(availability(1L, 10)));
+      cache.getAll(List.of(1L));
+
+      cache.getAll(List.of(1L));
+
+      verify(productRepository, times(1)).findAvailabilityByIds(anyCollection());
+    }
+
+    @Test
+    void 요청_순서대로_반환하고_없는_상품은_제외한다() {
+      given(productRepository.findAvailabilityByIds(List.of(3L, 9L, 1L)))
+          .willReturn(List.of(availability(1L, 10), availability(3L, 30)));
+
+      List<ProductAvailabilityResponse> result = cache.getAll(List.of(3L, 9L, 1L));
+
+      assertThat(result)
+          .extracting(ProductAvailabilityResponse::getProductId)
+          .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void 만료된_항목은_다시_읽는다() {
+      ReflectionTestUtils.setField(cache, "ttlMillis", 0L);
+      given(productRepository.findAvailabilityByIds(List.of(1L)))
+          .willReturn(List.of(availability(1L, 10)), List.of(availability(1L, 7)));
+
+      cache.getAll(List.of(1L));
+      List<ProductAvailabilityResponse> result = cache.getAll(List.of(1L));
+
+      assertThat(result.get(0).getAvailableSeats()).isEqualTo(7);
+      verify(productRepository, times(2)).findAvailabilityByIds(anyCollection());
+    }
+  }
+
+  @Nested
+  class 변경_반영_테스트 {
+
+    @Test
+    void 변경_이벤트로_항목을_교체한다() {
+      given(productRepository.findAvailabilityByIds(List.of(1L)))
+          .willReturn(List.of(availability(1L, 10)));
+      cache.getAll(List.of(1L));
+
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 4), false));
+
+      assertThat(cache.getAll(List.of(1L)).get(0).getAvailableSeats()).isEqualTo(4);
+      verify(productRepository, times(1)).findAvailabilityByIds(anyCollection());
+    }
+
+    @Test
+    void 삭제_이벤트는_항목을_제거한다() {
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 10), false));
+
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 10), true));
+
+      given(productRepository.findAvailabilityByIds(List.of(1L))).willReturn(List.of());
+      assertThat(cache.getAll(List.of(1L))).isEmpty();
+      verify(productRepository).findAvailabilityByIds(List.of(1L));
+    }
+  }
+
+  @Nested
+  class 정리_테스트 {
+
+    @Test
+    void 만료된_항목을_제거한다() {
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 10), false));
+      ReflectionTestUtils.setField(cache, "ttlMillis", 0L);
+
+      cache.sweep();
+
+      assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 유효한_항목은_남긴다() {
+      cache.onAvailabilityChanged(new ProductAvailabilityChangedEvent(availability(1L, 10), false));
+
+      cache.sweep();
+
+      assertThat(cache.size()).isEqualTo(1);
+    }
+  }
+
+  private static ProductAvailabilityResponse availability(Long productId, int availableSeats) {
+    return ProductAvailabilityResponse.builder()
+        .productId(productId)
+        .totalSeats(100)
+        .availableSeats(availableSeats)
+        .soldOut(availableSeats == 0)
+        .seatGrades(List.of())
+        .build();
+  }
+}
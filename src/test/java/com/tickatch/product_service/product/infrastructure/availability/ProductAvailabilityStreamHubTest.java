@@ -0,0 +1,167 @@
+package com.tickatch.product_service.product.infrastructure.availability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.product_service.product.application.event.ProductAvailabilityChangedEvent;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ProductAvailabilityStreamHub 테스트")
+class ProductAvailabilityStreamHubTest {
+
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private ProductAvailabilityCache productAvailabilityCache;
+  private MeterRegistry meterRegistry;
+  private ProductAvailabilityStreamHub hub;
+
+  @BeforeEach
+  void setUp() {
+    productAvailabilityCache = mock(ProductAvailabilityCache.class);
+    meterRegistry = new SimpleMeterRegistry();
+    hub =
+        new ProductAvailabilityStreamHub(
+            productAvailabilityCache, new ObjectMapper(), tasks::add, meterRegistry);
+    ReflectionTestUtils.setField(hub, "timeoutMillis", 60_000L);
+    ReflectionTestUtils.setField(hub, "heartbeatMillis", 60_000L);
+  }
+
+  @Nested
+  class 구독_테스트 {
+
+    @Test
+    void 같은_상품의_구독자는_하나의_채널을_공유한다() {
+      hub.subscribe(availability(1L, 10));
+      hub.subscribe(availability(1L, 10));
+      hub.subscribe(availability(2L, 10));
+
+      assertThat(hub.subscriberCount()).isEqualTo(3);
+      assertThat(meterRegistry.get("product.availability.stream.subscribers").gauge().value())
+          .isEqualTo(3);
+    }
+
+    @Test
+    void 구독하면_현재_잔여_좌석을_먼저_전송한다() {
+      hub.subscribe(availability(1L, 10));
+
+      assertThat(tasks).hasSize(1);
+    }
+  }
+
+  @Nested
+  class 전송_테스트 {
+
+    @Test
+    void 같은_주기의_변경은_한_번만_전송한다() {
+      hub.subscribe(availability(1L, 10));
+      runAll();
+
+      hub.onAvailabilityChanged(changed(1L, 9));
+      hub.onAvailabilityChanged(changed(1L, 8));
+      hub.onAvailabilityChanged(changed(1L, 7));
+      hub.flush();
+
+      assertThat(tasks).hasSize(1);
+      runAll();
+      hub.flush();
+      assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void 구독자가_없는_상품의_변경은_무시한다() {
+      hub.onAvailabilityChanged(changed(1L, 9));
+      hub.flush();
+
+      assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void 느린_구독자는_중간_프레임을_건너뛰고_최신_프레임만_받는다() {
+      hub.subscribe(availability(1L, 10));
+
+      hub.onAvailabilityChanged(changed(1L, 9));
+      hub.flush();
+      hub.onAvailabilityChanged(changed(1L, 8));
+      hub.flush();
+
+      assertThat(tasks).hasSize(1);
+      assertThat(meterRegistry.get("product.availability.stream.dropped").counter().count())
+          .isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 재조회_테스트 {
+
+    @Test
+    void 다른_인스턴스에서_바뀐_잔여_좌석을_전송한다() {
+      hub.subscribe(availability(1L, 10));
+      hub.flush();
+      runAll();
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of(availability(1L, 5)));
+
+      hub.refresh();
+      hub.flush();
+
+      assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    void 마지막으로_보낸_값과_같으면_전송하지_않는다() {
+      hub.subscribe(availability(1L, 10));
+      hub.onAvailabilityChanged(changed(1L, 5));
+      hub.flush();
+      runAll();
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of(availability(1L, 5)));
+
+      hub.refresh();
+      hub.flush();
+
+      assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    void 조회되지_않는_상품은_삭제_이벤트를_보낸다() {
+      hub.subscribe(availability(1L, 10));
+      runAll();
+      given(productAvailabilityCache.getAll(List.of(1L))).willReturn(List.of());
+
+      hub.refresh();
+      hub.flush();
+
+      assertThat(tasks).hasSize(1);
+    }
+  }
+
+  private void runAll() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static ProductAvailabilityChangedEvent changed(Long productId, int availableSeats) {
+    return new ProductAvailabilityChangedEvent(availability(productId, availableSeats), false);
+  }
+
+  private static ProductAvailabilityResponse availability(Long productId, int availableSeats) {
+    return ProductAvailabilityResponse.builder()
+        .productId(productId)
+        .totalSeats(100)
+        .availableSeats(availableSeats)
+        .soldOut(false)
+        .seatGrades(List.of())
+        .build();
+  }
+}
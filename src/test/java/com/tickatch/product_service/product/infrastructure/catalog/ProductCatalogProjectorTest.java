@@ -0,0 +1,155 @@
+package com.tickatch.product_service.product.infrastructure.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.product.application.event.ProductStatsChangedEvent;
+import com.tickatch.product_service.product.application.service.ProductCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductCatalogProjector 테스트")
+class ProductCatalogProjectorTest {
+
+  private ProductCatalogService productCatalogService;
+  private List<Runnable> scheduled;
+  private SimpleMeterRegistry meterRegistry;
+  private ProductCatalogProjector projector;
+
+  @BeforeEach
+  void setUp() {
+    productCatalogService = mock(ProductCatalogService.class);
+    scheduled = new ArrayList<>();
+    meterRegistry = new SimpleMeterRegistry();
+    projector = new ProductCatalogProjector(productCatalogService, scheduled::add, meterRegistry);
+  }
+
+  @Nested
+  class 기동_재구축_테스트 {
+
+    @Test
+    void 기동_시_비어_있으면_재구축을_요청한다() {
+      projector.bootstrap();
+
+      verify(productCatalogService).rebuildIfEmpty();
+    }
+
+    @Test
+    void 재구축에_실패해도_기동을_막지_않는다() {
+      willThrow(new IllegalStateException("db down"))
+          .given(productCatalogService)
+          .rebuildIfEmpty();
+
+      assertThatCode(() -> projector.bootstrap()).doesNotThrowAnyException();
+    }
+  }
+
+  @Nested
+  class 갱신_합치기_테스트 {
+
+    @Test
+    void 같은_상품의_이벤트는_한_번_비울_때_한_번만_갱신한다() {
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+      projector.onStatsChanged(new ProductStatsChangedEvent(2L));
+
+      assertThat(scheduled).hasSize(1);
+      assertThat(projector.pendingCount()).isEqualTo(2);
+      verifyNoInteractions(productCatalogService);
+
+      runScheduled();
+
+      verify(productCatalogService, times(1)).refresh(1L);
+      verify(productCatalogService, times(1)).refresh(2L);
+      assertThat(projector.pendingCount()).isZero();
+      assertThat(counter("coalesced")).isEqualTo(1);
+      assertThat(counter("refreshed")).isEqualTo(2);
+    }
+
+    @Test
+    void 갱신_중에_들어온_상품은_다음_작업에서_갱신한다() {
+      willAnswer(
+              invocation -> {
+                projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+                return null;
+              })
+          .willDoNothing()
+          .given(productCatalogService)
+          .refresh(1L);
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+
+      runScheduled();
+
+      verify(productCatalogService, times(2)).refresh(1L);
+      assertThat(projector.pendingCount()).isZero();
+    }
+
+    @Test
+    void 갱신에_실패해도_나머지_상품은_갱신한다() {
+      willThrow(new IllegalStateException("db down")).given(productCatalogService).refresh(1L);
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+      projector.onStatsChanged(new ProductStatsChangedEvent(2L));
+
+      runScheduled();
+
+      verify(productCatalogService).refresh(2L);
+      assertThat(counter("failed")).isEqualTo(1);
+      assertThat(counter("refreshed")).isEqualTo(1);
+    }
+
+    @Test
+    void 작업_예약이_거부되어도_상품을_버리지_않고_다음_이벤트에서_다시_예약한다() {
+      List<Runnable> accepted = new ArrayList<>();
+      boolean[] reject = {true};
+      projector =
+          new ProductCatalogProjector(
+              productCatalogService,
+              task -> {
+                if (reject[0]) {
+                  throw new RejectedExecutionException("shutting down");
+                }
+                accepted.add(task);
+              },
+              new SimpleMeterRegistry());
+
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+      reject[0] = false;
+      projector.onStatsChanged(new ProductStatsChangedEvent(2L));
+      accepted.forEach(Runnable::run);
+
+      verify(productCatalogService).refresh(1L);
+      verify(productCatalogService).refresh(2L);
+    }
+
+    @Test
+    void 대기_중인_상품_수를_게이지로_노출한다() {
+      projector.onStatsChanged(new ProductStatsChangedEvent(1L));
+      projector.onStatsChanged(new ProductStatsChangedEvent(2L));
+
+      assertThat(meterRegistry.get("product.catalog.refresh.pending").gauge().value())
+          .isEqualTo(2.0);
+    }
+  }
+
+  private void runScheduled() {
+    while (!scheduled.isEmpty()) {
+      scheduled.remove(0).run();
+    }
+  }
+
+  private double counter(String result) {
+    return meterRegistry.get("product.catalog.refresh").tag("result", result).counter().count();
+  }
+}
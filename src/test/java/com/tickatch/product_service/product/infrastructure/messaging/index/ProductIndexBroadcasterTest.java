@@ -0,0 +1,186 @@
+package com.tickatch.product_service.product.infrastructure.messaging.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.infrastructure.search.AbstractProductIndex;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex;
+import com.tickatch.product_service.product.infrastructure.search.schedule.StageScheduleIndex;
+import io.github.tickatch.common.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+@DisplayName("ProductIndexBroadcaster 테스트")
+class ProductIndexBroadcasterTest {
+
+  private static final String EXCHANGE = "tickatch.product.index";
+
+  private RabbitTemplate rabbitTemplate;
+  private ProductBitmapIndex bitmapIndex;
+  private StageScheduleIndex stageScheduleIndex;
+  private AbstractProductIndex otherIndex;
+  private ProductIndexBroadcaster broadcaster;
+
+  @BeforeEach
+  void setUp() {
+    rabbitTemplate = mock(RabbitTemplate.class);
+    bitmapIndex = new ProductBitmapIndex(mock(ProductRepository.class));
+    bitmapIndex.bootstrap();
+    stageScheduleIndex = new StageScheduleIndex(mock(ProductRepository.class));
+    stageScheduleIndex.bootstrap();
+    otherIndex = mock(AbstractProductIndex.class);
+    broadcaster =
+        new ProductIndexBroadcaster(
+            rabbitTemplate,
+            List.of(bitmapIndex, stageScheduleIndex, otherIndex),
+            EXCHANGE,
+            "product-service-1");
+  }
+
+  @Nested
+  class 방송_테스트 {
+
+    @Test
+    void 커밋된_변경에_자신의_식별자를_붙여_방송한다() throws Exception {
+      ProductChangedEvent event = event(1L, ProductStatus.ON_SALE);
+      ArgumentCaptor<MessagePostProcessor> processor =
+          ArgumentCaptor.forClass(MessagePostProcessor.class);
+
+      broadcaster.broadcast(event);
+
+      verify(rabbitTemplate).convertAndSend(eq(EXCHANGE), eq(""), eq(event), processor.capture());
+      Message message = processor.getValue().postProcessMessage(new Message(new byte[0]));
+      assertThat((String) message.getMessageProperties().getHeader("x-product-index-origin"))
+          .isEqualTo(broadcaster.originId());
+    }
+
+    @Test
+    void 브로커에_보내지_못해도_예외를_던지지_않는다() {
+      willThrow(new AmqpConnectException(new RuntimeException("down")))
+          .given(rabbitTemplate)
+          .convertAndSend(eq(EXCHANGE), eq(""), any(Object.class), any(MessagePostProcessor.class));
+
+      assertThatCode(() -> broadcaster.broadcast(event(1L, ProductStatus.ON_SALE)))
+          .doesNotThrowAnyException();
+    }
+
+    @Test
+    void 변경_이벤트는_JSON으로_주고받을_수_있다() {
+      Jackson2JsonMessageConverter converter =
+          new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper());
+      ProductChangedEvent event = event(1L, ProductStatus.ON_SALE);
+
+      Message message = converter.toMessage(event, new MessageProperties());
+
+      assertThat(converter.fromMessage(message, ProductChangedEvent.class)).isEqualTo(event);
+    }
+  }
+
+  @Nested
+  class 수신_테스트 {
+
+    @Test
+    void 다른_인스턴스의_변경을_모든_인덱스에_반영한다() {
+      ProductChangedEvent event = event(1L, ProductStatus.ON_SALE);
+
+      broadcaster.receive(event, "product-service-2:abcd1234");
+
+      assertThat(bitmapIndex.match(ProductSearchCondition.builder().build(), 10).productIds())
+          .containsExactly(1L);
+      verify(otherIndex).onProductChanged(event);
+    }
+
+    @Test
+    void 다른_인스턴스에서_삭제된_상품을_색인에서_제거한다() {
+      bitmapIndex.onProductChanged(event(1L, ProductStatus.ON_SALE));
+
+      broadcaster.receive(event(1L, ProductStatus.CANCELLED, true), "product-service-2:abcd1234");
+
+      assertThat(bitmapIndex.match(ProductSearchCondition.builder().build(), 10).total()).isZero();
+    }
+
+    @Test
+    void 다른_인스턴스에서_스테이지를_옮긴_상품을_스테이지_일정에서도_옮긴다() {
+      ProductChangedEvent event = event(1L, ProductStatus.ON_SALE);
+      stageScheduleIndex.onProductChanged(event);
+      ProductChangedEvent moved =
+          new ProductChangedEvent(
+              1L,
+              event.name(),
+              null,
+              event.productType(),
+              event.status(),
+              20L,
+              event.artHallId(),
+              event.sellerId(),
+              event.startAt(),
+              event.endAt(),
+              event.saleStartAt(),
+              event.saleEndAt(),
+              0L,
+              0,
+              false);
+
+      broadcaster.receive(moved, "product-service-2:abcd1234");
+
+      assertThat(stageScheduleIndex.findOverlapping(10L, event.startAt(), event.endAt())).isEmpty();
+      assertThat(stageScheduleIndex.findOverlapping(20L, event.startAt(), event.endAt()))
+          .containsExactly(1L);
+    }
+
+    @Test
+    void 자신이_방송한_변경은_다시_반영하지_않는다() {
+      broadcaster.receive(event(1L, ProductStatus.ON_SALE), broadcaster.originId());
+
+      assertThat(bitmapIndex.match(ProductSearchCondition.builder().build(), 10).total()).isZero();
+      assertThat(stageScheduleIndex.findOverlapping(10L, LocalDateTime.MIN, LocalDateTime.MAX))
+          .isEmpty();
+      verifyNoInteractions(otherIndex);
+    }
+  }
+
+  private static ProductChangedEvent event(Long id, ProductStatus status) {
+    return event(id, status, false);
+  }
+
+  private static ProductChangedEvent event(Long id, ProductStatus status, boolean deleted) {
+    return new ProductChangedEvent(
+        id,
+        "상품" + id,
+        null,
+        ProductType.MUSICAL,
+        status,
+        10L,
+        100L,
+        "seller-1",
+        LocalDateTime.of(2025, 3, 1, 19, 0),
+        LocalDateTime.of(2025, 3, 1, 21, 0),
+        LocalDateTime.of(2025, 2, 1, 10, 0),
+        LocalDateTime.of(2025, 2, 28, 23, 59),
+        0L,
+        0,
+        deleted);
+  }
+}
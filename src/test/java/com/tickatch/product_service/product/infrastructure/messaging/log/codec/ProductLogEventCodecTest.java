@@ -0,0 +1,184 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.product_service.product.application.messaging.event.ProductActionType;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+@Slf4j
+@DisplayName("ProductLogEventCodec 테스트")
+class ProductLogEventCodecTest {
+
+  private static final LocalDateTime OCCURRED_AT =
+      LocalDateTime.of(2025, 1, 15, 10, 30, 15, 123456789);
+
+  private static final int WARMUP = 200_000;
+  private static final int ITERATIONS = 1_000_000;
+
+  @Nested
+  class 인코딩_테스트 {
+
+    @Test
+    void 인코딩한_이벤트를_그대로_디코딩한다() {
+      ProductLogEvent event = sellerEvent();
+
+      ProductLogEvent decoded = ProductLogEventCodec.decode(ProductLogEventCodec.encode(event));
+
+      assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void 상품_ID와_액터_ID가_없는_이벤트도_디코딩한다() {
+      ProductLogEvent event =
+          new ProductLogEvent(
+              UUID.randomUUID(),
+              null,
+              ProductActionType.CREATE_FAILED,
+              "SYSTEM",
+              null,
+              OCCURRED_AT);
+
+      ProductLogEvent decoded = ProductLogEventCodec.decode(ProductLogEventCodec.encode(event));
+
+      assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void 코드_표에_없는_타입은_문자열로_인코딩한다() {
+      ProductLogEvent event =
+          new ProductLogEvent(
+              UUID.randomUUID(), 1L, "NEW_ACTION", "신규_액터", UUID.randomUUID(), OCCURRED_AT);
+
+      ProductLogEvent decoded = ProductLogEventCodec.decode(ProductLogEventCodec.encode(event));
+
+      assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void JSON보다_세_배_이상_작다() throws Exception {
+      ProductLogEvent event = sellerEvent();
+
+      byte[] binary = ProductLogEventCodec.encode(event);
+      byte[] json = JsonUtils.getObjectMapper().writeValueAsBytes(event);
+
+      assertThat(binary).hasSize(56);
+      assertThat(json.length).isGreaterThanOrEqualTo(binary.length * 3);
+    }
+  }
+
+  @Nested
+  class 디코딩_테스트 {
+
+    @Test
+    void 지원하지_않는_버전이면_예외가_발생한다() {
+      byte[] encoded = ProductLogEventCodec.encode(sellerEvent());
+      encoded[0] = 2;
+
+      assertThatThrownBy(() -> ProductLogEventCodec.decode(encoded))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("version: 2");
+    }
+
+    @Test
+    void 잘린_바이트_배열이면_예외가_발생한다() {
+      byte[] encoded = ProductLogEventCodec.encode(sellerEvent());
+
+      assertThatThrownBy(
+              () -> ProductLogEventCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 알_수_없는_타입_코드면_예외가_발생한다() {
+      byte[] encoded = ProductLogEventCodec.encode(sellerEvent());
+      encoded[1 + 1 + 16 + 8] = (byte) 0xFE;
+
+      assertThatThrownBy(() -> ProductLogEventCodec.decode(encoded))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("code: 254");
+    }
+  }
+
+  /**
+   * 실행: {@code BENCHMARK=true ./gradlew test --tests '*ProductLogEventCodecTest*'}
+   *
+   * <p>측정값은 로그로만 남기고 검증하지 않는다. 실행 환경에 따라 달라지는 시간으로 테스트 결과가 바뀌지 않도록 한다.
+   */
+  @Nested
+  @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+  class 벤치마크 {
+
+    @Test
+    void JSON_변환과_인코딩_디코딩_시간을_비교한다() throws Exception {
+      ObjectMapper mapper = JsonUtils.getObjectMapper();
+      ProductLogEvent event = sellerEvent();
+      byte[] json = mapper.writeValueAsBytes(event);
+      byte[] binary = ProductLogEventCodec.encode(event);
+
+      long sink = 0;
+      for (int i = 0; i < WARMUP; i++) {
+        sink += mapper.writeValueAsBytes(event).length;
+        sink += mapper.readValue(json, ProductLogEvent.class).productId();
+        sink += ProductLogEventCodec.encode(event).length;
+        sink += ProductLogEventCodec.decode(binary).productId();
+      }
+
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        sink += mapper.writeValueAsBytes(event).length;
+      }
+      long jsonEncode = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        sink += mapper.readValue(json, ProductLogEvent.class).productId();
+      }
+      long jsonDecode = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        sink += ProductLogEventCodec.encode(event).length;
+      }
+      long binaryEncode = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        sink += ProductLogEventCodec.decode(binary).productId();
+      }
+      long binaryDecode = System.nanoTime() - start;
+
+      log.info(
+          "로그 이벤트 코덱 벤치마크. bytes json={} binary={}, encode ns/op json={} binary={},"
+              + " decode ns/op json={} binary={} (sink={})",
+          json.length,
+          binary.length,
+          "%.1f".formatted((double) jsonEncode / ITERATIONS),
+          "%.1f".formatted((double) binaryEncode / ITERATIONS),
+          "%.1f".formatted((double) jsonDecode / ITERATIONS),
+          "%.1f".formatted((double) binaryDecode / ITERATIONS),
+          sink);
+      assertThat(ProductLogEventCodec.decode(binary)).isEqualTo(event);
+    }
+  }
+
+  private static ProductLogEvent sellerEvent() {
+    return new ProductLogEvent(
+        UUID.randomUUID(),
+        1L,
+        ProductActionType.SUBMITTED_FOR_APPROVAL,
+        "SELLER",
+        UUID.randomUUID(),
+        OCCURRED_AT);
+  }
+}
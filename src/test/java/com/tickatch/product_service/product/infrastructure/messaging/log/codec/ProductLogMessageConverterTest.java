@@ -0,0 +1,95 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductActionType;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+@DisplayName("ProductLogMessageConverter 테스트")
+class ProductLogMessageConverterTest {
+
+  private final ProductLogEvent event =
+      new ProductLogEvent(
+          UUID.randomUUID(),
+          1L,
+          ProductActionType.APPROVED,
+          "ADMIN",
+          UUID.randomUUID(),
+          LocalDateTime.of(2025, 1, 15, 10, 30));
+
+  @Nested
+  class 송신_테스트 {
+
+    @Test
+    void 바이너리_인코딩이_켜져_있으면_로그_이벤트를_바이너리로_변환한다() {
+      Message message = converter(true).toMessage(event, new MessageProperties());
+
+      assertThat(message.getMessageProperties().getContentType())
+          .isEqualTo(ProductLogEventCodec.CONTENT_TYPE);
+      assertThat(message.getBody()).isEqualTo(ProductLogEventCodec.encode(event));
+    }
+
+    @Test
+    void 바이너리_인코딩이_꺼져_있으면_JSON으로_변환한다() {
+      Message message = converter(false).toMessage(event, new MessageProperties());
+
+      assertThat(message.getMessageProperties().getContentType())
+          .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    @Test
+    void 로그_이벤트가_아니면_JSON으로_변환한다() {
+      Message message = converter(true).toMessage(Map.of("id", 1), new MessageProperties());
+
+      assertThat(message.getMessageProperties().getContentType())
+          .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+  }
+
+  @Nested
+  class 수신_테스트 {
+
+    @Test
+    void Content_Type이_바이너리면_로그_이벤트로_디코딩한다() {
+      Message message = converter(true).toMessage(event, new MessageProperties());
+
+      assertThat(converter(false).fromMessage(message)).isEqualTo(event);
+    }
+
+    @Test
+    void Content_Type이_JSON이면_JSON으로_변환한다() {
+      Map<String, Object> payload = new HashMap<>(Map.of("id", 1));
+      Message message = converter(false).toMessage(payload, new MessageProperties());
+
+      assertThat(converter(true).fromMessage(message)).isEqualTo(payload);
+    }
+
+    @Test
+    void 바이너리_본문이_손상되었으면_예외가_발생한다() {
+      MessageProperties properties = new MessageProperties();
+      properties.setContentType(ProductLogEventCodec.CONTENT_TYPE);
+      Message message = new Message(new byte[] {9}, properties);
+
+      assertThatThrownBy(() -> converter(true).fromMessage(message))
+          .isInstanceOf(MessageConversionException.class);
+    }
+  }
+
+  private static ProductLogMessageConverter converter(boolean binaryEncoding) {
+    return new ProductLogMessageConverter(
+        new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper()), binaryEncoding);
+  }
+}
@@ -0,0 +1,177 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductActionType;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogSummaryEvent;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ProductLogEventCoalescer 테스트")
+class ProductLogEventCoalescerTest {
+
+  private static final String[] ACTION_TYPES = {
+    ProductActionType.SEATS_DECREASED, ProductActionType.RESERVATION_COUNT_INCREASED
+  };
+
+  private ProductOutboxWriter outboxWriter;
+  private ProductLogEventCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    outboxWriter = mock(ProductOutboxWriter.class);
+    coalescer = coalescer(true);
+  }
+
+  @Nested
+  class 합치기_테스트 {
+
+    @Test
+    void 대상_액션의_로그는_합친다() {
+      ProductLogEvent event = seatsDecreased(1L);
+
+      assertThat(coalescer.offer(event)).isTrue();
+    }
+
+    @Test
+    void 생명주기_로그는_합치지_않는다() {
+      ProductLogEvent event = ProductLogEvent.createSystemEvent(1L, ProductActionType.CANCELLED);
+
+      assertThat(coalescer.offer(event)).isFalse();
+    }
+
+    @Test
+    void 꺼져_있으면_합치지_않는다() {
+      coalescer = coalescer(false);
+
+      assertThat(coalescer.offer(seatsDecreased(1L))).isFalse();
+    }
+
+    @Test
+    void 상품_ID가_없으면_합치지_않는다() {
+      assertThat(coalescer.offer(seatsDecreased(null))).isFalse();
+    }
+  }
+
+  @Nested
+  class 요약_테스트 {
+
+    @Test
+    void 구간의_건수와_첫_마지막_이벤트로_요약을_적재한다() {
+      ProductLogEvent first = seatsDecreased(1L);
+      ProductLogEvent second = seatsDecreased(1L);
+      ProductLogEvent last = seatsDecreased(1L);
+      coalescer.offer(first);
+      coalescer.offer(second);
+      coalescer.offer(last);
+
+      coalescer.flush();
+
+      ProductLogSummaryEvent summary = captureSummaries(1).get(0);
+      assertThat(summary.productId()).isEqualTo(1L);
+      assertThat(summary.actionType()).isEqualTo(ProductActionType.SEATS_DECREASED);
+      assertThat(summary.count()).isEqualTo(3);
+      assertThat(summary.firstEventId()).isEqualTo(first.eventId());
+      assertThat(summary.lastEventId()).isEqualTo(last.eventId());
+      assertThat(summary.firstOccurredAt()).isEqualTo(first.occurredAt());
+      assertThat(summary.lastOccurredAt()).isEqualTo(last.occurredAt());
+    }
+
+    @Test
+    void 상품과_액션_타입별로_따로_요약한다() {
+      coalescer.offer(seatsDecreased(1L));
+      coalescer.offer(seatsDecreased(2L));
+      coalescer.offer(
+          ProductLogEvent.createSystemEvent(1L, ProductActionType.RESERVATION_COUNT_INCREASED));
+
+      coalescer.flush();
+
+      assertThat(captureSummaries(3))
+          .extracting(ProductLogSummaryEvent::productId, ProductLogSummaryEvent::actionType)
+          .containsExactlyInAnyOrder(
+              tuple(1L, ProductActionType.SEATS_DECREASED),
+              tuple(2L, ProductActionType.SEATS_DECREASED),
+              tuple(1L, ProductActionType.RESERVATION_COUNT_INCREASED));
+    }
+
+    @Test
+    void 요약한_구간은_다시_적재하지_않는다() {
+      coalescer.offer(seatsDecreased(1L));
+      coalescer.flush();
+
+      coalescer.flush();
+
+      captureSummaries(1);
+    }
+
+    @Test
+    void 모은_로그가_없으면_적재하지_않는다() {
+      coalescer.flush();
+
+      verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void 적재에_실패한_구간은_다음_구간과_합쳐_다시_적재한다() {
+      ProductLogEvent first = seatsDecreased(1L);
+      coalescer.offer(first);
+      willThrow(new DataAccessResourceFailureException("down"))
+          .given(outboxWriter)
+          .appendIndependently(anyLong(), any(), any(), any());
+      coalescer.flush();
+
+      reset(outboxWriter);
+      ProductLogEvent last = seatsDecreased(1L);
+      coalescer.offer(last);
+      coalescer.flush();
+
+      ProductLogSummaryEvent summary = captureSummaries(1).get(0);
+      assertThat(summary.count()).isEqualTo(2);
+      assertThat(summary.firstEventId()).isEqualTo(first.eventId());
+      assertThat(summary.lastEventId()).isEqualTo(last.eventId());
+    }
+  }
+
+  private ProductLogEventCoalescer coalescer(boolean enabled) {
+    ProductLogEventCoalescer created =
+        new ProductLogEventCoalescer(
+            outboxWriter, new SimpleMeterRegistry(), enabled, ACTION_TYPES);
+    ReflectionTestUtils.setField(created, "logExchange", "tickatch.log");
+    return created;
+  }
+
+  private List<ProductLogSummaryEvent> captureSummaries(int expected) {
+    ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+    verify(outboxWriter, times(expected))
+        .appendIndependently(
+            anyLong(), eq("tickatch.log"), eq("product.log.summary"), payloads.capture());
+    return payloads.getAllValues().stream()
+        .map(ProductLogSummaryEvent.class::cast)
+        .sorted(Comparator.comparing(ProductLogSummaryEvent::productId))
+        .toList();
+  }
+
+  private static ProductLogEvent seatsDecreased(Long productId) {
+    return ProductLogEvent.createSystemEvent(productId, ProductActionType.SEATS_DECREASED);
+  }
+}
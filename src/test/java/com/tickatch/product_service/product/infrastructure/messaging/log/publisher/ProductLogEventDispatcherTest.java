@@ -0,0 +1,217 @@
+package com.tickatch.product_service.product.infrastructure.messaging.log.publisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.product.application.messaging.event.ProductActionType;
+import com.tickatch.product_service.product.application.messaging.event.ProductLogEvent;
+import com.tickatch.product_service.product.infrastructure.messaging.log.publisher.ProductLogEventDispatcher.OverflowPolicy;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
+import com.tickatch.product_service.product.infrastructure.messaging.spool.ProductEventSpool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate.OperationsCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ProductLogEventDispatcher 테스트")
+class ProductLogEventDispatcherTest {
+
+  private RabbitTemplate rabbitTemplate;
+  private RabbitOperations operations;
+  private ProductEventSpool spool;
+  private ProductOutboxWriter outboxWriter;
+  private MeterRegistry meterRegistry;
+
+  /** 브로커에 보낸 이벤트 (전송 순서) */
+  private List<ProductLogEvent> sent;
+
+  /** 브로커가 nack할 이벤트 */
+  private Set<ProductLogEvent> nacked;
+
+  @BeforeEach
+  void setUp() {
+    operations = mock(RabbitOperations.class);
+    spool = mock(ProductEventSpool.class);
+    outboxWriter = mock(ProductOutboxWriter.class);
+    meterRegistry = new SimpleMeterRegistry();
+    sent = new ArrayList<>();
+    nacked = Set.of();
+
+    willAnswer(
+            invocation -> {
+              ProductLogEvent event = invocation.getArgument(2);
+              CorrelationData correlation = invocation.getArgument(3);
+              sent.add(event);
+              correlation.getFuture().complete(new Confirm(!nacked.contains(event), null));
+              return null;
+            })
+        .given(operations)
+        .convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+
+    ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    given(connectionFactory.isPublisherConfirms()).willReturn(true);
+    rabbitTemplate = mock(RabbitTemplate.class);
+    given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+    willAnswer(
+            invocation -> invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(operations))
+        .given(rabbitTemplate)
+        .invoke(any());
+  }
+
+  @Nested
+  class 발행_테스트 {
+
+    @Test
+    void 버퍼의_이벤트를_묶음_크기만큼_순서대로_발행한다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(8, 2, OverflowPolicy.DROP);
+      ProductLogEvent first = event(1L);
+      ProductLogEvent second = event(2L);
+      ProductLogEvent third = event(3L);
+      dispatcher.dispatch(first);
+      dispatcher.dispatch(second);
+      dispatcher.dispatch(third);
+
+      assertThat(dispatcher.drainOnce()).isEqualTo(2);
+      assertThat(sent).containsExactly(first, second);
+      assertThat(dispatcher.drainOnce()).isEqualTo(1);
+      assertThat(sent).containsExactly(first, second, third);
+      assertThat(count("published")).isEqualTo(3);
+      verifyNoInteractions(spool, outboxWriter);
+    }
+
+    @Test
+    void 확인받지_못한_이벤트는_스풀에_적재한다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(8, 8, OverflowPolicy.DROP);
+      ProductLogEvent acked = event(1L);
+      ProductLogEvent rejected = event(2L);
+      nacked = Set.of(rejected);
+      dispatcher.dispatch(acked);
+      dispatcher.dispatch(rejected);
+
+      dispatcher.drainOnce();
+
+      verify(spool).append("tickatch.log", "product.log", rejected);
+      verify(spool, never()).append("tickatch.log", "product.log", acked);
+      assertThat(count("failed")).isEqualTo(1);
+      assertThat(count("spilled")).isEqualTo(1);
+    }
+
+    @Test
+    void 채널을_얻지_못하면_묶음_전체를_스풀에_적재한다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(8, 8, OverflowPolicy.DROP);
+      willThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+          .given(rabbitTemplate)
+          .invoke(any());
+      dispatcher.dispatch(event(1L));
+      dispatcher.dispatch(event(2L));
+
+      dispatcher.drainOnce();
+
+      assertThat(count("spilled")).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class 넘침_테스트 {
+
+    @Test
+    void DROP이면_넘친_이벤트를_버린다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(1, 8, OverflowPolicy.DROP);
+      dispatcher.dispatch(event(1L));
+
+      dispatcher.dispatch(event(2L));
+
+      assertThat(count("dropped")).isEqualTo(1);
+      verifyNoInteractions(spool, outboxWriter);
+    }
+
+    @Test
+    void SPILL이면_넘친_이벤트를_스풀에_적재한다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(1, 8, OverflowPolicy.SPILL);
+      dispatcher.dispatch(event(1L));
+      ProductLogEvent overflow = event(2L);
+
+      dispatcher.dispatch(overflow);
+
+      verify(spool).append("tickatch.log", "product.log", overflow);
+      verifyNoInteractions(outboxWriter);
+      assertThat(count("spilled")).isEqualTo(1);
+    }
+
+    @Test
+    void 스풀에_쓸_수_없으면_아웃박스에_적재한다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(1, 8, OverflowPolicy.SPILL);
+      dispatcher.dispatch(event(1L));
+      ProductLogEvent overflow = event(2L);
+      willThrow(new UncheckedIOException(new IOException("No space left on device")))
+          .given(spool)
+          .append("tickatch.log", "product.log", overflow);
+
+      dispatcher.dispatch(overflow);
+
+      verify(outboxWriter)
+          .appendIndependently(eq(2L), eq("tickatch.log"), eq("product.log"), eq(overflow));
+      assertThat(count("spilled")).isEqualTo(1);
+    }
+
+    @Test
+    void BLOCK이면_기다린_뒤에도_자리가_없으면_버린다() {
+      ProductLogEventDispatcher dispatcher = dispatcher(1, 8, OverflowPolicy.BLOCK);
+      dispatcher.dispatch(event(1L));
+
+      dispatcher.dispatch(event(2L));
+
+      assertThat(count("dropped")).isEqualTo(1);
+      assertThat(meterRegistry.get("messaging.log.buffer.depth").gauge().value()).isEqualTo(1);
+    }
+  }
+
+  private ProductLogEventDispatcher dispatcher(
+      int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+    ProductLogEventDispatcher dispatcher =
+        new ProductLogEventDispatcher(
+            rabbitTemplate,
+            spool,
+            outboxWriter,
+            meterRegistry,
+            capacity,
+            batchSize,
+            overflowPolicy,
+            10L,
+            1000L);
+    ReflectionTestUtils.setField(dispatcher, "logExchange", "tickatch.log");
+    return dispatcher;
+  }
+
+  private ProductLogEvent event(Long productId) {
+    return ProductLogEvent.createSystemEvent(productId, ProductActionType.SEATS_DECREASED);
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("messaging.log.events").tag("result", result).counter().count();
+  }
+}
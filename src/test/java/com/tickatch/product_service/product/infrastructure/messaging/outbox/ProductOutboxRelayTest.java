@@ -0,0 +1,278 @@
+package com.tickatch.product_service.product.infrastructure.messaging.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.global.lease.PartitionLeaseManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate.OperationsCallback;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("ProductOutboxRelay 테스트")
+class ProductOutboxRelayTest {
+
+  private ProductOutboxJpaRepository outboxRepository;
+  private PartitionLeaseManager partitionLeaseManager;
+  private RabbitTemplate rabbitTemplate;
+  private SimpleMeterRegistry meterRegistry;
+  private ProductOutboxRelay relay;
+
+  /** 브로커에 보낸 메시지 ID (전송 순서) */
+  private List<Long> sentIds;
+
+  /** 브로커가 nack할 메시지 ID */
+  private Set<Long> nackIds;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(ProductOutboxJpaRepository.class);
+    partitionLeaseManager = mock(PartitionLeaseManager.class);
+    sentIds = new ArrayList<>();
+    nackIds = Set.of();
+
+    RabbitOperations operations = mock(RabbitOperations.class);
+    willAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              Long id = Long.valueOf(correlation.getId());
+              sentIds.add(id);
+              correlation.getFuture().complete(new Confirm(!nackIds.contains(id), null));
+              return null;
+            })
+        .given(operations)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    given(connectionFactory.isPublisherConfirms()).willReturn(true);
+    rabbitTemplate = mock(RabbitTemplate.class);
+    given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+    willAnswer(
+            invocation -> invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(operations))
+        .given(rabbitTemplate)
+        .invoke(any());
+
+    given(partitionLeaseManager.current()).willReturn(PartitionAssignment.all(1));
+    meterRegistry = new SimpleMeterRegistry();
+
+    relay =
+        new ProductOutboxRelay(
+            outboxRepository,
+            rabbitTemplate,
+            partitionLeaseManager,
+            Runnable::run,
+            mock(PlatformTransactionManager.class),
+            meterRegistry);
+    ReflectionTestUtils.setField(relay, "batchSize", 10);
+    ReflectionTestUtils.setField(relay, "parallelism", 2);
+    ReflectionTestUtils.setField(relay, "confirmTimeoutMillis", 1000L);
+    ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+  }
+
+  @Nested
+  class 발행_테스트 {
+
+    @Test
+    void 브로커가_확인한_메시지를_삭제한다() {
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L), message(2L, 11L)));
+
+      relay.relay();
+
+      assertThat(sentIds).containsExactlyInAnyOrder(1L, 2L);
+      verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+      verify(outboxRepository, never()).incrementAttempts(anyCollection());
+    }
+
+    @Test
+    void 확인받지_못한_메시지는_시도_횟수만_늘린다() {
+      nackIds = Set.of(2L);
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L), message(2L, 11L)));
+
+      relay.relay();
+
+      verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+      verify(outboxRepository).incrementAttempts(List.of(2L));
+    }
+
+    @Test
+    void 확인받지_못한_메시지_뒤의_같은_애그리거트_메시지는_삭제하지_않는다() {
+      nackIds = Set.of(1L);
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L), message(2L, 10L), message(3L, 12L)));
+
+      relay.relay();
+
+      verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+      verify(outboxRepository).incrementAttempts(List.of(1L));
+    }
+
+    @Test
+    void 최대_시도_횟수에_이른_메시지를_격리한다() {
+      nackIds = Set.of(2L);
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L), message(2L, 11L)));
+      given(outboxRepository.deadLetterExhausted(eq(List.of(2L)), eq(3), any())).willReturn(1);
+
+      relay.relay();
+
+      verify(outboxRepository).deadLetterExhausted(eq(List.of(2L)), eq(3), any());
+      assertThat(
+              meterRegistry
+                  .get("messaging.outbox.relayed")
+                  .tag("result", "dead_lettered")
+                  .counter()
+                  .count())
+          .isEqualTo(1.0);
+    }
+
+    @Test
+    void 채널을_얻지_못하면_시도_횟수를_늘리지_않는다() {
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L)));
+      willThrow(new AmqpConnectException(new ConnectException("refused")))
+          .given(rabbitTemplate)
+          .invoke(any());
+
+      relay.relay();
+
+      verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+      verify(outboxRepository, never()).incrementAttempts(anyCollection());
+    }
+
+    @Test
+    void 같은_애그리거트의_메시지는_적재_순서대로_이어서_보낸다() {
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 11L), message(2L, 10L), message(3L, 11L)));
+
+      relay.relay();
+
+      assertThat(sentIds).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void 메시지를_변환기와_같은_형식으로_보낸다() {
+      RabbitOperations operations = mock(RabbitOperations.class);
+      RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+      willAnswer(
+              invocation ->
+                  invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(operations))
+          .given(rabbitTemplate)
+          .invoke(any());
+      ProductOutboxRelay unconfirmed =
+          new ProductOutboxRelay(
+              outboxRepository,
+              rabbitTemplate,
+              partitionLeaseManager,
+              Runnable::run,
+              mock(PlatformTransactionManager.class),
+              new SimpleMeterRegistry());
+      ReflectionTestUtils.setField(unconfirmed, "batchSize", 10);
+      ReflectionTestUtils.setField(unconfirmed, "parallelism", 2);
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L)));
+
+      unconfirmed.relay();
+
+      verify(operations)
+          .send(
+              eq("tickatch.product"),
+              eq("product.cancelled.reservation"),
+              argThat(
+                  (Message sent) ->
+                      new String(sent.getBody(), StandardCharsets.UTF_8).equals("{\"id\":1}")
+                          && "com.example.Payload"
+                              .equals(sent.getMessageProperties().getHeader("__TypeId__"))
+                          && "application/json"
+                              .equals(sent.getMessageProperties().getContentType())),
+              any(CorrelationData.class));
+      verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void 묶음이_가득_차면_이어서_발행한다() {
+      ReflectionTestUtils.setField(relay, "batchSize", 1);
+      given(outboxRepository.findPendingForUpdate(any(Pageable.class)))
+          .willReturn(List.of(message(1L, 10L)), List.of(message(2L, 10L)), List.of());
+
+      relay.relay();
+
+      assertThat(sentIds).containsExactly(1L, 2L);
+      verify(outboxRepository, times(3)).findPendingForUpdate(any(Pageable.class));
+    }
+  }
+
+  @Nested
+  class 파티션_테스트 {
+
+    @Test
+    void 맡은_파티션이_없으면_발행하지_않는다() {
+      given(partitionLeaseManager.current()).willReturn(PartitionAssignment.none(4));
+
+      relay.relay();
+
+      verifyNoInteractions(outboxRepository);
+    }
+
+    @Test
+    void 일부_파티션만_맡으면_해당_파티션의_메시지만_조회한다() {
+      given(partitionLeaseManager.current()).willReturn(new PartitionAssignment(4, Set.of(1, 3)));
+      given(outboxRepository.findPendingForUpdate(anyLong(), anyCollection(), any(Pageable.class)))
+          .willReturn(List.of());
+
+      relay.relay();
+
+      verify(outboxRepository)
+          .findPendingForUpdate(
+              eq(4L),
+              argThat(
+                  partitions -> partitions.size() == 2 && partitions.containsAll(Set.of(1L, 3L))),
+              any(Pageable.class));
+      verify(outboxRepository, never()).findPendingForUpdate(any(Pageable.class));
+    }
+  }
+
+  private ProductOutboxMessage message(Long id, Long aggregateId) {
+    ProductOutboxMessage message =
+        ProductOutboxMessage.of(
+            aggregateId,
+            "tickatch.product",
+            "product.cancelled.reservation",
+            "com.example.Payload",
+            "{\"id\":" + id + "}");
+    ReflectionTestUtils.setField(message, "id", id);
+    return message;
+  }
+}
@@ -18,6 +18,7 @@ import com.tickatch.product_service.product.domain.vo.RefundPolicy;
 import com.tickatch.product_service.product.domain.vo.SaleSchedule;
 import com.tickatch.product_service.product.domain.vo.Schedule;
 import com.tickatch.product_service.product.domain.vo.Venue;
+import com.tickatch.product_service.product.infrastructure.messaging.outbox.ProductOutboxWriter;
 import io.github.tickatch.common.event.IntegrationEvent;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,14 +30,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RabbitProductEventPublisher 테스트")
 class RabbitProductEventPublisherTest {
 
-  @Mock private RabbitTemplate rabbitTemplate;
+  @Mock private ProductOutboxWriter outboxWriter;
 
   @Captor private ArgumentCaptor<String> exchangeCaptor;
 
@@ -51,7 +51,7 @@ class RabbitProductEventPublisherTest {
 
   @BeforeEach
   void setUp() {
-    publisher = new RabbitProductEventPublisher(rabbitTemplate);
+    publisher = new RabbitProductEventPublisher(outboxWriter);
     ReflectionTestUtils.setField(publisher, "serviceName", SERVICE_NAME);
     ReflectionTestUtils.setField(publisher, "productExchange", EXCHANGE);
   }
@@ -65,9 +65,9 @@ class RabbitProductEventPublisherTest {
 
       publisher.publishCancelled(product);
 
-      verify(rabbitTemplate, times(2))
-          .convertAndSend(
-              exchangeCaptor.capture(), routingKeyCaptor.capture(), eventCaptor.capture());
+      verify(outboxWriter, times(2))
+          .append(
+              eq(1L), exchangeCaptor.capture(), routingKeyCaptor.capture(), eventCaptor.capture());
       assertThat(exchangeCaptor.getAllValues()).containsOnly(EXCHANGE);
       assertThat(routingKeyCaptor.getAllValues())
           .containsExactly("product.cancelled.reservation-seat", "product.cancelled.reservation");
@@ -80,8 +80,8 @@ class RabbitProductEventPublisherTest {
 
       publisher.publishCancelled(product);
 
-      verify(rabbitTemplate, times(2))
-          .convertAndSend(any(String.class), any(String.class), eventCaptor.capture());
+      verify(outboxWriter, times(2))
+          .append(any(), any(String.class), any(String.class), eventCaptor.capture());
       for (IntegrationEvent event : eventCaptor.getAllValues()) {
         assertThat(event.getPayload()).contains("\"productId\":123");
         assertThat(event.getSourceService()).isEqualTo(SERVICE_NAME);
@@ -96,8 +96,8 @@ class RabbitProductEventPublisherTest {
 
       publisher.publishCancelled(product);
 
-      verify(rabbitTemplate, times(2))
-          .convertAndSend(any(String.class), any(String.class), eventCaptor.capture());
+      verify(outboxWriter, times(2))
+          .append(any(), any(String.class), any(String.class), eventCaptor.capture());
       assertThat(eventCaptor.getAllValues())
           .extracting(IntegrationEvent::getEventType)
           .containsExactly(
@@ -105,11 +105,11 @@ class RabbitProductEventPublisherTest {
     }
 
     @Test
-    void RabbitMQ_발행_실패_시_BusinessException이_발생한다() {
+    void 아웃박스_적재_실패_시_BusinessException이_발생한다() {
       Product product = createTestProduct(1L);
-      doThrow(new RuntimeException("RabbitMQ connection failed"))
-          .when(rabbitTemplate)
-          .convertAndSend(any(String.class), any(String.class), any(IntegrationEvent.class));
+      doThrow(new RuntimeException("DB connection failed"))
+          .when(outboxWriter)
+          .append(any(), any(String.class), any(String.class), any(IntegrationEvent.class));
 
       assertThatThrownBy(() -> publisher.publishCancelled(product))
           .isInstanceOf(ProductException.class)
@@ -122,18 +122,21 @@ class RabbitProductEventPublisherTest {
     }
 
     @Test
-    void 첫_번째_이벤트_발행_실패_시_나머지_이벤트는_발행되지_않는다() {
+    void 첫_번째_이벤트_적재_실패_시_나머지_이벤트는_적재되지_않는다() {
       Product product = createTestProduct(1L);
       doThrow(new RuntimeException("Connection failed"))
-          .when(rabbitTemplate)
-          .convertAndSend(
-              eq(EXCHANGE), eq("product.cancelled.reservation-seat"), any(IntegrationEvent.class));
+          .when(outboxWriter)
+          .append(
+              eq(1L),
+              eq(EXCHANGE),
+              eq("product.cancelled.reservation-seat"),
+              any(IntegrationEvent.class));
 
       assertThatThrownBy(() -> publisher.publishCancelled(product))
           .isInstanceOf(ProductException.class);
 
-      verify(rabbitTemplate, times(1))
-          .convertAndSend(any(String.class), any(String.class), any(IntegrationEvent.class));
+      verify(outboxWriter, times(1))
+          .append(any(), any(String.class), any(String.class), any(IntegrationEvent.class));
     }
   }
 
@@ -146,8 +149,8 @@ class RabbitProductEventPublisherTest {
 
       publisher.publishCancelled(product);
 
-      verify(rabbitTemplate, atLeastOnce())
-          .convertAndSend(any(String.class), any(String.class), eventCaptor.capture());
+      verify(outboxWriter, atLeastOnce())
+          .append(any(), any(String.class), any(String.class), eventCaptor.capture());
       IntegrationEvent event = eventCaptor.getValue();
       assertThat(event.getEventId()).isNotNull();
       assertThat(event.getEventType()).isNotNull();
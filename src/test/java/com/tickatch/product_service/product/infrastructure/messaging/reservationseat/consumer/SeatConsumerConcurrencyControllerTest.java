@@ -0,0 +1,173 @@
+package com.tickatch.product_service.product.infrastructure.messaging.reservationseat.consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.product_service.product.infrastructure.messaging.reservationseat.consumer.SeatConsumerConcurrencyController.Decision;
+import com.tickatch.product_service.product.infrastructure.messaging.reservationseat.consumer.SeatConsumerConcurrencyController.Signals;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+@DisplayName("SeatConsumerConcurrencyController 테스트")
+class SeatConsumerConcurrencyControllerTest {
+
+  private final AtomicInteger activeConnections = new AtomicInteger();
+  private final AtomicInteger pendingThreads = new AtomicInteger();
+
+  private SimpleMeterRegistry meterRegistry;
+  private RabbitListenerEndpointRegistry listenerRegistry;
+  private AmqpAdmin amqpAdmin;
+  private SimpleMessageListenerContainer reservedContainer;
+  private SimpleMessageListenerContainer releasedContainer;
+  private SeatConsumerConcurrencyProperties properties;
+  private SeatConsumerConcurrencyController controller;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    Gauge.builder("hikaricp.connections.active", activeConnections, AtomicInteger::get)
+        .tag("pool", "HikariPool-1")
+        .register(meterRegistry);
+    Gauge.builder("hikaricp.connections.max", () -> 10)
+        .tag("pool", "HikariPool-1")
+        .register(meterRegistry);
+    Gauge.builder("hikaricp.connections.pending", pendingThreads, AtomicInteger::get)
+        .tag("pool", "HikariPool-1")
+        .register(meterRegistry);
+
+    reservedContainer = mock(SimpleMessageListenerContainer.class);
+    releasedContainer = mock(SimpleMessageListenerContainer.class);
+    listenerRegistry = mock(RabbitListenerEndpointRegistry.class);
+    given(listenerRegistry.getListenerContainer(SeatEventConsumer.LISTENER_SEAT_RESERVED))
+        .willReturn(reservedContainer);
+    given(listenerRegistry.getListenerContainer(SeatEventConsumer.LISTENER_SEAT_RELEASED))
+        .willReturn(releasedContainer);
+    amqpAdmin = mock(AmqpAdmin.class);
+    queueDepth(0);
+
+    properties = new SeatConsumerConcurrencyProperties();
+    properties.setEnabled(true);
+    controller =
+        new SeatConsumerConcurrencyController(
+            listenerRegistry, amqpAdmin, meterRegistry, properties);
+  }
+
+  @Nested
+  class 판단_테스트 {
+
+    @Test
+    void 커넥션을_기다리는_스레드가_있으면_줄인다() {
+      assertThat(controller.decide(new Signals(0.1, 1, 0, 0))).isEqualTo(Decision.DECREASE);
+    }
+
+    @Test
+    void 처리_시간_p99가_목표를_넘으면_줄인다() {
+      assertThat(controller.decide(new Signals(0.1, 0, 500, 0))).isEqualTo(Decision.DECREASE);
+    }
+
+    @Test
+    void 큐가_쌓여도_사용률이_낮지_않으면_유지한다() {
+      assertThat(controller.decide(new Signals(0.7, 0, 0, 10_000))).isEqualTo(Decision.HOLD);
+    }
+
+    @Test
+    void 처리_중인_양보다_적게_쌓여_있으면_유지한다() {
+      assertThat(controller.decide(new Signals(0.1, 0, 0, 100))).isEqualTo(Decision.HOLD);
+    }
+  }
+
+  @Nested
+  class 조절_테스트 {
+
+    @Test
+    void 큐가_쌓이고_풀이_한가하면_소비자를_하나씩_늘린다() {
+      queueDepth(10_000);
+      activeConnections.set(1);
+
+      controller.adjust();
+
+      assertThat(controller.consumers()).isEqualTo(2);
+      assertThat(controller.prefetch()).isEqualTo(250);
+      verify(reservedContainer).setMaxConcurrentConsumers(2);
+      verify(reservedContainer).setConcurrentConsumers(2);
+      verify(releasedContainer).setConcurrentConsumers(2);
+    }
+
+    @Test
+    void 풀_사용률이_높으면_소비자와_프리페치를_비율로_줄인다() {
+      queueDepth(10_000);
+      activeConnections.set(1);
+      controller.adjust();
+      controller.adjust();
+      controller.adjust();
+
+      activeConnections.set(9);
+      controller.adjust();
+
+      assertThat(controller.consumers()).isEqualTo(2);
+      assertThat(controller.prefetch()).isEqualTo(125);
+      verify(reservedContainer).setPrefetchCount(125);
+      verify(releasedContainer).setPrefetchCount(125);
+    }
+
+    @Test
+    void 최솟값_아래로_줄이지_않는다() {
+      pendingThreads.set(3);
+
+      for (int i = 0; i < 10; i++) {
+        controller.adjust();
+      }
+
+      assertThat(controller.consumers()).isEqualTo(1);
+      assertThat(controller.prefetch()).isEqualTo(10);
+    }
+
+    @Test
+    void 판단_결과를_메트릭으로_노출한다() {
+      queueDepth(10_000);
+
+      controller.adjust();
+
+      assertThat(
+              meterRegistry
+                  .get("messaging.seat.adaptive.decisions")
+                  .tag("decision", "increase")
+                  .counter()
+                  .count())
+          .isEqualTo(1.0);
+      assertThat(meterRegistry.get("messaging.seat.consumers").gauge().value()).isEqualTo(2.0);
+      assertThat(meterRegistry.find("messaging.seat.prefetch").gauge()).isNull();
+      assertThat(meterRegistry.get("messaging.seat.prefetch.target").gauge().value())
+          .isEqualTo((double) controller.prefetch());
+    }
+
+    @Test
+    void 꺼져_있으면_조절하지_않는다() {
+      properties.setEnabled(false);
+      queueDepth(10_000);
+
+      controller.adjust();
+
+      assertThat(controller.consumers()).isEqualTo(1);
+      verifyNoInteractions(listenerRegistry);
+    }
+  }
+
+  private void queueDepth(int messages) {
+    given(amqpAdmin.getQueueInfo(anyString()))
+        .willReturn(new QueueInformation("queue", messages, 1));
+  }
+}
@@ -0,0 +1,247 @@
+package com.tickatch.product_service.product.infrastructure.messaging.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.core.RabbitTemplate.OperationsCallback;
+
+@DisplayName("ProductEventSpool 테스트")
+class ProductEventSpoolTest {
+
+  @TempDir private Path directory;
+
+  private RabbitTemplate rabbitTemplate;
+  private ProductEventSpool spool;
+
+  /** 브로커에 보낸 메시지 본문 (전송 순서) */
+  private List<String> sent;
+
+  /** 브로커가 nack할 메시지 본문 */
+  private Set<String> nacked;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    sent = new ArrayList<>();
+    nacked = new HashSet<>();
+
+    RabbitOperations operations = mock(RabbitOperations.class);
+    willAnswer(
+            invocation -> {
+              Message message = invocation.getArgument(2);
+              CorrelationData correlation = invocation.getArgument(3);
+              String body = new String(message.getBody(), StandardCharsets.UTF_8);
+              sent.add(body);
+              correlation.getFuture().complete(new Confirm(!nacked.contains(body), null));
+              return null;
+            })
+        .given(operations)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    given(connectionFactory.isPublisherConfirms()).willReturn(true);
+    rabbitTemplate = mock(RabbitTemplate.class);
+    given(rabbitTemplate.getConnectionFactory()).willReturn(connectionFactory);
+    willAnswer(
+            invocation -> invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(operations))
+        .given(rabbitTemplate)
+        .invoke(any());
+
+    spool = open(4096);
+  }
+
+  @AfterEach
+  void tearDown() {
+    spool.close();
+  }
+
+  @Nested
+  class 재발행_테스트 {
+
+    @Test
+    void 적재한_순서대로_다시_발행한다() {
+      spool.append("tickatch.log", "product.log", Map.of("id", 1));
+      spool.append("tickatch.log", "product.log", Map.of("id", 2));
+
+      spool.replay();
+
+      assertThat(sent).containsExactly("{\"id\":1}", "{\"id\":2}");
+    }
+
+    @Test
+    void 발행한_메시지는_다시_발행하지_않는다() {
+      spool.append("tickatch.log", "product.log", Map.of("id", 1));
+      spool.replay();
+      spool.append("tickatch.log", "product.log", Map.of("id", 2));
+
+      spool.replay();
+
+      assertThat(sent).containsExactly("{\"id\":1}", "{\"id\":2}");
+    }
+
+    @Test
+    void 확인받지_못한_메시지부터_다음_주기에_다시_발행한다() {
+      nacked.add("{\"id\":2}");
+      spool.append("tickatch.log", "product.log", Map.of("id", 1));
+      spool.append("tickatch.log", "product.log", Map.of("id", 2));
+      spool.append("tickatch.log", "product.log", Map.of("id", 3));
+      spool.replay();
+      nacked.clear();
+      sent.clear();
+
+      spool.replay();
+
+      assertThat(sent).containsExactly("{\"id\":2}", "{\"id\":3}");
+    }
+  }
+
+  @Nested
+  class 세그먼트_테스트 {
+
+    @Test
+    void 세그먼트가_차면_다음_세그먼트에_이어_쓰고_발행한_세그먼트는_삭제한다() throws IOException {
+      spool.close();
+      spool = open(256);
+      for (int i = 0; i < 6; i++) {
+        spool.append("tickatch.log", "product.log", Map.of("id", i));
+      }
+      assertThat(spool.segmentCount()).isGreaterThan(1);
+
+      spool.replay();
+
+      assertThat(sent).hasSize(6);
+      assertThat(spool.segmentCount()).isEqualTo(1);
+      assertThat(segmentFiles()).hasSize(1);
+    }
+
+    @Test
+    void 세그먼트보다_큰_메시지는_거부한다() throws IOException {
+      spool.close();
+      spool = open(256);
+
+      assertThatThrownBy(() -> spool.append("tickatch.log", "product.log", "x".repeat(300)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class 복구_테스트 {
+
+    @Test
+    void 다시_열면_발행하지_않은_메시지부터_이어서_발행한다() throws IOException {
+      spool.append("tickatch.log", "product.log", Map.of("id", 1));
+      spool.replay();
+      spool.append("tickatch.log", "product.log", Map.of("id", 2));
+      spool.close();
+      sent.clear();
+
+      spool = open(4096);
+      spool.replay();
+
+      assertThat(sent).containsExactly("{\"id\":2}");
+    }
+
+    @Test
+    void 잘린_레코드는_버리고_온전한_레코드만_발행한다() throws IOException {
+      spool.append("tickatch.log", "product.log", Map.of("id", 1));
+      spool.append("tickatch.log", "product.log", Map.of("id", 2));
+      spool.close();
+      corruptSecondRecord();
+
+      spool = open(4096);
+      spool.replay();
+      spool.append("tickatch.log", "product.log", Map.of("id", 3));
+      spool.replay();
+
+      assertThat(sent).containsExactly("{\"id\":1}", "{\"id\":3}");
+    }
+  }
+
+  @Nested
+  class 디렉터리_잠금_테스트 {
+
+    @Test
+    void 사용_중인_디렉터리는_다시_열_수_없다() {
+      assertThatThrownBy(() -> open(4096)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 닫으면_같은_디렉터리를_다시_열_수_있다() throws IOException {
+      spool.close();
+
+      spool = open(4096);
+
+      assertThat(spool.segmentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 디렉터리를_지정하지_않으면_생성할_수_없다() {
+      assertThatThrownBy(
+              () ->
+                  new ProductEventSpool(
+                      rabbitTemplate, new SimpleMeterRegistry(), " ", 4096, 100, 1000L))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  private ProductEventSpool open(int segmentBytes) throws IOException {
+    ProductEventSpool opened =
+        new ProductEventSpool(
+            rabbitTemplate,
+            new SimpleMeterRegistry(),
+            directory.toString(),
+            segmentBytes,
+            100,
+            1000L);
+    opened.open();
+    return opened;
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(file -> file.toString().endsWith(".spool")).toList();
+    }
+  }
+
+  /** 첫 레코드의 길이를 읽어 두 번째 레코드 본문의 첫 바이트를 바꾼다. */
+  private void corruptSecondRecord() throws IOException {
+    Path segment = segmentFiles().get(0);
+    try (FileChannel channel =
+        FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer length = ByteBuffer.allocate(4);
+      channel.read(length, 0);
+      int second = SpoolSegment.HEADER_BYTES + length.flip().getInt();
+      channel.write(ByteBuffer.wrap(new byte[] {0x7f}), second + SpoolSegment.HEADER_BYTES);
+    }
+  }
+}
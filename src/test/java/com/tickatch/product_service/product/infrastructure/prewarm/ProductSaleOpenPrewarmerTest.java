@@ -0,0 +1,194 @@
+package com.tickatch.product_service.product.infrastructure.prewarm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse.Status;
+import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.infrastructure.availability.ProductAvailabilityCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ProductSaleOpenPrewarmer 테스트")
+class ProductSaleOpenPrewarmerTest {
+
+  private ProductRepository productRepository;
+  private ProductQueryService productQueryService;
+  private ProductAvailabilityCache productAvailabilityCache;
+  private ProductSaleOpenPrewarmer prewarmer;
+
+  @BeforeEach
+  void setUp() {
+    productRepository = mock(ProductRepository.class);
+    productQueryService = mock(ProductQueryService.class);
+    productAvailabilityCache = mock(ProductAvailabilityCache.class);
+    prewarmer =
+        new ProductSaleOpenPrewarmer(
+            productRepository,
+            productQueryService,
+            productAvailabilityCache,
+            new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(prewarmer, "enabled", true);
+    ReflectionTestUtils.setField(prewarmer, "leadSeconds", 300L);
+    ReflectionTestUtils.setField(prewarmer, "hotSeconds", 30L);
+    ReflectionTestUtils.setField(prewarmer, "batchSize", 100);
+  }
+
+  @Nested
+  class 준비_테스트 {
+
+    @Test
+    void 판매_시작이_다가온_판매_예정_상품만_준비한다() {
+      LocalDateTime saleStartAt = LocalDateTime.now().plusMinutes(2);
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(
+                  schedule(1L, ProductStatus.SCHEDULED, saleStartAt),
+                  schedule(2L, ProductStatus.ON_SALE, saleStartAt.minusDays(1))));
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willReturn(loaded(1L));
+
+      prewarmer.scan();
+
+      ProductPrewarmResponse readiness = prewarmer.readiness(1L);
+      assertThat(readiness.getStatus()).isEqualTo(Status.WARMED);
+      assertThat(readiness.getSaleStartAt()).isEqualTo(saleStartAt);
+      assertThat(readiness.getWarmedAt()).isNotNull();
+      assertThat(prewarmer.readiness(2L).getStatus()).isEqualTo(Status.NONE);
+      verify(productAvailabilityCache).getAll(List.of(1L));
+    }
+
+    @Test
+    void 이미_준비한_상품은_다시_준비하지_않는다() {
+      LocalDateTime saleStartAt = LocalDateTime.now().plusMinutes(2);
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(List.of(schedule(1L, ProductStatus.SCHEDULED, saleStartAt)));
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willReturn(loaded(1L));
+
+      prewarmer.scan();
+      prewarmer.scan();
+
+      verify(productQueryService, times(1)).getProductsByIds(List.of(1L), ProductFields.ALL);
+    }
+
+    @Test
+    void 판매_시작_일시가_바뀌면_다시_준비한다() {
+      LocalDateTime saleStartAt = LocalDateTime.now().plusMinutes(2);
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(schedule(1L, ProductStatus.SCHEDULED, saleStartAt)),
+              List.of(schedule(1L, ProductStatus.SCHEDULED, saleStartAt.plusMinutes(1))));
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willReturn(loaded(1L));
+
+      prewarmer.scan();
+      prewarmer.scan();
+
+      verify(productQueryService, times(2)).getProductsByIds(List.of(1L), ProductFields.ALL);
+      assertThat(prewarmer.readiness(1L).getSaleStartAt()).isEqualTo(saleStartAt.plusMinutes(1));
+    }
+
+    @Test
+    void 준비에_실패하면_다음_주기에_다시_시도한다() {
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(schedule(1L, ProductStatus.SCHEDULED, LocalDateTime.now().plusMinutes(2))));
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willThrow(new IllegalStateException("db down"))
+          .willReturn(loaded(1L));
+
+      prewarmer.scan();
+      assertThat(prewarmer.readiness(1L).getStatus()).isEqualTo(Status.FAILED);
+
+      prewarmer.scan();
+      assertThat(prewarmer.readiness(1L).getStatus()).isEqualTo(Status.WARMED);
+    }
+
+    @Test
+    void 조회되지_않은_상품은_준비_대상에서_뺀다() {
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(schedule(1L, ProductStatus.SCHEDULED, LocalDateTime.now().plusMinutes(2))));
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willReturn(
+              ProductBatchResponse.builder().products(List.of()).missingIds(List.of(1L)).build());
+
+      prewarmer.scan();
+
+      assertThat(prewarmer.readiness(1L).getStatus()).isEqualTo(Status.NONE);
+    }
+  }
+
+  @Nested
+  class 유지_테스트 {
+
+    @Test
+    void 판매_시작이_임박한_준비된_상품만_잔여_좌석_캐시를_채운다() {
+      LocalDateTime now = LocalDateTime.now();
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(
+                  schedule(1L, ProductStatus.SCHEDULED, now.plusSeconds(10)),
+                  schedule(2L, ProductStatus.SCHEDULED, now.plusMinutes(4))));
+      given(productQueryService.getProductsByIds(List.of(1L, 2L), ProductFields.ALL))
+          .willReturn(loaded(1L, 2L));
+      prewarmer.scan();
+
+      prewarmer.keepHot();
+
+      verify(productAvailabilityCache).getAll(List.of(1L));
+    }
+
+    @Test
+    void 판매_시작_후_유지_시간이_지나면_상태를_지운다() {
+      LocalDateTime saleStartAt = LocalDateTime.now().minusSeconds(5);
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(List.of(schedule(1L, ProductStatus.SCHEDULED, saleStartAt)), List.of());
+      given(productQueryService.getProductsByIds(List.of(1L), ProductFields.ALL))
+          .willReturn(loaded(1L));
+      prewarmer.scan();
+      ReflectionTestUtils.setField(prewarmer, "hotSeconds", 0L);
+
+      prewarmer.scan();
+
+      assertThat(prewarmer.readiness(1L).getStatus()).isEqualTo(Status.NONE);
+    }
+  }
+
+  private ProductTransitionSchedule schedule(
+      Long productId, ProductStatus status, LocalDateTime saleStartAt) {
+    return ProductTransitionSchedule.builder()
+        .productId(productId)
+        .status(status)
+        .saleStartAt(saleStartAt)
+        .saleEndAt(saleStartAt.plusDays(7))
+        .endAt(saleStartAt.plusDays(30))
+        .build();
+  }
+
+  private ProductBatchResponse loaded(Long... productIds) {
+    List<ProductResponse> products =
+        List.of(productIds).stream()
+            .map(id -> ProductResponse.builder().id(id).name("콘서트").build())
+            .toList();
+    return ProductBatchResponse.builder().products(products).missingIds(List.of()).build();
+  }
+}
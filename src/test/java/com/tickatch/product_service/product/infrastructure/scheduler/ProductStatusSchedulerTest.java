@@ -0,0 +1,185 @@
+package com.tickatch.product_service.product.infrastructure.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.global.lease.PartitionAssignment;
+import com.tickatch.product_service.global.lease.PartitionLeaseManager;
+import com.tickatch.product_service.product.application.messaging.ProductLogEventPublisher;
+import com.tickatch.product_service.product.domain.Product;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.vo.AdmissionPolicy;
+import com.tickatch.product_service.product.domain.vo.AgeRestriction;
+import com.tickatch.product_service.product.domain.vo.BookingPolicy;
+import com.tickatch.product_service.product.domain.vo.ProductContent;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.domain.vo.RefundPolicy;
+import com.tickatch.product_service.product.domain.vo.SaleSchedule;
+import com.tickatch.product_service.product.domain.vo.Schedule;
+import com.tickatch.product_service.product.domain.vo.Venue;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductStatusScheduler 테스트")
+class ProductStatusSchedulerTest {
+
+  private static final PartitionAssignment ALL_PARTITIONS = PartitionAssignment.all(1);
+
+  @InjectMocks private ProductStatusScheduler scheduler;
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private ProductStatusTransitionHelper transitionHelper;
+
+  @Mock private ProductLogEventPublisher logEventPublisher;
+
+  @Mock private PartitionLeaseManager partitionLeaseManager;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+  }
+
+  @Nested
+  class 일괄_전이_테스트 {
+
+    @Test
+    void 묶음이_가득_차면_다음_묶음을_이어서_전이한다() {
+      given(partitionLeaseManager.current()).willReturn(ALL_PARTITIONS);
+      given(
+              transitionHelper.changeStatusInBulk(
+                  eq(ProductStatus.SCHEDULED), eq(ProductStatus.ON_SALE), any(), any(), eq(2)))
+          .willReturn(List.of(1L, 2L), List.of(3L));
+
+      scheduler.transitionToOnSale();
+
+      verify(transitionHelper, times(2))
+          .changeStatusInBulk(
+              eq(ProductStatus.SCHEDULED), eq(ProductStatus.ON_SALE), any(), any(), eq(2));
+      verify(logEventPublisher).publishSaleStarted(1L);
+      verify(logEventPublisher).publishSaleStarted(2L);
+      verify(logEventPublisher).publishSaleStarted(3L);
+      verify(transitionHelper, never()).changeStatusSafely(anyLong(), any());
+    }
+
+    @Test
+    void 대상이_없으면_한_번만_조회한다() {
+      given(partitionLeaseManager.current()).willReturn(ALL_PARTITIONS);
+      given(
+              transitionHelper.changeStatusInBulk(
+                  eq(ProductStatus.ON_SALE), eq(ProductStatus.CLOSED), any(), any(), eq(2)))
+          .willReturn(List.of());
+
+      scheduler.transitionToClosed();
+
+      verify(transitionHelper, times(1))
+          .changeStatusInBulk(
+              eq(ProductStatus.ON_SALE), eq(ProductStatus.CLOSED), any(), any(), eq(2));
+      verify(logEventPublisher, never()).publishSaleClosed(anyLong());
+    }
+  }
+
+  @Nested
+  class 파티션_테스트 {
+
+    @Test
+    void 맡은_파티션이_없으면_전이하지_않는다() {
+      given(partitionLeaseManager.current()).willReturn(PartitionAssignment.none(16));
+
+      scheduler.transitionToOnSale();
+
+      verify(transitionHelper, never()).changeStatusInBulk(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void 타이머가_만료시킨_전이는_맡은_파티션이_없어도_실행한다() {
+      given(
+              transitionHelper.changeStatusInBulk(
+                  eq(ProductStatus.SCHEDULED), eq(ProductStatus.ON_SALE), any(), any(), eq(2)))
+          .willReturn(List.of(7L));
+
+      scheduler.transitionDue(ProductStatus.ON_SALE);
+
+      verify(logEventPublisher).publishSaleStarted(7L);
+      verify(partitionLeaseManager, never()).current();
+    }
+
+    @Test
+    void 상품별_전이로_대체할_때도_맡은_파티션의_상품만_전이한다() {
+      given(partitionLeaseManager.current()).willReturn(new PartitionAssignment(2, Set.of(1)));
+      given(transitionHelper.changeStatusInBulk(any(), any(), any(), any(), anyInt()))
+          .willThrow(new IllegalStateException("lock timeout"));
+      given(productRepository.findByStatusAndSaleStartAtBefore(eq(ProductStatus.SCHEDULED), any()))
+          .willReturn(List.of(createProduct(3L), createProduct(4L)));
+      given(transitionHelper.changeStatusSafely(3L, ProductStatus.ON_SALE)).willReturn(true);
+
+      scheduler.transitionToOnSale();
+
+      verify(transitionHelper, never()).changeStatusSafely(4L, ProductStatus.ON_SALE);
+      verify(logEventPublisher).publishSaleStarted(3L);
+    }
+  }
+
+  @Nested
+  class 상품별_전이_대체_테스트 {
+
+    @Test
+    void 묶음_전이가_실패하면_남은_대상을_상품별로_전이한다() {
+      given(partitionLeaseManager.current()).willReturn(ALL_PARTITIONS);
+      given(
+              transitionHelper.changeStatusInBulk(
+                  eq(ProductStatus.CLOSED), eq(ProductStatus.COMPLETED), any(), any(), eq(2)))
+          .willReturn(List.of(1L, 2L))
+          .willThrow(new IllegalStateException("lock timeout"));
+      given(productRepository.findByStatusAndEndAtBefore(eq(ProductStatus.CLOSED), any()))
+          .willReturn(List.of(createProduct(3L), createProduct(4L)));
+      given(transitionHelper.changeStatusSafely(3L, ProductStatus.COMPLETED)).willReturn(true);
+      given(transitionHelper.changeStatusSafely(4L, ProductStatus.COMPLETED)).willReturn(false);
+
+      scheduler.transitionToCompleted();
+
+      verify(logEventPublisher).publishCompleted(1L);
+      verify(logEventPublisher).publishCompleted(2L);
+      verify(logEventPublisher).publishCompleted(3L);
+      verify(logEventPublisher).publishCompleteFailed(4L);
+    }
+  }
+
+  private Product createProduct(Long id) {
+    LocalDateTime now = LocalDateTime.now();
+    Product product =
+        Product.create(
+            "seller-001",
+            "콘서트",
+            ProductType.CONCERT,
+            120,
+            new Schedule(now.plusDays(30), now.plusDays(31)),
+            new SaleSchedule(now.plusDays(1), now.plusDays(29)),
+            new Venue(1L, "올림픽홀", 100L, "올림픽공원", "서울시 송파구"),
+            ProductContent.empty(),
+            AgeRestriction.defaultRestriction(),
+            BookingPolicy.defaultPolicy(),
+            AdmissionPolicy.defaultPolicy(),
+            RefundPolicy.defaultPolicy());
+    ReflectionTestUtils.setField(product, "id", id);
+    return product;
+  }
+}
@@ -0,0 +1,155 @@
+package com.tickatch.product_service.product.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductTransitionSchedule;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductTransitionTimer 테스트")
+class ProductTransitionTimerTest {
+
+  @InjectMocks private ProductTransitionTimer timer;
+
+  @Mock private ProductRepository productRepository;
+
+  @Mock private ProductStatusScheduler productStatusScheduler;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(timer, "horizonHours", 24L);
+  }
+
+  @Nested
+  class 적재_테스트 {
+
+    @Test
+    void 범위_안의_전이_일정을_적재하고_기준_시각이_지난_전이만_실행한다() {
+      LocalDateTime now = LocalDateTime.now();
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willReturn(
+              List.of(
+                  schedule(1L, ProductStatus.SCHEDULED, now.minusSeconds(1), now.plusDays(1)),
+                  schedule(2L, ProductStatus.ON_SALE, now.minusDays(1), now.plusHours(1))));
+
+      timer.reload();
+      timer.tick();
+
+      assertThat(timer.size()).isEqualTo(1);
+      verify(productStatusScheduler).transitionDue(ProductStatus.ON_SALE);
+      verify(productStatusScheduler, never()).transitionDue(ProductStatus.CLOSED);
+    }
+
+    @Test
+    void 적재_중_수신한_변경은_적재_스냅샷으로_덮어쓰지_않는다() {
+      LocalDateTime now = LocalDateTime.now();
+      given(productRepository.findTransitionSchedulesBefore(any()))
+          .willAnswer(
+              invocation -> {
+                timer.onProductChanged(event(1L, ProductStatus.SCHEDULED, now.plusHours(2), true));
+                return List.of(
+                    schedule(1L, ProductStatus.SCHEDULED, now.plusHours(1), now.plusDays(1)));
+              });
+
+      timer.reload();
+
+      assertThat(timer.size()).isZero();
+    }
+  }
+
+  @Nested
+  class 변경_이벤트_테스트 {
+
+    @Test
+    void 판매_예정으로_바뀐_상품을_판매_시작_시각에_등록한다() {
+      LocalDateTime now = LocalDateTime.now();
+
+      timer.onProductChanged(event(1L, ProductStatus.SCHEDULED, now.plusHours(1), false));
+      timer.tick();
+
+      assertThat(timer.size()).isEqualTo(1);
+      verify(productStatusScheduler, never()).transitionDue(ProductStatus.ON_SALE);
+    }
+
+    @Test
+    void 삭제된_상품은_등록을_취소한다() {
+      LocalDateTime now = LocalDateTime.now();
+      timer.onProductChanged(event(1L, ProductStatus.SCHEDULED, now.plusHours(1), false));
+
+      timer.onProductChanged(event(1L, ProductStatus.SCHEDULED, now.plusHours(1), true));
+
+      assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    void 자동_전이_대상이_아니거나_범위_밖이면_등록하지_않는다() {
+      LocalDateTime now = LocalDateTime.now();
+
+      timer.onProductChanged(event(1L, ProductStatus.DRAFT, now.plusHours(1), false));
+      timer.onProductChanged(event(2L, ProductStatus.SCHEDULED, now.plusDays(2), false));
+
+      assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    void 기준_시각이_지난_전이는_다음_진행에서_실행한다() {
+      LocalDateTime now = LocalDateTime.now();
+
+      timer.onProductChanged(event(1L, ProductStatus.SCHEDULED, now.minusSeconds(1), false));
+      timer.tick();
+
+      verify(productStatusScheduler).transitionDue(ProductStatus.ON_SALE);
+      assertThat(timer.size()).isZero();
+    }
+  }
+
+  private ProductTransitionSchedule schedule(
+      Long productId, ProductStatus status, LocalDateTime saleStartAt, LocalDateTime saleEndAt) {
+    return ProductTransitionSchedule.builder()
+        .productId(productId)
+        .status(status)
+        .saleStartAt(saleStartAt)
+        .saleEndAt(saleEndAt)
+        .endAt(saleEndAt.plusDays(30))
+        .build();
+  }
+
+  private ProductChangedEvent event(
+      Long productId, ProductStatus status, LocalDateTime saleStartAt, boolean deleted) {
+    LocalDateTime saleEndAt = saleStartAt.plusDays(1);
+    return new ProductChangedEvent(
+        productId,
+        "콘서트",
+        null,
+        ProductType.CONCERT,
+        status,
+        1L,
+        100L,
+        "seller-001",
+        saleEndAt.plusDays(1),
+        saleEndAt.plusDays(2),
+        saleStartAt,
+        saleEndAt,
+        0L,
+        0,
+        deleted);
+  }
+}
@@ -0,0 +1,101 @@
+package com.tickatch.product_service.product.infrastructure.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimerWheel 테스트")
+class TimerWheelTest {
+
+  private static final long START = 1_000L;
+
+  @Nested
+  class 만료_테스트 {
+
+    @Test
+    void 만료_시각이_된_키만_반환한다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("a", START + 2);
+      wheel.schedule("b", START + 3);
+
+      assertThat(wheel.advance(START + 1)).isEmpty();
+      assertThat(wheel.advance(START + 2)).containsExactly("a");
+      assertThat(wheel.advance(START + 3)).containsExactly("b");
+      assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 한_바퀴보다_먼_키는_해당_바퀴에서_만료된다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("near", START + 5);
+      wheel.schedule("far", START + 25);
+
+      assertThat(wheel.advance(START + 5)).containsExactly("near");
+      assertThat(wheel.advance(START + 15)).isEmpty();
+      assertThat(wheel.advance(START + 25)).containsExactly("far");
+    }
+
+    @Test
+    void 여러_바퀴를_건너뛰어도_지난_키를_모두_반환한다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("a", START + 3);
+      wheel.schedule("b", START + 17);
+      wheel.schedule("c", START + 100);
+
+      assertThat(wheel.advance(START + 50)).containsExactlyInAnyOrder("a", "b");
+      assertThat(wheel.deadlineOf("c")).isEqualTo(START + 100);
+    }
+
+    @Test
+    void 이미_처리한_시각으로_등록하면_시간이_흐르지_않아도_다음_진행에서_만료된다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("late", START - 30);
+      wheel.schedule("now", START);
+
+      assertThat(wheel.advance(START)).containsExactly("late", "now");
+      assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 시간이_흐르지_않으면_남은_키를_반환하지_않는다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("a", START + 1);
+
+      assertThat(wheel.advance(START)).isEmpty();
+      assertThat(wheel.size()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class 등록_변경_테스트 {
+
+    @Test
+    void 다시_등록하면_이전_만료_시각을_대체한다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("a", START + 2);
+      wheel.schedule("a", START + 4);
+
+      assertThat(wheel.advance(START + 3)).isEmpty();
+      assertThat(wheel.advance(START + 4)).containsExactly("a");
+    }
+
+    @Test
+    void 취소한_키는_만료되지_않는다() {
+      TimerWheel<String> wheel = new TimerWheel<>(10, START);
+      wheel.schedule("a", START + 2);
+
+      assertThat(wheel.cancel("a")).isTrue();
+      assertThat(wheel.cancel("a")).isFalse();
+      assertThat(wheel.advance(START + 10)).isEmpty();
+    }
+
+    @Test
+    void 슬롯_수가_1보다_작으면_생성할_수_없다() {
+      assertThatThrownBy(() -> new TimerWheel<String>(0, START))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
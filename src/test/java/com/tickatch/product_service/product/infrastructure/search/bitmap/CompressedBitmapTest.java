@@ -0,0 +1,101 @@
+package com.tickatch.product_service.product.infrastructure.search.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CompressedBitmap 테스트")
+class CompressedBitmapTest {
+
+  @Nested
+  class 추가_삭제_테스트 {
+
+    @Test
+    void 값을_추가하고_포함_여부를_확인한다() {
+      CompressedBitmap bitmap = new CompressedBitmap();
+      bitmap.add(1);
+      bitmap.add(70_000);
+
+      assertThat(bitmap.contains(1)).isTrue();
+      assertThat(bitmap.contains(70_000)).isTrue();
+      assertThat(bitmap.contains(2)).isFalse();
+      assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void 중복_추가해도_한_번만_센다() {
+      CompressedBitmap bitmap = new CompressedBitmap();
+      bitmap.add(5);
+      bitmap.add(5);
+
+      assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void 모든_값을_삭제하면_비어_있다() {
+      CompressedBitmap bitmap = new CompressedBitmap();
+      bitmap.add(5);
+      bitmap.add(100_000);
+
+      bitmap.remove(5);
+      bitmap.remove(100_000);
+
+      assertThat(bitmap.isEmpty()).isTrue();
+    }
+
+    @Test
+    void 밀집_구간도_정확히_유지한다() {
+      CompressedBitmap bitmap = new CompressedBitmap();
+      for (int i = 0; i < 10_000; i++) {
+        bitmap.add(i);
+      }
+      for (int i = 0; i < 10_000; i += 2) {
+        bitmap.remove(i);
+      }
+
+      assertThat(bitmap.cardinality()).isEqualTo(5_000);
+      assertThat(bitmap.contains(9_999)).isTrue();
+      assertThat(bitmap.contains(9_998)).isFalse();
+    }
+  }
+
+  @Nested
+  class 교집합_테스트 {
+
+    @Test
+    void 교집합과_교집합_원소_수를_계산한다() {
+      CompressedBitmap a = new CompressedBitmap();
+      CompressedBitmap b = new CompressedBitmap();
+      for (int i = 0; i < 10_000; i++) {
+        a.add(i);
+        if (i % 3 == 0) {
+          b.add(i);
+        }
+      }
+      b.add(200_000);
+
+      CompressedBitmap and = a.and(b);
+
+      assertThat(and.cardinality()).isEqualTo(3_334);
+      assertThat(a.andCardinality(b)).isEqualTo(3_334);
+      assertThat(and.contains(200_000)).isFalse();
+    }
+
+    @Test
+    void 원소를_오름차순으로_순회한다() {
+      CompressedBitmap bitmap = new CompressedBitmap();
+      bitmap.add(70_000);
+      bitmap.add(3);
+      bitmap.add(1);
+      List<Integer> values = new ArrayList<>();
+
+      bitmap.forEach(values::add);
+
+      assertThat(values).containsExactly(1, 3, 70_000);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.tickatch.product_service.product.infrastructure.search.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.product_service.product.application.dto.ProductFacetResponse;
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.infrastructure.search.bitmap.ProductBitmapIndex.BitmapMatch;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductBitmapIndex 테스트")
+class ProductBitmapIndexTest {
+
+  private ProductBitmapIndex index;
+
+  @BeforeEach
+  void setUp() {
+    ProductRepository productRepository = mock(ProductRepository.class);
+    index = new ProductBitmapIndex(productRepository);
+    index.bootstrap();
+
+    index.onProductChanged(event(1L, ProductType.MUSICAL, ProductStatus.ON_SALE, 10L, "s1"));
+    index.onProductChanged(event(2L, ProductType.MUSICAL, ProductStatus.ON_SALE, 10L, "s2"));
+    index.onProductChanged(event(3L, ProductType.CONCERT, ProductStatus.ON_SALE, 10L, "s1"));
+    index.onProductChanged(event(4L, ProductType.CONCERT, ProductStatus.DRAFT, 20L, "s1"));
+  }
+
+  @Nested
+  class 다중_필터_테스트 {
+
+    @Test
+    void 필터_교집합의_상품_ID를_반환한다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder()
+              .productType(ProductType.MUSICAL)
+              .status(ProductStatus.ON_SALE)
+              .stageId(10L)
+              .build();
+
+      BitmapMatch match = index.match(condition, 100);
+
+      assertThat(match.total()).isEqualTo(2);
+      assertThat(match.productIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 일치_건수가_한도를_넘으면_ID_목록을_반환하지_않는다() {
+      BitmapMatch match = index.match(ProductSearchCondition.builder().build(), 2);
+
+      assertThat(match.total()).isEqualTo(4);
+      assertThat(match.productIds()).isNull();
+    }
+
+    @Test
+    void 색인되지_않은_값으로_필터하면_0건이다() {
+      ProductSearchCondition condition = ProductSearchCondition.builder().stageId(999L).build();
+
+      assertThat(index.match(condition, 100).total()).isZero();
+    }
+
+    @Test
+    void 상품명_조건이_있으면_지원하지_않는다() {
+      assertThat(index.supports(ProductSearchCondition.builder().name("레미").build())).isFalse();
+      assertThat(index.supports(ProductSearchCondition.builder().build())).isTrue();
+    }
+
+    @Test
+    void 가격_조건이_있으면_지원하지_않는다() {
+      assertThat(index.supports(ProductSearchCondition.builder().minPrice(10000L).build()))
+          .isFalse();
+      assertThat(index.supports(ProductSearchCondition.builder().maxPrice(90000L).build()))
+          .isFalse();
+    }
+
+    @Test
+    void 시작_일시_조건이_있으면_지원하지_않는다() {
+      ProductSearchCondition condition =
+          ProductSearchCondition.builder().startFrom(LocalDateTime.of(2026, 1, 1, 0, 0)).build();
+
+      assertThat(index.supports(condition)).isFalse();
+    }
+  }
+
+  @Nested
+  class 변경_반영_테스트 {
+
+    @Test
+    void 상태가_바뀌면_이전_값_비트맵에서_제거된다() {
+      index.onProductChanged(event(1L, ProductType.MUSICAL, ProductStatus.CLOSED, 10L, "s1"));
+
+      ProductSearchCondition onSale =
+          ProductSearchCondition.builder().status(ProductStatus.ON_SALE).build();
+      assertThat(index.match(onSale, 100).productIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void 삭제된_상품은_제외되고_서수가_재사용된다() {
+      index.onProductChanged(deleted(4L));
+      index.onProductChanged(event(5L, ProductType.SPORTS, ProductStatus.DRAFT, 20L, "s3"));
+
+      assertThat(index.match(ProductSearchCondition.builder().build(), 100).productIds())
+          .containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+  }
+
+  @Nested
+  class 패싯_테스트 {
+
+    @Test
+    void 각_차원은_나머지_필터_기준으로_센다() {
+      ProductFacetResponse facets = index.facets(null, ProductStatus.ON_SALE, 10L, null);
+
+      assertThat(facets.getTotal()).isEqualTo(3);
+      assertThat(facets.getProductTypes())
+          .containsEntry(ProductType.MUSICAL, 2L)
+          .containsEntry(ProductType.CONCERT, 1L);
+      assertThat(facets.getStatuses())
+          .containsEntry(ProductStatus.ON_SALE, 3L)
+          .doesNotContainKey(ProductStatus.DRAFT);
+      assertThat(facets.getStages()).containsEntry(10L, 3L).doesNotContainKey(20L);
+      assertThat(facets.getSellers()).containsEntry("s1", 2L).containsEntry("s2", 1L);
+    }
+  }
+
+  private static ProductChangedEvent event(
+      Long id, ProductType type, ProductStatus status, Long stageId, String sellerId) {
+    return new ProductChangedEvent(
+        id,
+        "상품" + id,
+        null,
+        type,
+        status,
+        stageId,
+        100L,
+        sellerId,
+        null,
+        null,
+        null,
+        null,
+        0L,
+        0,
+        false);
+  }
+
+  private static ProductChangedEvent deleted(Long id) {
+    return new ProductChangedEvent(
+        id,
+        "상품" + id,
+        null,
+        ProductType.CONCERT,
+        ProductStatus.CANCELLED,
+        20L,
+        100L,
+        "s1",
+        null,
+        null,
+        null,
+        null,
+        0L,
+        0,
+        true);
+  }
+}
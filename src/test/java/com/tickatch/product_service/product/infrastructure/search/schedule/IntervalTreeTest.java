@@ -0,0 +1,128 @@
+package com.tickatch.product_service.product.infrastructure.search.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IntervalTree 테스트")
+class IntervalTreeTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+  private IntervalTree tree;
+
+  @BeforeEach
+  void setUp() {
+    tree = new IntervalTree();
+    tree.insert(1L, at(10), at(20));
+    tree.insert(2L, at(20), at(30));
+    tree.insert(3L, at(40), at(50));
+  }
+
+  @Nested
+  class 겹침_테스트 {
+
+    @Test
+    void 구간이_겹치면_true를_반환한다() {
+      assertThat(tree.overlapsAny(at(15), at(25), null)).isTrue();
+      assertThat(tree.overlapsAny(at(45), at(46), null)).isTrue();
+    }
+
+    @Test
+    void 끝과_시작이_맞닿으면_겹치지_않는다() {
+      assertThat(tree.overlapsAny(at(30), at(40), null)).isFalse();
+      assertThat(tree.overlapsAny(at(0), at(10), null)).isFalse();
+    }
+
+    @Test
+    void 제외한_상품과만_겹치면_false를_반환한다() {
+      assertThat(tree.overlapsAny(at(41), at(49), 3L)).isFalse();
+      assertThat(tree.overlapsAny(at(15), at(25), 1L)).isTrue();
+    }
+
+    @Test
+    void 겹치는_구간을_시작_일시_순으로_반환한다() {
+      assertThat(tree.findOverlapping(at(15), at(45))).containsExactly(1L, 2L, 3L);
+      assertThat(tree.findOverlapping(at(20), at(40))).containsExactly(2L);
+    }
+  }
+
+  @Nested
+  class 시작_일시_범위_테스트 {
+
+    @Test
+    void 시작_일시가_범위_안에_있는_구간을_반환한다() {
+      assertThat(tree.findStartingBetween(at(10), at(20))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void null_경계는_제한이_없다() {
+      assertThat(tree.findStartingBetween(null, at(20))).containsExactly(1L, 2L);
+      assertThat(tree.findStartingBetween(at(11), null)).containsExactly(2L, 3L);
+    }
+  }
+
+  @Nested
+  class 변경_테스트 {
+
+    @Test
+    void 제거한_구간은_조회되지_않는다() {
+      assertThat(tree.remove(2L, at(20))).isTrue();
+
+      assertThat(tree.findOverlapping(at(0), at(100))).containsExactly(1L, 3L);
+      assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void 없는_구간을_제거하면_false를_반환한다() {
+      assertThat(tree.remove(2L, at(21))).isFalse();
+      assertThat(tree.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 무작위_변경_후에도_전수_비교와_결과가_같고_균형을_유지한다() {
+      Random random = new Random(42);
+      IntervalTree randomTree = new IntervalTree();
+      List<long[]> intervals = new ArrayList<>();
+      for (long id = 1; id <= 2_000; id++) {
+        long start = random.nextInt(100_000);
+        long end = start + 1 + random.nextInt(500);
+        randomTree.insert(id, at(start), at(end));
+        intervals.add(new long[] {id, start, end});
+      }
+      for (int i = 0; i < 1_000; i++) {
+        long[] removed = intervals.remove(random.nextInt(intervals.size()));
+        assertThat(randomTree.remove(removed[0], at(removed[1]))).isTrue();
+      }
+
+      for (int i = 0; i < 200; i++) {
+        long from = random.nextInt(100_000);
+        long to = from + 1 + random.nextInt(2_000);
+        List<Long> expected =
+            intervals.stream()
+                .filter(interval -> interval[1] < to && interval[2] > from)
+                .sorted(
+                    (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]))
+                .map(interval -> interval[0])
+                .toList();
+
+        assertThat(randomTree.findOverlapping(at(from), at(to))).isEqualTo(expected);
+        assertThat(randomTree.overlapsAny(at(from), at(to), null)).isEqualTo(!expected.isEmpty());
+      }
+      assertThat(randomTree.size()).isEqualTo(1_000);
+      // AVL 트리 높이 상한: 1.44 * log2(n + 2)
+      assertThat(randomTree.height()).isLessThanOrEqualTo(15);
+    }
+  }
+
+  private static LocalDateTime at(long minutes) {
+    return BASE.plusMinutes(minutes);
+  }
+}
@@ -0,0 +1,217 @@
+package com.tickatch.product_service.product.infrastructure.search.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.product_service.product.application.event.ProductChangedEvent;
+import com.tickatch.product_service.product.domain.ProductRepository;
+import com.tickatch.product_service.product.domain.repository.dto.ProductIndexSnapshot;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StageScheduleIndex 테스트")
+class StageScheduleIndexTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 19, 0);
+
+  private ProductRepository productRepository;
+  private StageScheduleIndex index;
+
+  @BeforeEach
+  void setUp() {
+    productRepository = mock(ProductRepository.class);
+    index = new StageScheduleIndex(productRepository);
+    index.bootstrap();
+
+    index.onProductChanged(event(1L, 10L, BASE, BASE.plusDays(3)));
+    index.onProductChanged(event(2L, 10L, BASE.plusDays(5), BASE.plusDays(7)));
+    index.onProductChanged(event(3L, 20L, BASE, BASE.plusDays(10)));
+  }
+
+  @Test
+  void 적재가_끝나면_준비_상태가_된다() {
+    assertThat(index.isReady()).isTrue();
+  }
+
+  @Nested
+  class 겹침_검사_테스트 {
+
+    @Test
+    void 같은_스테이지에서_일정이_겹치면_true를_반환한다() {
+      assertThat(index.hasOverlap(10L, BASE.plusDays(2), BASE.plusDays(4), null)).isTrue();
+    }
+
+    @Test
+    void 다른_스테이지의_일정은_겹침이_아니다() {
+      assertThat(index.hasOverlap(30L, BASE, BASE.plusDays(1), null)).isFalse();
+      assertThat(index.hasOverlap(10L, BASE.plusDays(3), BASE.plusDays(5), null)).isFalse();
+    }
+
+    @Test
+    void 수정_중인_상품_자신은_제외한다() {
+      assertThat(index.hasOverlap(10L, BASE.plusDays(1), BASE.plusDays(2), 1L)).isFalse();
+    }
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 기간과_겹치는_상품을_시작_일시_순으로_반환한다() {
+      assertThat(index.findOverlapping(10L, BASE.plusDays(1), BASE.plusDays(6)))
+          .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 아트홀의_모든_스테이지에서_기간과_겹치는_상품을_시작_일시_순으로_반환한다() {
+      assertThat(index.findOverlappingInArtHall(100L, BASE.plusDays(4), BASE.plusDays(6)))
+          .containsExactly(3L, 2L);
+      assertThat(index.findOverlappingInArtHall(200L, BASE, BASE.plusDays(30))).isEmpty();
+    }
+
+    @Test
+    void 시작_일시_범위로_상품을_반환한다() {
+      assertThat(index.findStartingBetween(10L, BASE.plusDays(1), null)).containsExactly(2L);
+      assertThat(index.findStartingBetween(99L, null, null)).isEmpty();
+    }
+  }
+
+  @Nested
+  class 변경_반영_테스트 {
+
+    @Test
+    void 스테이지가_바뀌면_이전_스테이지에서_제거된다() {
+      index.onProductChanged(event(1L, 20L, BASE.plusDays(20), BASE.plusDays(21)));
+
+      assertThat(index.findOverlapping(10L, BASE, BASE.plusDays(30))).containsExactly(2L);
+      assertThat(index.findOverlapping(20L, BASE, BASE.plusDays(30))).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void 삭제된_상품은_스테이지를_점유하지_않는다() {
+      index.onProductChanged(deleted(3L));
+
+      assertThat(index.hasOverlap(20L, BASE, BASE.plusDays(10), null)).isFalse();
+      assertThat(index.findOverlappingInArtHall(100L, BASE, BASE.plusDays(10)))
+          .containsExactly(1L, 2L);
+    }
+  }
+
+  @Nested
+  class 다시_적재_테스트 {
+
+    @Test
+    void 적재_결과에_없는_상품은_제거한다() {
+      loads(snapshot(2L, 10L, BASE.plusDays(5), BASE.plusDays(7)));
+
+      index.reload();
+
+      assertThat(index.findOverlapping(10L, BASE, BASE.plusDays(30))).containsExactly(2L);
+      assertThat(index.findOverlapping(20L, BASE, BASE.plusDays(30))).isEmpty();
+    }
+
+    @Test
+    void 다른_인스턴스에서_바뀐_일정을_반영한다() {
+      loads(
+          snapshot(1L, 10L, BASE.plusDays(10), BASE.plusDays(11)),
+          snapshot(2L, 10L, BASE.plusDays(5), BASE.plusDays(7)),
+          snapshot(3L, 20L, BASE, BASE.plusDays(10)));
+
+      index.reload();
+
+      assertThat(index.findOverlapping(10L, BASE, BASE.plusDays(30))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 적재_중_변경된_상품은_스냅샷으로_덮어쓰지_않는다() {
+      given(productRepository.scrollIndexSnapshots(any(), anyInt(), any()))
+          .willAnswer(
+              invocation -> {
+                index.onProductChanged(event(1L, 20L, BASE.plusDays(20), BASE.plusDays(21)));
+                Consumer<List<ProductIndexSnapshot>> consumer = invocation.getArgument(2);
+                consumer.accept(List.of(snapshot(1L, 10L, BASE, BASE.plusDays(3))));
+                return 1L;
+              });
+
+      index.reload();
+
+      assertThat(index.findOverlapping(10L, BASE, BASE.plusDays(30))).isEmpty();
+      assertThat(index.findOverlapping(20L, BASE.plusDays(20), BASE.plusDays(21)))
+          .containsExactly(1L);
+    }
+  }
+
+  private void loads(ProductIndexSnapshot... snapshots) {
+    given(productRepository.scrollIndexSnapshots(any(), anyInt(), any()))
+        .willAnswer(
+            invocation -> {
+              Consumer<List<ProductIndexSnapshot>> consumer = invocation.getArgument(2);
+              consumer.accept(List.of(snapshots));
+              return (long) snapshots.length;
+            });
+  }
+
+  private static ProductIndexSnapshot snapshot(
+      Long id, Long stageId, LocalDateTime startAt, LocalDateTime endAt) {
+    return ProductIndexSnapshot.builder()
+        .productId(id)
+        .name("상품" + id)
+        .productType(ProductType.CONCERT)
+        .status(ProductStatus.DRAFT)
+        .stageId(stageId)
+        .artHallId(100L)
+        .sellerId("s1")
+        .startAt(startAt)
+        .endAt(endAt)
+        .build();
+  }
+
+  private static ProductChangedEvent event(
+      Long id, Long stageId, LocalDateTime startAt, LocalDateTime endAt) {
+    return new ProductChangedEvent(
+        id,
+        "상품" + id,
+        null,
+        ProductType.CONCERT,
+        ProductStatus.DRAFT,
+        stageId,
+        100L,
+        "s1",
+        startAt,
+        endAt,
+        null,
+        null,
+        0L,
+        0,
+        false);
+  }
+
+  private static ProductChangedEvent deleted(Long id) {
+    return new ProductChangedEvent(
+        id,
+        "상품" + id,
+        null,
+        ProductType.CONCERT,
+        ProductStatus.CANCELLED,
+        20L,
+        100L,
+        "s1",
+        BASE,
+        BASE.plusDays(10),
+        null,
+        null,
+        0L,
+        0,
+        true);
+  }
+}
@@ -0,0 +1,61 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HangulJamo 테스트")
+class HangulJamoTest {
+
+  @Nested
+  class 자모_분해_테스트 {
+
+    @Test
+    void 완성형_음절을_초성_중성_종성으로_분해한다() {
+      assertThat(HangulJamo.decompose("한글")).isEqualTo("ㅎㅏㄴㄱㅡㄹ");
+    }
+
+    @Test
+    void 겹받침은_입력_순서대로_분해한다() {
+      assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+      assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달"));
+    }
+
+    @Test
+    void 겹모음은_입력_순서대로_분해한다() {
+      assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+      assertThat(HangulJamo.decompose("과")).startsWith(HangulJamo.decompose("고"));
+    }
+
+    @Test
+    void 입력_중인_음절도_접두사로_일치한다() {
+      assertThat(HangulJamo.decompose("레미제라블")).startsWith(HangulJamo.decompose("렘"));
+    }
+
+    @Test
+    void 공백을_제거하고_영문은_소문자로_변환한다() {
+      assertThat(HangulJamo.decompose("Hello World")).isEqualTo("helloworld");
+    }
+
+    @Test
+    void null이면_빈_문자열을_반환한다() {
+      assertThat(HangulJamo.decompose(null)).isEmpty();
+    }
+  }
+
+  @Nested
+  class 초성_추출_테스트 {
+
+    @Test
+    void 초성만_추출한다() {
+      assertThat(HangulJamo.chosung("레미제라블")).isEqualTo("ㄹㅁㅈㄹㅂ");
+    }
+
+    @Test
+    void 한글_외_문자는_그대로_둔다() {
+      assertThat(HangulJamo.chosung("BTS 콘서트")).isEqualTo("btsㅋㅅㅌ");
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.tickatch.product_service.product.infrastructure.search.suggest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse.SuggestType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SuggestTrie 테스트")
+class SuggestTrieTest {
+
+  private static SuggestEntry entry(long id, String text, long score) {
+    return new SuggestEntry(id, SuggestType.PRODUCT, text, score);
+  }
+
+  @Nested
+  class 조회_테스트 {
+
+    @Test
+    void 접두사로_시작하는_항목을_점수순으로_조회한다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      trie.insert("abc", entry(1L, "abc", 10));
+      trie.insert("abd", entry(2L, "abd", 30));
+      trie.insert("xyz", entry(3L, "xyz", 100));
+
+      assertThat(trie.search("ab", 10)).extracting(SuggestEntry::productId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 접두사가_간선_중간에서_끝나도_조회된다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      trie.insert("abcdef", entry(1L, "abcdef", 1));
+
+      assertThat(trie.search("abc", 10)).hasSize(1);
+    }
+
+    @Test
+    void 일치하지_않으면_빈_목록을_반환한다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      trie.insert("abcdef", entry(1L, "abcdef", 1));
+
+      assertThat(trie.search("abx", 10)).isEmpty();
+      assertThat(trie.search("abcdefg", 10)).isEmpty();
+    }
+
+    @Test
+    void 노드별_상위_N개만_유지한다() {
+      SuggestTrie trie = new SuggestTrie(2);
+      trie.insert("a1", entry(1L, "a1", 1));
+      trie.insert("a2", entry(2L, "a2", 2));
+      trie.insert("a3", entry(3L, "a3", 3));
+
+      assertThat(trie.search("a", 10)).extracting(SuggestEntry::productId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void 같은_항목이_여러_키로_색인되어도_한_번만_반환한다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      SuggestEntry entry = entry(1L, "ab ac", 1);
+      trie.insert("abac", entry);
+      trie.insert("ac", entry);
+      trie.insert("aa", entry);
+
+      assertThat(trie.search("a", 10)).hasSize(1);
+    }
+  }
+
+  @Nested
+  class 삭제_테스트 {
+
+    @Test
+    void 삭제한_항목은_조회되지_않는다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      trie.insert("abc", entry(1L, "abc", 10));
+      trie.insert("abd", entry(2L, "abd", 30));
+
+      trie.remove("abd", entry(2L, "abd", 0));
+
+      assertThat(trie.search("ab", 10)).extracting(SuggestEntry::productId).containsExactly(1L);
+      assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제로_밀려난_항목이_상위_N개에_다시_포함된다() {
+      SuggestTrie trie = new SuggestTrie(1);
+      trie.insert("ab", entry(1L, "ab", 10));
+      trie.insert("ac", entry(2L, "ac", 20));
+
+      trie.remove("ac", entry(2L, "ac", 20));
+
+      assertThat(trie.search("a", 10)).extracting(SuggestEntry::productId).containsExactly(1L);
+    }
+
+    @Test
+    void 삭제_후_다시_추가해도_정상_동작한다() {
+      SuggestTrie trie = new SuggestTrie(10);
+      trie.insert("abc", entry(1L, "abc", 1));
+      trie.insert("abd", entry(2L, "abd", 1));
+      trie.remove("abc", entry(1L, "abc", 1));
+      trie.remove("abd", entry(2L, "abd", 1));
+
+      trie.insert("abe", entry(3L, "abe", 1));
+
+      assertThat(trie.search("ab", 10)).extracting(SuggestEntry::productId).containsExactly(3L);
+      assertThat(trie.search("abc", 10)).isEmpty();
+    }
+  }
+
+  @Test
+  void topN이_0_이하면_예외가_발생한다() {
+    assertThatThrownBy(() -> new SuggestTrie(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
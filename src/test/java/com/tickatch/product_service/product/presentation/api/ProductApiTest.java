@@ -8,17 +8,27 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.product_service.product.application.dto.ProductBatchResponse;
 import com.tickatch.product_service.product.application.dto.ProductCreateCommand;
+import com.tickatch.product_service.product.application.dto.ProductFacetResponse;
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse;
+import com.tickatch.product_service.product.application.dto.ProductSuggestResponse.SuggestType;
 import com.tickatch.product_service.product.application.dto.ProductUpdateCommand;
+import com.tickatch.product_service.product.application.service.ProductAvailabilityService;
 import com.tickatch.product_service.product.application.service.ProductCommandService;
+import com.tickatch.product_service.product.application.service.ProductFacetService;
 import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.application.service.ProductSuggestService;
 import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
 import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductAvailabilityResponse;
+import com.tickatch.product_service.product.domain.repository.dto.ProductFields;
 import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
 import com.tickatch.product_service.product.domain.repository.dto.ProductSearchCondition;
 import com.tickatch.product_service.product.domain.vo.AgeRating;
 import com.tickatch.product_service.product.domain.vo.ProductStatus;
 import com.tickatch.product_service.product.domain.vo.ProductType;
+import com.tickatch.product_service.product.presentation.api.dto.ProductBatchRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductCreateRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductCreateRequest.SeatCreateRequest;
 import com.tickatch.product_service.product.presentation.api.dto.ProductCreateRequest.SeatGradeRequest;
@@ -27,6 +37,7 @@ import com.tickatch.product_service.product.presentation.api.dto.RejectRequest;
 import io.github.tickatch.common.security.test.MockUser;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -53,6 +64,13 @@ class ProductApiTest {
 
   @MockitoBean private ProductQueryService productQueryService;
 
+  @MockitoBean private ProductSuggestService productSuggestService;
+
+  @MockitoBean private ProductFacetService productFacetService;
+
+
+  @MockitoBean private ProductAvailabilityService productAvailabilityService;
+
   private static final String BASE_URL = "/api/v1/products";
 
   // 테스트용 상수
@@ -75,7 +93,9 @@ class ProductApiTest {
       List<ProductResponse> content =
           List.of(createProductResponse(1L, "콘서트A"), createProductResponse(2L, "콘서트B"));
       Page<ProductResponse> page = new PageImpl<>(content);
-      given(productQueryService.getProducts(any(ProductSearchCondition.class), any(Pageable.class)))
+      given(
+              productQueryService.getProducts(
+                  any(ProductSearchCondition.class), any(Pageable.class), any(ProductFields.class)))
           .willReturn(page);
 
       assertThat(mockMvc.get().uri(BASE_URL).param("page", "0").param("size", "10"))
@@ -89,7 +109,9 @@ class ProductApiTest {
     void 검색_조건으로_상품_목록을_조회할_수_있다() {
       List<ProductResponse> content = List.of(createProductResponse(1L, "콘서트A"));
       Page<ProductResponse> page = new PageImpl<>(content);
-      given(productQueryService.getProducts(any(ProductSearchCondition.class), any(Pageable.class)))
+      given(
+              productQueryService.getProducts(
+                  any(ProductSearchCondition.class), any(Pageable.class), any(ProductFields.class)))
           .willReturn(page);
 
       assertThat(
@@ -105,6 +127,248 @@ class ProductApiTest {
           .extractingPath("$.success")
           .isEqualTo(true);
     }
+
+    @Test
+    void 가격_범위로_상품_목록을_조회할_수_있다() {
+      given(
+              productQueryService.getProducts(
+                  any(ProductSearchCondition.class), any(Pageable.class), any(ProductFields.class)))
+          .willReturn(new PageImpl<>(List.of(createProductResponse(1L, "콘서트A"))));
+
+      assertThat(
+              mockMvc
+                  .get()
+                  .uri(BASE_URL)
+                  .param("minPrice", "50000")
+                  .param("maxPrice", "150000")
+                  .param("sort", "minPrice,asc"))
+          .hasStatusOk();
+    }
+
+    @Test
+    void 최소_가격이_최대_가격보다_크면_400을_반환한다() {
+      assertThat(
+              mockMvc.get().uri(BASE_URL).param("minPrice", "150000").param("maxPrice", "50000"))
+          .hasStatus(400);
+    }
+
+    @Test
+    void 시작_일시_하한이_상한보다_늦으면_400을_반환한다() {
+      assertThat(
+              mockMvc
+                  .get()
+                  .uri(BASE_URL)
+                  .param("startFrom", "2026-05-01T00:00:00")
+                  .param("startTo", "2026-04-01T00:00:00"))
+          .hasStatus(400);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/products/stages/{stageId}/calendar")
+  class 스테이지_캘린더_API_테스트 {
+
+    @Test
+    void 인증_없이_스테이지_캘린더를_조회할_수_있다() {
+      given(
+              productQueryService.getStageCalendar(
+                  eq(STAGE_ID),
+                  eq(LocalDateTime.of(2026, 4, 1, 0, 0)),
+                  eq(LocalDateTime.of(2026, 5, 1, 0, 0)),
+                  any(ProductFields.class)))
+          .willReturn(List.of(createProductResponse(1L, "콘서트A")));
+
+      assertThat(
+              mockMvc
+                  .get()
+                  .uri(BASE_URL + "/stages/{stageId}/calendar", STAGE_ID)
+                  .param("from", "2026-04-01T00:00:00")
+                  .param("to", "2026-05-01T00:00:00"))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.data[0].id")
+          .isEqualTo(1);
+    }
+
+    @Test
+    void 조회_기간이_너무_길면_400을_반환한다() {
+      given(productQueryService.getStageCalendar(any(), any(), any(), any(ProductFields.class)))
+          .willThrow(new ProductException(ProductErrorCode.CALENDAR_RANGE_TOO_LONG, 366));
+
+      assertThat(
+              mockMvc
+                  .get()
+                  .uri(BASE_URL + "/stages/{stageId}/calendar", STAGE_ID)
+                  .param("from", "2026-01-01T00:00:00")
+                  .param("to", "2028-01-01T00:00:00"))
+          .hasStatus(400);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/products/{id}/availability")
+  class 잔여_좌석_API_테스트 {
+
+    @Test
+    void 인증_없이_잔여_좌석을_조회할_수_있다() {
+      given(productAvailabilityService.getAvailability(1L))
+          .willReturn(
+              ProductAvailabilityResponse.builder()
+                  .productId(1L)
+                  .totalSeats(100)
+                  .availableSeats(40)
+                  .soldOut(false)
+                  .seatGrades(List.of())
+                  .build());
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}/availability", 1L))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.data.availableSeats")
+          .isEqualTo(40);
+    }
+
+    @Test
+    void 상품이_없으면_404를_반환한다() {
+      given(productAvailabilityService.getAvailability(999L))
+          .willThrow(new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, 999L));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}/availability", 999L)).hasStatus(404);
+    }
+
+    @Test
+    void 없는_상품의_스트림은_구독할_수_없다() {
+      given(productAvailabilityService.subscribe(999L))
+          .willThrow(new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, 999L));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}/availability/stream", 999L)).hasStatus(404);
+    }
+
+    @Test
+    void 여러_상품의_잔여_좌석을_한_번에_조회할_수_있다() {
+      given(productAvailabilityService.getAvailabilities(List.of(2L, 1L)))
+          .willReturn(
+              List.of(
+                  ProductAvailabilityResponse.builder().productId(2L).build(),
+                  ProductAvailabilityResponse.builder().productId(1L).build()));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/availability").param("ids", "2", "1"))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.data[0].productId")
+          .isEqualTo(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/products/suggest")
+  class 자동완성_API_테스트 {
+
+    @Test
+    void 입력어로_자동완성_제안을_조회할_수_있다() {
+      given(productSuggestService.suggest("ㄹㅁ", 10))
+          .willReturn(
+              List.of(
+                  ProductSuggestResponse.builder()
+                      .type(SuggestType.PRODUCT)
+                      .text("레미제라블")
+                      .productId(1L)
+                      .build()));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/suggest").param("q", "ㄹㅁ"))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.success")
+          .isEqualTo(true);
+    }
+
+    @Test
+    void 인증_없이_조회할_수_있다() {
+      given(productSuggestService.suggest("레", 5)).willReturn(List.of());
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/suggest").param("q", "레").param("size", "5"))
+          .hasStatusOk();
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/products/facets")
+  class 패싯_조회_API_테스트 {
+
+    @Test
+    void 필터_조건으로_패싯_건수를_조회할_수_있다() {
+      given(productFacetService.getFacets(null, ProductStatus.ON_SALE, STAGE_ID, null))
+          .willReturn(
+              ProductFacetResponse.builder()
+                  .total(3)
+                  .productTypes(Map.of(ProductType.MUSICAL, 2L, ProductType.CONCERT, 1L))
+                  .statuses(Map.of(ProductStatus.ON_SALE, 3L))
+                  .stages(Map.of(STAGE_ID, 3L))
+                  .sellers(Map.of(SELLER_ID, 3L))
+                  .build());
+
+      assertThat(
+              mockMvc
+                  .get()
+                  .uri(BASE_URL + "/facets")
+                  .param("status", "ON_SALE")
+                  .param("stageId", String.valueOf(STAGE_ID)))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.success")
+          .isEqualTo(true);
+    }
+  }
+
+  @Nested
+  @DisplayName("GET/POST /api/v1/products/batch")
+  class 상품_다건_조회_API_테스트 {
+
+    @Test
+    void 쿼리_파라미터로_여러_상품을_조회할_수_있다() {
+      given(
+              productQueryService.getProductsByIds(
+                  eq(List.of(2L, 1L, 999L)), any(ProductFields.class)))
+          .willReturn(
+              ProductBatchResponse.builder()
+                  .products(
+                      List.of(createProductResponse(2L, "콘서트B"), createProductResponse(1L, "콘서트A")))
+                  .missingIds(List.of(999L))
+                  .build());
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/batch").param("ids", "2,1,999"))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.success")
+          .isEqualTo(true);
+    }
+
+    @Test
+    void 요청_본문으로_인증_없이_여러_상품을_조회할_수_있다() {
+      given(productQueryService.getProductsByIds(eq(List.of(1L, 2L)), any(ProductFields.class)))
+          .willReturn(
+              ProductBatchResponse.builder()
+                  .products(
+                      List.of(createProductResponse(1L, "콘서트A"), createProductResponse(2L, "콘서트B")))
+                  .missingIds(List.of())
+                  .build());
+
+      assertThat(
+              mockMvc
+                  .post()
+                  .uri(BASE_URL + "/batch")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(toJson(new ProductBatchRequest(List.of(1L, 2L)))))
+          .hasStatusOk();
+    }
+
+    @Test
+    void 최대_조회_수를_넘으면_400을_반환한다() {
+      given(productQueryService.getProductsByIds(any(), any(ProductFields.class)))
+          .willThrow(new ProductException(ProductErrorCode.BATCH_SIZE_EXCEEDED, 100));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/batch").param("ids", "1,2")).hasStatus(400);
+    }
   }
 
   @Nested
@@ -114,7 +378,7 @@ class ProductApiTest {
     @Test
     void 상품_상세를_조회할_수_있다() {
       ProductResponse response = createProductResponse(1L, PRODUCT_NAME);
-      given(productQueryService.getProduct(1L)).willReturn(response);
+      given(productQueryService.getProduct(eq(1L), any(ProductFields.class))).willReturn(response);
 
       assertThat(mockMvc.get().uri(BASE_URL + "/{id}", 1L))
           .hasStatusOk()
@@ -125,11 +389,44 @@ class ProductApiTest {
 
     @Test
     void 존재하지_않는_상품_조회_시_404를_반환한다() {
-      given(productQueryService.getProduct(999L))
+      given(productQueryService.getProduct(eq(999L), any(ProductFields.class)))
           .willThrow(new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND, 999L));
 
       assertThat(mockMvc.get().uri(BASE_URL + "/{id}", 999L)).hasStatus(404);
     }
+
+    @Test
+    void 요약_뷰로_조회하면_요약_필드만_응답한다() {
+      given(productQueryService.getProduct(eq(1L), any(ProductFields.class)))
+          .willReturn(createProductResponse(1L, PRODUCT_NAME));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}", 1L).param("view", "summary"))
+          .hasStatusOk()
+          .bodyJson()
+          .hasPath("$.data.name")
+          .hasPath("$.data.stageName")
+          .doesNotHavePath("$.data.sellerId")
+          .doesNotHavePath("$.data.artHallAddress");
+    }
+
+    @Test
+    void 필드를_지정하면_지정한_필드와_ID만_응답한다() {
+      given(productQueryService.getProduct(eq(1L), any(ProductFields.class)))
+          .willReturn(createProductResponse(1L, PRODUCT_NAME));
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}", 1L).param("fields", "name,status"))
+          .hasStatusOk()
+          .bodyJson()
+          .hasPath("$.data.id")
+          .hasPath("$.data.name")
+          .doesNotHavePath("$.data.productType");
+    }
+
+    @Test
+    void 알_수_없는_뷰로_조회하면_400을_반환한다() {
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}", 1L).param("view", "unknown"))
+          .hasStatus(400);
+    }
   }
 
   @Nested
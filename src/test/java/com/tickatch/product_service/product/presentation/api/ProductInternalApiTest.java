@@ -0,0 +1,220 @@
+package com.tickatch.product_service.product.presentation.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.product_service.product.application.dto.ProductPrewarmResponse;
+import com.tickatch.product_service.product.application.service.ProductCatalogService;
+import com.tickatch.product_service.product.application.service.ProductPrewarmService;
+import com.tickatch.product_service.product.application.service.ProductQueryService;
+import com.tickatch.product_service.product.domain.exception.ProductErrorCode;
+import com.tickatch.product_service.product.domain.exception.ProductException;
+import com.tickatch.product_service.product.domain.repository.dto.ProductResponse;
+import com.tickatch.product_service.product.domain.vo.AgeRating;
+import com.tickatch.product_service.product.domain.vo.ProductStatus;
+import com.tickatch.product_service.product.domain.vo.ProductType;
+import io.github.tickatch.common.security.test.MockUser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+import org.springframework.test.web.servlet.assertj.MvcTestResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("ProductInternalApi 컨트롤러 테스트")
+class ProductInternalApiTest {
+
+  @Autowired private MockMvcTester mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @MockitoBean private ProductQueryService productQueryService;
+
+  @MockitoBean private ProductPrewarmService productPrewarmService;
+
+  @MockitoBean private ProductCatalogService productCatalogService;
+
+  private static final String BASE_URL = "/api/v1/internal/products";
+
+  private static final String USER_ID = "internal-user";
+
+  @Nested
+  @DisplayName("GET /api/v1/internal/products/export")
+  class 상품_내보내기_API_테스트 {
+
+    @Test
+    @MockUser(userId = USER_ID)
+    void 상품을_한_줄에_하나씩_NDJSON으로_내보낸다() throws Exception {
+      givenExportedProducts();
+
+      MvcTestResult result =
+          mockMvc
+              .get()
+              .uri(BASE_URL + "/export")
+              .param("status", "ON_SALE")
+              .param("updatedSince", "2025-01-01T00:00:00")
+              .exchange();
+
+      assertThat(result).hasStatusOk().doesNotContainHeader("Content-Encoding");
+      List<String> lines =
+          result.getResponse().getContentAsString(StandardCharsets.UTF_8).lines().toList();
+      assertThat(lines).hasSize(2);
+      assertThat(objectMapper.readTree(lines.get(0)).get("id").asLong()).isEqualTo(1L);
+      assertThat(objectMapper.readTree(lines.get(1)).get("name").asText()).isEqualTo("콘서트B");
+    }
+
+    @Test
+    @MockUser(userId = USER_ID)
+    void gzip을_허용하면_압축하여_내보낸다() throws Exception {
+      givenExportedProducts();
+
+      MvcTestResult result =
+          mockMvc.get().uri(BASE_URL + "/export").header("Accept-Encoding", "gzip").exchange();
+
+      assertThat(result).hasStatusOk().hasHeader("Content-Encoding", "gzip");
+      try (GZIPInputStream in =
+          new GZIPInputStream(
+              new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+        String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body.lines()).hasSize(2);
+      }
+    }
+
+    @Test
+    void 인증_없이_내보낼_수_없다() {
+      assertThat(mockMvc.get().uri(BASE_URL + "/export")).hasStatus4xxClientError();
+
+      verifyNoInteractions(productQueryService);
+    }
+
+    private void givenExportedProducts() {
+      willAnswer(
+              invocation -> {
+                Consumer<ProductResponse> sink = invocation.getArgument(2);
+                sink.accept(createProductResponse(1L, "콘서트A"));
+                sink.accept(createProductResponse(2L, "콘서트B"));
+                return 2L;
+              })
+          .given(productQueryService)
+          .exportProducts(any(), any(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("GET /api/v1/internal/products/{id}/prewarm")
+  class 사전_준비_상태_API_테스트 {
+
+    @Test
+    @MockUser(userId = USER_ID)
+    void 사전_준비_상태를_조회할_수_있다() {
+      given(productPrewarmService.getReadiness(1L))
+          .willReturn(
+              ProductPrewarmResponse.builder()
+                  .productId(1L)
+                  .status(ProductPrewarmResponse.Status.WARMED)
+                  .saleStartAt(LocalDateTime.now().plusMinutes(3))
+                  .warmedAt(LocalDateTime.now())
+                  .build());
+
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}/prewarm", 1L))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.data.status")
+          .isEqualTo("WARMED");
+    }
+
+    @Test
+    void 인증_없이_조회할_수_없다() {
+      assertThat(mockMvc.get().uri(BASE_URL + "/{id}/prewarm", 1L)).hasStatus4xxClientError();
+
+      verifyNoInteractions(productPrewarmService);
+    }
+  }
+
+  @Nested
+  @DisplayName("POST /api/v1/internal/products/catalog/rebuild")
+  class 카탈로그_재구축_API_테스트 {
+
+    @Test
+    @MockUser(userId = USER_ID)
+    void 카탈로그_조회_모델을_재구축하고_상품_수를_반환한다() {
+      given(productCatalogService.rebuild()).willReturn(3L);
+
+      assertThat(mockMvc.post().uri(BASE_URL + "/catalog/rebuild"))
+          .hasStatusOk()
+          .bodyJson()
+          .extractingPath("$.data")
+          .isEqualTo(3);
+    }
+
+    @Test
+    @MockUser(userId = USER_ID)
+    void 다른_재구축이_진행_중이면_409를_반환한다() {
+      given(productCatalogService.rebuild())
+          .willThrow(new ProductException(ProductErrorCode.CATALOG_REBUILD_IN_PROGRESS));
+
+      assertThat(mockMvc.post().uri(BASE_URL + "/catalog/rebuild")).hasStatus(409);
+    }
+
+    @Test
+    void 인증_없이_재구축할_수_없다() {
+      assertThat(mockMvc.post().uri(BASE_URL + "/catalog/rebuild")).hasStatus4xxClientError();
+
+      verifyNoInteractions(productCatalogService);
+    }
+  }
+
+  @Test
+  void 공개_조회_경로로는_내보내기에_접근할_수_없다() {
+    assertThat(mockMvc.get().uri("/api/v1/products/export")).hasStatus4xxClientError();
+
+    verifyNoInteractions(productQueryService);
+  }
+
+  private ProductResponse createProductResponse(Long id, String name) {
+    return ProductResponse.builder()
+        .id(id)
+        .sellerId("seller-1")
+        .name(name)
+        .productType(ProductType.CONCERT)
+        .runningTime(120)
+        .startAt(LocalDateTime.now().plusDays(30))
+        .endAt(LocalDateTime.now().plusDays(31))
+        .saleStartAt(LocalDateTime.now().plusDays(1))
+        .saleEndAt(LocalDateTime.now().plusDays(29))
+        .stageId(1L)
+        .stageName("올림픽홀")
+        .artHallId(100L)
+        .artHallName("올림픽공원")
+        .artHallAddress("서울시 송파구")
+        .ageRating(AgeRating.ALL)
+        .maxTicketsPerPerson(4)
+        .admissionMinutesBefore(30)
+        .cancellable(true)
+        .status(ProductStatus.DRAFT)
+        .totalSeats(30)
+        .availableSeats(30)
+        .viewCount(0L)
+        .reservationCount(0)
+        .purchasable(false)
+        .seatGrades(List.of())
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+  }
+}